@@ -0,0 +1,94 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.monad.AnyM;
+
+/**
+ * AnyM map / flatMap across the Optional, CompletableFuture, Stream and List comprehenders, against the same
+ * operations on the unwrapped JDK types
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnyMBenchmark {
+
+	Optional<Integer> optional = Optional.of(1);
+	CompletableFuture<Integer> future = CompletableFuture.completedFuture(1);
+	List<Integer> list = Arrays.asList(1,2,3,4,5,6,7,8,9,10);
+
+	@Benchmark
+	public Optional<Integer> optionalMap(){
+		return optional.map(i->i+1);
+	}
+	@Benchmark
+	public Optional<Integer> anyMOptionalMap(){
+		return AnyM.fromOptional(optional).<Integer>map(i->i+1).unwrap();
+	}
+	@Benchmark
+	public Optional<Integer> optionalFlatMap(){
+		return optional.flatMap(i->Optional.of(i+1));
+	}
+	@Benchmark
+	public Optional<Integer> anyMOptionalFlatMap(){
+		return AnyM.fromOptional(optional).<Integer>flatMap(i->AnyM.fromOptional(Optional.of(i+1))).unwrap();
+	}
+	@Benchmark
+	public Integer futureMap(){
+		return future.thenApply(i->i+1).join();
+	}
+	@Benchmark
+	public Integer anyMFutureMap(){
+		return AnyM.fromCompletableFuture(future).<Integer>map(i->i+1).<CompletableFuture<Integer>>unwrap().join();
+	}
+	@Benchmark
+	public Integer futureFlatMap(){
+		return future.thenCompose(i->CompletableFuture.completedFuture(i+1)).join();
+	}
+	@Benchmark
+	public Integer anyMFutureFlatMap(){
+		return AnyM.fromCompletableFuture(future)
+					.<Integer>flatMap(i->AnyM.fromCompletableFuture(CompletableFuture.completedFuture(i+1)))
+					.<CompletableFuture<Integer>>unwrap().join();
+	}
+	@Benchmark
+	public List<Integer> streamMap(){
+		return list.stream().map(i->i+1).collect(Collectors.toList());
+	}
+	@Benchmark
+	public List<Integer> anyMStreamMap(){
+		return AnyM.fromStream(list.stream()).<Integer>map(i->i+1).asSequence().toList();
+	}
+	@Benchmark
+	public List<Integer> streamFlatMap(){
+		return list.stream().flatMap(i->Stream.of(i,i+1)).collect(Collectors.toList());
+	}
+	@Benchmark
+	public List<Integer> anyMStreamFlatMap(){
+		return AnyM.fromStream(list.stream()).<Integer>flatMap(i->AnyM.fromStream(Stream.of(i,i+1))).asSequence().toList();
+	}
+	@Benchmark
+	public List<Integer> anyMListMap(){
+		return AnyM.fromList(list).<Integer>map(i->i+1).asSequence().toList();
+	}
+	@Benchmark
+	public List<Integer> anyMListFlatMap(){
+		return AnyM.fromList(list).<Integer>flatMap(i->AnyM.fromList(Arrays.asList(i,i+1))).asSequence().toList();
+	}
+}
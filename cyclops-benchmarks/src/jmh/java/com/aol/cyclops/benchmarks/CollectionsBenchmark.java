@@ -0,0 +1,86 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import com.aol.cyclops.collections.extensions.persistent.PVectorX;
+import com.aol.cyclops.collections.extensions.standard.ListX;
+
+/**
+ * ListX and PVectorX bulk operations against the equivalent JDK and pcollections code
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionsBenchmark {
+
+	@Param({"100","10000"})
+	int size;
+
+	List<Integer> list;
+	ListX<Integer> listX;
+	PVector<Integer> vector;
+	PVectorX<Integer> vectorX;
+
+	@Setup
+	public void setup(){
+		list = IntStream.range(0,size).boxed().collect(Collectors.toCollection(ArrayList::new));
+		listX = ListX.fromIterable(list);
+		vector = TreePVector.from(list);
+		vectorX = PVectorX.fromCollection(list);
+	}
+
+	@Benchmark
+	public List<Integer> jdkMapFilter(){
+		return list.stream().map(i->i+1).filter(i->i%2==0).collect(Collectors.toList());
+	}
+	@Benchmark
+	public ListX<Integer> listXMapFilter(){
+		return listX.map(i->i+1).filter(i->i%2==0);
+	}
+	@Benchmark
+	public PVector<Integer> pcollectionsMapFilter(){
+		PVector<Integer> result = TreePVector.empty();
+		for(Integer next : vector){
+			int mapped = next+1;
+			if(mapped%2==0)
+				result = result.plus(mapped);
+		}
+		return result;
+	}
+	@Benchmark
+	public PVectorX<Integer> pVectorXMapFilter(){
+		return vectorX.map(i->i+1).filter(i->i%2==0);
+	}
+	@Benchmark
+	public PVector<Integer> pcollectionsPlus(){
+		PVector<Integer> result = TreePVector.empty();
+		for(Integer next : list)
+			result = result.plus(next);
+		return result;
+	}
+	@Benchmark
+	public PVectorX<Integer> pVectorXPlus(){
+		PVectorX<Integer> result = PVectorX.empty();
+		for(Integer next : list)
+			result = result.plus(next);
+		return result;
+	}
+}
@@ -0,0 +1,99 @@
+package com.aol.cyclops.benchmarks;
+
+import static com.aol.cyclops.comprehensions.ForComprehensions.foreachX;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.comprehensions.CompiledComprehension;
+import com.aol.cyclops.comprehensions.donotation.typed.Do;
+
+/**
+ * Optional and CompletableFuture comprehensions against the nested flatMap chains they replace
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComprehensionBenchmark {
+
+	Optional<Integer> one = Optional.of(1);
+	Optional<Integer> two = Optional.of(2);
+	Optional<Integer> three = Optional.of(3);
+	CompletableFuture<Integer> f1 = CompletableFuture.completedFuture(1);
+	CompletableFuture<Integer> f2 = CompletableFuture.completedFuture(2);
+	CompletableFuture<Integer> f3 = CompletableFuture.completedFuture(3);
+
+	Function<Integer,Function<Integer,Function<Integer,Integer>>> sum = a->b->c->a+b+c;
+	Function<Integer,Function<Integer,Optional<Integer>>> thirdOptional = a->b->three;
+	Function<Integer,Function<Integer,CompletableFuture<Integer>>> thirdFuture = a->b->f3;
+
+	CompiledComprehension compiledOptional = CompiledComprehension.builder()
+															.value(one)
+															.bind((Integer a)->two)
+															.bind(thirdOptional)
+															.compile(sum);
+
+	@Benchmark
+	public Optional<Integer> optionalFlatMap(){
+		return one.flatMap(a->two.flatMap(b->three.map(c->a+b+c)));
+	}
+	@Benchmark
+	public Object optionalCompiled(){
+		return compiledOptional.execute();
+	}
+	@Benchmark
+	public Optional<Integer> optionalBuilder(){
+		return CompiledComprehension.builder()
+									.value(one)
+									.bind((Integer a)->two)
+									.bind(thirdOptional)
+									.yield(sum);
+	}
+	@Benchmark
+	public Optional<Integer> optionalDo(){
+		return Do.add(one)
+				.add(two)
+				.add(three)
+				.yield(a->b->c->a+b+c).unwrap();
+	}
+	@Benchmark
+	public Optional<Integer> optionalFreeForm(){
+		return foreachX(c -> c.$("a",one)
+								.$("b",two)
+								.$("c",three)
+								.yield(()->c.<Integer>$("a")+c.<Integer>$("b")+c.<Integer>$("c")));
+	}
+
+	@Benchmark
+	public Integer completableFutureFlatMap(){
+		return f1.thenCompose(a->f2.thenCompose(b->f3.thenApply(c->a+b+c))).join();
+	}
+	@Benchmark
+	public Integer completableFutureBuilder(){
+		return CompiledComprehension.builder()
+									.value(f1)
+									.bind((Integer a)->f2)
+									.bind(thirdFuture)
+									.<CompletableFuture<Integer>>yield(sum).join();
+	}
+	@Benchmark
+	public Integer completableFutureDo(){
+		return Do.add(f1)
+				.add(f2)
+				.add(f3)
+				.yield(a->b->c->a+b+c).<CompletableFuture<Integer>>unwrap().join();
+	}
+
+}
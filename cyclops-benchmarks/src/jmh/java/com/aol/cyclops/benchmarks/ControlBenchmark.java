@@ -0,0 +1,58 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.control.Eval;
+import com.aol.cyclops.trycatch.Try;
+
+/**
+ * Chains of map / flatMap calls on Try and Eval, with the equivalent Optional chain as a baseline
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ControlBenchmark {
+
+	@Benchmark
+	public Integer optionalChain(){
+		return Optional.of(1).map(i->i+1).flatMap(i->Optional.of(i*2)).map(i->i-1).get();
+	}
+	@Benchmark
+	public Integer tryChain(){
+		return Try.<Integer,RuntimeException>of(1).map(i->i+1).flatMap(i->Try.of(i*2)).map(i->i-1).get();
+	}
+	@Benchmark
+	public Integer tryWithCatchChain(){
+		return Try.<Integer,RuntimeException>withCatch(()->1).map(i->i+1).flatMap(i->Try.of(i*2)).map(i->i-1).get();
+	}
+	@Benchmark
+	public Integer evalNowChain(){
+		return Eval.now(1).map(i->i+1).flatMap(i->Eval.now(i*2)).map(i->i-1).get();
+	}
+	@Benchmark
+	public Integer evalLaterChain(){
+		return Eval.later(()->1).map(i->i+1).flatMap(i->Eval.now(i*2)).map(i->i-1).get();
+	}
+	@Benchmark
+	public Integer evalAlwaysChain(){
+		return Eval.always(()->1).map(i->i+1).flatMap(i->Eval.now(i*2)).map(i->i-1).get();
+	}
+	@Benchmark
+	public Integer evalLongChain(){
+		Eval<Integer> eval = Eval.later(()->0);
+		for(int i=0;i<1_000;i++)
+			eval = eval.map(x->x+1);
+		return eval.get();
+	}
+}
@@ -0,0 +1,78 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.functions.caching.LocalCache;
+import com.aol.cyclops.functions.caching.Memoize;
+
+/**
+ * Memoize variants : creating and reading memoised Suppliers, and cache hits on memoised Functions, against a
+ * ConcurrentHashMap.computeIfAbsent baseline
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemoizeBenchmark {
+
+	Integer key = 42;
+	Supplier<Integer> supplier = ()->10;
+	Supplier<Integer> memoisedSupplier = Memoize.memoizeSupplier(supplier);
+	Supplier<Integer> confinedSupplier = Memoize.memoizeConfinedSupplier(supplier);
+	ConcurrentHashMap<Integer,Integer> map = new ConcurrentHashMap<>();
+	Function<Integer,Integer> memoisedFunction = Memoize.memoizeFunction(i->i+1);
+	Function<Integer,Integer> localCacheFunction = Memoize.memoizeFunction(i->i+1,LocalCache.builder().maximumSize(1_000).build());
+	BiFunction<Integer,Integer,Integer> memoisedBiFunction = Memoize.memoizeBiFunction((a,b)->a+b);
+	BiFunction<Integer,Integer,Integer> localCacheBiFunction = Memoize.memoizeBiFunction((a,b)->a+b,
+																							LocalCache.builder().maximumSize(1_000).build());
+
+	@Benchmark
+	public Integer createAndReadSupplier(){
+		return Memoize.memoizeSupplier(supplier).get();
+	}
+	@Benchmark
+	public Integer createAndReadConfinedSupplier(){
+		return Memoize.memoizeConfinedSupplier(supplier).get();
+	}
+	@Benchmark
+	public Integer readSupplier(){
+		return memoisedSupplier.get();
+	}
+	@Benchmark
+	public Integer readConfinedSupplier(){
+		return confinedSupplier.get();
+	}
+	@Benchmark
+	public Integer concurrentHashMap(){
+		return map.computeIfAbsent(key,i->i+1);
+	}
+	@Benchmark
+	public Integer memoisedFunction(){
+		return memoisedFunction.apply(key);
+	}
+	@Benchmark
+	public Integer localCacheFunction(){
+		return localCacheFunction.apply(key);
+	}
+	@Benchmark
+	public Integer memoisedBiFunction(){
+		return memoisedBiFunction.apply(key,key);
+	}
+	@Benchmark
+	public Integer localCacheBiFunction(){
+		return localCacheBiFunction.apply(key,key);
+	}
+}
@@ -0,0 +1,85 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.aol.cyclops.matcher.Case;
+import com.aol.cyclops.matcher.Cases;
+import com.aol.cyclops.matcher.CompiledCases;
+import com.aol.cyclops.matcher.ValuePredicate;
+
+/**
+ * Cases.match as the number of cases grows, matching the last case (the worst case for first match semantics).
+ * Predicate cases are always tested in order, value cases can be dispatched by the compiled form. A switch statement is the baseline.
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PatternMatchingBenchmark {
+
+	@Param({"1","8","32"})
+	int caseCount;
+
+	Integer last;
+	Cases<Integer,String,Function<Integer,String>> predicateCases;
+	Cases<Integer,String,Function<Integer,String>> valueCases;
+	CompiledCases<Integer,String> compiledPredicateCases;
+	CompiledCases<Integer,String> compiledValueCases;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup(){
+		last = caseCount-1;
+		Case<Integer,String,Function<Integer,String>>[] predicates = new Case[caseCount];
+		Case<Integer,String,Function<Integer,String>>[] values = new Case[caseCount];
+		for(int i=0;i<caseCount;i++){
+			int value = i;
+			String result = "case " + i;
+			predicates[i] = Case.of(in->in==value,in->result);
+			values[i] = Case.of(new ValuePredicate<>(value),in->result);
+		}
+		predicateCases = Cases.of(predicates);
+		valueCases = Cases.of(values);
+		compiledPredicateCases = predicateCases.compile();
+		compiledValueCases = valueCases.compile();
+	}
+
+	@Benchmark
+	public String switchStatement(){
+		switch(last%4){
+			case 0 : return "case 0";
+			case 1 : return "case 1";
+			case 2 : return "case 2";
+			default : return "case 3";
+		}
+	}
+	@Benchmark
+	public Optional<String> predicateCases(){
+		return predicateCases.match(last);
+	}
+	@Benchmark
+	public Optional<String> compiledPredicateCases(){
+		return compiledPredicateCases.match(last);
+	}
+	@Benchmark
+	public Optional<String> valueCases(){
+		return valueCases.match(last);
+	}
+	@Benchmark
+	public Optional<String> compiledValueCases(){
+		return compiledValueCases.match(last);
+	}
+}
@@ -0,0 +1,77 @@
+package com.aol.cyclops.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * SequenceM extended operators, with a plain JDK Stream pass over the same data as a baseline.
+ * Every element is consumed by a Blackhole (count() may skip the pipeline entirely for SIZED Streams on newer JDKs).
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SequenceMBenchmark {
+
+	@Param({"100","10000"})
+	int size;
+
+	List<Integer> data;
+
+	@Setup
+	public void setup(){
+		data = IntStream.range(0,size).boxed().collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public void jdkMap(Blackhole bh){
+		data.stream().map(i->i+1).forEach(bh::consume);
+	}
+	@Benchmark
+	public void sequenceMMap(Blackhole bh){
+		SequenceM.fromList(data).map(i->i+1).forEach(bh::consume);
+	}
+	@Benchmark
+	public void sliding(Blackhole bh){
+		SequenceM.fromList(data).sliding(3).forEach(bh::consume);
+	}
+	@Benchmark
+	public void zipWithIndex(Blackhole bh){
+		SequenceM.fromList(data).zipWithIndex().forEach(bh::consume);
+	}
+	@Benchmark
+	public void batchBySize(Blackhole bh){
+		SequenceM.fromList(data).batchBySize(10).forEach(bh::consume);
+	}
+	@Benchmark
+	public void windowWhile(Blackhole bh){
+		SequenceM.fromList(data).windowWhile(i->i%10!=0).forEach(bh::consume);
+	}
+	@Benchmark
+	public void scanLeft(Blackhole bh){
+		SequenceM.fromList(data).scanLeft(0,(a,b)->a+b).forEach(bh::consume);
+	}
+	@Benchmark
+	public void duplicateSequence(Blackhole bh){
+		Tuple2<SequenceM<Integer>,SequenceM<Integer>> copies = SequenceM.fromList(data).duplicateSequence();
+		copies.v1.forEach(bh::consume);
+		copies.v2.forEach(bh::consume);
+	}
+}
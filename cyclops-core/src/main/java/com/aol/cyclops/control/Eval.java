@@ -4,7 +4,6 @@ import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import com.aol.cyclops.functions.caching.Memoize;
 import com.aol.cyclops.lambda.monads.Functor;
 import com.aol.cyclops.value.Value;
 
@@ -12,6 +11,9 @@ import com.aol.cyclops.value.Value;
 /**
  * Represents a computation that can be defered, cached or immediate
  * 
+ * Chains of map / flatMap calls on deferred Evals are evaluated iteratively (one object is allocated per step), so arbitrarily long
+ * chains do not overflow the stack.
+ * 
  * @author johnmcclean
  *
  * @param <T>
@@ -23,10 +25,10 @@ public interface Eval<T> extends Supplier<T>, Value<T>, Functor<T>{
 	}
 	public static<T> Eval<T> later(Supplier<T> value){
 		
-		return new Later<T>(in->value.get());
+		return new Later<T>(value);
 	}
 	public static<T> Eval<T> always(Supplier<T> value){
-		return new Always<T>(in->value.get());
+		return new Always<T>(value);
 	}
 	
 	public <R> Eval<R> map(Function<? super T, ? extends R> mapper);
@@ -70,42 +72,120 @@ public interface Eval<T> extends Supplier<T>, Value<T>, Functor<T>{
 		
 	}
 	
-	
+	/**
+	 * Lazily evaluated, cached value. Either a Supplier, or a map / flatMap step over a previous Eval.
+	 * Once evaluated the source is cleared (so earlier steps can be collected) and the value is read via a volatile check.
+	 * Suppliers and steps are applied under a double-checked lock on this node, so each runs at most once.
+	 */
 	static class Later<T> implements Eval<T>{
-		private final Function<?,? extends T> s;
-		Later(Function <?,? extends T> s){
-			this.s = Memoize.memoizeFunction(s);
+		final Function<Object,?> step;
+		final boolean flat;
+		volatile Object source;
+		T value;
+		
+		Later(Supplier<? extends T> s){
+			this.step = null;
+			this.flat = false;
+			this.source = s;
+		}
+		Later(Eval<?> previous, Function<?,?> step, boolean flat){
+			this.step = (Function<Object,?>)step;
+			this.flat = flat;
+			this.source = previous;
 		}
 		public <R> Eval<R> map(Function<? super T, ? extends R> mapper){
-			//unncessary cast
-			return new Later<R>(mapper.compose((Function)s));
+			return new Later<R>(this,mapper,false);
 		}
 		public <R>  Eval<R> flatMap(Function<? super T, ? extends Eval<R>> mapper){
-			return  Eval.later(()->((Eval<R>)((Function)mapper).compose(s).apply("")).get());
+			return new Later<R>(this,mapper,true);
 		}
 		@Override
 		public T get() {
-			return (T)((Function)s).apply("");
+			if(source==null)
+				return value;
+			return EvalInterpreter.evaluate(this);
+		}
+		synchronized T evaluateSupplier(){
+			Object s = source;
+			if(s!=null){
+				value = ((Supplier<? extends T>)s).get();
+				source = null;
+			}
+			return value;
+		}
+		/*
+		 * Apply a map step to the value of the previous Eval, unless another thread already has
+		 */
+		synchronized T apply(Object input){
+			if(source!=null){
+				value = (T)step.apply(input);
+				source = null;
+			}
+			return value;
+		}
+		/*
+		 * Apply a flatMap step at most once, replacing the source with the Eval it returned.
+		 * Returns the Eval to evaluate next, or null if this step has already completed.
+		 */
+		synchronized Eval<?> bind(Object input){
+			Object s = source;
+			if(s==null)
+				return null;
+			if(!(s instanceof Bound)){
+				s = new Bound((Eval<?>)step.apply(input));
+				source = s;
+			}
+			return ((Bound)s).eval;
+		}
+		/*
+		 * Completes a bound flatMap step with the value of the Eval it returned, first value computed wins
+		 */
+		synchronized T complete(Object computed){
+			if(source!=null){
+				value = (T)computed;
+				source = null;
+			}
+			return value;
 		}
 		
+	}
+	/**
+	 * The Eval returned by a flatMap step that has already been applied
+	 */
+	static final class Bound{
+		final Eval<?> eval;
+		Bound(Eval<?> eval){
+			this.eval = eval;
+		}
 		
 	}
+	/**
+	 * Lazily evaluated value, recomputed on each access. Either a Supplier, or a flatMap step over a previous Eval.
+	 */
 	static class Always<T> implements Eval<T>{
-		private final Function<?,? extends T> s;
-		Always(Function <?,? extends T> s){
-			this.s = s;
+		final Function<Object,?> step;
+		final Object source;
+		
+		Always(Supplier<? extends T> s){
+			this.step = null;
+			this.source = s;
+		}
+		Always(Eval<?> previous, Function<?,?> step){
+			this.step = (Function<Object,?>)step;
+			this.source = previous;
 		}
 		public <R> Eval<R> map(Function<? super T, ? extends R> mapper){
-			//unncessary cast
-			return new Later<R>(mapper.compose((Function)s));
+			return new Later<R>(this,mapper,false);
 			
 		}
 		public <R>  Eval<R> flatMap(Function<? super T, ? extends Eval<R>> mapper){
-			return  Eval.always(()->((Eval<R>)((Function)mapper).compose(s).apply("")).get());
+			return new Always<R>(this,mapper);
 		}
 		@Override
 		public T get() {
-			return s.apply(null);
+			if(step==null)
+				return ((Supplier<? extends T>)source).get();
+			return EvalInterpreter.evaluate(this);
 		}
 	}
 }
@@ -0,0 +1,109 @@
+package com.aol.cyclops.control;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Trampolined evaluation of deferred Eval chains.
+ *
+ * Walks back through the map / flatMap steps to the first evaluated (or leaf) Eval, then applies the steps in order
+ * using an explicit stack rather than the call stack. Later steps evaluated along the way are cached.
+ *
+ * @author johnmcclean
+ *
+ */
+final class EvalInterpreter {
+
+	/*
+	 * Marks that the Eval returned by a flatMap step has been evaluated, and the value belongs to the step below it on the stack
+	 */
+	private static final Object FLATTENED = new Object();
+
+	private EvalInterpreter(){}
+
+	@SuppressWarnings("unchecked")
+	static <T> T evaluate(Eval<T> eval){
+		ArrayDeque<Object> stack = new ArrayDeque<>();
+		Eval<?> current = eval;
+		for(;;){
+			Object value;
+			for(;;){
+				if(current instanceof Eval.Later){
+					Eval.Later<?> later = (Eval.Later<?>)current;
+					Object source = later.source;
+					if(source==null){
+						value = later.value;
+						break;
+					}
+					if(later.step==null){
+						value = later.evaluateSupplier();
+						break;
+					}
+					stack.push(later);
+					if(source instanceof Eval.Bound){
+						stack.push(FLATTENED);
+						current = ((Eval.Bound)source).eval;
+					}
+					else
+						current = (Eval<?>)source;
+				}
+				else if(current instanceof Eval.Always){
+					Eval.Always<?> always = (Eval.Always<?>)current;
+					if(always.step==null){
+						value = ((Supplier<?>)always.source).get();
+						break;
+					}
+					stack.push(always);
+					current = (Eval<?>)always.source;
+				}
+				else{
+					value = current.get();
+					break;
+				}
+			}
+			current = null;
+			while(!stack.isEmpty()){
+				Object next = stack.pop();
+				if(next==FLATTENED){
+					value = complete(stack.pop(),value);
+					continue;
+				}
+				if(next instanceof Eval.Later){
+					Eval.Later<?> later = (Eval.Later<?>)next;
+					if(later.source==null){
+						value = later.value;
+						continue;
+					}
+					if(later.flat){
+						Eval<?> bound = later.bind(value);
+						if(bound==null){
+							value = later.value;
+							continue;
+						}
+						current = flatten(stack,later,bound);
+						break;
+					}
+					value = later.apply(value);
+				}
+				else{
+					Eval.Always<?> always = (Eval.Always<?>)next;
+					current = flatten(stack,always,always.step.apply(value));
+					break;
+				}
+			}
+			if(current==null)
+				return (T)value;
+		}
+	}
+	private static Eval<?> flatten(ArrayDeque<Object> stack, Eval<?> step, Object result){
+		stack.push(step);
+		stack.push(FLATTENED);
+		return (Eval<?>)result;
+	}
+	private static Object complete(Object step, Object value){
+		if(step instanceof Eval.Later)
+			return ((Eval.Later<?>)step).complete(value);
+		return value;
+	}
+
+}
@@ -5,6 +5,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -332,6 +333,13 @@ public class FluentFunctions {
 		public FluentSupplier<R> memoize(Cacheable<R> cache){
 			return withFn(Memoize.memoizeSupplier(fn,cache));
 		}
+		/**
+		 * @param ex Executor to execute this Supplier on (once)
+		 * @return Supplier of a single shared CompletableFuture, a failed result is not cached
+		 */
+		public FluentSupplier<CompletableFuture<R>> memoizeAsync(Executor ex){
+			return FluentFunctions.of(Memoize.memoizeAsyncSupplier(fn,ex));
+		}
 		
 		public FluentSupplier<R> name(String name){
 			return this.withName(name);
@@ -504,6 +512,22 @@ public class FluentFunctions {
 		public FluentFunction<T,R> memoize(Cacheable<R> cache){
 			return withFn(Memoize.memoizeFunction(fn));
 		}
+		/**
+		 * @param ex Executor to execute this Function on
+		 * @return Asynchronous Function that caches a CompletableFuture per input, concurrent calls for an input share a single computation
+		 */
+		public FluentFunction<T,CompletableFuture<R>> memoizeAsync(Executor ex){
+			return FluentFunctions.of(Memoize.memoizeAsync(fn,ex));
+		}
+		/**
+		 * @param ex Executor to execute (and refresh) this Function on
+		 * @param refreshAfterWrite Age after which cached results are returned stale while being recomputed
+		 * @param unit TimeUnit for refreshAfterWrite
+		 * @return Asynchronous Function that caches a CompletableFuture per input, concurrent calls for an input share a single computation
+		 */
+		public FluentFunction<T,CompletableFuture<R>> memoizeAsync(Executor ex,long refreshAfterWrite,TimeUnit unit){
+			return FluentFunctions.of(Memoize.memoizeAsync(fn,ex,refreshAfterWrite,unit));
+		}
 		public FluentFunction<T,R> name(String name){
 			return this.withName(name);
 		}
@@ -0,0 +1,238 @@
+package com.aol.cyclops.lambda.tuple;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tuples created via PowerTuples (or PTupleN.of) : one class per arity, with each value stored in a field rather than in a backing List.
+ * 
+ * The hashCode is computed once and cached, equals compares fields directly for Tuples of the same arity (and falls back to the
+ * cached values for other CachedValues implementations, as TupleImpl does).
+ * 
+ * @author johnmcclean
+ *
+ */
+abstract class FieldTuple<T1,T2,T3,T4,T5,T6,T7,T8> implements PTuple8<T1,T2,T3,T4,T5,T6,T7,T8>{
+
+	private int hash;
+	
+	abstract boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other);
+	
+	@Override
+	public abstract int arity();
+	
+	@Override
+	public CachedValues withArity(int arity){
+		if(arity==arity())
+			return this;
+		return new TupleImpl(getCachedValues(),arity);
+	}
+	@Override
+	public int hashCode() {
+		int h = hash;
+		if(h==0){
+			h = getCachedValues().hashCode();
+			hash = h;
+		}
+		return h;
+	}
+	@Override
+	public boolean equals(Object obj) {
+		if(obj==this)
+			return true;
+		if(obj!=null && obj.getClass()==getClass())
+			return sameValues((FieldTuple<?,?,?,?,?,?,?,?>)obj);
+		if(!(obj instanceof CachedValues))
+			return false;
+		return getCachedValues().equals(((CachedValues)obj).getCachedValues());
+	}
+	@Override
+	public String toString() {
+		return getCachedValues().toString();
+	}
+
+	static class Tuple1<T1,T2,T3,T4,T5,T6,T7,T8> extends FieldTuple<T1,T2,T3,T4,T5,T6,T7,T8>{
+		final T1 e1;
+		Tuple1(T1 e1){
+			this.e1 = e1;
+		}
+		@Override
+		public T1 v1(){
+			return e1;
+		}
+		@Override
+		public int arity(){
+			return 1;
+		}
+		@Override
+		public List<Object> getCachedValues(){
+			return Arrays.asList(e1);
+		}
+		@Override
+		boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other){
+			return Objects.equals(e1,((Tuple1<?,?,?,?,?,?,?,?>)other).e1);
+		}
+	}
+	static class Tuple2<T1,T2,T3,T4,T5,T6,T7,T8> extends Tuple1<T1,T2,T3,T4,T5,T6,T7,T8>{
+		final T2 e2;
+		Tuple2(T1 e1, T2 e2){
+			super(e1);
+			this.e2 = e2;
+		}
+		@Override
+		public T2 v2(){
+			return e2;
+		}
+		@Override
+		public int arity(){
+			return 2;
+		}
+		@Override
+		public List<Object> getCachedValues(){
+			return Arrays.asList(e1,e2);
+		}
+		@Override
+		boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other){
+			return super.sameValues(other) && Objects.equals(e2,((Tuple2<?,?,?,?,?,?,?,?>)other).e2);
+		}
+	}
+	static class Tuple3<T1,T2,T3,T4,T5,T6,T7,T8> extends Tuple2<T1,T2,T3,T4,T5,T6,T7,T8>{
+		final T3 e3;
+		Tuple3(T1 e1, T2 e2, T3 e3){
+			super(e1, e2);
+			this.e3 = e3;
+		}
+		@Override
+		public T3 v3(){
+			return e3;
+		}
+		@Override
+		public int arity(){
+			return 3;
+		}
+		@Override
+		public List<Object> getCachedValues(){
+			return Arrays.asList(e1,e2,e3);
+		}
+		@Override
+		boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other){
+			return super.sameValues(other) && Objects.equals(e3,((Tuple3<?,?,?,?,?,?,?,?>)other).e3);
+		}
+	}
+	static class Tuple4<T1,T2,T3,T4,T5,T6,T7,T8> extends Tuple3<T1,T2,T3,T4,T5,T6,T7,T8>{
+		final T4 e4;
+		Tuple4(T1 e1, T2 e2, T3 e3, T4 e4){
+			super(e1, e2, e3);
+			this.e4 = e4;
+		}
+		@Override
+		public T4 v4(){
+			return e4;
+		}
+		@Override
+		public int arity(){
+			return 4;
+		}
+		@Override
+		public List<Object> getCachedValues(){
+			return Arrays.asList(e1,e2,e3,e4);
+		}
+		@Override
+		boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other){
+			return super.sameValues(other) && Objects.equals(e4,((Tuple4<?,?,?,?,?,?,?,?>)other).e4);
+		}
+	}
+	static class Tuple5<T1,T2,T3,T4,T5,T6,T7,T8> extends Tuple4<T1,T2,T3,T4,T5,T6,T7,T8>{
+		final T5 e5;
+		Tuple5(T1 e1, T2 e2, T3 e3, T4 e4, T5 e5){
+			super(e1, e2, e3, e4);
+			this.e5 = e5;
+		}
+		@Override
+		public T5 v5(){
+			return e5;
+		}
+		@Override
+		public int arity(){
+			return 5;
+		}
+		@Override
+		public List<Object> getCachedValues(){
+			return Arrays.asList(e1,e2,e3,e4,e5);
+		}
+		@Override
+		boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other){
+			return super.sameValues(other) && Objects.equals(e5,((Tuple5<?,?,?,?,?,?,?,?>)other).e5);
+		}
+	}
+	static class Tuple6<T1,T2,T3,T4,T5,T6,T7,T8> extends Tuple5<T1,T2,T3,T4,T5,T6,T7,T8>{
+		final T6 e6;
+		Tuple6(T1 e1, T2 e2, T3 e3, T4 e4, T5 e5, T6 e6){
+			super(e1, e2, e3, e4, e5);
+			this.e6 = e6;
+		}
+		@Override
+		public T6 v6(){
+			return e6;
+		}
+		@Override
+		public int arity(){
+			return 6;
+		}
+		@Override
+		public List<Object> getCachedValues(){
+			return Arrays.asList(e1,e2,e3,e4,e5,e6);
+		}
+		@Override
+		boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other){
+			return super.sameValues(other) && Objects.equals(e6,((Tuple6<?,?,?,?,?,?,?,?>)other).e6);
+		}
+	}
+	static class Tuple7<T1,T2,T3,T4,T5,T6,T7,T8> extends Tuple6<T1,T2,T3,T4,T5,T6,T7,T8>{
+		final T7 e7;
+		Tuple7(T1 e1, T2 e2, T3 e3, T4 e4, T5 e5, T6 e6, T7 e7){
+			super(e1, e2, e3, e4, e5, e6);
+			this.e7 = e7;
+		}
+		@Override
+		public T7 v7(){
+			return e7;
+		}
+		@Override
+		public int arity(){
+			return 7;
+		}
+		@Override
+		public List<Object> getCachedValues(){
+			return Arrays.asList(e1,e2,e3,e4,e5,e6,e7);
+		}
+		@Override
+		boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other){
+			return super.sameValues(other) && Objects.equals(e7,((Tuple7<?,?,?,?,?,?,?,?>)other).e7);
+		}
+	}
+	static class Tuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends Tuple7<T1,T2,T3,T4,T5,T6,T7,T8>{
+		final T8 e8;
+		Tuple8(T1 e1, T2 e2, T3 e3, T4 e4, T5 e5, T6 e6, T7 e7, T8 e8){
+			super(e1, e2, e3, e4, e5, e6, e7);
+			this.e8 = e8;
+		}
+		@Override
+		public T8 v8(){
+			return e8;
+		}
+		@Override
+		public int arity(){
+			return 8;
+		}
+		@Override
+		public List<Object> getCachedValues(){
+			return Arrays.asList(e1,e2,e3,e4,e5,e6,e7,e8);
+		}
+		@Override
+		boolean sameValues(FieldTuple<?,?,?,?,?,?,?,?> other){
+			return super.sameValues(other) && Objects.equals(e8,((Tuple8<?,?,?,?,?,?,?,?>)other).e8);
+		}
+	}
+}
@@ -1,11 +1,10 @@
 package com.aol.cyclops.lambda.tuple;
 
-import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap1PTuple8;
+import com.aol.cyclops.lambda.tuple.lazymap.LazyMapTuple;
 import com.aol.cyclops.lambda.tuple.memo.Memo1;
 import com.aol.cyclops.lambda.tuple.reorder.ReorderP1;
 
@@ -61,7 +60,7 @@ public interface PTuple1<T1> extends CachedValues{
 	 */
 	default <T> PTuple1<T> lazyMap1(Function<T1,T> fn){
 		
-		return new LazyMap1PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(1,fn,(PTuple8)this);
 	}
 	
 	default <NT1> PTuple1<NT1> reorder(Function<PTuple1<T1>,NT1> v1S){
@@ -81,7 +80,7 @@ public interface PTuple1<T1> extends CachedValues{
 		return (PTuple1)new TupleImpl(tuple1,1);
 	}
 	public static <T1> PTuple1<T1> of(T1 t1){
-		return (PTuple1)new TupleImpl(Arrays.asList(t1),1);
+		return new FieldTuple.Tuple1<>(t1);
 	}
 
 
@@ -12,8 +12,7 @@ import java.util.stream.LongStream;
 
 import lombok.AllArgsConstructor;
 
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap1PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap2PTuple8;
+import com.aol.cyclops.lambda.tuple.lazymap.LazyMapTuple;
 import com.aol.cyclops.lambda.tuple.memo.Memo2;
 
 public interface PTuple2<T1,T2> extends PTuple1<T1>{
@@ -51,7 +50,7 @@ public interface PTuple2<T1,T2> extends PTuple1<T1>{
 		if(arity()!=2)
 			return (PTuple2)PTuple1.super.lazyMap1(fn);
 		
-		return new LazyMap1PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(1,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -61,7 +60,7 @@ public interface PTuple2<T1,T2> extends PTuple1<T1>{
 	 */
 	default <T> PTuple2<T1,T> lazyMap2(Function<T2,T> fn){
 		
-		return new LazyMap2PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(2,fn,(PTuple8)this);
 		
 	}
 	
@@ -160,7 +159,7 @@ public interface PTuple2<T1,T2> extends PTuple1<T1>{
 		return (PTuple2)new TupleImpl(tuple2,2);
 	}
 	public static <T1,T2> PTuple2<T1,T2> of(T1 t1, T2 t2){
-		return (PTuple2)new TupleImpl(Arrays.asList(t1,t2),2);
+		return new FieldTuple.Tuple2<>(t1,t2);
 	}
 
 
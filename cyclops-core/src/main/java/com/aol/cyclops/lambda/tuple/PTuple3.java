@@ -5,7 +5,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.IntStream;
@@ -14,9 +13,8 @@ import java.util.stream.LongStream;
 import lombok.AllArgsConstructor;
 
 import com.aol.cyclops.functions.TriFunction;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap1PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap2PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap3PTuple8;
+import com.aol.cyclops.lambda.tuple.lazymap.LazyMapTuple;
+import com.aol.cyclops.lambda.tuple.memo.MemoTuple;
 
 public interface PTuple3<T1,T2,T3> extends PTuple2<T1,T2> {
 	
@@ -74,7 +72,7 @@ public interface PTuple3<T1,T2,T3> extends PTuple2<T1,T2> {
 		if(arity()!=3)
 			return (PTuple3)PTuple2.super.lazyMap1(fn);
 	
-		return new LazyMap1PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(1,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -87,7 +85,7 @@ public interface PTuple3<T1,T2,T3> extends PTuple2<T1,T2> {
 		if(arity()!=3)
 			return (PTuple3)PTuple2.super.lazyMap2(fn);
 		
-		return new LazyMap2PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(2,fn,(PTuple8)this);
 		
 	}
 	
@@ -108,7 +106,7 @@ public interface PTuple3<T1,T2,T3> extends PTuple2<T1,T2> {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	default <T> PTuple3<T1,T2,T> lazyMap3(Function<T3,T> fn){
 		
-		return new LazyMap3PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(3,fn,(PTuple8)this);
 	}
 	
 	default <T> PTuple3<T1,T2,T> map3(Function<T3,T> fn){
@@ -179,45 +177,13 @@ public interface PTuple3<T1,T2,T3> extends PTuple2<T1,T2> {
 	default PTuple3<T1,T2,T3> memo(){
 		if(arity()!=3)
 			return (PTuple3)PTuple2.super.memo();
-		PTuple3<T1,T2,T3> host = this;
-		Map<Integer,Object> values = new ConcurrentHashMap<>();
-		
-		return new TupleImpl(Arrays.asList(),3){
-			
-			
-			public T1 v1(){
-				return ( T1)values.computeIfAbsent(new Integer(0), key -> host.v1());
-			}
-
-			public T2 v2(){
-				return ( T2)values.computeIfAbsent(new Integer(1), key -> host.v2());
-			}
-
-			public T3 v3(){
-				return ( T3)values.computeIfAbsent(new Integer(2), key -> host.v3());
-			}
-
-
-			
-			@Override
-			public List<Object> getCachedValues() {
-				return Arrays.asList(v1(),v2(),v3());
-			}
-
-			@Override
-			public Iterator iterator() {
-				return getCachedValues().iterator();
-			}
-
-			
-		};
-		
+		return new MemoTuple(this,3);
 	}
 	
 	public static <T1,T2,T3> PTuple3<T1,T2,T3> ofTuple(Object tuple2){
 		return (PTuple3)new TupleImpl(tuple2,3);
 	}
 	public static <T1,T2,T3> PTuple3<T1,T2,T3> of(T1 t1, T2 t2,T3 t3){
-		return (PTuple3)new TupleImpl(Arrays.asList(t1,t2,t3),3);
+		return new FieldTuple.Tuple3<>(t1,t2,t3);
 	}
 }
@@ -5,15 +5,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.aol.cyclops.functions.QuadFunction;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap1PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap2PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap3PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap4PTuple8;
+import com.aol.cyclops.lambda.tuple.lazymap.LazyMapTuple;
+import com.aol.cyclops.lambda.tuple.memo.MemoTuple;
 
 public interface PTuple4<T1,T2,T3,T4> extends PTuple3<T1,T2,T3> {
 	
@@ -118,7 +115,7 @@ public interface PTuple4<T1,T2,T3,T4> extends PTuple3<T1,T2,T3> {
 		if(arity()!=4)
 			return (PTuple4)PTuple3.super.lazyMap1(fn);
 	
-		return new LazyMap1PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(1,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -131,7 +128,7 @@ public interface PTuple4<T1,T2,T3,T4> extends PTuple3<T1,T2,T3> {
 		if(arity()!=4)
 			return (PTuple4)PTuple3.super.lazyMap2(fn);
 		
-		return new LazyMap2PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(2,fn,(PTuple8)this);
 		
 	}
 	
@@ -154,7 +151,7 @@ public interface PTuple4<T1,T2,T3,T4> extends PTuple3<T1,T2,T3> {
 		if(arity()!=4)
 			return (PTuple4)PTuple3.super.lazyMap3(fn);
 		
-		return new LazyMap3PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(3,fn,(PTuple8)this);
 		
 	}
 	
@@ -171,7 +168,7 @@ public interface PTuple4<T1,T2,T3,T4> extends PTuple3<T1,T2,T3> {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	default <T> PTuple4<T1,T2,T3,T> lazyMap4(Function<T4,T> fn){
 		
-		return new LazyMap4PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(4,fn,(PTuple8)this);
 		
 	}
 	default <T> PTuple4<T1,T2,T3,T> map4(Function<T4,T> fn){
@@ -180,48 +177,12 @@ public interface PTuple4<T1,T2,T3,T4> extends PTuple3<T1,T2,T3> {
 	default PTuple4<T1,T2,T3,T4> memo(){
 		if(arity()!=4)
 			return (PTuple4)PTuple3.super.memo();
-		PTuple4<T1,T2,T3,T4> host = this;
-		Map<Integer,Object> values = new ConcurrentHashMap<>();
-		
-		return new TupleImpl(Arrays.asList(),4){
-			
-			
-			public T1 v1(){
-				return ( T1)values.computeIfAbsent(new Integer(0), key -> host.v1());
-			}
-
-			public T2 v2(){
-				return ( T2)values.computeIfAbsent(new Integer(1), key -> host.v2());
-			}
-
-			public T3 v3(){
-				return ( T3)values.computeIfAbsent(new Integer(2), key -> host.v3());
-			}
-
-			public T4 v4(){
-				return ( T4)values.computeIfAbsent(new Integer(3), key -> host.v4());
-			}
-
-
-			
-			@Override
-			public List<Object> getCachedValues() {
-				return Arrays.asList(v1(),v2(),v3(),v4());
-			}
-
-			@Override
-			public Iterator iterator() {
-				return getCachedValues().iterator();
-			}
-
-			
-		};
-		
+		return new MemoTuple(this,4);
 	}
 	public static <T1,T2,T3,T4> PTuple4<T1,T2,T3,T4> ofTuple(Object tuple4){
 		return (PTuple4)new TupleImpl(tuple4,4);
 	}
 	public static <T1,T2,T3,T4> PTuple4<T1,T2,T3,T4> of(T1 t1, T2 t2,T3 t3,T4 t4){
-		return (PTuple4)new TupleImpl(Arrays.asList(t1,t2,t3,t4),4);
+		return new FieldTuple.Tuple4<>(t1,t2,t3,t4);
 	}
 }
@@ -5,16 +5,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.aol.cyclops.functions.QuintFunction;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap1PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap2PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap3PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap4PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap5PTuple8;
+import com.aol.cyclops.lambda.tuple.lazymap.LazyMapTuple;
+import com.aol.cyclops.lambda.tuple.memo.MemoTuple;
 
 public interface PTuple5<T1,T2,T3,T4,T5> extends PTuple4<T1,T2,T3,T4> {
 	
@@ -77,7 +73,7 @@ public interface PTuple5<T1,T2,T3,T4,T5> extends PTuple4<T1,T2,T3,T4> {
 		if(arity()!=5)
 			return (PTuple5)PTuple4.super.lazyMap1(fn);
 		
-		return new LazyMap1PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(1,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -90,7 +86,7 @@ public interface PTuple5<T1,T2,T3,T4,T5> extends PTuple4<T1,T2,T3,T4> {
 		if(arity()!=5)
 			return (PTuple5)PTuple4.super.lazyMap2(fn);
 		
-		return new LazyMap2PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(2,fn,(PTuple8)this);
 		
 	}
 	
@@ -113,7 +109,7 @@ public interface PTuple5<T1,T2,T3,T4,T5> extends PTuple4<T1,T2,T3,T4> {
 		if(arity()!=5)
 			return (PTuple5)PTuple4.super.lazyMap3(fn);
 		
-		return new LazyMap3PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(3,fn,(PTuple8)this);
 	}
 	
 	/* 
@@ -134,7 +130,7 @@ public interface PTuple5<T1,T2,T3,T4,T5> extends PTuple4<T1,T2,T3,T4> {
 		if(arity()!=5)
 			return (PTuple5)PTuple4.super.lazyMap4(fn);
 		
-		return new LazyMap4PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(4,fn,(PTuple8)this);
 		
 	}
 	/* 
@@ -155,7 +151,7 @@ public interface PTuple5<T1,T2,T3,T4,T5> extends PTuple4<T1,T2,T3,T4> {
 	default <T> PTuple5<T1,T2,T3,T4,T> lazyMap5(Function<T5,T> fn){
 
 
-		return new LazyMap5PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(5,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -229,52 +225,12 @@ public interface PTuple5<T1,T2,T3,T4,T5> extends PTuple4<T1,T2,T3,T4> {
 	default PTuple5<T1,T2,T3,T4,T5> memo(){
 		if(arity()!=5)
 			return (PTuple5)PTuple4.super.memo();
-		PTuple5<T1,T2,T3,T4,T5> host = this;
-		Map<Integer,Object> values = new ConcurrentHashMap<>();
-		
-		return new TupleImpl(Arrays.asList(),5){
-			
-			
-			public T1 v1(){
-				return ( T1)values.computeIfAbsent(new Integer(0), key -> host.v1());
-			}
-
-			public T2 v2(){
-				return ( T2)values.computeIfAbsent(new Integer(1), key -> host.v2());
-			}
-
-			public T3 v3(){
-				return ( T3)values.computeIfAbsent(new Integer(2), key -> host.v3());
-			}
-
-			public T4 v4(){
-				return ( T4)values.computeIfAbsent(new Integer(3), key -> host.v4());
-			}
-
-			public T5 v5(){
-				return ( T5)values.computeIfAbsent(new Integer(4), key -> host.v5());
-			}
-
-
-			
-			@Override
-			public List<Object> getCachedValues() {
-				return Arrays.asList(v1(),v2(),v3(),v4(),v5());
-			}
-
-			@Override
-			public Iterator iterator() {
-				return getCachedValues().iterator();
-			}
-
-			
-		};
-		
+		return new MemoTuple(this,5);
 	}
 	public static <T1,T2,T3,T4,T5> PTuple5<T1,T2,T3,T4,T5> ofTuple(Object tuple5){
 		return (PTuple5)new TupleImpl(tuple5,5);
 	}
 	public static <T1,T2,T3,T4,T5> PTuple5<T1,T2,T3,T4,T5> of(T1 t1, T2 t2,T3 t3,T4 t4,T5 t5){
-		return (PTuple5)new TupleImpl(Arrays.asList(t1,t2,t3,t4,t5),5);
+		return new FieldTuple.Tuple5<>(t1,t2,t3,t4,t5);
 	}
 }
@@ -5,17 +5,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.aol.cyclops.functions.HexFunction;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap1PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap2PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap3PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap4PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap5PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap6PTuple8;
+import com.aol.cyclops.lambda.tuple.lazymap.LazyMapTuple;
+import com.aol.cyclops.lambda.tuple.memo.MemoTuple;
 
 public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 	
@@ -68,7 +63,7 @@ public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 		return (PTuple6)new TupleImpl(tuple6,6);
 	}
 	public static <T1,T2,T3,T4,T5,T6> PTuple6<T1,T2,T3,T4,T5,T6> of(T1 t1, T2 t2,T3 t3,T4 t4,T5 t5, T6 t6){
-		return (PTuple6)new TupleImpl(Arrays.asList(t1,t2,t3,t4,t5,t6),6);
+		return new FieldTuple.Tuple6<>(t1,t2,t3,t4,t5,t6);
 	}
 	
 	/**Strict mapping of the first element
@@ -92,7 +87,7 @@ public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 		if(arity()!=6)
 			return (PTuple6)PTuple5.super.lazyMap1(fn);
 		
-		return new LazyMap1PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(1,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -105,7 +100,7 @@ public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 		if(arity()!=6)
 			return (PTuple6)PTuple5.super.lazyMap2(fn);
 		
-		return new LazyMap2PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(2,fn,(PTuple8)this);
 		
 	}
 	
@@ -127,7 +122,7 @@ public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 		if(arity()!=6)
 			return (PTuple6)PTuple5.super.lazyMap3(fn);
 	
-		return new LazyMap3PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(3,fn,(PTuple8)this);
 		
 	}
 	
@@ -148,7 +143,7 @@ public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 		if(arity()!=6)
 			return (PTuple6)PTuple5.super.lazyMap4(fn);
 		
-		return new LazyMap4PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(4,fn,(PTuple8)this);
 		
 	}
 	/* 
@@ -170,7 +165,7 @@ public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 			if(arity()!=6)
 				return (PTuple6)PTuple5.super.lazyMap5(fn);
 
-		return new LazyMap5PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(5,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -191,7 +186,7 @@ public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 	 */
 	default <T> PTuple6<T1,T2,T3,T4,T5,T> lazyMap6(Function<T6,T> fn){
 
-		return new LazyMap6PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(6,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -264,51 +259,7 @@ public interface PTuple6<T1,T2,T3,T4,T5,T6> extends PTuple5<T1,T2,T3,T4,T5> {
 	default PTuple6<T1,T2,T3,T4,T5,T6> memo(){
 		if(arity()!=6)
 			return (PTuple6)PTuple5.super.memo();
-		PTuple6<T1,T2,T3,T4,T5,T6> host = this;
-		Map<Integer,Object> values = new ConcurrentHashMap<>();
-		
-		return new TupleImpl(Arrays.asList(),6){
-			
-			
-			public T1 v1(){
-				return ( T1)values.computeIfAbsent(new Integer(0), key -> host.v1());
-			}
-
-			public T2 v2(){
-				return ( T2)values.computeIfAbsent(new Integer(1), key -> host.v2());
-			}
-
-			public T3 v3(){
-				return ( T3)values.computeIfAbsent(new Integer(2), key -> host.v3());
-			}
-
-			public T4 v4(){
-				return ( T4)values.computeIfAbsent(new Integer(3), key -> host.v4());
-			}
-
-			public T5 v5(){
-				return ( T5)values.computeIfAbsent(new Integer(4), key -> host.v5());
-			}
-
-			public T6 v6(){
-				return ( T6)values.computeIfAbsent(new Integer(5), key -> host.v6());
-			}
-
-
-			
-			@Override
-			public List<Object> getCachedValues() {
-				return Arrays.asList(v1(),v2(),v3(),v4(),v5(),v6());
-			}
-
-			@Override
-			public Iterator iterator() {
-				return getCachedValues().iterator();
-			}
-
-			
-		};
-		
+		return new MemoTuple(this,6);
 	}
 	
 }
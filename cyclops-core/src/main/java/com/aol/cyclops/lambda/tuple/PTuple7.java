@@ -5,18 +5,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.aol.cyclops.functions.HeptFunction;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap1PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap2PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap3PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap4PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap5PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap6PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap7PTuple8;
+import com.aol.cyclops.lambda.tuple.lazymap.LazyMapTuple;
+import com.aol.cyclops.lambda.tuple.memo.MemoTuple;
 
 public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6> {
 	
@@ -87,7 +81,7 @@ public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6
 	default <T> PTuple7<T,T2,T3,T4,T5,T6,T7> lazyMap1(Function<T1,T> fn){
 		if(arity()!=7)
 			return (PTuple7)PTuple6.super.lazyMap1(fn);
-		return new LazyMap1PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(1,fn,(PTuple8)this);
 	
 		
 	}
@@ -101,7 +95,7 @@ public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6
 			return (PTuple7)PTuple6.super.lazyMap2(fn);
 		
 
-		return new LazyMap2PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(2,fn,(PTuple8)this);
 		
 	}
 	
@@ -124,7 +118,7 @@ public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6
 		if(arity()!=7)
 			return (PTuple7)PTuple6.super.lazyMap3(fn);
 
-		return new LazyMap3PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(3,fn,(PTuple8)this);
 		
 	}
 	
@@ -144,7 +138,7 @@ public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6
 	default <T> PTuple7<T1,T2,T3,T,T5,T6,T7> lazyMap4(Function<T4,T> fn){
 		if(arity()!=7)
 			return (PTuple7)PTuple6.super.lazyMap4(fn);
-		return new LazyMap4PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(4,fn,(PTuple8)this);
 		
 	}
 	/* 
@@ -165,7 +159,7 @@ public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6
 		if(arity()!=7)
 			return (PTuple7)PTuple6.super.lazyMap5(fn);
 
-		return new LazyMap5PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(5,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -188,7 +182,7 @@ public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6
 		if(arity()!=7)
 			return (PTuple7)PTuple6.super.lazyMap6(fn);
 
-		return new LazyMap6PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(6,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -210,7 +204,7 @@ public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6
 	 */
 	default <T> PTuple7<T1,T2,T3,T4,T5,T6,T> lazyMap7(Function<T7,T> fn){
 		
-		return new LazyMap7PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(7,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -290,61 +284,13 @@ public interface PTuple7<T1,T2,T3,T4,T5,T6,T7> extends PTuple6<T1,T2,T3,T4,T5,T6
 	default PTuple7<T1,T2,T3,T4,T5,T6,T7> memo(){
 		if(arity()!=7)
 			return (PTuple7)PTuple6.super.memo();
-		PTuple7<T1,T2,T3,T4,T5,T6,T7> host = this;
-		Map<Integer,Object> values = new ConcurrentHashMap<>();
-		
-		return new TupleImpl(Arrays.asList(),7){
-			
-			
-			public T1 v1(){
-				return ( T1)values.computeIfAbsent(new Integer(0), key -> host.v1());
-			}
-
-			public T2 v2(){
-				return ( T2)values.computeIfAbsent(new Integer(1), key -> host.v2());
-			}
-
-			public T3 v3(){
-				return ( T3)values.computeIfAbsent(new Integer(2), key -> host.v3());
-			}
-
-			public T4 v4(){
-				return ( T4)values.computeIfAbsent(new Integer(3), key -> host.v4());
-			}
-
-			public T5 v5(){
-				return ( T5)values.computeIfAbsent(new Integer(4), key -> host.v5());
-			}
-
-			public T6 v6(){
-				return ( T6)values.computeIfAbsent(new Integer(5), key -> host.v6());
-			}
-
-			public T7 v7(){
-				return ( T7)values.computeIfAbsent(new Integer(6), key -> host.v7());
-			}
-
-
-			
-			@Override
-			public List<Object> getCachedValues() {
-				return Arrays.asList(v1(),v2(),v3(),v4(),v5(),v6(),v7());
-			}
-
-			@Override
-			public Iterator iterator() {
-				return getCachedValues().iterator();
-			}
-
-			
-		};
-		
+		return new MemoTuple(this,7);
 	}
 	public static <T1,T2,T3,T4,T5,T6,T7> PTuple7<T1,T2,T3,T4,T5,T6,T7> ofTuple(Object tuple7){
 		return (PTuple7)new TupleImpl(tuple7,7);
 	}
 	public static <T1,T2,T3,T4,T5,T6,T7> PTuple7<T1,T2,T3,T4,T5,T6,T7> of(T1 t1, T2 t2,T3 t3,T4 t4,T5 t5,
 																		T6 t6, T7 t7){
-		return (PTuple7)new TupleImpl(Arrays.asList(t1,t2,t3,t4,t5,t6,t7),7);
+		return new FieldTuple.Tuple7<>(t1,t2,t3,t4,t5,t6,t7);
 	}
 }
@@ -5,19 +5,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.aol.cyclops.functions.OctFunction;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap1PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap2PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap3PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap4PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap5PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap6PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap7PTuple8;
-import com.aol.cyclops.lambda.tuple.lazymap.LazyMap8PTuple8;
+import com.aol.cyclops.lambda.tuple.lazymap.LazyMapTuple;
+import com.aol.cyclops.lambda.tuple.memo.MemoTuple;
 
 public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5,T6,T7> {
 	
@@ -91,7 +84,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 		if(arity()!=8)
 			return (PTuple8)PTuple7.super.lazyMap1(fn);
 		
-		return new LazyMap1PTuple8(fn,this);
+		return LazyMapTuple.lazyMap(1,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -104,7 +97,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 			return (PTuple8)PTuple7.super.lazyMap2(fn);
 		
 		
-		return new LazyMap2PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(2,fn,(PTuple8)this);
 		
 	}
 	
@@ -128,7 +121,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 			return (PTuple8)PTuple7.super.lazyMap3(fn);
 		
 	
-		return new LazyMap3PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(3,fn,(PTuple8)this);
 		
 	}
 	
@@ -151,7 +144,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 			return (PTuple8)PTuple7.super.lazyMap4(fn);
 		
 		
-		return new LazyMap4PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(4,fn,(PTuple8)this);
 		
 	}
 	/* 
@@ -173,7 +166,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 		if(arity()!=8)
 			return (PTuple8)PTuple7.super.lazyMap5(fn);
 
-		return new LazyMap5PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(5,fn,(PTuple8)this);
 		
 	}
 	/**
@@ -198,7 +191,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 			return (PTuple8)PTuple7.super.lazyMap6(fn);
 
 
-		return new LazyMap6PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(6,fn,(PTuple8)this);
 	}
 	/**
 	 * 
@@ -223,7 +216,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 			return (PTuple8)PTuple7.super.lazyMap7(fn);
 		
 		
-		return new LazyMap7PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(7,fn,(PTuple8)this);
 		
 	}
 	
@@ -248,7 +241,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 	default <T> PTuple8<T1,T2,T3,T4,T5,T6,T7,T> lazyMap8(Function<T8,T> fn){
 		
 		
-		return new LazyMap8PTuple8(fn,(PTuple8)this);
+		return LazyMapTuple.lazyMap(8,fn,(PTuple8)this);
 	}
 		
 	/**
@@ -332,59 +325,7 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 	default PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> memo(){
 		if(arity()!=8)
 			return (PTuple8)PTuple7.super.memo();
-		PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> host =  this;
-		Map<Integer,Object> values = new ConcurrentHashMap<>();
-		
-		return new TupleImpl(Arrays.asList(),8){
-			
-			
-			public T1 v1(){
-				return ( T1)values.computeIfAbsent(new Integer(0), key -> host.v1());
-			}
-
-			public T2 v2(){
-				return ( T2)values.computeIfAbsent(new Integer(1), key -> host.v2());
-			}
-
-			public T3 v3(){
-				return ( T3)values.computeIfAbsent(new Integer(2), key -> host.v3());
-			}
-
-			public T4 v4(){
-				return ( T4)values.computeIfAbsent(new Integer(3), key -> host.v4());
-			}
-
-			public T5 v5(){
-				return ( T5)values.computeIfAbsent(new Integer(4), key -> host.v5());
-			}
-
-			public T6 v6(){
-				return ( T6)values.computeIfAbsent(new Integer(5), key -> host.v6());
-			}
-
-			public T7 v7(){
-				return ( T7)values.computeIfAbsent(new Integer(6), key -> host.v7());
-			}
-
-			public T8 v8(){
-				return ( T8)values.computeIfAbsent(new Integer(7), key -> host.v8());
-			}
-
-
-			
-			@Override
-			public List<Object> getCachedValues() {
-				return Arrays.asList(v1(),v2(),v3(),v4(),v5(),v6(),v7(),v8());
-			}
-
-			@Override
-			public Iterator iterator() {
-				return getCachedValues().iterator();
-			}
-
-			
-		};
-		
+		return new MemoTuple(this,8);
 	}
 	
 	public static <T1,T2,T3,T4,T5,T6,T7,T8> PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> ofTuple(Object tuple8){
@@ -392,6 +333,6 @@ public interface PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> extends PTuple7<T1,T2,T3,T4,T5
 	}
 	public static <T1,T2,T3,T4,T5,T6,T7,T8> PTuple8<T1,T2,T3,T4,T5,T6,T7,T8> of(T1 t1, T2 t2,T3 t3,T4 t4,T5 t5,
 																		T6 t6, T7 t7,T8 t8){
-		return (PTuple8)new TupleImpl(Arrays.asList(t1,t2,t3,t4,t5,t6,t7,t8),8);
+		return new FieldTuple.Tuple8<>(t1,t2,t3,t4,t5,t6,t7,t8);
 	}
 }
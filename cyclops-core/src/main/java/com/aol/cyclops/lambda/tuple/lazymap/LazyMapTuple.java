@@ -0,0 +1,189 @@
+package com.aol.cyclops.lambda.tuple.lazymap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.aol.cyclops.lambda.tuple.CachedValues;
+import com.aol.cyclops.lambda.tuple.PTuple8;
+import com.aol.cyclops.lambda.tuple.TupleImpl;
+
+/**
+ * Tuple with lazily mapped (and memoised) values over a host Tuple.
+ * 
+ * Successive lazyMap calls are fused : lazily mapping a LazyMapTuple produces a new LazyMapTuple over the same host, composing
+ * the mapping functions for the remapped slot (unless that slot has already been evaluated). Values already computed for other slots are carried over.
+ * 
+ * @author johnmcclean
+ *
+ */
+@SuppressWarnings({"unchecked","rawtypes"})
+public class LazyMapTuple<T1,T2,T3,T4,T5,T6,T7,T8> implements PTuple8<T1,T2,T3,T4,T5,T6,T7,T8>{
+	
+	private static final Object UNSET = new Object();
+	
+	private final PTuple8 host;
+	private final int arity;
+	private final Function[] fns;
+	private volatile Object m1 = UNSET;
+	private volatile Object m2 = UNSET;
+	private volatile Object m3 = UNSET;
+	private volatile Object m4 = UNSET;
+	private volatile Object m5 = UNSET;
+	private volatile Object m6 = UNSET;
+	private volatile Object m7 = UNSET;
+	private volatile Object m8 = UNSET;
+	private int hash;
+	
+	private LazyMapTuple(PTuple8 host, int slot, Function fn){
+		this.host = host;
+		this.arity = host.arity();
+		this.fns = new Function[8];
+		this.fns[slot-1] = fn;
+	}
+	private LazyMapTuple(LazyMapTuple<?,?,?,?,?,?,?,?> fused, int slot, Function fn){
+		this.host = fused.host;
+		this.arity = fused.arity;
+		this.fns = fused.fns.clone();
+		for(int i=1;i<=8;i++){
+			if(i!=slot)
+				memoise(i,fused.memoised(i));
+		}
+		Function previous = fns[slot-1];
+		this.fns[slot-1] = previous==null ? fn : previous.andThen(fn);
+	}
+	
+	/**
+	 * Lazily map a single slot of the supplied tuple
+	 * 
+	 * @param slot Slot to map (1 based)
+	 * @param fn Mapping function
+	 * @param tuple Tuple to map
+	 * @return Lazily mapped Tuple
+	 */
+	public static PTuple8 lazyMap(int slot, Function<?,?> fn, PTuple8<?,?,?,?,?,?,?,?> tuple){
+		if(tuple instanceof LazyMapTuple && ((LazyMapTuple<?,?,?,?,?,?,?,?>)tuple).memoised(slot)==UNSET)
+			return new LazyMapTuple((LazyMapTuple<?,?,?,?,?,?,?,?>)tuple,slot,fn);
+		return new LazyMapTuple(tuple,slot,fn);
+	}
+	
+	private Object value(int slot){
+		Function fn = fns[slot-1];
+		if(fn==null)
+			return hostValue(slot);
+		Object value = memoised(slot);
+		if(value==UNSET){
+			value = fn.apply(hostValue(slot));
+			memoise(slot,value);
+		}
+		return value;
+	}
+	private Object memoised(int slot){
+		switch(slot){
+			case 1: return m1;
+			case 2: return m2;
+			case 3: return m3;
+			case 4: return m4;
+			case 5: return m5;
+			case 6: return m6;
+			case 7: return m7;
+			case 8: return m8;
+		}
+		return UNSET;
+	}
+	private void memoise(int slot, Object value){
+		switch(slot){
+			case 1: m1 = value; break;
+			case 2: m2 = value; break;
+			case 3: m3 = value; break;
+			case 4: m4 = value; break;
+			case 5: m5 = value; break;
+			case 6: m6 = value; break;
+			case 7: m7 = value; break;
+			case 8: m8 = value; break;
+		}
+	}
+	private Object hostValue(int slot){
+		switch(slot){
+			case 1: return host.v1();
+			case 2: return host.v2();
+			case 3: return host.v3();
+			case 4: return host.v4();
+			case 5: return host.v5();
+			case 6: return host.v6();
+			case 7: return host.v7();
+			case 8: return host.v8();
+		}
+		throw new IndexOutOfBoundsException("Slot " + slot);
+	}
+	@Override
+	public T1 v1(){
+		return (T1)value(1);
+	}
+	@Override
+	public T2 v2(){
+		return (T2)value(2);
+	}
+	@Override
+	public T3 v3(){
+		return (T3)value(3);
+	}
+	@Override
+	public T4 v4(){
+		return (T4)value(4);
+	}
+	@Override
+	public T5 v5(){
+		return (T5)value(5);
+	}
+	@Override
+	public T6 v6(){
+		return (T6)value(6);
+	}
+	@Override
+	public T7 v7(){
+		return (T7)value(7);
+	}
+	@Override
+	public T8 v8(){
+		return (T8)value(8);
+	}
+	
+	@Override
+	public int arity(){
+		return arity;
+	}
+	@Override
+	public List<Object> getCachedValues() {
+		List<Object> values = new ArrayList<>(arity);
+		for(int i=1;i<=arity;i++)
+			values.add(value(i));
+		return values;
+	}
+	@Override
+	public CachedValues withArity(int arity) {
+		return new TupleImpl(getCachedValues(),arity);
+	}
+	@Override
+	public int hashCode() {
+		int h = hash;
+		if(h==0){
+			h = 1;
+			for(int i=1;i<=arity;i++)
+				h = 31*h + Objects.hashCode(value(i));
+			hash = h;
+		}
+		return h;
+	}
+	@Override
+	public boolean equals(Object obj) {
+		if(!(obj instanceof CachedValues))
+			return false;
+		return getCachedValues().equals(((CachedValues)obj).getCachedValues());
+	}
+	@Override
+	public String toString() {
+		return getCachedValues().toString();
+	}
+}
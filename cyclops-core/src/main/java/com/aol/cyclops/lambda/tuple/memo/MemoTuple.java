@@ -0,0 +1,88 @@
+package com.aol.cyclops.lambda.tuple.memo;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.functions.caching.Memoize;
+import com.aol.cyclops.lambda.tuple.PTuple1;
+import com.aol.cyclops.lambda.tuple.PTuple2;
+import com.aol.cyclops.lambda.tuple.PTuple3;
+import com.aol.cyclops.lambda.tuple.PTuple4;
+import com.aol.cyclops.lambda.tuple.PTuple5;
+import com.aol.cyclops.lambda.tuple.PTuple6;
+import com.aol.cyclops.lambda.tuple.PTuple7;
+import com.aol.cyclops.lambda.tuple.PTuple8;
+import com.aol.cyclops.lambda.tuple.TupleImpl;
+
+/**
+ * Tuple that lazily evaluates and caches each value of a host Tuple. Each slot is a memoised Supplier (double checked lazy cell),
+ * so the host value is computed at most once and subsequent reads need no lookup.
+ * 
+ * @author johnmcclean
+ *
+ */
+@SuppressWarnings({"unchecked","rawtypes"})
+public class MemoTuple<T1,T2,T3,T4,T5,T6,T7,T8> extends TupleImpl<T1,T2,T3,T4,T5,T6,T7,T8> {
+
+	private final Supplier<Object>[] cells;
+
+	public MemoTuple(PTuple1<T1> host, int arity) {
+		super(arity);
+		cells = new Supplier[arity];
+		for(int i=0;i<arity;i++)
+			cells[i] = Memoize.memoizeSupplier(slot(host,i+1));
+	}
+	private static Supplier<Object> slot(PTuple1<?> host, int slot){
+		switch(slot){
+			case 1: return host::v1;
+			case 2: return ((PTuple2)host)::v2;
+			case 3: return ((PTuple3)host)::v3;
+			case 4: return ((PTuple4)host)::v4;
+			case 5: return ((PTuple5)host)::v5;
+			case 6: return ((PTuple6)host)::v6;
+			case 7: return ((PTuple7)host)::v7;
+			case 8: return ((PTuple8)host)::v8;
+		}
+		throw new IndexOutOfBoundsException("Slot " + slot);
+	}
+
+	public T1 v1(){
+		return (T1)cells[0].get();
+	}
+	public T2 v2(){
+		return (T2)cells[1].get();
+	}
+	public T3 v3(){
+		return (T3)cells[2].get();
+	}
+	public T4 v4(){
+		return (T4)cells[3].get();
+	}
+	public T5 v5(){
+		return (T5)cells[4].get();
+	}
+	public T6 v6(){
+		return (T6)cells[5].get();
+	}
+	public T7 v7(){
+		return (T7)cells[6].get();
+	}
+	public T8 v8(){
+		return (T8)cells[7].get();
+	}
+
+	@Override
+	public List<Object> getCachedValues() {
+		List<Object> values = new ArrayList<>(cells.length);
+		for(Supplier<Object> cell : cells)
+			values.add(cell.get());
+		return values;
+	}
+
+	@Override
+	public Iterator iterator() {
+		return getCachedValues().iterator();
+	}
+}
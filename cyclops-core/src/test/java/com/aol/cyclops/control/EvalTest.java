@@ -1,5 +1,15 @@
 package com.aol.cyclops.control;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.Test;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
@@ -56,4 +66,82 @@ public class EvalTest {
 		assertThat(Eval.always(()->1).map(i->i+2)
 						.flatMap(i->Eval.now(i*3)).get(),equalTo(9));
 	}
+	@Test
+	public void laterMapCaches(){
+		count = 0;
+		Eval<Integer> eval = Eval.later(()->1).map(i->{
+			count++;
+			return i+2;
+		});
+		eval.get();
+		assertThat(eval.get(),equalTo(3));
+		assertThat(count,equalTo(1));
+	}
+	@Test
+	public void deepLaterMap(){
+		Eval<Integer> eval = Eval.later(()->0);
+		for(int i=0;i<1_000_000;i++)
+			eval = eval.map(x->x+1);
+		assertThat(eval.get(),equalTo(1_000_000));
+		assertThat(eval.get(),equalTo(1_000_000));
+	}
+	@Test
+	public void deepAlwaysFlatMap(){
+		count = 0;
+		Eval<Integer> eval = Eval.always(()->{
+			count++;
+			return 0;
+		});
+		for(int i=0;i<1_000_000;i++)
+			eval = eval.flatMap(x->Eval.now(x+1));
+		assertThat(eval.get(),equalTo(1_000_000));
+		assertThat(eval.get(),equalTo(1_000_000));
+		assertThat(count,equalTo(2));
+	}
+	@Test
+	public void deepRecursiveFlatMap(){
+		assertThat(sum(1_000_000,0L).get(),equalTo(1_000_000L*1_000_001L/2));
+	}
+	private Eval<Long> sum(int n, long acc){
+		if(n==0)
+			return Eval.now(acc);
+		return Eval.later(()->n).flatMap(i->sum(i-1,acc+i));
+	}
+	@Test
+	public void concurrentMapEvaluatesOnce() throws Exception{
+		for(int run=0;run<50;run++){
+			AtomicInteger supplied = new AtomicInteger(0);
+			AtomicInteger mapped = new AtomicInteger(0);
+			AtomicInteger flatMapped = new AtomicInteger(0);
+			Eval<Integer> eval = Eval.later(()->supplied.incrementAndGet())
+									.map(i->{ mapped.incrementAndGet(); sleep(); return i+1; })
+									.flatMap(i->{ flatMapped.incrementAndGet(); sleep(); return Eval.later(()->i*10); });
+			assertThat(concurrently(8,eval::get),equalTo(Collections.nCopies(8,20)));
+			assertThat(supplied.get(),equalTo(1));
+			assertThat(mapped.get(),equalTo(1));
+			assertThat(flatMapped.get(),equalTo(1));
+		}
+	}
+	private static void sleep(){
+		try {
+			Thread.sleep(1);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	private static <T> List<T> concurrently(int threads, Supplier<T> task) throws Exception{
+		ExecutorService exec = Executors.newFixedThreadPool(threads);
+		try{
+			CyclicBarrier start = new CyclicBarrier(threads);
+			List<Future<T>> futures = new ArrayList<>();
+			for(int i=0;i<threads;i++)
+				futures.add(exec.submit(()->{ start.await(); return task.get(); }));
+			List<T> results = new ArrayList<>();
+			for(Future<T> f : futures)
+				results.add(f.get());
+			return results;
+		}finally{
+			exec.shutdown();
+		}
+	}
 }
@@ -9,6 +9,7 @@ import static org.junit.Assert.fail;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -297,6 +298,16 @@ public class FluentFunctionTest {
 						.join(),equalTo(2));
 	}
 	@Test
+	public void memoizeAsync(){
+		called=0;
+		Function<Integer,CompletableFuture<Integer>> fn = FluentFunctions.of(this::addOne)
+													  .memoizeAsync(ex);
+		
+		assertThat(fn.apply(1).join(),equalTo(2));
+		assertThat(fn.apply(1).join(),equalTo(2));
+		assertThat(called,equalTo(1));
+	}
+	@Test
 	public void async(){
 		assertThat(FluentFunctions.of(this::addOne)
 						.async(ex)
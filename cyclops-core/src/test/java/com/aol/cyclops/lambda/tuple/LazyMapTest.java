@@ -3,6 +3,8 @@ package com.aol.cyclops.lambda.tuple;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 
 public class LazyMapTest {
@@ -152,4 +154,41 @@ public class LazyMapTest {
 		assertThat(PTuple8.of("hello", "world","woo!","hoo!","5","6","7","8").lazyMap8(in->in+"2")._8(),equalTo("82"));
 	}
 	 
+	@Test
+	public void otherSlotsReadFromHost(){
+		PTuple3<String,String,String> tuple = PTuple3.of("hello", "world","woo!").lazyMap2(in->in+"2");
+		assertThat(tuple,equalTo(PowerTuples.tuple("hello","world2","woo!")));
+		assertThat(tuple.hashCode(),equalTo(PowerTuples.tuple("hello","world2","woo!").hashCode()));
+	}
+	@Test
+	public void fusedChainIsMemoised(){
+		AtomicInteger count = new AtomicInteger(0);
+		PTuple2<Integer,Integer> tuple = PTuple2.of(1,2).lazyMap1(in->in+count.incrementAndGet())
+											.lazyMap2(in->in*10)
+											.lazyMap1(in->in*100);
+		assertThat(count.get(),equalTo(0));
+		assertThat(tuple.v1(),equalTo(200));
+		assertThat(tuple.v1(),equalTo(200));
+		assertThat(tuple.v2(),equalTo(20));
+		assertThat(count.get(),equalTo(1));
+	}
+	@Test
+	public void evaluatedSlotNotRecomputed(){
+		AtomicInteger count = new AtomicInteger(0);
+		PTuple2<Integer,Integer> mapped = PTuple2.of(1,2).lazyMap1(in->in+count.incrementAndGet());
+		assertThat(mapped.v1(),equalTo(2));
+		assertThat(mapped.lazyMap1(in->in*100).v1(),equalTo(200));
+		assertThat(mapped.lazyMap2(in->in*10).v1(),equalTo(2));
+		assertThat(count.get(),equalTo(1));
+	}
+	@Test
+	public void hashCodeIsCached(){
+		AtomicInteger count = new AtomicInteger(0);
+		PTuple2<Integer,Integer> tuple = PTuple2.of(1,2).lazyMap1(in->in+count.incrementAndGet());
+		int hash = tuple.hashCode();
+		assertThat(tuple.hashCode(),equalTo(hash));
+		assertThat(hash,equalTo(PowerTuples.tuple(2,2).hashCode()));
+		assertThat(count.get(),equalTo(1));
+	}
+	 
 }
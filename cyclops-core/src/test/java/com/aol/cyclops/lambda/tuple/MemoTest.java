@@ -4,6 +4,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 import lombok.val;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 
 public class MemoTest {
@@ -226,4 +229,28 @@ public class MemoTest {
 		tuple._8();
 		assertThat(tuple._8(),equalTo("820"));
 	}
+	@Test
+	public void memoEvaluatesEachSlotOnce(){
+		AtomicInteger count = new AtomicInteger(0);
+		PTuple3<Integer,Integer,Integer> host = new TupleImpl<Integer,Integer,Integer,Object,Object,Object,Object,Object>(Arrays.asList(1,2,3),3){
+			@Override
+			public Integer v2(){
+				count.incrementAndGet();
+				return super.v2();
+			}
+		};
+		PTuple3<Integer,Integer,Integer> memo = host.memo();
+		assertThat(count.get(),equalTo(0));
+		assertThat(memo.v2(),equalTo(2));
+		assertThat(memo.v2(),equalTo(2));
+		assertThat(memo.getCachedValues(),equalTo(Arrays.asList(1,2,3)));
+		assertThat(count.get(),equalTo(1));
+	}
+	@Test
+	public void memoArity8(){
+		PTuple8<Integer,Integer,Integer,Integer,Integer,Integer,Integer,Integer> memo = PowerTuples.tuple(1,2,3,4,5,6,7,8).memo();
+		assertThat(memo.v8(),equalTo(8));
+		assertThat(memo.arity(),equalTo(8));
+		assertThat(memo,equalTo(PowerTuples.tuple(1,2,3,4,5,6,7,8)));
+	}
 }
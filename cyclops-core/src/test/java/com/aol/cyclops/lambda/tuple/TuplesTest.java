@@ -180,4 +180,16 @@ public class TuplesTest {
 			assertThat(PTuple8.ofTuple(Arrays.asList("hello",10,date,"world",20,100l,"woo",8)).getT8(),equalTo(8));
 		}
 	
+	@Test
+	public void fieldTupleEqualsListBackedTuple(){
+		PTuple3<String,Integer,String> fields = PowerTuples.tuple("hello",10,null);
+		PTuple3<String,Integer,String> list = PTuple3.ofTuple(Arrays.asList("hello",10,null));
+		assertThat(fields,equalTo(list));
+		assertThat(list,equalTo(fields));
+		assertThat(fields.hashCode(),equalTo(list.hashCode()));
+		assertThat(fields,equalTo(PTuple3.of("hello",10,null)));
+		assertThat(fields.equals(PowerTuples.tuple("hello",10,"world")),equalTo(false));
+		assertThat(fields.toString(),equalTo("[hello, 10, null]"));
+	}
+	
 }
@@ -1,7 +1,6 @@
 package com.aol.cyclops.closures.immutable;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -35,8 +34,10 @@ import com.aol.cyclops.closures.Convertable;
 @ToString
 public class LazyImmutable<T> implements Supplier<T>, Consumer<T>, Convertable<T>{
 	private final static Object UNSET = new Object();
-	private AtomicReference value = new AtomicReference<>(UNSET);
-	private final AtomicBoolean set= new AtomicBoolean(false);
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<LazyImmutable,Object> VALUE = 
+					AtomicReferenceFieldUpdater.newUpdater(LazyImmutable.class,Object.class,"value");
+	private volatile Object value = UNSET;
 	
 	public LazyImmutable(){}
 
@@ -44,7 +45,7 @@ public class LazyImmutable<T> implements Supplier<T>, Consumer<T>, Convertable<T
 	 * @return Current value
 	 */
 	public T get(){
-		return (T)value.get();
+		return (T)value;
 	}
 	/**
 	 * Create an intermediate unbound (or unitialised) ImmutableClosedValue)
@@ -110,15 +111,14 @@ public class LazyImmutable<T> implements Supplier<T>, Consumer<T>, Convertable<T
 	 * @return Current set Value
 	 */
 	public LazyImmutable<T> setOnce(T val){
-		this.value.compareAndSet(UNSET, val);
-		set.set(true);
+		VALUE.compareAndSet(this,UNSET, val);
 		return this;
 			
 	}
 	private  T setOnceFromSupplier(Supplier<T> lazy){
 		
-		this.value.compareAndSet(UNSET, lazy.get());
-		return (T)this.value.get();	
+		VALUE.compareAndSet(this,UNSET, lazy.get());
+		return (T)this.value;	
 
 	}
 	/**
@@ -0,0 +1,108 @@
+package com.aol.cyclops.functions.caching;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoises an asynchronous Function by caching a CompletableFuture per key.
+ *
+ * Concurrent requests for a key share a single in flight computation. Futures that fail (or complete with null) are evicted
+ * before they complete, so subsequent requests start a new computation. With a refresh interval set, requests for a value older than
+ * the interval return the cached (stale) future immediately and trigger a single background recomputation that replaces it on success.
+ *
+ * The returned futures are shared between callers and should not be completed or cancelled by them.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Input type
+ * @param <R> Type of the asynchronously computed result
+ */
+final class AsyncMemoizer<T,R> implements Function<T,CompletableFuture<R>> {
+
+	private static final Object NULL_KEY = new Object();
+
+	private final ConcurrentHashMap<Object,Entry<R>> entries = new ConcurrentHashMap<>();
+	private final Function<? super T,? extends CompletableFuture<R>> loader;
+	private final long refreshAfterWriteNanos;
+	private final LongSupplier ticker;
+
+	AsyncMemoizer(Function<? super T,? extends CompletableFuture<R>> loader, long refreshAfterWriteNanos, LongSupplier ticker){
+		this.loader = loader;
+		this.refreshAfterWriteNanos = refreshAfterWriteNanos;
+		this.ticker = ticker;
+	}
+
+	@Override
+	public CompletableFuture<R> apply(T t) {
+		Object key = t==null ? NULL_KEY : t;
+		Entry<R> e = entries.get(key);
+		if(e==null){
+			Entry<R> mine = new Entry<>(new CompletableFuture<>());
+			e = entries.putIfAbsent(key,mine);
+			if(e==null){
+				load(key,t,mine);
+				return mine.future;
+			}
+		}
+		if(refreshAfterWriteNanos>0 && e.loaded && ticker.getAsLong()-e.writeTime>=refreshAfterWriteNanos
+				&& e.refreshing.compareAndSet(false,true))
+			refresh(key,t,e);
+		return e.future;
+	}
+
+	private void load(Object key, T t, Entry<R> mine){
+		start(t).whenComplete((result,ex)->{
+			if(ex!=null || result==null)
+				entries.remove(key,mine);
+			else{
+				mine.writeTime = ticker.getAsLong();
+				mine.loaded = true;
+			}
+			if(ex!=null)
+				mine.future.completeExceptionally(ex);
+			else
+				mine.future.complete(result);
+		});
+	}
+	private void refresh(Object key, T t, Entry<R> stale){
+		start(t).whenComplete((result,ex)->{
+			if(ex==null && result!=null){
+				Entry<R> fresh = new Entry<>(CompletableFuture.completedFuture(result));
+				fresh.writeTime = ticker.getAsLong();
+				fresh.loaded = true;
+				entries.replace(key,stale,fresh);
+			}
+			else
+				stale.refreshing.set(false);
+		});
+	}
+	private CompletableFuture<R> start(T t){
+		try{
+			CompletableFuture<R> started = loader.apply(t);
+			if(started!=null)
+				return started;
+			return failed(new NullPointerException("Asynchronous function returned a null CompletableFuture"));
+		}catch(Throwable ex){
+			return failed(ex);
+		}
+	}
+	private static <R> CompletableFuture<R> failed(Throwable ex){
+		CompletableFuture<R> failed = new CompletableFuture<>();
+		failed.completeExceptionally(ex);
+		return failed;
+	}
+
+	private static final class Entry<R>{
+		final CompletableFuture<R> future;
+		final AtomicBoolean refreshing = new AtomicBoolean(false);
+		volatile long writeTime;
+		volatile boolean loaded;
+
+		Entry(CompletableFuture<R> future){
+			this.future = future;
+		}
+	}
+}
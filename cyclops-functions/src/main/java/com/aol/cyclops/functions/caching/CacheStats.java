@@ -0,0 +1,46 @@
+package com.aol.cyclops.functions.caching;
+
+import lombok.Value;
+
+/**
+ * Point in time snapshot of the statistics recorded by a {@link LocalCache}
+ * 
+ * @author johnmcclean
+ *
+ */
+@Value
+public class CacheStats {
+	/**
+	 * Number of lookups that returned a cached value
+	 */
+	long hitCount;
+	/**
+	 * Number of lookups that had to compute a new value
+	 */
+	long missCount;
+	/**
+	 * Number of entries removed because of the size bound, expiry or garbage collection of their values
+	 */
+	long evictionCount;
+	
+	/**
+	 * @return Total number of lookups (hits and misses)
+	 */
+	public long requestCount(){
+		return hitCount+missCount;
+	}
+	/**
+	 * @return Ratio of hits to lookups, 1.0 if there have been no lookups
+	 */
+	public double hitRate(){
+		long requests = requestCount();
+		return requests==0 ? 1.0 : (double)hitCount/requests;
+	}
+	/**
+	 * @return Ratio of misses to lookups, 0.0 if there have been no lookups
+	 */
+	public double missRate(){
+		long requests = requestCount();
+		return requests==0 ? 0.0 : (double)missCount/requests;
+	}
+}
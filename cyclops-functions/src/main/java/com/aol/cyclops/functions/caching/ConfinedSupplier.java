@@ -0,0 +1,40 @@
+package com.aol.cyclops.functions.caching;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Lazy cell without any synchronization, for use from a single thread (or with external synchronization).
+ *
+ * Failures and null results are not cached.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the cached value
+ */
+final class ConfinedSupplier<T> implements Supplier<T>, Callable<T> {
+
+	private Supplier<T> supplier;
+	private T value;
+
+	ConfinedSupplier(Supplier<T> supplier){
+		this.supplier = supplier;
+	}
+
+	@Override
+	public T get() {
+		Supplier<T> s = supplier;
+		if(s==null)
+			return value;
+		T result = s.get();
+		if(result!=null){
+			value = result;
+			supplier = null;
+		}
+		return result;
+	}
+	@Override
+	public T call() {
+		return get();
+	}
+}
@@ -0,0 +1,20 @@
+package com.aol.cyclops.functions.caching;
+
+/**
+ * Eviction policies for size bounded {@link LocalCache}s
+ * 
+ * @author johnmcclean
+ *
+ */
+public enum Eviction {
+	/**
+	 * Evict the least recently used entry
+	 */
+	LRU,
+	/**
+	 * Window TinyLFU : new entries enter a small LRU window, entries leaving the window are only admitted to the main
+	 * (segmented LRU) area if they have been requested more often (according to a frequency sketch) than the entry they would replace.
+	 * Keeps frequently used entries cached when scanning over large numbers of entries that are used only once.
+	 */
+	TINY_LFU
+}
@@ -0,0 +1,66 @@
+package com.aol.cyclops.functions.caching;
+
+/**
+ * Count-Min sketch of 4 bit counters, used to estimate how often a hash has been seen recently.
+ * All counters are halved once the number of increments reaches 10x the sketch capacity, so old popularity fades out.
+ * 
+ * Not thread safe.
+ * 
+ * @author johnmcclean
+ *
+ */
+class FrequencySketch {
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+	private static final long RESET_MASK = 0x7777777777777777L;
+	
+	private final long[] table;
+	private final int mask;
+	private final int sampleSize;
+	private int additions = 0;
+	
+	FrequencySketch(int capacity){
+		int size = Integer.highestOneBit(Math.max(8,Math.min(capacity,1<<24))-1)<<1;
+		table = new long[size];
+		mask = size-1;
+		sampleSize = 10*Math.max(capacity,1);
+	}
+	
+	int frequency(int hash){
+		int frequency = 15;
+		for(int i=0;i<SEEDS.length;i++){
+			long slot = slot(hash,i);
+			frequency = Math.min(frequency,(int)((table[index(slot)] >>> offset(slot)) & 15L));
+		}
+		return frequency;
+	}
+	
+	void increment(int hash){
+		boolean added = false;
+		for(int i=0;i<SEEDS.length;i++){
+			long slot = slot(hash,i);
+			int index = index(slot);
+			int offset = offset(slot);
+			if(((table[index] >>> offset) & 15L) != 15L){
+				table[index] += 1L << offset;
+				added = true;
+			}
+		}
+		if(added && ++additions==sampleSize)
+			reset();
+	}
+	private void reset(){
+		for(int i=0;i<table.length;i++)
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		additions = additions/2;
+	}
+	private static long slot(int hash,int i){
+		long h = (hash + SEEDS[i]) * SEEDS[i];
+		return h ^ (h >>> 29);
+	}
+	private int index(long slot){
+		return (int)(slot >>> 32) & mask;
+	}
+	private static int offset(long slot){
+		return ((int)slot & 15) << 2;
+	}
+}
@@ -0,0 +1,708 @@
+package com.aol.cyclops.functions.caching;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.aol.cyclops.functions.QuadFunction;
+import com.aol.cyclops.functions.TriFunction;
+
+/**
+ * A built in cache for memoised functions, with optional size bounds (LRU or Window TinyLFU eviction), expiry and refresh after write,
+ * weak or soft values, and hit / miss / eviction statistics.
+ *
+ * Keys of up to 4 values are stored directly in the cache entries, so memoised functions of 2 to 4 parameters do not allocate a key
+ * object per call (see the LocalCache overloads in {@link Memoize}).
+ *
+ * <pre>
+ * {@code
+ * LocalCache<Integer> cache = LocalCache.builder()
+ * 										.maximumSize(10_000)
+ * 										.expireAfterWrite(10, TimeUnit.MINUTES)
+ * 										.build();
+ *
+ * BiFunction<Integer,Integer,Integer> add = Memoize.memoizeBiFunction((a,b)->a+b,cache);
+ *
+ * cache.stats().hitRate();
+ * }
+ * </pre>
+ *
+ * Entries are partitioned across independently locked segments, the size bound is divided between them. Values are computed outside
+ * of any lock, concurrent misses for the same key may compute the value more than once (the first value stored wins).
+ *
+ * @author johnmcclean
+ *
+ * @param <OUT> Type of cached values
+ */
+public final class LocalCache<OUT> implements Cacheable<OUT>, SoftenedCacheable<OUT> {
+
+	private static final int MAX_SEGMENTS = 1<<16;
+
+	private final Segment[] segments;
+	private final int segmentShift;
+	private final int segmentMask;
+	private final long expireAfterWriteNanos;
+	private final long refreshAfterWriteNanos;
+	private final ValueStrength valueStrength;
+	private final LongSupplier ticker;
+	private final Executor refreshExecutor;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	@SuppressWarnings("unchecked")
+	private LocalCache(Builder builder){
+		this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+		this.refreshAfterWriteNanos = builder.refreshAfterWriteNanos;
+		this.valueStrength = builder.valueStrength;
+		this.ticker = builder.ticker;
+		this.refreshExecutor = builder.refreshExecutor;
+		int segmentCount = 1;
+		while(segmentCount<builder.concurrencyLevel && segmentCount<MAX_SEGMENTS
+				&& (builder.maximumSize<0 || (long)segmentCount*32<=builder.maximumSize))
+			segmentCount = segmentCount<<1;
+		this.segmentShift = 32-Integer.numberOfTrailingZeros(segmentCount);
+		this.segmentMask = segmentCount-1;
+		this.segments = (Segment[])new LocalCache<?>.Segment[segmentCount];
+		for(int i=0;i<segmentCount;i++){
+			long capacity = builder.maximumSize<0 ? -1 : builder.maximumSize/segmentCount + (i < builder.maximumSize%segmentCount ? 1 : 0);
+			segments[i] = new Segment(capacity,builder.eviction);
+		}
+	}
+
+	/**
+	 * @return Builder for a new LocalCache, unbounded with strong values and no expiry until configured otherwise
+	 */
+	public static Builder builder(){
+		return new Builder();
+	}
+
+	/**
+	 * Lookup the cached value for the supplied key, computing and caching it via the supplied function if absent.
+	 * Null values are not cached.
+	 *
+	 * @see com.aol.cyclops.functions.caching.Cacheable#computeIfAbsent(java.lang.Object, java.util.function.Function)
+	 */
+	@Override
+	public OUT computeIfAbsent(Object key, Function<Object, OUT> fn) {
+		return get(1,key,null,null,null,fn);
+	}
+	/**
+	 * Lookup the cached value for the supplied pair of keys, computing and caching it via the supplied function if absent.
+	 */
+	public <T1,T2> OUT computeIfAbsent(T1 k1, T2 k2, BiFunction<? super T1,? super T2,? extends OUT> fn) {
+		return get(2,k1,k2,null,null,fn);
+	}
+	/**
+	 * Lookup the cached value for the supplied three keys, computing and caching it via the supplied function if absent.
+	 */
+	public <T1,T2,T3> OUT computeIfAbsent(T1 k1, T2 k2, T3 k3, TriFunction<? super T1,? super T2,? super T3,? extends OUT> fn) {
+		return get(3,k1,k2,k3,null,fn);
+	}
+	/**
+	 * Lookup the cached value for the supplied four keys, computing and caching it via the supplied function if absent.
+	 */
+	public <T1,T2,T3,T4> OUT computeIfAbsent(T1 k1, T2 k2, T3 k3, T4 k4, QuadFunction<? super T1,? super T2,? super T3,? super T4,? extends OUT> fn) {
+		return get(4,k1,k2,k3,k4,fn);
+	}
+
+	/*
+	 * LocalCache does not throw checked Exceptions, so is it's own softened form
+	 * @see com.aol.cyclops.functions.caching.Cacheable#soften()
+	 */
+	@Override
+	public SoftenedCacheable<OUT> soften(){
+		return this;
+	}
+
+	/**
+	 * Remove the value cached for a single key
+	 *
+	 * @param key Key to remove
+	 */
+	public void invalidate(Object key){
+		int hash = hash(1,key,null,null,null);
+		Segment segment = segmentFor(hash);
+		segment.lock();
+		try{
+			Entry e = segment.find(hash,1,key,null,null,null);
+			if(e!=null)
+				segment.remove(e);
+		}finally{
+			segment.unlock();
+		}
+	}
+	/**
+	 * Remove all cached values
+	 */
+	public void invalidateAll(){
+		for(Segment segment : segments){
+			segment.lock();
+			try{
+				segment.clear();
+			}finally{
+				segment.unlock();
+			}
+		}
+	}
+	/**
+	 * @return Number of entries currently cached (including any that have expired, or whose values have been collected, but are not yet removed)
+	 */
+	public long size(){
+		long size = 0;
+		for(Segment segment : segments){
+			segment.lock();
+			try{
+				size += segment.count;
+			}finally{
+				segment.unlock();
+			}
+		}
+		return size;
+	}
+	/**
+	 * @return Snapshot of the hit, miss and eviction counts for this cache
+	 */
+	public CacheStats stats(){
+		return new CacheStats(hits.sum(),misses.sum(),evictions.sum());
+	}
+
+	private OUT get(int arity, Object k1, Object k2, Object k3, Object k4, Object fn){
+		int hash = hash(arity,k1,k2,k3,k4);
+		Segment segment = segmentFor(hash);
+		long now = ticker.getAsLong();
+		Entry refresh = null;
+		OUT cached = null;
+		segment.lock();
+		try{
+			Entry e = segment.find(hash,arity,k1,k2,k3,k4);
+			if(e!=null){
+				cached = valueOf(e);
+				if(cached==null || expired(e,now)){
+					segment.remove(e);
+					evictions.increment();
+					cached = null;
+				}
+				else{
+					segment.recordAccess(e);
+					if(refreshAfterWriteNanos>0 && !e.refreshing && now-e.writeTime>=refreshAfterWriteNanos){
+						e.refreshing = true;
+						refresh = e;
+					}
+				}
+			}
+		}finally{
+			segment.unlock();
+		}
+		if(cached!=null){
+			hits.increment();
+			if(refresh!=null)
+				refresh(segment,refresh,fn);
+			return cached;
+		}
+		misses.increment();
+		OUT value = compute(arity,k1,k2,k3,k4,fn);
+		if(value==null)
+			return null;
+		segment.lock();
+		try{
+			now = ticker.getAsLong();
+			segment.drainReferences();
+			segment.expire(now);
+			Entry e = segment.find(hash,arity,k1,k2,k3,k4);
+			if(e!=null){
+				OUT existing = valueOf(e);
+				if(existing!=null && !expired(e,now))
+					return existing;
+				segment.remove(e);
+			}
+			e = new Entry(hash,arity,k1,k2,k3,k4);
+			e.value = wrap(value,e,segment.references);
+			e.writeTime = now;
+			segment.insert(e);
+		}finally{
+			segment.unlock();
+		}
+		return value;
+	}
+	private void refresh(Segment segment, Entry e, Object fn){
+		try{
+			refreshExecutor.execute(()->{
+				OUT value = null;
+				try{
+					value = compute(e.arity,e.k1,e.k2,e.k3,e.k4,fn);
+				}finally{
+					segment.lock();
+					try{
+						if(value!=null && !e.removed){
+							e.value = wrap(value,e,segment.references);
+							e.writeTime = ticker.getAsLong();
+							segment.recordWrite(e);
+						}
+						e.refreshing = false;
+					}finally{
+						segment.unlock();
+					}
+				}
+			});
+		}catch(RuntimeException ex){
+			segment.lock();
+			e.refreshing = false;
+			segment.unlock();
+			throw ex;
+		}
+	}
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private OUT compute(int arity, Object k1, Object k2, Object k3, Object k4, Object fn){
+		switch(arity){
+			case 1:
+				return ((Function<Object,OUT>)fn).apply(k1);
+			case 2:
+				return ((BiFunction<Object,Object,OUT>)fn).apply(k1,k2);
+			case 3:
+				return ((TriFunction<Object,Object,Object,OUT>)fn).apply(k1,k2,k3);
+			default:
+				return ((QuadFunction<Object,Object,Object,Object,OUT>)fn).apply(k1,k2,k3,k4);
+		}
+	}
+	private boolean expired(Entry e, long now){
+		return expireAfterWriteNanos>0 && now-e.writeTime>=expireAfterWriteNanos;
+	}
+	@SuppressWarnings("unchecked")
+	private OUT valueOf(Entry e){
+		Object value = e.value;
+		if(value instanceof ValueReference)
+			return (OUT)((Reference<?>)value).get();
+		return (OUT)value;
+	}
+	private Object wrap(OUT value, Entry e, ReferenceQueue<Object> queue){
+		switch(valueStrength){
+			case WEAK:
+				return new WeakValue(value,queue,e);
+			case SOFT:
+				return new SoftValue(value,queue,e);
+			default:
+				return value;
+		}
+	}
+	private Segment segmentFor(int hash){
+		return segments[(hash >>> segmentShift) & segmentMask];
+	}
+	private static int hash(int arity, Object k1, Object k2, Object k3, Object k4){
+		int h = Objects.hashCode(k1);
+		if(arity>1)
+			h = (31*h + Objects.hashCode(k2))*31 + (arity>2 ? Objects.hashCode(k3) : 0);
+		if(arity>3)
+			h = 31*h + Objects.hashCode(k4);
+		h = (h+arity) * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static enum ValueStrength { STRONG, WEAK, SOFT }
+	private static enum Queue { WINDOW, PROBATION, PROTECTED }
+
+	private static interface ValueReference{
+		Entry entry();
+	}
+	private static final class WeakValue extends WeakReference<Object> implements ValueReference{
+		private final Entry entry;
+		WeakValue(Object value, ReferenceQueue<Object> queue, Entry entry){
+			super(value,queue);
+			this.entry = entry;
+		}
+		@Override
+		public Entry entry() {
+			return entry;
+		}
+	}
+	private static final class SoftValue extends SoftReference<Object> implements ValueReference{
+		private final Entry entry;
+		SoftValue(Object value, ReferenceQueue<Object> queue, Entry entry){
+			super(value,queue);
+			this.entry = entry;
+		}
+		@Override
+		public Entry entry() {
+			return entry;
+		}
+	}
+
+	private static final class Entry{
+		final int hash;
+		final int arity;
+		final Object k1;
+		final Object k2;
+		final Object k3;
+		final Object k4;
+		Entry next;
+		Entry accessPrevious;
+		Entry accessNext;
+		Entry writePrevious;
+		Entry writeNext;
+		Queue queue;
+		Object value;
+		long writeTime;
+		boolean refreshing;
+		boolean removed;
+
+		Entry(int hash, int arity, Object k1, Object k2, Object k3, Object k4){
+			this.hash = hash;
+			this.arity = arity;
+			this.k1 = k1;
+			this.k2 = k2;
+			this.k3 = k3;
+			this.k4 = k4;
+		}
+		boolean matches(int hash, int arity, Object k1, Object k2, Object k3, Object k4){
+			return this.hash==hash && this.arity==arity && Objects.equals(this.k1,k1) && Objects.equals(this.k2,k2)
+					&& Objects.equals(this.k3,k3) && Objects.equals(this.k4,k4);
+		}
+	}
+
+	/**
+	 * Intrusive doubly linked list of entries in access order (least recently used first)
+	 */
+	private static final class AccessQueue{
+		final Entry head = new Entry(0,0,null,null,null,null);
+		int size = 0;
+		AccessQueue(){
+			head.accessNext = head;
+			head.accessPrevious = head;
+		}
+		Entry first(){
+			return head.accessNext==head ? null : head.accessNext;
+		}
+		void add(Entry e){
+			e.accessPrevious = head.accessPrevious;
+			e.accessNext = head;
+			head.accessPrevious.accessNext = e;
+			head.accessPrevious = e;
+			size++;
+		}
+		void remove(Entry e){
+			e.accessPrevious.accessNext = e.accessNext;
+			e.accessNext.accessPrevious = e.accessPrevious;
+			e.accessPrevious = null;
+			e.accessNext = null;
+			size--;
+		}
+		void moveToBack(Entry e){
+			remove(e);
+			add(e);
+		}
+	}
+	/**
+	 * Intrusive doubly linked list of entries in write order (oldest first)
+	 */
+	private static final class WriteQueue{
+		final Entry head = new Entry(0,0,null,null,null,null);
+		WriteQueue(){
+			head.writeNext = head;
+			head.writePrevious = head;
+		}
+		Entry first(){
+			return head.writeNext==head ? null : head.writeNext;
+		}
+		void add(Entry e){
+			e.writePrevious = head.writePrevious;
+			e.writeNext = head;
+			head.writePrevious.writeNext = e;
+			head.writePrevious = e;
+		}
+		void remove(Entry e){
+			e.writePrevious.writeNext = e.writeNext;
+			e.writeNext.writePrevious = e.writePrevious;
+			e.writePrevious = null;
+			e.writeNext = null;
+		}
+	}
+
+	/**
+	 * A hash table with it's own eviction queues, all access is guarded by the Segment lock.
+	 *
+	 * Without a size bound (or with LRU eviction) all entries are kept in the window queue. With TinyLFU eviction
+	 * the window holds ~1% of the capacity, the main area is split into probation (20%) and protected (80%) queues.
+	 */
+	@SuppressWarnings("serial")
+	private final class Segment extends ReentrantLock{
+		final ReferenceQueue<Object> references = new ReferenceQueue<>();
+		final long capacity;
+		final FrequencySketch sketch;
+		final long windowCapacity;
+		final long protectedCapacity;
+		final AccessQueue window = new AccessQueue();
+		final AccessQueue probation = new AccessQueue();
+		final AccessQueue protectedQueue = new AccessQueue();
+		final WriteQueue writeOrder = new WriteQueue();
+		Entry[] table = new Entry[16];
+		int count = 0;
+
+		Segment(long capacity, Eviction eviction){
+			this.capacity = capacity;
+			if(capacity>=0 && eviction==Eviction.TINY_LFU){
+				sketch = new FrequencySketch((int)Math.min(Integer.MAX_VALUE,capacity));
+				windowCapacity = Math.max(1,capacity/100);
+				protectedCapacity = (long)((capacity-windowCapacity)*0.8);
+			}
+			else{
+				sketch = null;
+				windowCapacity = capacity<0 ? Long.MAX_VALUE : capacity;
+				protectedCapacity = 0;
+			}
+		}
+
+		Entry find(int hash, int arity, Object k1, Object k2, Object k3, Object k4){
+			for(Entry e = table[hash & (table.length-1)];e!=null;e=e.next){
+				if(e.matches(hash,arity,k1,k2,k3,k4))
+					return e;
+			}
+			return null;
+		}
+		void recordAccess(Entry e){
+			if(sketch!=null)
+				sketch.increment(e.hash);
+			if(e.queue==Queue.WINDOW)
+				window.moveToBack(e);
+			else if(e.queue==Queue.PROTECTED)
+				protectedQueue.moveToBack(e);
+			else{
+				probation.remove(e);
+				e.queue = Queue.PROTECTED;
+				protectedQueue.add(e);
+				if(protectedQueue.size>protectedCapacity){
+					Entry demoted = protectedQueue.first();
+					protectedQueue.remove(demoted);
+					demoted.queue = Queue.PROBATION;
+					probation.add(demoted);
+				}
+			}
+		}
+		void recordWrite(Entry e){
+			writeOrder.remove(e);
+			writeOrder.add(e);
+		}
+		void insert(Entry e){
+			if(count+1 > table.length*3/4)
+				resize();
+			int index = e.hash & (table.length-1);
+			e.next = table[index];
+			table[index] = e;
+			count++;
+			writeOrder.add(e);
+			e.queue = Queue.WINDOW;
+			window.add(e);
+			if(sketch!=null)
+				sketch.increment(e.hash);
+			evict();
+		}
+		private void evict(){
+			if(capacity<0)
+				return;
+			if(sketch==null){
+				while(count>capacity)
+					evicted(window.first());
+				return;
+			}
+			while(window.size>windowCapacity){
+				Entry candidate = window.first();
+				window.remove(candidate);
+				candidate.queue = Queue.PROBATION;
+				probation.add(candidate);
+			}
+			while(count>capacity){
+				Entry victim = probation.first();
+				Entry candidate = probation.head.accessPrevious;
+				if(victim==null){
+					evicted(protectedQueue.first()!=null ? protectedQueue.first() : window.first());
+				}
+				else if(victim==candidate || sketch.frequency(candidate.hash)>sketch.frequency(victim.hash))
+					evicted(victim);
+				else
+					evicted(candidate);
+			}
+		}
+		private void evicted(Entry e){
+			remove(e);
+			evictions.increment();
+		}
+		/**
+		 * Remove entries that have expired, oldest write first
+		 */
+		void expire(long now){
+			if(expireAfterWriteNanos<=0)
+				return;
+			for(Entry e = writeOrder.first();e!=null && expired(e,now);e = writeOrder.first())
+				evicted(e);
+		}
+		/**
+		 * Remove entries whose weak or soft values have been collected
+		 */
+		void drainReferences(){
+			for(Reference<?> ref = references.poll();ref!=null;ref = references.poll()){
+				Entry e = ((ValueReference)ref).entry();
+				if(!e.removed && e.value==ref)
+					evicted(e);
+			}
+		}
+		void remove(Entry e){
+			int index = e.hash & (table.length-1);
+			if(table[index]==e)
+				table[index] = e.next;
+			else{
+				Entry previous = table[index];
+				while(previous.next!=e)
+					previous = previous.next;
+				previous.next = e.next;
+			}
+			e.next = null;
+			count--;
+			writeOrder.remove(e);
+			if(e.queue==Queue.WINDOW)
+				window.remove(e);
+			else if(e.queue==Queue.PROBATION)
+				probation.remove(e);
+			else
+				protectedQueue.remove(e);
+			e.removed = true;
+		}
+		void clear(){
+			for(Entry e = writeOrder.first();e!=null;e = writeOrder.first())
+				remove(e);
+		}
+		private void resize(){
+			Entry[] next = new Entry[table.length*2];
+			for(Entry bucket : table){
+				for(Entry e = bucket;e!=null;){
+					Entry following = e.next;
+					int index = e.hash & (next.length-1);
+					e.next = next[index];
+					next[index] = e;
+					e = following;
+				}
+			}
+			table = next;
+		}
+	}
+
+	/**
+	 * Configures a {@link LocalCache}
+	 *
+	 * @author johnmcclean
+	 *
+	 */
+	public static final class Builder{
+		private long maximumSize = -1;
+		private Eviction eviction = Eviction.TINY_LFU;
+		private long expireAfterWriteNanos = 0;
+		private long refreshAfterWriteNanos = 0;
+		private ValueStrength valueStrength = ValueStrength.STRONG;
+		private int concurrencyLevel = 16;
+		private LongSupplier ticker = System::nanoTime;
+		private Executor refreshExecutor = ForkJoinPool.commonPool();
+
+		private Builder(){}
+
+		/**
+		 * @param maximumSize Maximum number of entries to cache, entries are evicted (according to the eviction policy) as the cache grows beyond this
+		 * @return this Builder
+		 */
+		public Builder maximumSize(long maximumSize){
+			if(maximumSize<0)
+				throw new IllegalArgumentException("Maximum size must not be negative");
+			this.maximumSize = maximumSize;
+			return this;
+		}
+		/**
+		 * @param eviction Eviction policy to apply when a maximum size is set (defaults to TinyLFU)
+		 * @return this Builder
+		 */
+		public Builder eviction(Eviction eviction){
+			this.eviction = Objects.requireNonNull(eviction);
+			return this;
+		}
+		/**
+		 * @param duration Time after a value is computed (or refreshed) when it is no longer returned
+		 * @param unit Time unit for duration
+		 * @return this Builder
+		 */
+		public Builder expireAfterWrite(long duration, TimeUnit unit){
+			this.expireAfterWriteNanos = positive(duration,unit);
+			return this;
+		}
+		/**
+		 * Values older than the supplied duration are recomputed asynchronously on the next lookup, which (and until the recomputation completes, subsequent lookups)
+		 * return the existing value.
+		 *
+		 * @param duration Time after a value is computed (or refreshed) when it should be refreshed
+		 * @param unit Time unit for duration
+		 * @return this Builder
+		 */
+		public Builder refreshAfterWrite(long duration, TimeUnit unit){
+			this.refreshAfterWriteNanos = positive(duration,unit);
+			return this;
+		}
+		/**
+		 * @param executor Executor to recompute values on when refreshing (defaults to the common ForkJoinPool)
+		 * @return this Builder
+		 */
+		public Builder refreshExecutor(Executor executor){
+			this.refreshExecutor = Objects.requireNonNull(executor);
+			return this;
+		}
+		/**
+		 * Hold values via WeakReferences, entries are removed once their values are no longer strongly reachable elsewhere
+		 * @return this Builder
+		 */
+		public Builder weakValues(){
+			this.valueStrength = ValueStrength.WEAK;
+			return this;
+		}
+		/**
+		 * Hold values via SoftReferences, entries are removed when the garbage collector reclaims their values under memory pressure
+		 * @return this Builder
+		 */
+		public Builder softValues(){
+			this.valueStrength = ValueStrength.SOFT;
+			return this;
+		}
+		/**
+		 * @param concurrencyLevel Expected number of concurrently updating threads, used to determine the number of independently locked segments
+		 * @return this Builder
+		 */
+		public Builder concurrencyLevel(int concurrencyLevel){
+			if(concurrencyLevel<1)
+				throw new IllegalArgumentException("Concurrency level must be 1 or more");
+			this.concurrencyLevel = concurrencyLevel;
+			return this;
+		}
+		/**
+		 * @param ticker Source of nano second time for expiry and refresh (defaults to System.nanoTime)
+		 * @return this Builder
+		 */
+		public Builder ticker(LongSupplier ticker){
+			this.ticker = Objects.requireNonNull(ticker);
+			return this;
+		}
+		/**
+		 * @return A new LocalCache with this configuration
+		 */
+		public <OUT> LocalCache<OUT> build(){
+			return new LocalCache<>(this);
+		}
+		private static long positive(long duration, TimeUnit unit){
+			if(duration<=0)
+				throw new IllegalArgumentException("Duration must be positive");
+			return unit.toNanos(duration);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.aol.cyclops.functions.caching;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Thread safe lazy cell : the Supplier is called at most once (via double checked locking), after which it is released and
+ * the cached value is returned.
+ *
+ * Failures and null results are not cached.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the cached value
+ */
+final class MemoisedSupplier<T> implements Supplier<T>, Callable<T> {
+
+	private volatile Supplier<T> supplier;
+	private T value;
+
+	MemoisedSupplier(Supplier<T> supplier){
+		this.supplier = supplier;
+	}
+
+	@Override
+	public T get() {
+		if(supplier==null)
+			return value;
+		synchronized(this){
+			Supplier<T> s = supplier;
+			if(s==null)
+				return value;
+			T result = s.get();
+			if(result!=null){
+				value = result;
+				supplier = null;
+			}
+			return result;
+		}
+	}
+	@Override
+	public T call() {
+		return get();
+	}
+}
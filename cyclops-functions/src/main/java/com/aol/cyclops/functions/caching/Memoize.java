@@ -1,8 +1,9 @@
 package com.aol.cyclops.functions.caching;
 
-import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -23,8 +24,17 @@ public class Memoize {
 	 * @return Memoised Supplier
 	 */
 	public static <T> Supplier<T> memoizeSupplier(Supplier<T> s){
-		Map<Object,T> lazy = new ConcurrentHashMap<>();
-		return () -> lazy.computeIfAbsent("k",a->s.get());
+		return new MemoisedSupplier<>(s);
+	}
+	/**
+	 * Convert a Supplier into one that caches it's result, without synchronization. 
+	 * The returned Supplier should only be used from a single thread.
+	 * 
+	 * @param s Supplier to memoise
+	 * @return Memoised Supplier
+	 */
+	public static <T> Supplier<T> memoizeConfinedSupplier(Supplier<T> s){
+		return new ConfinedSupplier<>(s);
 	}
 	/**
 	 * Convert a Supplier into one that caches it's result
@@ -64,8 +74,7 @@ public class Memoize {
 	 * @return Memoised Callable
 	 */
 	public static <T> Callable<T> memoizeCallable(Callable<T> s){
-		Map<Object,T> lazy = new ConcurrentHashMap<>();
-		return () -> lazy.computeIfAbsent("k",a -> { 
+		return new MemoisedSupplier<T>(() -> { 
 			try { 
 				return s.call();
 			}catch(Exception e){
@@ -79,12 +88,109 @@ public class Memoize {
 	/**
 	 * Convert a Function into one that caches it's result
 	 * 
+	 * Concurrent callers for the same input wait for a single computation, which runs outside of any lock - so the Function may call
+	 * it's memoised self recursively (for other inputs).
+	 * 
 	 * @param fn Function to memoise
 	 * @return Memoised Function
 	 */
 	public static <T,R> Function<T,R> memoizeFunction(Function<T,R> fn){
-		Map<T,R> lazy = new ConcurrentHashMap<>();
-		return t -> lazy.computeIfAbsent(t,fn);
+		return new SingleFlight<>(fn);
+	}
+	/**
+	 * Memoise a recursive Function, the Function is passed it's memoised self to recurse with.
+	 * Recursion deeper than 500 memoised calls is unwound and resumed from the outermost call, so deep recursion does not overflow the stack.
+	 * 
+	 * <pre>
+	 * {@code
+	 * Function<Integer,BigInteger> fib = Memoize.memoizeRecursive((self,n) -> n < 2 ? BigInteger.valueOf(n) 
+	 * 																			: self.apply(n-1).add(self.apply(n-2)));
+	 * fib.apply(100_000);
+	 * }
+	 * </pre>
+	 * 
+	 * @param fn Recursive Function to memoise, accepting the memoised Function and the input
+	 * @return Memoised Function
+	 */
+	public static <T,R> Function<T,R> memoizeRecursive(BiFunction<Function<T,R>,T,R> fn){
+		return memoizeRecursive(fn,500);
+	}
+	/**
+	 * Memoise a recursive Function, the Function is passed it's memoised self to recurse with.
+	 * Recursion deeper than maxDepth memoised calls is unwound and resumed from the outermost call, so deep recursion does not overflow the stack.
+	 * 
+	 * @param fn Recursive Function to memoise, accepting the memoised Function and the input
+	 * @param maxDepth Maximum depth of nested memoised calls on the stack 
+	 * @return Memoised Function
+	 */
+	public static <T,R> Function<T,R> memoizeRecursive(BiFunction<Function<T,R>,T,R> fn,int maxDepth){
+		return new SingleFlight<>(fn,maxDepth);
+	}
+	/**
+	 * Convert a Function into one that is executed asynchronously on the supplied Executor, with the CompletableFuture for each input cached.
+	 * Concurrent calls for the same input share a single in flight computation, failed (or null) results are not cached.
+	 * 
+	 * <pre>
+	 * {@code
+	 * Function<String,CompletableFuture<Price>> prices = Memoize.memoizeAsync(downstream::lookup,executor);
+	 * }
+	 * </pre>
+	 * 
+	 * @param fn Function to memoise
+	 * @param ex Executor to execute the Function on
+	 * @return Memoised asynchronous Function
+	 */
+	public static <T,R> Function<T,CompletableFuture<R>> memoizeAsync(Function<T,R> fn,Executor ex){
+		return memoizeFuture(t->CompletableFuture.supplyAsync(()->fn.apply(t),ex));
+	}
+	/**
+	 * Convert a Function into one that is executed asynchronously on the supplied Executor, with the CompletableFuture for each input cached.
+	 * Once a result is older than refreshAfterWrite, the next call returns it (stale) and starts a single recomputation, which replaces it when
+	 * successful.
+	 * 
+	 * @param fn Function to memoise
+	 * @param ex Executor to execute (and refresh) the Function on
+	 * @param refreshAfterWrite Age after which a cached result is refreshed
+	 * @param unit TimeUnit for refreshAfterWrite
+	 * @return Memoised asynchronous Function
+	 */
+	public static <T,R> Function<T,CompletableFuture<R>> memoizeAsync(Function<T,R> fn,Executor ex,long refreshAfterWrite, TimeUnit unit){
+		return memoizeFuture(t->CompletableFuture.supplyAsync(()->fn.apply(t),ex),refreshAfterWrite,unit);
+	}
+	/**
+	 * Memoise a Function that returns CompletableFutures. Concurrent calls for the same input share a single in flight future, futures
+	 * that fail (or complete with null) are not cached.
+	 * 
+	 * @param fn Asynchronous Function to memoise
+	 * @return Memoised asynchronous Function
+	 */
+	public static <T,R> Function<T,CompletableFuture<R>> memoizeFuture(Function<T,CompletableFuture<R>> fn){
+		return new AsyncMemoizer<>(fn,0,System::nanoTime);
+	}
+	/**
+	 * Memoise a Function that returns CompletableFutures, refreshing (stale-while-revalidate) results older than refreshAfterWrite
+	 * 
+	 * @param fn Asynchronous Function to memoise
+	 * @param refreshAfterWrite Age after which a cached result is refreshed
+	 * @param unit TimeUnit for refreshAfterWrite
+	 * @return Memoised asynchronous Function
+	 */
+	public static <T,R> Function<T,CompletableFuture<R>> memoizeFuture(Function<T,CompletableFuture<R>> fn,long refreshAfterWrite, TimeUnit unit){
+		if(refreshAfterWrite<=0)
+			throw new IllegalArgumentException("Refresh interval must be positive");
+		return new AsyncMemoizer<>(fn,unit.toNanos(refreshAfterWrite),System::nanoTime);
+	}
+	/**
+	 * Convert a Supplier into one that is executed asynchronously (once) on the supplied Executor, concurrent calls share the same
+	 * CompletableFuture. A failed result is not cached.
+	 * 
+	 * @param s Supplier to memoise
+	 * @param ex Executor to execute the Supplier on
+	 * @return Memoised asynchronous Supplier
+	 */
+	public static <T> Supplier<CompletableFuture<T>> memoizeAsyncSupplier(Supplier<T> s,Executor ex){
+		Function<Object,CompletableFuture<T>> memoised = memoizeFuture(k->CompletableFuture.supplyAsync(s,ex));
+		return () -> memoised.apply(null);
 	}
 	/**
 	 * Convert a Function into one that caches it's result
@@ -96,6 +202,16 @@ public class Memoize {
 	public static <T,R> Function<T,R> memoizeFunction(Function<T,R> fn,Cacheable<R> cache){
 		return t -> (R)cache.soften().computeIfAbsent(t,(Function)fn);
 	}
+	/**
+	 * Convert a Function into one that caches it's result in the supplied LocalCache
+	 * 
+	 * @param fn Function to memoise
+	 * @param cache LocalCache to store the results
+	 * @return Memoised Function
+	 */
+	public static <T,R> Function<T,R> memoizeFunction(Function<T,R> fn,LocalCache<R> cache){
+		return t -> cache.computeIfAbsent(t,(Function<Object,R>)(Function)fn);
+	}
 	
 	/**
 	 * Convert a BiFunction into one that caches it's result
@@ -118,6 +234,16 @@ public class Memoize {
 		val memoise2 = memoizeFunction((Pair<T1,T2> pair) -> fn.apply(pair._1,pair._2),cache);
 		return (t1,t2) -> memoise2.apply(new Pair<>(t1,t2));
 	}
+	/**
+	 * Convert a BiFunction into one that caches it's result in the supplied LocalCache, without allocating a key per call
+	 * 
+	 * @param fn BiFunction to memoise
+	 * @param cache LocalCache to store the results
+	 * @return Memoised BiFunction
+	 */
+	public static <T1,T2 , R> BiFunction<T1, T2, R> memoizeBiFunction(BiFunction<T1, T2, R> fn,LocalCache<R> cache) {
+		return (t1,t2) -> cache.computeIfAbsent(t1,t2,fn);
+	}
 	/**
 	 * Convert a TriFunction into one that caches it's result
 	 * 
@@ -139,6 +265,16 @@ public class Memoize {
 		val memoise2 = memoizeFunction((Triple<T1,T2,T3> triple) -> fn.apply(triple._1,triple._2,triple._3),cache);
 		return (t1,t2,t3) -> memoise2.apply(new Triple<>(t1,t2,t3));
 	}
+	/**
+	 * Convert a TriFunction into one that caches it's result in the supplied LocalCache, without allocating a key per call
+	 * 
+	 * @param fn TriFunction to memoise
+	 * @param cache LocalCache to store the results
+	 * @return Memoised TriFunction
+	 */
+	public static <T1,T2,T3, R> TriFunction<T1, T2,T3, R> memoizeTriFunction(TriFunction<T1, T2,T3, R> fn,LocalCache<R> cache) {
+		return (t1,t2,t3) -> cache.computeIfAbsent(t1,t2,t3,fn);
+	}
 	/**
 	 * Convert a QuadFunction into one that caches it's result
 	 * 
@@ -160,6 +296,16 @@ public class Memoize {
 		val memoise2 = memoizeFunction((Quad<T1,T2,T3,T4> quad) -> fn.apply(quad._1,quad._2,quad._3,quad._4),cache);
 		return (t1,t2,t3,t4) -> memoise2.apply(new Quad<>(t1,t2,t3,t4));
 	}
+	/**
+	 * Convert a QuadFunction into one that caches it's result in the supplied LocalCache, without allocating a key per call
+	 * 
+	 * @param fn QuadFunction to memoise
+	 * @param cache LocalCache to store the results
+	 * @return Memoised QuadFunction
+	 */
+	public static <T1,T2,T3,T4, R> QuadFunction<T1, T2,T3, T4,R> memoizeQuadFunction(QuadFunction<T1, T2,T3,T4, R> fn,LocalCache<R> cache) {
+		return (t1,t2,t3,t4) -> cache.computeIfAbsent(t1,t2,t3,t4,fn);
+	}
 	/**
 	 * Convert a Predicate into one that caches it's result
 	 * 
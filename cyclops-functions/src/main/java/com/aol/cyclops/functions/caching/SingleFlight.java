@@ -0,0 +1,159 @@
+package com.aol.cyclops.functions.caching;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+
+/**
+ * Memoised Function where each key is computed at most once at a time : the first caller for a key registers a future (a 'flight')
+ * and computes the value outside of any map lock, concurrent callers for the same key wait on that future.
+ * Recursive calls for other keys are therefore safe (unlike ConcurrentHashMap.computeIfAbsent), a call back into a key that
+ * the current thread is already computing fails fast with an IllegalStateException.
+ *
+ * Failures and null results are not cached.
+ *
+ * When a maximum depth is set, recursive calls beyond that depth bounce back (by unwinding the stack) to the outermost call on the thread,
+ * which computes the deepest pending key first and then retries. As results are cached, each retry recurses no deeper than maxDepth, so
+ * deep recursion (e.g. fib(100_000)) does not overflow the stack.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Input type
+ * @param <R> Return type
+ */
+final class SingleFlight<T,R> implements Function<T,R> {
+
+	private static final Object NULL_KEY = new Object();
+	private static final Retry RETRY = new Retry();
+	private static final ThreadLocal<int[]> depth = ThreadLocal.withInitial(()->new int[1]);
+
+	private final ConcurrentHashMap<Object,Flight<R>> flights = new ConcurrentHashMap<>();
+	private final BiFunction<Function<T,R>,T,R> fn;
+	private final int maxDepth;
+
+	SingleFlight(Function<T,R> fn){
+		this((self,t)->fn.apply(t),Integer.MAX_VALUE);
+	}
+	SingleFlight(BiFunction<Function<T,R>,T,R> fn, int maxDepth){
+		if(maxDepth<1)
+			throw new IllegalArgumentException("Maximum depth must be 1 or more");
+		this.fn = fn;
+		this.maxDepth = maxDepth;
+	}
+
+	@Override
+	public R apply(T t) {
+		Object key = t==null ? NULL_KEY : t;
+		Flight<R> f = flights.get(key);
+		if(f!=null && f.isDone() && !f.isCompletedExceptionally())
+			return f.getNow(null);
+		if(maxDepth==Integer.MAX_VALUE)
+			return lookup(key,t,null);
+		int[] frames = depth.get();
+		if(frames[0]>0)
+			return lookup(key,t,frames);
+		return drive(key,t,frames);
+	}
+
+	/*
+	 * Outermost bounded call on this thread : evaluate bounced keys (deepest first) until the requested key completes
+	 */
+	private R drive(Object key, T t, int[] frames){
+		ArrayDeque<Bounce> pending = null;
+		for(;;){
+			try{
+				if(pending==null || pending.isEmpty())
+					return lookup(key,t,frames);
+				pending.peek().evaluate(frames);
+				pending.pop();
+			}catch(Bounce b){
+				if(pending==null)
+					pending = new ArrayDeque<>();
+				pending.push(b);
+			}
+		}
+	}
+
+	private R lookup(Object key, T t, int[] frames){
+		for(;;){
+			Flight<R> f = flights.get(key);
+			if(f==null){
+				if(frames!=null && frames[0]>=maxDepth)
+					throw new Bounce(this,t);
+				Flight<R> mine = new Flight<>();
+				f = flights.putIfAbsent(key,mine);
+				if(f==null)
+					return compute(key,t,mine,frames);
+			}
+			if(!f.isDone() && f.owner==Thread.currentThread())
+				throw new IllegalStateException("Memoised function called recursively for " + t + " while computing it");
+			try{
+				return f.join();
+			}catch(CompletionException e){
+				if(e.getCause()!=RETRY)
+					throw ExceptionSoftener.throwSoftenedException(e.getCause());
+			}
+		}
+	}
+
+	private R compute(Object key, T t, Flight<R> mine, int[] frames){
+		if(frames!=null)
+			frames[0]++;
+		try{
+			R result = fn.apply(this,t);
+			if(result==null)
+				flights.remove(key,mine);
+			mine.complete(result);
+			return result;
+		}catch(Bounce b){
+			flights.remove(key,mine);
+			mine.completeExceptionally(RETRY);
+			throw b;
+		}catch(Throwable e){
+			flights.remove(key,mine);
+			mine.completeExceptionally(e);
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}finally{
+			if(frames!=null)
+				frames[0]--;
+		}
+	}
+
+	private static final class Flight<R> extends CompletableFuture<R>{
+		final Thread owner = Thread.currentThread();
+	}
+
+	/**
+	 * Unwinds a bounded recursion back to the outermost call, carries the key to evaluate there.
+	 * An Error, so it is not intercepted by user code catching Exception.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Bounce extends Error{
+		private final SingleFlight<Object,?> memoised;
+		private final Object input;
+
+		@SuppressWarnings("unchecked")
+		Bounce(SingleFlight<?,?> memoised, Object input){
+			super(null,null,false,false);
+			this.memoised = (SingleFlight<Object,?>)memoised;
+			this.input = input;
+		}
+		void evaluate(int[] frames){
+			memoised.lookup(input==null ? NULL_KEY : input,input,frames);
+		}
+	}
+	/**
+	 * Signals waiting callers that the computation they waited on was abandoned and should be retried
+	 */
+	@SuppressWarnings("serial")
+	private static final class Retry extends RuntimeException{
+		Retry(){
+			super(null,null,false,false);
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.aol.cyclops.invokedynamic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the (non-static) field values of instances of a Class, in the order returned by {@link ReflectionCache#getFields(Class)}.
+ *
+ * Getter MethodHandles for each field are combined into a single MethodHandle once per Class (and cached via ClassValue),
+ * so decomposition does not go through Field.get or build a Stream on each call.
+ *
+ * <pre>
+ * {@code
+ *   \@Value class Person{ String name; int age; }
+ *
+ *   Decomposer.fieldValues(new Person("bob",20));
+ *   //["bob",20]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class Decomposer {
+	private static final MethodType GETTER = MethodType.methodType(Object.class,Object.class);
+	private static final MethodType DECOMPOSER = MethodType.methodType(Object[].class,Object.class);
+	private static final ClassValue<Decomposer> decomposers = new ClassValue<Decomposer>(){
+		@Override
+		protected Decomposer computeValue(Class<?> type) {
+			return new Decomposer(type);
+		}
+	};
+
+	private static final int MAX_COMBINED = 64;
+
+	private final MethodHandle[] getters;
+	private final MethodHandle decomposer;
+
+	private Decomposer(Class<?> type){
+		List<Field> fields = ReflectionCache.getFields(type);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		getters = new MethodHandle[fields.size()];
+		try{
+			for(int i=0;i<getters.length;i++)
+				getters[i] = lookup.unreflectGetter(fields.get(i)).asType(GETTER);
+		}catch(IllegalAccessException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+		decomposer = getters.length>MAX_COMBINED ? null : combine(getters);
+	}
+	/*
+	 * (Object... values) -> values, with each value read by a getter, and all getters applied to the same input
+	 */
+	private static MethodHandle combine(MethodHandle[] getters){
+		MethodHandle collect = MethodHandles.identity(Object[].class).asCollector(Object[].class,getters.length);
+		return MethodHandles.permuteArguments(MethodHandles.filterArguments(collect,0,getters),DECOMPOSER,new int[getters.length]);
+	}
+
+	/**
+	 * @param type Class to decompose
+	 * @return (Cached) Decomposer for the supplied Class
+	 */
+	public static Decomposer of(Class<?> type){
+		return decomposers.get(type);
+	}
+	/**
+	 * @param o Object to decompose
+	 * @return Read only, fixed size List of the field values of the supplied Object
+	 */
+	public static List<Object> fieldValues(Object o){
+		return of(o.getClass()).decompose(o);
+	}
+
+	/**
+	 * @param o Object to decompose, must be an instance of the Class this Decomposer was created for
+	 * @return Read only, fixed size List of the field values of the supplied Object
+	 */
+	public List<Object> decompose(Object o){
+		Object[] values;
+		try{
+			if(decomposer!=null)
+				values = (Object[])decomposer.invokeExact(o);
+			else{
+				values = new Object[getters.length];
+				for(int i=0;i<values.length;i++)
+					values[i] = (Object)getters[i].invokeExact(o);
+			}
+		}catch(Throwable e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+		return Collections.unmodifiableList(Arrays.asList(values));
+	}
+	/**
+	 * @return Number of fields decomposed
+	 */
+	public int arity(){
+		return getters.length;
+	}
+}
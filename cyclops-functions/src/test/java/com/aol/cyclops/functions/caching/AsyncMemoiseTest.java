@@ -0,0 +1,100 @@
+package com.aol.cyclops.functions.caching;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncMemoiseTest {
+
+	AtomicInteger called;
+	ExecutorService ex;
+	long time;
+	@Before
+	public void setup(){
+		called = new AtomicInteger(0);
+		ex = Executors.newFixedThreadPool(4);
+		time = 0;
+	}
+	@After
+	public void shutdown(){
+		ex.shutdown();
+	}
+
+	@Test
+	public void concurrentRequestsShareOneComputation() throws InterruptedException{
+		CountDownLatch release = new CountDownLatch(1);
+		Function<Integer,CompletableFuture<Integer>> fn = Memoize.memoizeAsync(i->{
+			called.incrementAndGet();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return i*2;
+		},ex);
+		List<CompletableFuture<Integer>> requests = new ArrayList<>();
+		for(int i=0;i<100;i++)
+			requests.add(fn.apply(10));
+		release.countDown();
+		for(CompletableFuture<Integer> next : requests)
+			assertThat(next.join(),equalTo(20));
+		assertThat(called.get(),equalTo(1));
+		assertThat(fn.apply(10),sameInstance(requests.get(0)));
+	}
+	@Test
+	public void failuresEvicted(){
+		Function<Integer,CompletableFuture<Integer>> fn = Memoize.memoizeAsync(i->{
+			if(called.incrementAndGet()==1)
+				throw new IllegalStateException("unavailable");
+			return i;
+		},ex);
+		assertTrue(fn.apply(1).handle((r,e)->e!=null).join());
+		assertThat(fn.apply(1).join(),equalTo(1));
+		assertThat(fn.apply(1).join(),equalTo(1));
+		assertThat(called.get(),equalTo(2));
+	}
+	@Test
+	public void staleWhileRevalidate(){
+		Function<Integer,CompletableFuture<Integer>> fn = new AsyncMemoizer<>(i->CompletableFuture.completedFuture(i+called.incrementAndGet()),
+																			10,()->time);
+		assertThat(fn.apply(1).join(),equalTo(2));
+		time = 10;
+		assertThat(fn.apply(1).join(),equalTo(2));
+		assertThat(fn.apply(1).join(),equalTo(3));
+		assertThat(called.get(),equalTo(2));
+	}
+	@Test
+	public void failedRefreshKeepsStaleValue(){
+		Function<Integer,CompletableFuture<Integer>> fn = new AsyncMemoizer<>(i->{
+			if(called.incrementAndGet()==2)
+				throw new IllegalStateException("unavailable");
+			return CompletableFuture.completedFuture(i+called.get());
+		},10,()->time);
+		assertThat(fn.apply(1).join(),equalTo(2));
+		time = 10;
+		assertThat(fn.apply(1).join(),equalTo(2));
+		assertThat(fn.apply(1).join(),equalTo(2));
+		assertThat(fn.apply(1).join(),equalTo(4));
+	}
+	@Test
+	public void supplier(){
+		Supplier<CompletableFuture<Integer>> s = Memoize.memoizeAsyncSupplier(()->called.incrementAndGet(),ex);
+		assertThat(s.get().join(),equalTo(1));
+		assertThat(s.get().join(),equalTo(1));
+	}
+}
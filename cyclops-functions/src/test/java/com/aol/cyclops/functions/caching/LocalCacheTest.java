@@ -0,0 +1,153 @@
+package com.aol.cyclops.functions.caching;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.functions.QuadFunction;
+
+public class LocalCacheTest {
+
+	AtomicInteger called;
+	long time;
+	@Before
+	public void setup(){
+		called = new AtomicInteger(0);
+		time = 0;
+	}
+
+	@Test
+	public void memoiseBiFunction(){
+		LocalCache<Integer> cache = LocalCache.builder().build();
+		BiFunction<Integer,Integer,Integer> fn = Memoize.memoizeBiFunction((a,b)->a+b+called.incrementAndGet(),cache);
+		assertThat(fn.apply(1,2),equalTo(4));
+		assertThat(fn.apply(1,2),equalTo(4));
+		assertThat(fn.apply(2,1),equalTo(5));
+		assertThat(called.get(),equalTo(2));
+		assertThat(cache.stats(),equalTo(new CacheStats(1,2,0)));
+		assertThat(cache.stats().hitRate(),equalTo(1.0/3));
+	}
+	@Test
+	public void memoiseQuadFunction(){
+		LocalCache<String> cache = LocalCache.builder().build();
+		QuadFunction<String,String,String,String,String> fn = Memoize.memoizeQuadFunction((a,b,c,d)->a+b+c+d+called.incrementAndGet(),cache);
+		assertThat(fn.apply("a","b","c","d"),equalTo("abcd1"));
+		assertThat(fn.apply("a","b","c","d"),equalTo("abcd1"));
+		assertThat(fn.apply("a","b","c",null),equalTo("abcnull2"));
+		assertThat(cache.size(),equalTo(2L));
+	}
+	@Test
+	public void nullsNotCached(){
+		LocalCache<Integer> cache = LocalCache.builder().build();
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(i->{ called.incrementAndGet(); return null;},cache);
+		fn.apply(1);
+		fn.apply(1);
+		assertThat(called.get(),equalTo(2));
+		assertThat(cache.size(),equalTo(0L));
+	}
+	@Test
+	public void lru(){
+		LocalCache<Integer> cache = LocalCache.builder().maximumSize(2).eviction(Eviction.LRU).build();
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(i->i+called.incrementAndGet(),cache);
+		fn.apply(1);
+		fn.apply(2);
+		fn.apply(1);
+		fn.apply(3);
+		assertThat(cache.size(),equalTo(2L));
+		assertThat(cache.stats().getEvictionCount(),equalTo(1L));
+		fn.apply(1);
+		assertThat(called.get(),equalTo(3));
+		fn.apply(2);
+		assertThat(called.get(),equalTo(4));
+	}
+	@Test
+	public void tinyLfuKeepsFrequentEntriesDuringScan(){
+		assertThat(hotMissesDuringScan(Eviction.TINY_LFU),equalTo(0));
+		assertThat(hotMissesDuringScan(Eviction.LRU),equalTo(500));
+	}
+	private int hotMissesDuringScan(Eviction eviction){
+		LocalCache<Integer> cache = LocalCache.builder().maximumSize(100).eviction(eviction).build();
+		AtomicInteger hotMisses = new AtomicInteger(0);
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(i->i<50 ? hotMisses.incrementAndGet() : i,cache);
+		for(int i=0;i<20;i++)
+			IntStream.range(0,50).forEach(fn::apply);
+		hotMisses.set(0);
+		for(int i=0;i<10;i++){
+			IntStream.range(1000*(i+1),1000*(i+2)).forEach(fn::apply);
+			IntStream.range(0,50).forEach(fn::apply);
+		}
+		assertThat(cache.size(),lessThanOrEqualTo(100L));
+		return hotMisses.get();
+	}
+	@Test
+	public void boundedUnderConcurrentLoad(){
+		LocalCache<Integer> cache = LocalCache.builder().maximumSize(500).build();
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(i->i*2,cache);
+		IntStream.range(0,100_000).parallel().forEach(i->assertThat(fn.apply(i%5000),equalTo((i%5000)*2)));
+		assertThat(cache.size(),lessThanOrEqualTo(500L));
+		assertThat(cache.stats().requestCount(),equalTo(100_000L));
+	}
+	@Test
+	public void expireAfterWrite(){
+		LocalCache<Integer> cache = LocalCache.builder().expireAfterWrite(10,TimeUnit.NANOSECONDS).ticker(()->time).build();
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(i->i+called.incrementAndGet(),cache);
+		assertThat(fn.apply(1),equalTo(2));
+		time = 9;
+		assertThat(fn.apply(1),equalTo(2));
+		time = 10;
+		assertThat(fn.apply(1),equalTo(3));
+		assertThat(cache.stats().getEvictionCount(),equalTo(1L));
+	}
+	@Test
+	public void expiredEntriesRemovedOnWrite(){
+		LocalCache<Integer> cache = LocalCache.builder().expireAfterWrite(10,TimeUnit.NANOSECONDS).ticker(()->time)
+											.concurrencyLevel(1).build();
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(i->i,cache);
+		IntStream.range(0,100).forEach(fn::apply);
+		time = 20;
+		fn.apply(1000);
+		assertThat(cache.size(),equalTo(1L));
+	}
+	@Test
+	public void refreshAfterWrite(){
+		LocalCache<Integer> cache = LocalCache.builder().refreshAfterWrite(10,TimeUnit.NANOSECONDS)
+											.refreshExecutor(Runnable::run)
+											.ticker(()->time).build();
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(i->i+called.incrementAndGet(),cache);
+		assertThat(fn.apply(1),equalTo(2));
+		time = 10;
+		assertThat(fn.apply(1),equalTo(2));
+		assertThat(fn.apply(1),equalTo(3));
+		assertThat(called.get(),equalTo(2));
+	}
+	@Test
+	public void invalidate(){
+		LocalCache<Integer> cache = LocalCache.builder().build();
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(i->i+called.incrementAndGet(),cache);
+		fn.apply(1);
+		fn.apply(2);
+		cache.invalidate(1);
+		assertThat(cache.size(),equalTo(1L));
+		cache.invalidateAll();
+		assertThat(cache.size(),equalTo(0L));
+		assertThat(fn.apply(2),equalTo(5));
+	}
+	@Test
+	public void pluggableViaCacheable(){
+		LocalCache<Integer> cache = LocalCache.builder().maximumSize(10).softValues().build();
+		Cacheable<Integer> cacheable = cache;
+		BiFunction<Integer,Integer,Integer> fn = Memoize.memoizeBiFunction((a,b)->a+b+called.incrementAndGet(),cacheable);
+		assertThat(fn.apply(1,2),equalTo(4));
+		assertThat(fn.apply(1,2),equalTo(4));
+		assertThat(cache.stats().getHitCount(),equalTo(1L));
+	}
+}
@@ -0,0 +1,109 @@
+package com.aol.cyclops.functions.caching;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class RecursiveMemoiseTest {
+
+	AtomicInteger called;
+	Function<Integer,Long> fib;
+	@Before
+	public void setup(){
+		called = new AtomicInteger(0);
+	}
+
+	@Test
+	public void recursiveViaField(){
+		fib = Memoize.memoizeFunction(n -> { called.incrementAndGet(); return n < 2 ? n : fib.apply(n-1) + fib.apply(n-2);});
+		assertThat(fib.apply(90),equalTo(2880067194370816120L));
+		assertThat(called.get(),equalTo(91));
+	}
+	@Test
+	public void deepRecursion(){
+		Function<Integer,Long> sum = Memoize.memoizeRecursive((self,n) -> n==0 ? 0L : n + self.apply(n-1));
+		assertThat(sum.apply(200_000),equalTo(200_000L*200_001L/2));
+		assertThat(sum.apply(199_999),equalTo(199_999L*200_000L/2));
+	}
+	@Test
+	public void deepRecursionWithSmallDepth(){
+		Function<Integer,Long> fibonacci = Memoize.memoizeRecursive((self,n) -> { called.incrementAndGet();
+																			return n < 2 ? n : self.apply(n-1) + self.apply(n-2); },3);
+		assertThat(fibonacci.apply(90),equalTo(2880067194370816120L));
+		called.set(0);
+		assertThat(fibonacci.apply(91),equalTo(4660046610375530309L));
+		assertThat(called.get(),equalTo(1));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void cycleFailsFast(){
+		Function<Integer,Integer> cycle = Memoize.memoizeRecursive((self,n) -> self.apply(n));
+		cycle.apply(1);
+	}
+	@Test
+	public void failuresNotCached(){
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(n -> {
+			if(called.incrementAndGet()==1)
+				throw new IllegalArgumentException("first");
+			return n;
+		});
+		try{
+			fn.apply(1);
+			fail("expected exception");
+		}catch(IllegalArgumentException e){
+
+		}
+		assertThat(fn.apply(1),equalTo(1));
+		assertThat(fn.apply(1),equalTo(1));
+		assertThat(called.get(),equalTo(2));
+	}
+	@Test
+	public void concurrentCallersShareOneComputation() throws Exception{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Function<Integer,Integer> fn = Memoize.memoizeFunction(n -> {
+			called.incrementAndGet();
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return n*2;
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			Future<Integer> first = executor.submit(()->fn.apply(10));
+			started.await();
+			List<Future<Integer>> waiting = IntStream.range(0,3).mapToObj(i->executor.submit(()->fn.apply(10)))
+													.collect(Collectors.toList());
+			release.countDown();
+			assertThat(first.get(),equalTo(20));
+			for(Future<Integer> next : waiting)
+				assertThat(next.get(),equalTo(20));
+			assertThat(called.get(),equalTo(1));
+		}finally{
+			executor.shutdown();
+		}
+	}
+	@Test
+	public void parallelRecursion(){
+		Function<Integer,Long> fibonacci = Memoize.memoizeRecursive((self,n) -> { called.incrementAndGet();
+																			return n < 2 ? n : self.apply(n-1) + self.apply(n-2); },16);
+		List<Long> results = IntStream.range(0,91).parallel().mapToObj(fibonacci::apply).collect(Collectors.toList());
+		assertThat(results.get(90),equalTo(2880067194370816120L));
+		assertThat(results.get(50),equalTo(12586269025L));
+	}
+}
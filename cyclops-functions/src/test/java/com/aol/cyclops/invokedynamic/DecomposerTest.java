@@ -0,0 +1,54 @@
+package com.aol.cyclops.invokedynamic;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+import org.junit.Test;
+
+public class DecomposerTest {
+
+	@AllArgsConstructor
+	static class Parent{
+		private final String name;
+		private final int age;
+	}
+	static class Child extends Parent{
+		private static final String IGNORED = "ignored";
+		private final Parent parent;
+		Child(String name, int age, Parent parent){
+			super(name,age);
+			this.parent = parent;
+		}
+	}
+	static class Empty{ }
+
+	@Test
+	public void privateFields(){
+		assertThat(Decomposer.fieldValues(new Parent("bob",20)),equalTo(Arrays.asList("bob",20)));
+	}
+	@Test
+	public void superClassFieldsFirst(){
+		Parent parent = new Parent("bob",40);
+		List<Object> values = Decomposer.fieldValues(new Child("alice",10,parent));
+		assertThat(values,equalTo(Arrays.asList("alice",10,parent)));
+		assertThat(Decomposer.of(Child.class).arity(),equalTo(3));
+	}
+	@Test
+	public void noFields(){
+		assertThat(Decomposer.fieldValues(new Empty()).size(),equalTo(0));
+	}
+	@Test
+	public void cached(){
+		assertThat(Decomposer.of(Parent.class),sameInstance(Decomposer.of(Parent.class)));
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void readOnly(){
+		Decomposer.fieldValues(new Parent("bob",20)).set(0,"alice");
+	}
+}
@@ -2,6 +2,7 @@ package com.aol.cyclops.lambda.functions;
 
 import static com.aol.cyclops.functions.caching.Memoize.memoizeBiFunction;
 import static com.aol.cyclops.functions.caching.Memoize.memoizeCallable;
+import static com.aol.cyclops.functions.caching.Memoize.memoizeConfinedSupplier;
 import static com.aol.cyclops.functions.caching.Memoize.memoizeFunction;
 import static com.aol.cyclops.functions.caching.Memoize.memoizePredicate;
 import static com.aol.cyclops.functions.caching.Memoize.memoizeQuadFunction;
@@ -10,10 +11,12 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import lombok.val;
 
@@ -39,6 +42,28 @@ public class MemoiseTest {
 		
 	}
 
+	@Test
+	public void testMemoiseSupplierNullNotCached() {
+		Supplier<Integer> s = memoizeSupplier(()->++called==1 ? null : called);
+		assertThat(s.get(),equalTo(null));
+		assertThat(s.get(),equalTo(2));
+		assertThat(s.get(),equalTo(2));
+	}
+	@Test
+	public void testMemoiseSupplierConcurrently() {
+		AtomicInteger count = new AtomicInteger(0);
+		Supplier<Integer> s = memoizeSupplier(()->count.incrementAndGet());
+		IntStream.range(0,10_000).parallel().forEach(i->assertThat(s.get(),equalTo(1)));
+		assertThat(count.get(),equalTo(1));
+	}
+	@Test
+	public void testMemoiseConfinedSupplier() {
+		Supplier<Integer> s = memoizeConfinedSupplier(()->++called);
+		assertThat(s.get(),equalTo(1));
+		assertThat(s.get(),equalTo(1));
+		assertThat(called,equalTo(1));
+	}
+
 	@Test
 	public void testMemoiseCallable() throws Exception {
 		Callable<Integer> s = memoizeCallable(()->++called);
@@ -612,6 +612,28 @@ public class Cases<T,R,X extends Function<T,R>> implements Function<T,Optional<R
 				.filter(Optional::isPresent).map(Optional::get).findFirst();
 
 	}
+	/**
+	 * Compile these Cases for fast first match dispatch. Cases whose predicates are type checks ({@link TypePredicate}
+	 * - e.g. built via isType) are dispatched on by class, Cases matching constant values ({@link ValuePredicate} - e.g. built via isValue)
+	 * by hash lookup, other Cases are tested in order only when registered before the first type or value match.
+	 * 
+	 * <pre>
+	 * {@code
+	 *  CompiledCases<Object,String> compiled = Matching.when().isValue(10).thenApply(i->"ten")
+	 *  												.when().isType((Integer i)->"int")
+	 *  												.cases()
+	 *  												.compile();
+	 *  
+	 *  assertThat(compiled.match(10).get(),equalTo("ten"));
+	 * }
+	 * </pre>
+	 * 
+	 * @return Compiled Cases, with the same first match semantics as {@link #match(Object)}
+	 */
+	public CompiledCases<T,R> compile(){
+		return new CompiledCases<>(cases);
+	}
+	
 	private Stream<Case<T,R,X>> sequentialStream(){
 		
 			return cases.stream();
@@ -0,0 +1,156 @@
+package com.aol.cyclops.matcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Cases compiled for fast first match dispatch (see {@link Cases#compile()}).
+ *
+ * Cases with a {@link TypePredicate} are indexed by runtime class (via a ClassValue), Cases with a {@link ValuePredicate}
+ * by hash lookup, and all other Cases are kept in a flat array. For each input only the other Cases registered before the
+ * first type or value match are tested, in order - so the first matching Case is the same as for {@link Cases#match(Object)}.
+ *
+ * <pre>
+ * {@code
+ *  CompiledCases<Object,String> compiled = Cases.of(Case.of(new ValuePredicate<>(10),i->"ten"),
+ *  												 Case.of(TypePredicate.caseOfType(Integer.class),i->"int"))
+ *  											 .compile();
+ *
+ *  compiled.matchOrElse(10,"none");  //ten
+ *  compiled.matchOrElse(5,"none");   //int
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Input type
+ * @param <R> Return type
+ */
+public final class CompiledCases<T,R> implements Function<T,Optional<R>> {
+
+	private static final int NONE = Integer.MAX_VALUE;
+
+	private final Predicate<T>[] predicates;
+	private final Function<T,R>[] actions;
+	private final int[] general;
+	private final Map<Object,Integer> values;
+	private final TypePredicate<T>[] types;
+	private final int[] typeIndexes;
+	private final ClassValue<Integer> firstType = new ClassValue<Integer>(){
+		@Override
+		protected Integer computeValue(Class<?> c) {
+			for(int i=0;i<types.length;i++){
+				if(types[i].matchesClass(c))
+					return typeIndexes[i];
+			}
+			return NONE;
+		}
+	};
+
+	CompiledCases(List<? extends Case<T,R,?>> cases){
+		List<Predicate<T>> predicates = new ArrayList<>();
+		List<Function<T,R>> actions = new ArrayList<>();
+		List<Integer> general = new ArrayList<>();
+		List<TypePredicate<T>> types = new ArrayList<>();
+		List<Integer> typeIndexes = new ArrayList<>();
+		values = new HashMap<>();
+		for(Case<T,R,?> next : cases){
+			if(next.isEmpty())
+				continue;
+			int index = predicates.size();
+			Predicate<T> predicate = next.getPredicate();
+			predicates.add(predicate);
+			actions.add(next.getAction());
+			if(predicate instanceof TypePredicate){
+				types.add((TypePredicate<T>)predicate);
+				typeIndexes.add(index);
+			}
+			else if(predicate instanceof ValuePredicate && ((ValuePredicate<T>)predicate).getValue()!=null)
+				values.putIfAbsent(((ValuePredicate<T>)predicate).getValue(),index);
+			else
+				general.add(index);
+		}
+		this.predicates = predicates.toArray(new Predicate[0]);
+		this.actions = actions.toArray(new Function[0]);
+		this.general = general.stream().mapToInt(i->i).toArray();
+		this.types = types.toArray(new TypePredicate[0]);
+		this.typeIndexes = typeIndexes.stream().mapToInt(i->i).toArray();
+	}
+
+	/**
+	 * @param t Input to match
+	 * @return Index of the first matching Case, or -1 if none match
+	 */
+	public int indexOf(T t){
+		int found = find(t);
+		return found==NONE ? -1 : found;
+	}
+	private int find(T t){
+		if(t==null)
+			return linear(t);
+		int best = types.length==0 ? NONE : firstType.get(t.getClass());
+		if(values.size()>0){
+			Integer value = values.get(t);
+			if(value!=null && value<best)
+				best = value;
+		}
+		for(int i=0;i<general.length && general[i]<best;i++){
+			if(predicates[general[i]].test(t))
+				return general[i];
+		}
+		return best;
+	}
+	private int linear(T t){
+		for(int i=0;i<predicates.length;i++){
+			if(predicates[i].test(t))
+				return i;
+		}
+		return NONE;
+	}
+
+	/**
+	 * @param t Object to match against compiled cases
+	 * @return Value returned from matched case (if present) otherwise
+	 *         Optional.empty()
+	 */
+	public Optional<R> match(T t){
+		int found = find(t);
+		if(found==NONE)
+			return Optional.empty();
+		return Optional.of(actions[found].apply(t));
+	}
+
+	/**
+	 * Match without allocating an Optional
+	 *
+	 * @param t Object to match against compiled cases
+	 * @param otherwise Value to return if no case matches
+	 * @return Value returned from matched case, or otherwise
+	 */
+	public R matchOrElse(T t, R otherwise){
+		int found = find(t);
+		if(found==NONE)
+			return otherwise;
+		return actions[found].apply(t);
+	}
+
+	/*
+	 * @see java.util.function.Function#apply(java.lang.Object)
+	 */
+	@Override
+	public Optional<R> apply(T t) {
+		return match(t);
+	}
+
+	/**
+	 * @return number of cases
+	 */
+	public int size(){
+		return predicates.length;
+	}
+}
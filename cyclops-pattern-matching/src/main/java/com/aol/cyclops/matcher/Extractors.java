@@ -3,6 +3,10 @@ package com.aol.cyclops.matcher;
 import static java.util.Spliterator.ORDERED;
 import static java.util.Spliterators.spliteratorUnknownSize;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +36,33 @@ public class Extractors {
 	
 	private static final Map<Class,Function> decomposers= new HashMap<>();
 	
+	/**
+	 * Calls a public unapply method (via a MethodHandle) if the Class has one, otherwise reads it's fields
+	 */
+	private static final ClassValue<Function<Object,Object>> unapplyFunctions = new ClassValue<Function<Object,Object>>(){
+		@Override
+		protected Function<Object,Object> computeValue(Class<?> type) {
+			return ReflectionCache.getUnapplyMethod(type).map(Extractors::unapplyFunction)
+								.orElse(input->AsDecomposable.asDecomposable(input).unapply());
+		}
+	};
+	private static Function<Object,Object> unapplyFunction(Method unapply){
+		MethodHandle handle;
+		try{
+			unapply.setAccessible(true);
+			handle = MethodHandles.lookup().unreflect(unapply).asType(MethodType.methodType(Object.class,Object.class));
+		}catch(Exception e){
+			return unchecked(input->unapply.invoke(input));
+		}
+		return input -> {
+			try {
+				return (Object)handle.invokeExact(input);
+			} catch (Throwable e) {
+				throw ExceptionSoftener.throwSoftenedException(e);
+			}
+		};
+	}
+	
 	/**
 	 * Register decomposition function in standard hashmap
 	 * Global mutable state - use with care
@@ -63,12 +94,13 @@ public class Extractors {
 		return input -> {
 			if(input instanceof  Decomposable)
 				return (R)((Decomposable)input).unapply();
-			else if(decomposers.get(input.getClass())!=null)
-				return (R)decomposers.get(input.getClass()).apply(input);
+			Function decomposer = decomposers.get(input.getClass());
+			if(decomposer!=null)
+				return (R)decomposer.apply(input);
 			else if(input instanceof Iterable)
 				return (R)input;
 			
-			return (R)ReflectionCache.getUnapplyMethod(input.getClass()).map(unchecked(m->m.invoke(input))).orElse(AsDecomposable.asDecomposable(input).unapply());
+			return (R)unapplyFunctions.get(input.getClass()).apply(input);
 			
 		};
 	}
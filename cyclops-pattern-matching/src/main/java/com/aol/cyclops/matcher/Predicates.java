@@ -39,7 +39,7 @@ public class Predicates {
 	 * @param c Class type to match against
 	 * @return Predicate that mathes against type
 	 */
-	public static final <Y> Predicate<Y> ANY(Class c){  return a -> a.getClass().isAssignableFrom(c); };
+	public static final <Y> Predicate<Y> ANY(Class c){  return TypePredicate.caseOfType(c); };
 	
 	
 	/**
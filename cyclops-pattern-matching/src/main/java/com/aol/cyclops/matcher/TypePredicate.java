@@ -0,0 +1,54 @@
+package com.aol.cyclops.matcher;
+
+import java.util.function.Predicate;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A Predicate that depends only on the runtime class of it's input. Cases built with a TypePredicate
+ * can be dispatched on by class when Cases are compiled (see {@link Cases#compile()}).
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Input type
+ */
+@AllArgsConstructor(access=AccessLevel.PRIVATE)
+public final class TypePredicate<T> implements Predicate<T> {
+
+	@Getter
+	private final Class<?> type;
+	private final boolean subtypes;
+
+	/**
+	 * The type matching rule used by isType / caseOfType : matches input whose runtime class is the supplied type, or a super type
+	 * of it
+	 * 
+	 * @param type Type to match
+	 * @return Predicate that matches on the runtime class of it's input
+	 */
+	public static <T> TypePredicate<T> caseOfType(Class<?> type){
+		return new TypePredicate<>(type,false);
+	}
+	/**
+	 * @param type Type to match
+	 * @return Predicate that matches instances of the supplied type (including subtypes)
+	 */
+	public static <T> TypePredicate<T> instanceOf(Class<?> type){
+		return new TypePredicate<>(type,true);
+	}
+	
+	/**
+	 * @param c Runtime class of an input
+	 * @return true if input of this class is accepted
+	 */
+	public boolean matchesClass(Class<?> c){
+		return subtypes ? type.isAssignableFrom(c) : c.isAssignableFrom(type);
+	}
+	
+	@Override
+	public boolean test(T t) {
+		return matchesClass(t.getClass());
+	}
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops.matcher;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A Predicate that holds when it's input is equal (via Objects.equals) to a constant value. Cases built with a
+ * ValuePredicate can be dispatched on by hash lookup when Cases are compiled (see {@link Cases#compile()}).
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Input type
+ */
+@AllArgsConstructor
+public final class ValuePredicate<T> implements Predicate<T> {
+
+	@Getter
+	private final Object value;
+	
+	@Override
+	public boolean test(T t) {
+		return Objects.equals(t,value);
+	}
+}
@@ -10,6 +10,7 @@ import org.hamcrest.Matcher;
 
 import com.aol.cyclops.matcher.Extractors;
 import com.aol.cyclops.matcher.Two;
+import com.aol.cyclops.matcher.TypePredicate;
 import com.aol.cyclops.sequence.SequenceM;
 
 /**
@@ -28,7 +29,7 @@ public class ADTPredicateBuilder<T>{
 		
 		Predicate toPredicate(){
 			
-			return t ->  Optional.of(t).map(v->type.isAssignableFrom(v.getClass())).orElse(false);
+			return TypePredicate.instanceOf(type);
 		}
 		
 		/**
@@ -28,6 +28,8 @@ import com.aol.cyclops.matcher.ChainOfResponsibility;
 import com.aol.cyclops.matcher.Extractor;
 import com.aol.cyclops.matcher.Extractors;
 import com.aol.cyclops.matcher.Two;
+import com.aol.cyclops.matcher.TypePredicate;
+import com.aol.cyclops.matcher.ValuePredicate;
 import com.aol.cyclops.matcher.TypedFunction;
 import com.aol.cyclops.objects.Decomposable;
 import com.aol.cyclops.sequence.SequenceM;
@@ -252,7 +254,7 @@ public class PatternMatcher implements Function{
 	 */
 	public <V,X> PatternMatcher caseOfValue(V value,Action<V> a){
 		
-		return caseOfThenExtract(it -> Objects.equals(it, value), a, null);
+		return caseOfThenExtract(new ValuePredicate<>(value), a, null);
 		
 	}
 	/**
@@ -569,7 +571,7 @@ public class PatternMatcher implements Function{
 	public <V,X> PatternMatcher caseOfType(Action<V> a){
 		val type = a.getType();
 		val clazz = type.parameterType(type.parameterCount()-1);
-		return caseOfThenExtract(it -> it.getClass().isAssignableFrom(clazz), a, null);
+		return caseOfThenExtract(TypePredicate.caseOfType(clazz), a, null);
 		
 	}
 	public <V> PatternMatcher matchOf(Matcher<V> match,Action<V> a){
@@ -603,13 +605,13 @@ public class PatternMatcher implements Function{
 	}
 	public <V,X> PatternMatcher inCaseOfValue(V value,TypedFunction<V,X> a){
 		
-		return inCaseOfThenExtract(it -> Objects.equals(it, value), a, null);
+		return inCaseOfThenExtract(new ValuePredicate<>(value), a, null);
 		
 	}
 	public <V,X> PatternMatcher inCaseOfType(TypedFunction<V,X> a){
 		val type = a.getType();
 		val clazz = type.parameterType(type.parameterCount()-1);
-		return inCaseOfThenExtract(it -> it.getClass().isAssignableFrom(clazz), a, null);
+		return inCaseOfThenExtract(TypePredicate.caseOfType(clazz), a, null);
 		
 	}
 	public <V,X> PatternMatcher inCaseOf(Predicate<V> match,TypedFunction<V,X> a){
@@ -0,0 +1,104 @@
+package com.aol.cyclops.matcher;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import com.aol.cyclops.matcher.builders.Matching;
+import com.aol.cyclops.matcher.builders.MatchingInstance;
+import com.aol.cyclops.matcher.builders.PatternMatcher;
+
+public class CompiledCasesTest {
+
+	private <T> Case<T,String,Function<T,String>> cse(Predicate<T> predicate, Function<T,String> action){
+		return Case.of(predicate,action);
+	}
+	@Test
+	public void firstMatchWins(){
+		CompiledCases<Object,String> compiled = Cases.<Object,String,Function<Object,String>>of(cse(TypePredicate.caseOfType(String.class),s->"string"),
+												cse(new ValuePredicate<>(10),i->"ten"),
+												cse(TypePredicate.caseOfType(Integer.class),i->"int"),
+												cse(new ValuePredicate<>(20),i->"twenty"))
+												.compile();
+		assertThat(compiled.match("hello").get(),equalTo("string"));
+		assertThat(compiled.match(10).get(),equalTo("ten"));
+		assertThat(compiled.match(20).get(),equalTo("int"));
+		assertThat(compiled.match(5L),equalTo(Optional.empty()));
+		assertThat(compiled.size(),equalTo(4));
+	}
+	@Test
+	public void generalBeforeValue(){
+		CompiledCases<Integer,String> compiled = Cases.<Integer,String,Function<Integer,String>>of(cse(i->i>5,i->"big"),
+													cse(new ValuePredicate<>(10),i->"ten"),
+													cse(new ValuePredicate<>(3),i->"three"),
+													cse(i->i<5,i->"small"))
+													.compile();
+		assertThat(compiled.match(10).get(),equalTo("big"));
+		assertThat(compiled.match(3).get(),equalTo("three"));
+		assertThat(compiled.match(4).get(),equalTo("small"));
+		assertThat(compiled.indexOf(5),equalTo(-1));
+	}
+	@Test
+	public void nullInput(){
+		CompiledCases<Object,String> compiled = Cases.<Object,String,Function<Object,String>>of(cse(new ValuePredicate<>(null),n->"null"),
+												cse(TypePredicate.caseOfType(Integer.class),i->"int"))
+												.compile();
+		assertThat(compiled.matchOrElse(null,"none"),equalTo("null"));
+		assertThat(compiled.matchOrElse(1,"none"),equalTo("int"));
+	}
+	@Test
+	public void subTypes(){
+		CompiledCases<Object,String> caseOf = Cases.<Object,String,Function<Object,String>>of(cse(TypePredicate.caseOfType(Number.class),n->"number"))
+												.compile();
+		assertThat(caseOf.match(1).isPresent(),is(false));
+		CompiledCases<Object,String> instanceOf = Cases.<Object,String,Function<Object,String>>of(cse(TypePredicate.instanceOf(Number.class),n->"number"))
+												.compile();
+		assertThat(instanceOf.match(1).get(),equalTo("number"));
+		assertThat(instanceOf.match(1.0).get(),equalTo("number"));
+	}
+	@Test
+	public void matchOrElse(){
+		CompiledCases<Object,String> compiled = Cases.<Object,String,Function<Object,String>>of(cse(new ValuePredicate<>("a"),s->"A")).compile();
+		assertThat(compiled.matchOrElse("a","none"),equalTo("A"));
+		assertThat(compiled.matchOrElse("b","none"),equalTo("none"));
+		assertThat(compiled.apply("a").get(),equalTo("A"));
+	}
+	@Test
+	public void patternMatcherValueCasesIndexed(){
+		PatternMatcher matcher = new PatternMatcher().caseOfValue(10,(Integer i)->{})
+													.inCaseOfValue(20,(Integer i)->"twenty");
+		for(Case next : (Iterable<Case>)matcher.getCases().get())
+			assertThat(next.getPredicate(),instanceOf(ValuePredicate.class));
+		assertThat(matcher.getCases().compile().indexOf(10),equalTo(0));
+		assertThat(matcher.getCases().compile().indexOf(20),equalTo(1));
+	}
+	@Test
+	public void sameAsMatchingDsl(){
+		MatchingInstance<Object,String> matcher = (MatchingInstance)Matching.when().isValue(1).thenApply(i->"one");
+		for(int i=0;i<100;i++){
+			int value = i*3;
+			matcher = (MatchingInstance)matcher.when().isValue(value).thenApply(v->"value "+value)
+								.when().isTrue((Object v)->v instanceof Integer && (Integer)v%7==0).thenApply(v->"seven "+v);
+		}
+		matcher = (MatchingInstance)matcher.when().isType((Integer v)->"int")
+								.when().isType((String s)->"string");
+		Cases<Object,String,?> cases = matcher.cases();
+		CompiledCases<Object,String> compiled = cases.compile();
+		List<Object> inputs = new ArrayList<>();
+		for(int i=-5;i<400;i++)
+			inputs.add(i);
+		inputs.addAll(Arrays.asList("hello",1L,2.0));
+		for(Object input : inputs)
+			assertThat(""+input,compiled.match(input),equalTo(cases.match(input)));
+	}
+}
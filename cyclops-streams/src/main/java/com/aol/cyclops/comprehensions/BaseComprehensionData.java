@@ -1,77 +1,69 @@
-
 package com.aol.cyclops.comprehensions;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Supplier;
 
-
+/**
+ * Records the steps of a free form for comprehension into a {@link CompiledComprehension}.
+ *
+ * Variable names are resolved to positional slots as the comprehension is built, a variable lookup reads the slot from the
+ * values bound for the step currently being evaluated.
+ */
 final class BaseComprehensionData {
-	
-	private ContextualExecutor delegate;
-	private ContextualExecutor currentContext;
 
-	
-	
-	
-	public BaseComprehensionData(ExecutionState state) {
-		
-		this.delegate = state.contextualExecutor;
-		
-		
-	}
-	
+	private static final Object[] EMPTY = new Object[0];
+
+	private final CompiledComprehension.Builder builder = CompiledComprehension.builder();
+	/** slots each name was bound to, in binding order (a name may be rebound) */
+	private final Map<String,int[]> slots = new HashMap<>();
+	private int bound;
+	private Object[] current = EMPTY;
+
 	public <R extends BaseComprehensionData> R guardInternal(Supplier<Boolean> s){
-		((Foreach)delegate.getContext()).addExpansion(new Filter("guard", new ContextualExecutor(delegate.getContext()){
-			public Object execute(){
-				currentContext = this;
-				return s.get();
-			}
-		}));
+		builder.guardBound(values->{
+			current = values;
+			return s.get();
+		});
 		return (R)this;
 	}
-	
+
 	public void run(Runnable r){
 		yieldInternal( () -> { r.run(); return null; });
 	}
 	public <R> R yieldInternal(Supplier s){
-		return (R)((Foreach)delegate.getContext()).yield(new ExecutionState(new ContextualExecutor(delegate.getContext()){
-			public Object execute(){
-				currentContext = this;
-				return s.get();
-			}
-		}));
-		
+		return (R)builder.compileBound(values->{
+			current = values;
+			return s.get();
+		}).execute();
 	}
-	
+
 	public <T> T $Internal(String property){
-		Object delegate = currentContext.getContext();
-		
-		return (T)((Map)delegate).get(property);
-	
-	
+		int[] positions = slots.get(property);
+		if(positions==null)
+			return null;
+		Object[] values = current;
+		for(int i=positions.length-1;i>=0;i--){
+			if(positions[i]<values.length)
+				return (T)values[positions[i]];
+		}
+		return null;
 	}
 	public  <R extends BaseComprehensionData> R $Internal(String name, Object f){
-		Expansion g = new Expansion(name,new ContextualExecutor(this){
-			public Object execute(){
-				currentContext = this;
-				return unwrapSupplier(f);
-			}
-
-			private Object unwrapSupplier(Object f) {
-				if(f instanceof Supplier)
-					return ((Supplier)f).get();
-				return f;
-			}
-
-			
+		int slot = bound++;
+		slots.merge(name,new int[]{slot},(previous,next)->{
+			int[] merged = Arrays.copyOf(previous,previous.length+1);
+			merged[previous.length] = slot;
+			return merged;
+		});
+		builder.bindBound(values->{
+			current = values;
+			if(f instanceof Supplier)
+				return ((Supplier)f).get();
+			return f;
 		});
-		
-		((Foreach)delegate.getContext()).addExpansion(g);
-		
-		
 		return (R)this;
 	}
-	
+
 }
@@ -0,0 +1,265 @@
+package com.aol.cyclops.comprehensions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.comprehensions.comprehenders.InvokeDynamicComprehender;
+import com.aol.cyclops.comprehensions.comprehenders.MaterializedList;
+import com.aol.cyclops.comprehensions.converters.MonadicConverters;
+import com.aol.cyclops.lambda.api.Comprehender;
+import com.aol.cyclops.lambda.monads.ComprehenderSelector;
+import com.aol.cyclops.sequence.Unwrapable;
+
+/**
+ * A for comprehension compiled into a flat array of steps. Each step is evaluated by calling the supplied
+ * (curried) functions directly with the values bound so far - there are no Proxies, ThreadLocals, ContextualExecutors
+ * or per step variable maps.
+ *
+ * Semantics match the free form for comprehensions (see {@link ForComprehensions#foreachX(Function)}), which run on this engine :
+ * variables are bound positionally, names used by free form comprehensions are resolved to positions when they are built.
+ *
+ * <pre>
+ * {@code
+ *    Function<Integer,Function<Integer,Integer>> add = a->b->a+b;
+ *    Optional<Integer> result = CompiledComprehension.builder()
+ *    												.value(Optional.of(10))
+ *    												.bind((Integer a)->Optional.of(a+1))
+ *    												.yield(add);
+ *    //Optional[21]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class CompiledComprehension {
+
+	private static final Object[] EMPTY = new Object[0];
+	private static final MonadicConverters converters = new MonadicConverters();
+	private static final Goto GOTO = new Goto();
+
+	/** monadic value, Supplier of a monadic value, or a curried Function of the values bound so far */
+	private final Object[] steps;
+	private final byte[] kinds;
+	private final Function<?,?> yield;
+	/** true if the yield accepts the array of bound values, rather than being curried */
+	private final boolean yieldBound;
+	/** per step (and the yield), the last result type seen that is not Unwrapable - instanceof misses against an interface are comparatively expensive */
+	private final Class<?>[] plainTypes;
+
+	private static final byte VALUE = 0;
+	private static final byte BIND = 1;
+	private static final byte GUARD = 2;
+	private static final byte SUPPLIED = 3;
+	private static final byte BOUND = 4;
+	private static final byte BOUND_GUARD = 5;
+
+	private CompiledComprehension(Object[] steps, byte[] kinds, Function<?,?> yield, boolean yieldBound){
+		this.steps = steps;
+		this.kinds = kinds;
+		this.yield = yield;
+		this.yieldBound = yieldBound;
+		this.plainTypes = new Class<?>[steps.length+1];
+	}
+
+	/**
+	 * @return Builder for a CompiledComprehension, the first step must be a value
+	 */
+	public static Builder builder(){
+		return new Builder();
+	}
+
+	/**
+	 * Run this comprehension
+	 *
+	 * @return Result of the comprehension, the same monadic type as the first value
+	 */
+	public Object execute(){
+		return process(evaluate(0,EMPTY),1,EMPTY);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object process(Object current, int index, Object[] bound){
+		Comprehender comprehender;
+		Object monad = current;
+		Optional<Comprehender> registered = current==null ? Optional.empty() : ComprehenderSelector.registered(current.getClass());
+		if(registered.isPresent()){
+			comprehender = registered.get();
+		}else{
+			monad = converters.convertToMonadicForm(current);
+			registered = monad==null ? Optional.empty() : ComprehenderSelector.registered(monad.getClass());
+			comprehender = registered.isPresent() ? registered.get()
+						: new InvokeDynamicComprehender(Optional.ofNullable(current).map(Object::getClass));
+			if(!registered.isPresent())
+				monad = current;
+		}
+
+		if(index==steps.length){
+			if(yieldBound)
+				return comprehender.map(monad,it->((Function)yield).apply(bind(bound,it)));
+			return comprehender.map(monad,it->unwrap(index,apply((Function)yield,bind(bound,it))));
+		}
+
+		if(kinds[index]==GUARD){
+			Object filtered = comprehender.filter(monad,it-> (boolean)apply((Function)steps[index],bind(bound,it)));
+			return process(filtered,index+1,bound);
+		}
+		if(kinds[index]==BOUND_GUARD){
+			Object filtered = comprehender.filter(monad,it-> (boolean)((Function)steps[index]).apply(bind(bound,it)));
+			return process(filtered,index+1,bound);
+		}
+
+		Object result = comprehender.executeflatMap(monad,it->{
+			Object[] next = bind(bound,it);
+			return process(evaluate(index,next),index+1,next);
+		});
+		try{
+			return comprehender.map(result,CompiledComprehension::takeFirst);
+		}catch(Goto g){
+			return comprehender.empty();
+		}
+	}
+
+	private Object evaluate(int index, Object[] bound){
+		Object step = steps[index];
+		if(kinds[index]==BIND)
+			return unwrap(index,apply((Function)step,bound));
+		if(kinds[index]==SUPPLIED)
+			return ((Supplier)step).get();
+		if(kinds[index]==BOUND)
+			return ((Function)step).apply(bound);
+		return step;
+	}
+
+	private static Object[] bind(Object[] bound, Object value){
+		Object[] next = Arrays.copyOf(bound,bound.length+1);
+		next[bound.length] = value;
+		return next;
+	}
+
+	/**
+	 * Curried functions accept exactly one parameter per bound value, so intermediate results are always Functions
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object apply(Function fn, Object[] bound){
+		Function next = fn;
+		int last = bound.length-1;
+		for(int i=0;i<last;i++)
+			next = (Function)next.apply(bound[i]);
+		return next.apply(bound[last]);
+	}
+
+	private Object unwrap(int index, Object result){
+		if(result==null)
+			return null;
+		Class<?> type = result.getClass();
+		if(type==plainTypes[index])
+			return result;
+		if(result instanceof Unwrapable)
+			return ((Unwrapable)result).unwrap();
+		plainTypes[index] = type;
+		return result;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static Object takeFirst(Object o){
+		if(o instanceof MaterializedList){
+			if(((List)o).size()==0)
+				throw GOTO;
+			return ((List)o).get(0);
+		}
+		return o;
+	}
+
+	private static class Goto extends RuntimeException{
+		private static final long serialVersionUID = 1L;
+
+		Goto(){
+			super(null,null,false,false);
+		}
+	}
+
+	/**
+	 * Collects the steps of a comprehension
+	 */
+	public static class Builder{
+		private final List<Object> steps = new ArrayList<>();
+		private final List<Byte> kinds = new ArrayList<>();
+
+		/**
+		 * Add a monadic value (or Supplier of one) that does not depend on previously bound values
+		 */
+		public Builder value(Object monad){
+			return add(monad,monad instanceof Supplier ? SUPPLIED : VALUE);
+		}
+		/**
+		 * Add a monadic value computed from the previously bound values
+		 *
+		 * @param fn Curried function that accepts each previously bound value in turn
+		 */
+		public Builder bind(Function<?,?> fn){
+			return add(fn,BIND);
+		}
+		/**
+		 * Filter the most recently bound value
+		 *
+		 * @param fn Curried function that accepts each bound value (including the current one) in turn and returns a Boolean
+		 */
+		public Builder guard(Function<?,?> fn){
+			return add(fn,GUARD);
+		}
+		/**
+		 * Add a monadic value computed from the array of values bound so far (in binding order)
+		 */
+		Builder bindBound(Function<Object[],?> fn){
+			return add(fn,BOUND);
+		}
+		/**
+		 * Filter the most recently bound value, using the array of values bound so far (including the current one)
+		 */
+		Builder guardBound(Function<Object[],Boolean> fn){
+			return add(fn,BOUND_GUARD);
+		}
+		/**
+		 * @param fn Curried function that accepts each bound value and produces the result
+		 * @return compiled comprehension
+		 */
+		public CompiledComprehension compile(Function<?,?> fn){
+			return compile(fn,false);
+		}
+		/**
+		 * @param fn Function that accepts the array of bound values and produces the result
+		 * @return compiled comprehension
+		 */
+		CompiledComprehension compileBound(Function<Object[],?> fn){
+			return compile(fn,true);
+		}
+		private CompiledComprehension compile(Function<?,?> fn, boolean bound){
+			if(kinds.isEmpty() || (kinds.get(0)!=VALUE && kinds.get(0)!=SUPPLIED && kinds.get(0)!=BOUND))
+				throw new IllegalStateException("A comprehension must start with a value");
+			byte[] kindArray = new byte[kinds.size()];
+			for(int i=0;i<kindArray.length;i++)
+				kindArray[i] = kinds.get(i);
+			return new CompiledComprehension(steps.toArray(),kindArray,fn,bound);
+		}
+		/**
+		 * Compile and run this comprehension
+		 *
+		 * @param fn Curried function that accepts each bound value and produces the result
+		 * @return Result of the comprehension
+		 */
+		@SuppressWarnings("unchecked")
+		public <R> R yield(Function<?,?> fn){
+			return (R)compile(fn).execute();
+		}
+		private Builder add(Object step, byte kind){
+			steps.add(step);
+			kinds.add(kind);
+			return this;
+		}
+	}
+}
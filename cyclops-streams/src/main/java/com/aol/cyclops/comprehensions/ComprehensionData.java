@@ -23,19 +23,17 @@ public class ComprehensionData<T,R,V extends Initialisable>{
 	@Getter
 	private final V vars;
 	
-	private final Proxier proxier = new Proxier();
-	
-	ComprehensionData(ExecutionState state,Optional<Class<V>> varsClass) {
+	ComprehensionData(Optional<Class<V>> varsClass) {
 		super();
-		data = new BaseComprehensionData(state);
+		data = new BaseComprehensionData();
 	
 		this.vars = (V)new Varsonly();
 		this.vars.init(data);
 	}
 	
-	ComprehensionData(V vars,ExecutionState state) {
+	ComprehensionData(V vars) {
 		super();
-		data = new BaseComprehensionData(state);
+		data = new BaseComprehensionData();
 		
 		this.vars = (V)((Initialisable)vars);
 		this.vars.init(data);
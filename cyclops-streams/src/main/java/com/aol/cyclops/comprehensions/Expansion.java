@@ -1,19 +0,0 @@
-package com.aol.cyclops.comprehensions;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-
-
-
-
-@Getter
-@AllArgsConstructor
-class Expansion {
-
-	private final String name;
-	private final ContextualExecutor function;
-	
-  
-	
-
-}
\ No newline at end of file
@@ -1,9 +0,0 @@
-package com.aol.cyclops.comprehensions;
-
-class Filter extends Expansion{
-
-	public Filter(String name, ContextualExecutor func) {
-		super(name, func);
-	}
-
-}
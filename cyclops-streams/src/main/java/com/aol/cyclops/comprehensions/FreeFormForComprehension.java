@@ -1,23 +1,22 @@
 package com.aol.cyclops.comprehensions;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
-import lombok.val;
-
 
+/**
+ * Free form for comprehensions, optionally driven through a custom interface (implemented by a dynamic Proxy).
+ * Comprehensions are recorded and run as a {@link CompiledComprehension}.
+ * 
+ * @author johnmcclean
+ *
+ */
 public class FreeFormForComprehension<X,V extends Initialisable> {
 	
 	private final Class<X> c;
 	private final Optional<Class<V>> varsClass;
 	private final Optional<V> varsImpl;
 	
-	private final Proxier proxier = new Proxier();
-	
 	public  FreeFormForComprehension(){
 		this(null,null,null);
 		
@@ -41,48 +40,13 @@ public class FreeFormForComprehension<X,V extends Initialisable> {
 		this.varsImpl = Optional.ofNullable(varsImpl);
 	}
 	
-	@SuppressWarnings("unchecked")
-	<T,R> R foreachNoClass(Function<ComprehensionData<T,R,V>,R> fn){
-		return Foreach.foreach(new ContextualExecutor<R,Foreach<R>>(new Foreach<R>()){
-			@SuppressWarnings("rawtypes")
-			public R execute(){
-				return (R)fn.apply(new ComprehensionData(new ExecutionState(this),varsClass));
-			}
-
-			
-		});
-	}
-	
-	
-	
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public <R> R foreach(Function<X,R> fn){
+		ComprehensionData compData = varsImpl.isPresent() ? new ComprehensionData(varsImpl.get()) 
+															: new ComprehensionData(varsClass);
 		if(c==null)
-			return (R)foreachNoClass((Function)fn);
-		return Foreach.foreach(new ContextualExecutor<R,Foreach<R>>(new Foreach<R>()){
-			@SuppressWarnings("rawtypes")
-			public R execute(){
-			
-				val compData = varsImpl.isPresent() ? new ComprehensionData(varsImpl.get(),new ExecutionState(this)) 
-													: new ComprehensionData(new ExecutionState(this),varsClass);
-							
-					try
-					{
-					
-						return fn.apply(proxier.newProxy(c,compData,proxyStore));
-					}finally{
-						proxier.release(c,proxyStore.get().get(c));
-						proxyStore.set(new HashMap());
-					}
-				
-			}
-		});
+			return fn.apply((X)compData);
+		return fn.apply(InvocationHandlerProxy.newProxy(c,compData));
 	}
 	
-	
-	
-	private final static ThreadLocal<Map<Class,List>> proxyStore = ThreadLocal.withInitial(()->new HashMap<>());
-	
-	
-	
 }
@@ -2,30 +2,33 @@ package com.aol.cyclops.comprehensions;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.lang.reflect.Proxy;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import lombok.Setter;
-
 class InvocationHandlerProxy<X> implements InvocationHandler{
 
-	private final Proxier proxier = new Proxier();
 	private final Class<X> type; 
-	@Setter
-	private volatile ComprehensionData compData;
-	@Setter
+	private final ComprehensionData compData;
 	private X proxy;
-	@Setter
-	private ThreadLocal<Map<Class,List>> activeProxyStore;
 	
-	public InvocationHandlerProxy(Class<X> type) {
+	private InvocationHandlerProxy(Class<X> type, ComprehensionData compData) {
 		super();
 		this.type = type;
-		compData = null;
+		this.compData = compData;
+	}
+	
+	/**
+	 * @param type Custom for comprehension interface
+	 * @param compData Comprehension to record method calls on the interface into
+	 * @return Implementation of the interface
+	 */
+	@SuppressWarnings("unchecked")
+	static <X> X newProxy(Class<X> type, ComprehensionData compData){
+		InvocationHandlerProxy<X> handler = new InvocationHandlerProxy<>(type,compData);
+		handler.proxy = (X)Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, handler);
+		return handler.proxy;
 	}
 	
 	@Override
@@ -79,7 +82,7 @@ class InvocationHandlerProxy<X> implements InvocationHandler{
 				compData.filter((Supplier)args[0]);
 		 if(method.getReturnType().isInterface() && type!=method.getReturnType()){
 	
-			 return (X)proxier.newProxy(method.getReturnType(),compData,this.activeProxyStore);
+			 return (X)newProxy(method.getReturnType(),compData);
 		 }
 		return (X)proxy;
 	}
@@ -92,7 +95,7 @@ class InvocationHandlerProxy<X> implements InvocationHandler{
 		 compData.$(name,applyFunction(args[0]));
 		 if(method.getReturnType().isInterface() && type!=method.getReturnType()){
 		
-			 return (X)proxier.newProxy(method.getReturnType(),compData,this.activeProxyStore);
+			 return (X)newProxy(method.getReturnType(),compData);
 		 }
 		 return (X)proxy;
 	}
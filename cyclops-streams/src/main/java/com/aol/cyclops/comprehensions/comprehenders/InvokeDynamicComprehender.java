@@ -1,17 +1,19 @@
 package com.aol.cyclops.comprehensions.comprehenders;
 
 import java.lang.invoke.CallSite;
-import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import lombok.AllArgsConstructor;
@@ -35,11 +37,24 @@ public class InvokeDynamicComprehender implements Comprehender {
 	Optional<Class> type;
 	
 	private static volatile PMap<Class,PSet<ProxyWrapper>> proxyCache =  HashTreePMap.empty();
-	private static volatile Map<Method,CallSite> callSites = new ConcurrentHashMap<>();
-	private static volatile Map<Class,Method> mapMethod = new ConcurrentHashMap<>();
-	private static volatile Map<Class,Method> flatMapMethod = new ConcurrentHashMap<>();
-	private static volatile Map<Class,Method> filterMethod = new ConcurrentHashMap<>();
-	private static volatile Map<Class,Method> ofMethod = new ConcurrentHashMap<>();
+	private static final ClassValue<Dispatch> dispatch = new ClassValue<Dispatch>(){
+		@Override
+		protected Dispatch computeValue(Class<?> type) {
+			return new Dispatch(type);
+		}
+	};
+	private static final ClassValue<Optional<MethodHandle>> functionAdapters = new ClassValue<Optional<MethodHandle>>(){
+		@Override
+		protected Optional<MethodHandle> computeValue(Class<?> type) {
+			return adapter(type,Function.class,"apply");
+		}
+	};
+	private static final ClassValue<Optional<MethodHandle>> predicateAdapters = new ClassValue<Optional<MethodHandle>>(){
+		@Override
+		protected Optional<MethodHandle> computeValue(Class<?> type) {
+			return adapter(type,Predicate.class,"test");
+		}
+	};
 	@AllArgsConstructor
 	static class ProxyWrapper{
 		private final Proxy proxy;
@@ -55,89 +70,126 @@ public class InvokeDynamicComprehender implements Comprehender {
 	}
 	@Override
 	public Object filter(Object t, Predicate p) {
-		Class clazz = t.getClass();
-		Method m = filterMethod.computeIfAbsent(clazz, c->Stream.of(c.getMethods())
-				.filter(method -> "filter".equals(method.getName()))
-				.filter(method -> method.getParameterCount()==1).findFirst()
-				.map(m2->{ m2.setAccessible(true); return m2;})
-				.get());
-		
-		Class z = m.getParameterTypes()[0];
-		ProxyWrapper proxy = getProxy(z);
-		((FunctionExecutionInvocationHandler)Proxy.getInvocationHandler(proxy.proxy)).setFunction(input -> p.test(input));
-		
-
-		return executeMethod(t, m, z, proxy);
-
+		Bound bound = dispatch.get(t.getClass()).filter.get();
+		if(bound.parameter.isInstance(p))
+			return bound.invoke(t,p);
+		Optional<MethodHandle> adapter = predicateAdapters.get(bound.parameter);
+		if(adapter.isPresent())
+			return bound.invoke(t,adapt(adapter.get(),p));
+		return executeWithProxy(t,bound,input -> p.test(input));
 	}
 
 	@Override
 	public Object map(Object t, Function fn) {
-		
-		Class clazz = t.getClass();
-	
-		
-		Method m = mapMethod.computeIfAbsent(clazz, c->Stream.of(c.getMethods())
-				.filter(method -> "map".equals(method.getName()))
-				.filter(method -> method.getParameterCount()==1).findFirst()
-				.map(m2->{ m2.setAccessible(true); return m2;})
-				.get());
-		
-		Class z = m.getParameterTypes()[0];
-		ProxyWrapper proxy = getProxy(z);
-		((FunctionExecutionInvocationHandler)Proxy.getInvocationHandler(proxy.proxy)).setFunction(input -> fn.apply(input));
-		
+		return apply(t,dispatch.get(t.getClass()).map.get(),fn);
+	}
 
-		
-		
-		return executeMethod(t, m, z, proxy);
-		
-		
+	@Override
+	public Object flatMap(Object t, Function fn) {
+		return apply(t,dispatch.get(t.getClass()).flatMap.get(),fn);
 	}
-	
-	private Object executeMethod(Object t, Method m, Class z, ProxyWrapper proxy) {
+
+	private Object apply(Object t, Bound bound, Function fn){
+		if(bound.parameter.isInstance(fn))
+			return bound.invoke(t,fn);
+		Optional<MethodHandle> adapter = functionAdapters.get(bound.parameter);
+		if(adapter.isPresent())
+			return bound.invoke(t,adapt(adapter.get(),fn));
+		return executeWithProxy(t,bound,input -> fn.apply(input));
+	}
+
+	private Object adapt(MethodHandle adapter, Object fn){
 		try {
-			
-			
-			
-
-			return this.callSites.computeIfAbsent(m, (m2) ->  {
-				try {
-					return new ConstantCallSite(MethodHandles.publicLookup().unreflect(m2));
-				} catch (Exception e) {
-					ExceptionSoftener.throwSoftenedException(e);
-					return null;
-				}
-				
-			}).dynamicInvoker().invoke(t,proxy.proxy);
-		
+			return adapter.invokeExact(fn);
 		} catch (Throwable e) {
-			ExceptionSoftener.throwSoftenedException(e);
-			return null;
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+
+	private Object executeWithProxy(Object t, Bound bound, Function fn) {
+		Class z = bound.parameter;
+		ProxyWrapper proxy = getProxy(z);
+		((FunctionExecutionInvocationHandler)Proxy.getInvocationHandler(proxy.proxy)).setFunction(fn);
+		try {
+			return bound.invoke(t,proxy.proxy);
 		}finally{
 			release(z,proxy);
 		}
-		
 	}
 
+	/**
+	 * Generate a factory that wraps a Function (or Predicate) as an instance of the supplied functional interface,
+	 * if that isn't possible the slower Proxy based mechanism is used instead.
+	 */
+	private static Optional<MethodHandle> adapter(Class<?> type, Class<?> function, String functionMethod){
+		try{
+			if(!type.isInterface())
+				return Optional.empty();
+			List<Method> abstractMethods = Stream.of(type.getMethods())
+												.filter(m -> Modifier.isAbstract(m.getModifiers()))
+												.filter(m -> !isObjectMethod(m))
+												.collect(Collectors.toList());
+			if(abstractMethods.size()!=1)
+				return Optional.empty();
+			Method sam = abstractMethods.get(0);
+			Method target = function.getMethod(functionMethod, Object.class);
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+			CallSite site = LambdaMetafactory.metafactory(lookup, sam.getName(), MethodType.methodType(type, function),
+								samType, lookup.unreflect(target), samType);
+			return Optional.of(site.getTarget().asType(MethodType.methodType(Object.class, Object.class)));
+		}catch(Throwable e){
+			return Optional.empty();
+		}
+	}
+	private static boolean isObjectMethod(Method m){
+		try{
+			Object.class.getMethod(m.getName(), m.getParameterTypes());
+			return true;
+		}catch(NoSuchMethodException e){
+			return false;
+		}
+	}
 
-	@Override
-	public Object flatMap(Object t, Function fn) {
-		Class clazz = t.getClass();
-		Method m = flatMapMethod.computeIfAbsent(clazz, c->Stream.of(c.getMethods())
-				.filter(method -> "flatMap".equals(method.getName()) || "bind".equals(method.getName()))
-				.filter(method -> method.getParameterCount()==1).findFirst()
-				.map(m2->{ m2.setAccessible(true); return m2;})
-				.get());
-		
-		
-		Class z = m.getParameterTypes()[0];
-		ProxyWrapper proxy = getProxy(z);
-		((FunctionExecutionInvocationHandler)Proxy.getInvocationHandler(proxy.proxy)).setFunction(input -> fn.apply(input));
-		
-		
-
-		return executeMethod(t, m, z, proxy);
+	/**
+	 * MethodHandles for the map, flatMap and filter methods of a monad type, resolved once per type
+	 */
+	static class Dispatch{
+		final Optional<Bound> map;
+		final Optional<Bound> flatMap;
+		final Optional<Bound> filter;
+
+		Dispatch(Class<?> type){
+			map = bind(type,"map");
+			flatMap = bind(type,"flatMap","bind");
+			filter = bind(type,"filter");
+		}
+		private static Optional<Bound> bind(Class<?> type,String... names){
+			List<String> accepted = Arrays.asList(names);
+			return Stream.of(type.getMethods())
+						 .filter(method -> accepted.contains(method.getName()))
+						 .filter(method -> method.getParameterCount()==1)
+						 .findFirst()
+						 .map(Bound::new);
+		}
+	}
+	static class Bound{
+		final Class parameter;
+		final MethodHandle handle;
+
+		Bound(Method m){
+			m.setAccessible(true);
+			this.parameter = m.getParameterTypes()[0];
+			this.handle = ExceptionSoftener.softenSupplier(()->MethodHandles.publicLookup().unreflect(m)).get()
+										.asType(MethodType.methodType(Object.class, Object.class, Object.class));
+		}
+		Object invoke(Object target, Object fn){
+			try {
+				return handle.invokeExact(target,fn);
+			} catch (Throwable e) {
+				throw ExceptionSoftener.throwSoftenedException(e);
+			}
+		}
 	}
 
 	private boolean isAssignableFrom(Class t,Object apply){
@@ -1,13 +1,12 @@
 package com.aol.cyclops.comprehensions.converters;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.stream.Stream;
 
-import com.aol.cyclops.invokedynamic.ExceptionSoftener;
 import com.aol.cyclops.lambda.api.MonadicConverter;
+import com.aol.cyclops.streams.spliterators.MappedLineSpliterator;
 
 public class FileToStreamConverter implements MonadicConverter<Stream> {
 
@@ -22,13 +21,8 @@ public class FileToStreamConverter implements MonadicConverter<Stream> {
 
 	@Override
 	public Stream convertToMonadicForm(Object f) {
-		try {
-			return Files.lines(Paths.get( ((File)f).getAbsolutePath()));
-		} catch (IOException e) {
-			ExceptionSoftener.throwSoftenedException(e);
-			return null;
-		}
-	
+		return MappedLineSpliterator.lines(Paths.get( ((File)f).getAbsolutePath()),StandardCharsets.UTF_8);
+
 	}
 
 }
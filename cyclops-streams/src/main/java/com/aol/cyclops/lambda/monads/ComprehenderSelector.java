@@ -1,38 +1,60 @@
 package com.aol.cyclops.lambda.monads;
 
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import com.aol.cyclops.comprehensions.comprehenders.Comprehenders;
 import com.aol.cyclops.comprehensions.comprehenders.InvokeDynamicComprehender;
 import com.aol.cyclops.lambda.api.Comprehender;
 
+/**
+ * Selects the Comprehender for a monad type.
+ *
+ * Each type is resolved once, the result is cached against the Class itself (via a ClassValue) and shared by
+ * all ComprehenderSelector instances, so selecting a Comprehender for a type that has been seen before does not scan the
+ * registered Comprehenders.
+ *
+ * @author johnmcclean
+ *
+ */
 public class ComprehenderSelector {
 
-	private final Comprehenders comprehenders = new Comprehenders();
+	private static final Comprehenders comprehenders = new Comprehenders();
+
+	@SuppressWarnings("rawtypes")
+	private static final ClassValue<Optional<Comprehender>> registered = new ClassValue<Optional<Comprehender>>(){
+		@SuppressWarnings("unchecked")
+		@Override
+		protected Optional<Comprehender> computeValue(Class<?> type) {
+			return comprehenders.getRegisteredComprehenders().stream()
+								.filter(e -> e.getKey().isAssignableFrom(type))
+								.map(e->e.getValue())
+								.findFirst();
+		}
+	};
+	@SuppressWarnings("rawtypes")
+	private static final ClassValue<Comprehender> cache = new ClassValue<Comprehender>(){
+		@Override
+		protected Comprehender computeValue(Class<?> type) {
+			return registered.get(type).orElseGet(()->new InvokeDynamicComprehender(Optional.of(type)));
+		}
+	};
+
+	/**
+	 * @param type Monad type
+	 * @return Registered Comprehender for type, if there is one
+	 */
 	@SuppressWarnings("rawtypes")
-	private final ConcurrentMap<Class,Comprehender> cache= new ConcurrentHashMap<>();
-	
-	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static Optional<Comprehender> registered(Class type){
+		return registered.get(type);
+	}
+
+	@SuppressWarnings({ "rawtypes" })
 	public Comprehender selectComprehender(Class structure) {
-		
-		return cache.computeIfAbsent(structure, st->comprehenders.getRegisteredComprehenders().stream()
-																 .filter(e -> e.getKey().isAssignableFrom(structure))
-																 .map(e->e.getValue())
-																 .findFirst()
-																 .orElse(new InvokeDynamicComprehender(Optional.of(structure))));
+		return cache.get(structure);
 	}
-	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@SuppressWarnings({ "rawtypes" })
 	public Comprehender selectComprehender(Object structure) {
-
-		return cache.computeIfAbsent(structure.getClass(), st-> comprehenders.getRegisteredComprehenders().stream()
-																	.filter(e -> e.getKey().isAssignableFrom(structure.getClass()))
-																	.map(e->e.getValue())
-																	.findFirst()
-																	.orElse(new InvokeDynamicComprehender(Optional.ofNullable(structure)
-																	.map(Object::getClass))));
-		
+		return cache.get(structure.getClass());
 	}
-	
+
 }
@@ -1,14 +1,11 @@
 package com.aol.cyclops.objects;
 
-import java.util.stream.Collectors;
-
-import com.aol.cyclops.invokedynamic.ExceptionSoftener;
-import com.aol.cyclops.invokedynamic.ReflectionCache;
+import com.aol.cyclops.invokedynamic.Decomposer;
 
 /**
  * trait / interface for Value Objects / Case Classes / Algebraic Data Types
  * 
- * unapply uses Reflection by default, but clients can override it if neccessary
+ * unapply reads the fields of the unwrapped Object by default (via cached MethodHandles, see Decomposer), but clients can override it if neccessary
  * 
  * @author johnmcclean
  *
@@ -20,29 +17,15 @@ public interface Decomposable{
 		return this;
 	}
 	/**
-	 * @return Values of the fields of this Decomposable instance
+	 * @return Values of the fields of this Decomposable instance (read only, fixed size)
 	 */
 	@SuppressWarnings("unchecked")
 	default <I extends Iterable<?>> I unapply(){
 		
-		if(unwrap() instanceof Iterable)
-			return (I)unwrap();
-		try {
-			
-			return (I)ReflectionCache.getFields(unwrap().getClass()).stream().map(f ->{
-				try {
-				
-					return f.get(unwrap());
-				} catch (Exception e) {
-					throw ExceptionSoftener.throwSoftenedException(e);
-					
-				
-				}
-			}).collect(Collectors.toList());
-		} catch (Exception e) {
-			throw ExceptionSoftener.throwSoftenedException(e);
-			
-		}
+		Object unwrapped = unwrap();
+		if(unwrapped instanceof Iterable)
+			return (I)unwrapped;
+		return (I)Decomposer.fieldValues(unwrapped);
 		
 	}
 	
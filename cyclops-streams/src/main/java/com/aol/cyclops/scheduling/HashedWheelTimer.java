@@ -0,0 +1,349 @@
+package com.aol.cyclops.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.aol.cyclops.scheduling.util.cron.CompiledCron;
+
+/**
+ * A ScheduledExecutorService backed by a hashed timing wheel, designed to host very large numbers
+ * of scheduled Streams (e.g. SequenceM#schedule, SequenceM#scheduleFixedRate) on a small, fixed
+ * number of threads.
+ *
+ * A single ticker thread advances the wheel once per tick, collecting every task that has become due
+ * and handing them to the worker pool in batches (one batch per worker thread). Scheduling resolution
+ * is therefore limited to the tick duration.
+ *
+ * <pre>
+ * {@code
+ *   HashedWheelTimer timer = new HashedWheelTimer(10,TimeUnit.MILLISECONDS,512,2);
+ *
+ *   SequenceM.generate(()->"next job:"+formatDate(new Date()))
+ *            .map(this::processJob)
+ *            .schedule("0 20 * * * ?",timer);
+ *
+ *   timer.metrics().getMaxDriftNanos();
+ * }
+ * </pre>
+ *
+ * Delayed tasks that have not yet fired are discarded on shutdown.
+ *
+ * @author johnmcclean
+ *
+ */
+public class HashedWheelTimer extends AbstractExecutorService implements ScheduledExecutorService {
+
+	private static final AtomicInteger timerCount = new AtomicInteger(0);
+
+	private final long tickNanos;
+	private final int mask;
+	private final ArrayDeque<WheelTask<?>>[] wheel;
+	private final Queue<WheelTask<?>> incoming = new ConcurrentLinkedQueue<>();
+	private final ExecutorService workers;
+	private final int batches;
+	private final Thread ticker;
+	private final long startTime;
+	private volatile boolean shutdown = false;
+
+	private final AtomicLong pending = new AtomicLong(0);
+	private volatile long ticks = 0;
+	private volatile long fired = 0;
+	private volatile long lastDrift = 0;
+	private volatile long maxDrift = 0;
+	private volatile long totalDrift = 0;
+	private volatile int lastBatchSize = 0;
+
+	/**
+	 * Construct a HashedWheelTimer with a 10ms tick, 512 buckets and 2 worker threads
+	 */
+	public HashedWheelTimer(){
+		this(10,TimeUnit.MILLISECONDS,512,2);
+	}
+	/**
+	 * @param tick Duration of each tick of the wheel (scheduling resolution)
+	 * @param unit TimeUnit for tick
+	 * @param wheelSize Number of buckets in the wheel (rounded up to a power of 2)
+	 * @param threads Number of worker threads that will execute due tasks
+	 */
+	@SuppressWarnings("unchecked")
+	public HashedWheelTimer(long tick, TimeUnit unit, int wheelSize, int threads){
+		if(tick<=0 || wheelSize<=0 || threads<=0)
+			throw new IllegalArgumentException("tick, wheelSize and threads must all be positive");
+		int size = 1;
+		while(size<wheelSize)
+			size = size << 1;
+		this.tickNanos = unit.toNanos(tick);
+		this.mask = size-1;
+		this.wheel = new ArrayDeque[size];
+		for(int i=0;i<size;i++)
+			wheel[i] = new ArrayDeque<>();
+		int id = timerCount.incrementAndGet();
+		AtomicInteger workerCount = new AtomicInteger(0);
+		this.workers = Executors.newFixedThreadPool(threads, r->{
+			Thread t = new Thread(r,"cyclops-wheel-timer-"+id+"-worker-"+workerCount.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+		this.batches = threads;
+		this.startTime = System.nanoTime();
+		this.ticker = new Thread(this::tickLoop,"cyclops-wheel-timer-"+id);
+		this.ticker.setDaemon(true);
+		this.ticker.start();
+	}
+
+	/**
+	 * @return Snapshot of the current timer statistics
+	 */
+	public TimerMetrics metrics(){
+		long t = ticks;
+		return new TimerMetrics(t,pending.get(),fired,lastDrift,maxDrift,t==0 ? 0 : totalDrift/t,lastBatchSize);
+	}
+
+	/**
+	 * Schedule the supplied task to run on every fire time of the supplied cron expression
+	 *
+	 * @param command Task to run
+	 * @param cron Cron expression
+	 * @return ScheduledFuture that can be used to cancel the schedule
+	 */
+	public ScheduledFuture<?> scheduleCron(Runnable command, String cron){
+		CompiledCron compiled = CompiledCron.of(cron);
+		long now = System.currentTimeMillis();
+		long next = compiled.nextFireAfter(now);
+		if(next<0)
+			throw new IllegalArgumentException("Cron expression "+cron+" will never fire");
+		return enqueue(new WheelTask<Void>(command,null,deadline(next-now,TimeUnit.MILLISECONDS),0,compiled));
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+		return enqueue(new WheelTask<Void>(command,null,deadline(delay,unit),0,null));
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+		return enqueue(new WheelTask<V>(callable,deadline(delay,unit)));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+		if(period<=0)
+			throw new IllegalArgumentException("period must be positive");
+		return enqueue(new WheelTask<Void>(command,null,deadline(initialDelay,unit),unit.toNanos(period),null));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+		if(delay<=0)
+			throw new IllegalArgumentException("delay must be positive");
+		return enqueue(new WheelTask<Void>(command,null,deadline(initialDelay,unit),-unit.toNanos(delay),null));
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		workers.execute(command);
+	}
+
+	@Override
+	public void shutdown() {
+		shutdown = true;
+		LockSupport.unpark(ticker);
+		workers.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		shutdown();
+		List<Runnable> notRun = new ArrayList<>(workers.shutdownNow());
+		WheelTask<?> next;
+		while((next=incoming.poll())!=null)
+			notRun.add(next);
+		return notRun;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return shutdown && !ticker.isAlive() && workers.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long end = System.nanoTime() + unit.toNanos(timeout);
+		ticker.join(Math.max(1,TimeUnit.NANOSECONDS.toMillis(end-System.nanoTime())));
+		return workers.awaitTermination(Math.max(0,end-System.nanoTime()), TimeUnit.NANOSECONDS) && !ticker.isAlive();
+	}
+
+	private long deadline(long delay,TimeUnit unit){
+		return System.nanoTime() + unit.toNanos(Math.max(0,delay));
+	}
+
+	private <V> WheelTask<V> enqueue(WheelTask<V> task){
+		if(shutdown)
+			throw new RejectedExecutionException("HashedWheelTimer has been shutdown");
+		pending.incrementAndGet();
+		incoming.add(task);
+		return task;
+	}
+
+	private void tickLoop(){
+		long tick = 0;
+		while(!shutdown){
+			long tickDeadline = startTime + (tick+1)*tickNanos;
+			long now;
+			while((now=System.nanoTime())<tickDeadline && !shutdown)
+				LockSupport.parkNanos(tickDeadline-now);
+			if(shutdown)
+				return;
+			recordDrift(now-tickDeadline);
+			transferIncoming(tick);
+			dispatch(collectDue(wheel[(int)tick & mask]));
+			ticks = ++tick;
+		}
+	}
+
+	private void recordDrift(long drift){
+		lastDrift = drift;
+		totalDrift = totalDrift + drift;
+		if(drift>maxDrift)
+			maxDrift = drift;
+	}
+
+	private void transferIncoming(long tick){
+		WheelTask<?> next;
+		while((next=incoming.poll())!=null){
+			if(next.isCancelled()){
+				pending.decrementAndGet();
+				continue;
+			}
+			long due = Math.max(tick,(next.deadline - startTime + tickNanos - 1)/tickNanos - 1);
+			next.rounds = (due-tick) / wheel.length;
+			wheel[(int)due & mask].add(next);
+		}
+	}
+
+	private List<WheelTask<?>> collectDue(ArrayDeque<WheelTask<?>> bucket){
+		List<WheelTask<?>> due = new ArrayList<>();
+		Iterator<WheelTask<?>> it = bucket.iterator();
+		while(it.hasNext()){
+			WheelTask<?> next = it.next();
+			if(next.isCancelled()){
+				it.remove();
+				pending.decrementAndGet();
+			}else if(next.rounds<=0){
+				it.remove();
+				due.add(next);
+			}else{
+				next.rounds--;
+			}
+		}
+		return due;
+	}
+
+	private void dispatch(List<WheelTask<?>> due){
+		int size = due.size();
+		lastBatchSize = size;
+		if(size==0)
+			return;
+		pending.addAndGet(-size);
+		fired = fired + size;
+		int batchSize = (size + batches - 1) / batches;
+		for(int start=0;start<size;start+=batchSize){
+			List<WheelTask<?>> batch = due.subList(start, Math.min(size, start+batchSize));
+			try{
+				workers.execute(()->batch.forEach(WheelTask::run));
+			}catch(RejectedExecutionException e){
+				return;
+			}
+		}
+	}
+
+	private class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V>{
+		private volatile long deadline;
+		/** positive for fixed rate, negative for fixed delay, 0 for one shot or cron */
+		private final long period;
+		private final CompiledCron cron;
+		/** remaining full rotations of the wheel, only accessed by the ticker thread */
+		private long rounds;
+
+		WheelTask(Runnable runnable, V result, long deadline, long period, CompiledCron cron) {
+			super(runnable, result);
+			this.deadline = deadline;
+			this.period = period;
+			this.cron = cron;
+		}
+		WheelTask(Callable<V> callable, long deadline) {
+			super(callable);
+			this.deadline = deadline;
+			this.period = 0;
+			this.cron = null;
+		}
+
+		@Override
+		public boolean isPeriodic() {
+			return period!=0 || cron!=null;
+		}
+
+		@Override
+		public void run() {
+			if(!isPeriodic()){
+				super.run();
+				return;
+			}
+			if(!runAndReset() || shutdown)
+				return;
+			if(cron!=null){
+				long now = System.currentTimeMillis();
+				long next = cron.nextFireAfter(now);
+				if(next<0){
+					cancel(false);
+					return;
+				}
+				deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(next-now);
+			}else if(period>0){
+				deadline = deadline + period;
+			}else{
+				deadline = System.nanoTime() - period;
+			}
+			try{
+				enqueue(this);
+			}catch(RejectedExecutionException e){
+				cancel(false);
+			}
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed o) {
+			if(o==this)
+				return 0;
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops.scheduling;
+
+import lombok.Value;
+
+/**
+ * Point in time statistics for a HashedWheelTimer
+ *
+ * @author johnmcclean
+ *
+ */
+@Value
+public class TimerMetrics {
+	/** Number of times the wheel has advanced */
+	long ticks;
+	/** Scheduled tasks waiting to become due (queue depth) */
+	long pendingTasks;
+	/** Total number of tasks handed to the worker threads */
+	long firedTasks;
+	/** How late (in nanos) the most recent tick started */
+	long lastDriftNanos;
+	/** Greatest lateness (in nanos) of any tick */
+	long maxDriftNanos;
+	/** Average lateness (in nanos) of each tick */
+	long meanDriftNanos;
+	/** Number of tasks that became due on the most recent tick */
+	int lastBatchSize;
+}
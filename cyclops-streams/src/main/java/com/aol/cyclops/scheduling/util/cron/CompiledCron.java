@@ -0,0 +1,75 @@
+package com.aol.cyclops.scheduling.util.cron;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+
+/**
+ * A parsed CronExpression shared by every schedule that uses the same expression.
+ *
+ * The most recently calculated fire time is retained, so that many schedules using the same
+ * expression only evaluate the CronExpression once per fire time.
+ *
+ * <pre>
+ * {@code
+ *   long next = CompiledCron.of("0 20 * * * ?").nextFireAfter(System.currentTimeMillis());
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class CompiledCron {
+
+	private static final ConcurrentMap<String,CompiledCron> cache = new ConcurrentHashMap<>();
+
+	private final CronExpression expression;
+	private volatile Window window = new Window(Long.MAX_VALUE,Long.MIN_VALUE);
+
+	private CompiledCron(CronExpression expression){
+		this.expression = expression;
+	}
+
+	/**
+	 * @param cron Cron expression
+	 * @return Shared CompiledCron for the supplied expression
+	 */
+	public static CompiledCron of(String cron){
+		CompiledCron compiled = cache.get(cron);
+		if(compiled!=null)
+			return compiled;
+		return cache.computeIfAbsent(cron, c-> new CompiledCron(ExceptionSoftener.softenSupplier(()->new CronExpression(c)).get()));
+	}
+
+	/**
+	 * @param time Time in epoch millis
+	 * @return The first time that satisfies this cron expression after the supplied time (in epoch millis), or -1 if there is none
+	 */
+	public long nextFireAfter(long time){
+		Window current = window;
+		if(time>=current.from && time<current.next)
+			return current.next;
+		Date next = expression.getNextValidTimeAfter(new Date(time));
+		if(next==null)
+			return -1;
+		window = new Window(time,next.getTime());
+		return next.getTime();
+	}
+
+	public CronExpression getExpression(){
+		return expression;
+	}
+	/**
+	 * There are no valid fire times in the interval from (exclusive) to next (exclusive)
+	 */
+	private static class Window{
+		final long from;
+		final long next;
+		Window(long from, long next) {
+			this.from = from;
+			this.next = next;
+		}
+	}
+}
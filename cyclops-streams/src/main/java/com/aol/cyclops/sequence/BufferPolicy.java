@@ -0,0 +1,20 @@
+package com.aol.cyclops.sequence;
+
+/**
+ * Determines what happens when the leading copy of a duplicated Stream gets a full buffer ahead of the slowest copy
+ *
+ * @see SequenceM#duplicateSequence(long, BufferPolicy)
+ *
+ * @author johnmcclean
+ *
+ */
+public enum BufferPolicy {
+	/**
+	 * The leading copy waits for the slowest copy to catch up (copies must be consumed on different threads)
+	 */
+	BLOCK,
+	/**
+	 * The leading copy fails with an IllegalStateException
+	 */
+	FAIL
+}
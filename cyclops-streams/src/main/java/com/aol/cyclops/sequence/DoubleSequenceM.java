@@ -0,0 +1,181 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * A DoubleStream with the SequenceM extended operators, values are not boxed at any stage.
+ *
+ * <pre>
+ * {@code
+ *   DoubleSequenceM.of(prices)
+ *   			 .sliding(3)
+ *   			 .map(window->(window[0]+window[1]+window[2])/3)
+ *   			 .toList();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface DoubleSequenceM extends DoubleStream {
+
+	/**
+	 * @param values To construct DoubleSequenceM from
+	 * @return DoubleSequenceM of the supplied values
+	 */
+	public static DoubleSequenceM of(double... values){
+		return fromDoubleStream(DoubleStream.of(values));
+	}
+	/**
+	 * @param stream DoubleStream to construct DoubleSequenceM from
+	 * @return DoubleSequenceM backed by the supplied DoubleStream
+	 */
+	public static DoubleSequenceM fromDoubleStream(DoubleStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof DoubleSequenceM)
+			return (DoubleSequenceM)stream;
+		return new DoubleSequenceMImpl(stream);
+	}
+
+	/**
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(10,20).zipWithIndex()
+	 *  //[IndexedDouble(value=10, index=0), IndexedDouble(value=20, index=1)]
+	 * }
+	 * </pre>
+	 * @return Sequence of each value paired with its index
+	 */
+	SequenceM<IndexedDouble> zipWithIndex();
+	/**
+	 * Create a sliding view, windows are copied into new arrays
+	 *
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(1,2,3,4).sliding(2)
+	 *  //[1,2], [2,3], [3,4]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return Sequence of windows
+	 */
+	SequenceM<double[]> sliding(int windowSize);
+	/**
+	 * Create a sliding view, windows are copied into new arrays
+	 *
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(1,2,3,4,5).sliding(3,2)
+	 *  //[1,2,3], [3,4,5]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of values to move the window by each time
+	 * @return Sequence of windows
+	 */
+	SequenceM<double[]> sliding(int windowSize, int increment);
+	/**
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(1,2,3,4,5).batchBySize(2)
+	 *  //[1,2], [3,4], [5]
+	 * }
+	 * </pre>
+	 *
+	 * @param size Max size of each batch
+	 * @return Sequence of batches
+	 */
+	SequenceM<double[]> batchBySize(int size);
+	/**
+	 * Scan left, starting with the identity value
+	 *
+	 * <pre>
+	 * {@code
+	 *  DoubleSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b)
+	 *  //0, 1, 3, 6
+	 * }
+	 * </pre>
+	 */
+	DoubleSequenceM scanLeft(double identity, DoubleBinaryOperator accumulator);
+	/**
+	 * @param p Take values while predicate holds
+	 */
+	DoubleSequenceM limitWhile(DoublePredicate p);
+	/**
+	 * @param p Take values until predicate holds
+	 */
+	DoubleSequenceM limitUntil(DoublePredicate p);
+	/**
+	 * @param p Drop values while predicate holds
+	 */
+	DoubleSequenceM skipWhile(DoublePredicate p);
+	/**
+	 * @param p Drop values until predicate holds
+	 */
+	DoubleSequenceM skipUntil(DoublePredicate p);
+	/**
+	 * @return Infinitely repeat the values in this DoubleSequenceM
+	 */
+	DoubleSequenceM cycle();
+	/**
+	 * @param times Number of times to repeat the values in this DoubleSequenceM
+	 */
+	DoubleSequenceM cycle(int times);
+	/**
+	 * Reverse this DoubleSequenceM, values are buffered on first traversal
+	 */
+	DoubleSequenceM reverse();
+	/**
+	 * <pre>
+	 * {@code
+	 *  assertTrue(DoubleSequenceM.of(1,2,3,5,6,7).xMatch(3, i-> i>4 ));
+	 * }
+	 * </pre>
+	 *
+	 * @return true if exactly num values match the predicate
+	 */
+	boolean xMatch(int num, DoublePredicate p);
+
+	@Override
+	DoubleSequenceM filter(DoublePredicate predicate);
+	@Override
+	DoubleSequenceM map(DoubleUnaryOperator mapper);
+	@Override
+	<U> SequenceM<U> mapToObj(DoubleFunction<? extends U> mapper);
+	@Override
+	IntSequenceM mapToInt(DoubleToIntFunction mapper);
+	@Override
+	LongSequenceM mapToLong(DoubleToLongFunction mapper);
+	@Override
+	DoubleSequenceM flatMap(DoubleFunction<? extends DoubleStream> mapper);
+	@Override
+	DoubleSequenceM distinct();
+	@Override
+	DoubleSequenceM sorted();
+	@Override
+	DoubleSequenceM peek(DoubleConsumer action);
+	@Override
+	DoubleSequenceM limit(long maxSize);
+	@Override
+	DoubleSequenceM skip(long n);
+	@Override
+	SequenceM<Double> boxed();
+	@Override
+	DoubleSequenceM sequential();
+	@Override
+	DoubleSequenceM parallel();
+	@Override
+	DoubleSequenceM unordered();
+	@Override
+	DoubleSequenceM onClose(Runnable closeHandler);
+}
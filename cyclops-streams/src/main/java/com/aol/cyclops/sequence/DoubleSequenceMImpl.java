@@ -0,0 +1,459 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.streams.StreamUtils;
+
+public class DoubleSequenceMImpl implements DoubleSequenceM {
+	private final DoubleStream stream;
+
+	public DoubleSequenceMImpl(DoubleStream stream){
+		this.stream = stream;
+	}
+
+	private static DoubleSequenceM sequence(PrimitiveIterator.OfDouble it){
+		return new DoubleSequenceMImpl(StreamSupport.doubleStream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED),false));
+	}
+
+	@Override
+	public SequenceM<IndexedDouble> zipWithIndex() {
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<IndexedDouble>(){
+			long index = 0;
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public IndexedDouble next() {
+				return new IndexedDouble(it.nextDouble(),index++);
+			}
+		}));
+	}
+
+	@Override
+	public SequenceM<double[]> sliding(int windowSize) {
+		return sliding(windowSize,1);
+	}
+
+	@Override
+	public SequenceM<double[]> sliding(int windowSize, int increment) {
+		if(windowSize<1 || increment<1)
+			throw new IllegalArgumentException("Window size and increment must be 1 or more");
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<double[]>(){
+			final double[] ring = new double[windowSize];
+			int start = 0;
+			int size = 0;
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public double[] next() {
+				int drop = Math.min(increment,size);
+				start = (start+drop)%windowSize;
+				size = size-drop;
+				while(size<windowSize && it.hasNext()){
+					ring[(start+size)%windowSize] = it.nextDouble();
+					size++;
+				}
+				double[] window = new double[size];
+				int firstPart = Math.min(size,windowSize-start);
+				System.arraycopy(ring, start, window, 0, firstPart);
+				System.arraycopy(ring, 0, window, firstPart, size-firstPart);
+				return window;
+			}
+		}));
+	}
+
+	@Override
+	public SequenceM<double[]> batchBySize(int size) {
+		if(size<1)
+			throw new IllegalArgumentException("Batch size must be 1 or more");
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<double[]>(){
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public double[] next() {
+				double[] batch = new double[size];
+				int count = 0;
+				while(count<size && it.hasNext())
+					batch[count++] = it.nextDouble();
+				return count==size ? batch : Arrays.copyOf(batch, count);
+			}
+		}));
+	}
+
+	@Override
+	public DoubleSequenceM scanLeft(double identity, DoubleBinaryOperator accumulator) {
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfDouble(){
+			boolean first = true;
+			double acc = identity;
+			@Override
+			public boolean hasNext() {
+				return first || it.hasNext();
+			}
+
+			@Override
+			public double nextDouble() {
+				if(first){
+					first = false;
+					return acc;
+				}
+				return acc = accumulator.applyAsDouble(acc, it.nextDouble());
+			}
+		});
+	}
+
+	@Override
+	public DoubleSequenceM limitWhile(DoublePredicate p) {
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfDouble(){
+			boolean stillGoing = true;
+			boolean nextSet = false;
+			double next;
+			@Override
+			public boolean hasNext() {
+				if(nextSet)
+					return true;
+				if(!stillGoing || !it.hasNext())
+					return false;
+				next = it.nextDouble();
+				if(p.test(next))
+					return nextSet = true;
+				return stillGoing = false;
+			}
+
+			@Override
+			public double nextDouble() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				nextSet = false;
+				return next;
+			}
+		});
+	}
+
+	@Override
+	public DoubleSequenceM limitUntil(DoublePredicate p) {
+		return limitWhile(p.negate());
+	}
+
+	@Override
+	public DoubleSequenceM skipWhile(DoublePredicate p) {
+		PrimitiveIterator.OfDouble it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfDouble(){
+			boolean skipped = false;
+			boolean nextSet = false;
+			double next;
+			@Override
+			public boolean hasNext() {
+				if(!skipped){
+					skipped = true;
+					while(it.hasNext()){
+						next = it.nextDouble();
+						if(!p.test(next)){
+							nextSet = true;
+							break;
+						}
+					}
+				}
+				return nextSet || it.hasNext();
+			}
+
+			@Override
+			public double nextDouble() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				if(nextSet){
+					nextSet = false;
+					return next;
+				}
+				return it.nextDouble();
+			}
+		});
+	}
+
+	@Override
+	public DoubleSequenceM skipUntil(DoublePredicate p) {
+		return skipWhile(p.negate());
+	}
+
+	@Override
+	public DoubleSequenceM cycle() {
+		return cycle(Long.MAX_VALUE);
+	}
+
+	@Override
+	public DoubleSequenceM cycle(int times) {
+		return cycle((long)times);
+	}
+
+	private DoubleSequenceM cycle(long times) {
+		return sequence(new PrimitiveIterator.OfDouble(){
+			double[] values;
+			int index = 0;
+			long round = 0;
+			@Override
+			public boolean hasNext() {
+				if(values==null)
+					values = stream.toArray();
+				if(index==values.length){
+					index = 0;
+					round++;
+				}
+				return values.length>0 && round<times;
+			}
+
+			@Override
+			public double nextDouble() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				return values[index++];
+			}
+		});
+	}
+
+	@Override
+	public DoubleSequenceM reverse() {
+		return sequence(new PrimitiveIterator.OfDouble(){
+			double[] values;
+			int index;
+			@Override
+			public boolean hasNext() {
+				if(values==null){
+					values = stream.toArray();
+					index = values.length;
+				}
+				return index>0;
+			}
+
+			@Override
+			public double nextDouble() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				return values[--index];
+			}
+		});
+	}
+
+	@Override
+	public boolean xMatch(int num, DoublePredicate p) {
+		return stream.filter(p).count()==num;
+	}
+
+	@Override
+	public DoubleSequenceM filter(DoublePredicate predicate) {
+		return new DoubleSequenceMImpl(stream.filter(predicate));
+	}
+
+	@Override
+	public DoubleSequenceM map(DoubleUnaryOperator mapper) {
+		return new DoubleSequenceMImpl(stream.map(mapper));
+	}
+
+	@Override
+	public <U> SequenceM<U> mapToObj(DoubleFunction<? extends U> mapper) {
+		return SequenceM.fromStream(stream.mapToObj(mapper));
+	}
+
+	@Override
+	public IntSequenceM mapToInt(DoubleToIntFunction mapper) {
+		return IntSequenceM.fromIntStream(stream.mapToInt(mapper));
+	}
+
+	@Override
+	public LongSequenceM mapToLong(DoubleToLongFunction mapper) {
+		return LongSequenceM.fromLongStream(stream.mapToLong(mapper));
+	}
+
+	@Override
+	public DoubleSequenceM flatMap(DoubleFunction<? extends DoubleStream> mapper) {
+		return new DoubleSequenceMImpl(stream.flatMap(mapper));
+	}
+
+	@Override
+	public DoubleSequenceM distinct() {
+		return new DoubleSequenceMImpl(stream.distinct());
+	}
+
+	@Override
+	public DoubleSequenceM sorted() {
+		return new DoubleSequenceMImpl(stream.sorted());
+	}
+
+	@Override
+	public DoubleSequenceM peek(DoubleConsumer action) {
+		return new DoubleSequenceMImpl(stream.peek(action));
+	}
+
+	@Override
+	public DoubleSequenceM limit(long maxSize) {
+		return new DoubleSequenceMImpl(stream.limit(maxSize));
+	}
+
+	@Override
+	public DoubleSequenceM skip(long n) {
+		return new DoubleSequenceMImpl(stream.skip(n));
+	}
+
+	@Override
+	public void forEach(DoubleConsumer action) {
+		stream.forEach(action);
+	}
+
+	@Override
+	public void forEachOrdered(DoubleConsumer action) {
+		stream.forEachOrdered(action);
+	}
+
+	@Override
+	public double[] toArray() {
+		return stream.toArray();
+	}
+
+	@Override
+	public double reduce(double identity, DoubleBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+
+	@Override
+	public OptionalDouble reduce(DoubleBinaryOperator op) {
+		return stream.reduce(op);
+	}
+
+	@Override
+	public <R> R collect(Supplier<R> supplier, ObjDoubleConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+
+	@Override
+	public double sum() {
+		return stream.sum();
+	}
+
+	@Override
+	public OptionalDouble min() {
+		return stream.min();
+	}
+
+	@Override
+	public OptionalDouble max() {
+		return stream.max();
+	}
+
+	@Override
+	public long count() {
+		return stream.count();
+	}
+
+	@Override
+	public OptionalDouble average() {
+		return stream.average();
+	}
+
+	@Override
+	public DoubleSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+
+	@Override
+	public boolean anyMatch(DoublePredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+
+	@Override
+	public boolean allMatch(DoublePredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+
+	@Override
+	public boolean noneMatch(DoublePredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+
+	@Override
+	public OptionalDouble findFirst() {
+		return stream.findFirst();
+	}
+
+	@Override
+	public OptionalDouble findAny() {
+		return stream.findAny();
+	}
+
+	@Override
+	public SequenceM<Double> boxed() {
+		return SequenceM.fromStream(stream.boxed());
+	}
+
+	@Override
+	public DoubleSequenceM sequential() {
+		return this;
+	}
+
+	/**
+	 * @return does nothing - returns this
+	 */
+	@Override
+	public DoubleSequenceM parallel() {
+		return this;
+	}
+
+	@Override
+	public PrimitiveIterator.OfDouble iterator() {
+		return stream.iterator();
+	}
+
+	@Override
+	public Spliterator.OfDouble spliterator() {
+		return stream.spliterator();
+	}
+
+	@Override
+	public boolean isParallel() {
+		return false;
+	}
+
+	@Override
+	public DoubleSequenceM unordered() {
+		return this;
+	}
+
+	@Override
+	public DoubleSequenceM onClose(Runnable closeHandler) {
+		return new DoubleSequenceMImpl(stream.onClose(closeHandler));
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+}
@@ -1,11 +1,45 @@
 package com.aol.cyclops.sequence;
 
+import java.util.List;
 import java.util.Queue;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 public interface HotStream<T> {
+	/**
+	 * Connect to this HotStream via a shared ring buffer, connections that fall a full buffer behind
+	 * have the newest values dropped until they catch up
+	 * 
+	 * @return Stream of values emitted after connection
+	 */
 	public SequenceM<T> connect();
+	/**
+	 * Connect to this HotStream via a shared ring buffer, with the supplied OverflowPolicy determining
+	 * what happens when this connection falls a full buffer behind the producer.
+	 * 
+	 * <pre>
+	 * {@code 
+	 *  HotStream<Integer> ints = SequenceM.range(0,Integer.MAX_VALUE)
+	 * 											.hotStream(exec);
+	 *  
+	 *  ints.connect(OverflowPolicy.SPILL)
+	 *      .forEach(this::slowConsumer);
+	 *  
+	 *  ints.connectionStats()
+	 *      .forEach(c->System.out.println(c.lag()));
+	 * }
+	 * </pre>
+	 * 
+	 * Closing the returned Stream disconnects it from this HotStream
+	 * 
+	 * @param policy OverflowPolicy for this connection
+	 * @return Stream of values emitted after connection
+	 */
+	public SequenceM<T> connect(OverflowPolicy policy);
 	public SequenceM<T> connect(Queue<T> queue);
 	public <R extends Stream<T>> R connectTo(Queue<T> queue,Function<SequenceM<T>,R> to);
+	/**
+	 * @return lag and drop counts for each Stream connected via the shared ring buffer
+	 */
+	public List<HotStreamConnection> connectionStats();
 }
@@ -0,0 +1,26 @@
+package com.aol.cyclops.sequence;
+
+/**
+ * Statistics for a single connection to a HotStream
+ *
+ * @author johnmcclean
+ *
+ */
+public interface HotStreamConnection {
+	/**
+	 * @return OverflowPolicy applied to this connection when it falls behind
+	 */
+	OverflowPolicy policy();
+	/**
+	 * @return Number of values emitted by the HotStream and not yet consumed by this connection
+	 */
+	long lag();
+	/**
+	 * @return Number of values this connection has lost due to its OverflowPolicy
+	 */
+	long dropped();
+	/**
+	 * @return true if this connection is still receiving values
+	 */
+	boolean isConnected();
+}
@@ -0,0 +1,15 @@
+package com.aol.cyclops.sequence;
+
+import lombok.Value;
+
+/**
+ * A double value and its position in a DoubleSequenceM, see {@link DoubleSequenceM#zipWithIndex()}
+ *
+ * @author johnmcclean
+ *
+ */
+@Value
+public class IndexedDouble {
+	double value;
+	long index;
+}
@@ -0,0 +1,15 @@
+package com.aol.cyclops.sequence;
+
+import lombok.Value;
+
+/**
+ * An int value and its position in an IntSequenceM, see {@link IntSequenceM#zipWithIndex()}
+ *
+ * @author johnmcclean
+ *
+ */
+@Value
+public class IndexedInt {
+	int value;
+	long index;
+}
@@ -0,0 +1,15 @@
+package com.aol.cyclops.sequence;
+
+import lombok.Value;
+
+/**
+ * A long value and its position in a LongSequenceM, see {@link LongSequenceM#zipWithIndex()}
+ *
+ * @author johnmcclean
+ *
+ */
+@Value
+public class IndexedLong {
+	long value;
+	long index;
+}
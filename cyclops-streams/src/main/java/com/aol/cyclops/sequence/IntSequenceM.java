@@ -0,0 +1,199 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.streams.spliterators.ReversingRangeIntSpliterator;
+
+/**
+ * An IntStream with the SequenceM extended operators, values are not boxed at any stage.
+ *
+ * <pre>
+ * {@code
+ *   IntSequenceM.range(0,1000)
+ *   			 .sliding(3)
+ *   			 .map(window->window[0]+window[1]+window[2])
+ *   			 .toList();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface IntSequenceM extends IntStream {
+
+	/**
+	 * Create an efficiently reversable IntSequenceM that produces the ints between start (inclusive) and end (exclusive)
+	 *
+	 * @param start Number of range to start from
+	 * @param end Number for range to end at
+	 * @return Range IntSequenceM
+	 */
+	public static IntSequenceM range(int start, int end){
+		ReversingRangeIntSpliterator range = new ReversingRangeIntSpliterator(start, end, false);
+		return new IntSequenceMImpl(StreamSupport.intStream(range, false),range);
+	}
+	/**
+	 * @param values To construct IntSequenceM from
+	 * @return IntSequenceM of the supplied values
+	 */
+	public static IntSequenceM of(int... values){
+		return fromIntStream(IntStream.of(values));
+	}
+	/**
+	 * @param stream IntStream to construct IntSequenceM from
+	 * @return IntSequenceM backed by the supplied IntStream
+	 */
+	public static IntSequenceM fromIntStream(IntStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof IntSequenceM)
+			return (IntSequenceM)stream;
+		return new IntSequenceMImpl(stream);
+	}
+
+	/**
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(10,20).zipWithIndex()
+	 *  //[IndexedInt(value=10, index=0), IndexedInt(value=20, index=1)]
+	 * }
+	 * </pre>
+	 * @return Sequence of each value paired with its index
+	 */
+	SequenceM<IndexedInt> zipWithIndex();
+	/**
+	 * Create a sliding view, windows are copied into new arrays
+	 *
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(1,2,3,4).sliding(2)
+	 *  //[1,2], [2,3], [3,4]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return Sequence of windows
+	 */
+	SequenceM<int[]> sliding(int windowSize);
+	/**
+	 * Create a sliding view, windows are copied into new arrays
+	 *
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(1,2,3,4,5).sliding(3,2)
+	 *  //[1,2,3], [3,4,5]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of values to move the window by each time
+	 * @return Sequence of windows
+	 */
+	SequenceM<int[]> sliding(int windowSize, int increment);
+	/**
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(1,2,3,4,5).batchBySize(2)
+	 *  //[1,2], [3,4], [5]
+	 * }
+	 * </pre>
+	 *
+	 * @param size Max size of each batch
+	 * @return Sequence of batches
+	 */
+	SequenceM<int[]> batchBySize(int size);
+	/**
+	 * Scan left, starting with the identity value
+	 *
+	 * <pre>
+	 * {@code
+	 *  IntSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b)
+	 *  //0, 1, 3, 6
+	 * }
+	 * </pre>
+	 */
+	IntSequenceM scanLeft(int identity, IntBinaryOperator accumulator);
+	/**
+	 * @param p Take values while predicate holds
+	 */
+	IntSequenceM limitWhile(IntPredicate p);
+	/**
+	 * @param p Take values until predicate holds
+	 */
+	IntSequenceM limitUntil(IntPredicate p);
+	/**
+	 * @param p Drop values while predicate holds
+	 */
+	IntSequenceM skipWhile(IntPredicate p);
+	/**
+	 * @param p Drop values until predicate holds
+	 */
+	IntSequenceM skipUntil(IntPredicate p);
+	/**
+	 * @return Infinitely repeat the values in this IntSequenceM
+	 */
+	IntSequenceM cycle();
+	/**
+	 * @param times Number of times to repeat the values in this IntSequenceM
+	 */
+	IntSequenceM cycle(int times);
+	/**
+	 * Reverse this IntSequenceM, ranges are reversed without buffering
+	 */
+	IntSequenceM reverse();
+	/**
+	 * <pre>
+	 * {@code
+	 *  assertTrue(IntSequenceM.of(1,2,3,5,6,7).xMatch(3, i-> i>4 ));
+	 * }
+	 * </pre>
+	 *
+	 * @return true if exactly num values match the predicate
+	 */
+	boolean xMatch(int num, IntPredicate p);
+
+	@Override
+	IntSequenceM filter(IntPredicate predicate);
+	@Override
+	IntSequenceM map(IntUnaryOperator mapper);
+	@Override
+	<U> SequenceM<U> mapToObj(IntFunction<? extends U> mapper);
+	@Override
+	LongSequenceM mapToLong(IntToLongFunction mapper);
+	@Override
+	DoubleSequenceM mapToDouble(IntToDoubleFunction mapper);
+	@Override
+	IntSequenceM flatMap(IntFunction<? extends IntStream> mapper);
+	@Override
+	IntSequenceM distinct();
+	@Override
+	IntSequenceM sorted();
+	@Override
+	IntSequenceM peek(IntConsumer action);
+	@Override
+	IntSequenceM limit(long maxSize);
+	@Override
+	IntSequenceM skip(long n);
+	@Override
+	LongSequenceM asLongStream();
+	@Override
+	DoubleSequenceM asDoubleStream();
+	@Override
+	SequenceM<Integer> boxed();
+	@Override
+	IntSequenceM sequential();
+	@Override
+	IntSequenceM parallel();
+	@Override
+	IntSequenceM unordered();
+	@Override
+	IntSequenceM onClose(Runnable closeHandler);
+}
@@ -0,0 +1,487 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.streams.StreamUtils;
+import com.aol.cyclops.streams.spliterators.ReversingRangeIntSpliterator;
+
+public class IntSequenceMImpl implements IntSequenceM {
+	private final IntStream stream;
+	/** range this IntSequenceM is built from, only retained by operators that commute with reversal */
+	private final Optional<ReversingRangeIntSpliterator> reversable;
+
+	public IntSequenceMImpl(IntStream stream){
+		this.stream = stream;
+		this.reversable = Optional.empty();
+	}
+	public IntSequenceMImpl(IntStream stream, ReversingRangeIntSpliterator rev){
+		this.stream = stream;
+		this.reversable = Optional.of(rev);
+	}
+	private IntSequenceMImpl(IntStream stream, Optional<ReversingRangeIntSpliterator> rev){
+		this.stream = stream;
+		this.reversable = rev;
+	}
+
+	private static IntSequenceM sequence(PrimitiveIterator.OfInt it){
+		return new IntSequenceMImpl(StreamSupport.intStream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED),false));
+	}
+
+	@Override
+	public SequenceM<IndexedInt> zipWithIndex() {
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<IndexedInt>(){
+			long index = 0;
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public IndexedInt next() {
+				return new IndexedInt(it.nextInt(),index++);
+			}
+		}));
+	}
+
+	@Override
+	public SequenceM<int[]> sliding(int windowSize) {
+		return sliding(windowSize,1);
+	}
+
+	@Override
+	public SequenceM<int[]> sliding(int windowSize, int increment) {
+		if(windowSize<1 || increment<1)
+			throw new IllegalArgumentException("Window size and increment must be 1 or more");
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<int[]>(){
+			final int[] ring = new int[windowSize];
+			int start = 0;
+			int size = 0;
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public int[] next() {
+				int drop = Math.min(increment,size);
+				start = (start+drop)%windowSize;
+				size = size-drop;
+				while(size<windowSize && it.hasNext()){
+					ring[(start+size)%windowSize] = it.nextInt();
+					size++;
+				}
+				int[] window = new int[size];
+				int firstPart = Math.min(size,windowSize-start);
+				System.arraycopy(ring, start, window, 0, firstPart);
+				System.arraycopy(ring, 0, window, firstPart, size-firstPart);
+				return window;
+			}
+		}));
+	}
+
+	@Override
+	public SequenceM<int[]> batchBySize(int size) {
+		if(size<1)
+			throw new IllegalArgumentException("Batch size must be 1 or more");
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<int[]>(){
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public int[] next() {
+				int[] batch = new int[size];
+				int count = 0;
+				while(count<size && it.hasNext())
+					batch[count++] = it.nextInt();
+				return count==size ? batch : Arrays.copyOf(batch, count);
+			}
+		}));
+	}
+
+	@Override
+	public IntSequenceM scanLeft(int identity, IntBinaryOperator accumulator) {
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfInt(){
+			boolean first = true;
+			int acc = identity;
+			@Override
+			public boolean hasNext() {
+				return first || it.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				if(first){
+					first = false;
+					return acc;
+				}
+				return acc = accumulator.applyAsInt(acc, it.nextInt());
+			}
+		});
+	}
+
+	@Override
+	public IntSequenceM limitWhile(IntPredicate p) {
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfInt(){
+			boolean stillGoing = true;
+			boolean nextSet = false;
+			int next;
+			@Override
+			public boolean hasNext() {
+				if(nextSet)
+					return true;
+				if(!stillGoing || !it.hasNext())
+					return false;
+				next = it.nextInt();
+				if(p.test(next))
+					return nextSet = true;
+				return stillGoing = false;
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				nextSet = false;
+				return next;
+			}
+		});
+	}
+
+	@Override
+	public IntSequenceM limitUntil(IntPredicate p) {
+		return limitWhile(p.negate());
+	}
+
+	@Override
+	public IntSequenceM skipWhile(IntPredicate p) {
+		PrimitiveIterator.OfInt it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfInt(){
+			boolean skipped = false;
+			boolean nextSet = false;
+			int next;
+			@Override
+			public boolean hasNext() {
+				if(!skipped){
+					skipped = true;
+					while(it.hasNext()){
+						next = it.nextInt();
+						if(!p.test(next)){
+							nextSet = true;
+							break;
+						}
+					}
+				}
+				return nextSet || it.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				if(nextSet){
+					nextSet = false;
+					return next;
+				}
+				return it.nextInt();
+			}
+		});
+	}
+
+	@Override
+	public IntSequenceM skipUntil(IntPredicate p) {
+		return skipWhile(p.negate());
+	}
+
+	@Override
+	public IntSequenceM cycle() {
+		return cycle(Long.MAX_VALUE);
+	}
+
+	@Override
+	public IntSequenceM cycle(int times) {
+		return cycle((long)times);
+	}
+
+	private IntSequenceM cycle(long times) {
+		return sequence(new PrimitiveIterator.OfInt(){
+			int[] values;
+			int index = 0;
+			long round = 0;
+			@Override
+			public boolean hasNext() {
+				if(values==null)
+					values = stream.toArray();
+				if(index==values.length){
+					index = 0;
+					round++;
+				}
+				return values.length>0 && round<times;
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				return values[index++];
+			}
+		});
+	}
+
+	@Override
+	public IntSequenceM reverse() {
+		if(reversable.isPresent()){
+			reversable.get().invert();
+			return this;
+		}
+		return sequence(new PrimitiveIterator.OfInt(){
+			int[] values;
+			int index;
+			@Override
+			public boolean hasNext() {
+				if(values==null){
+					values = stream.toArray();
+					index = values.length;
+				}
+				return index>0;
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				return values[--index];
+			}
+		});
+	}
+
+	@Override
+	public boolean xMatch(int num, IntPredicate p) {
+		return stream.filter(p).count()==num;
+	}
+
+	@Override
+	public IntSequenceM filter(IntPredicate predicate) {
+		return new IntSequenceMImpl(stream.filter(predicate),reversable);
+	}
+
+	@Override
+	public IntSequenceM map(IntUnaryOperator mapper) {
+		return new IntSequenceMImpl(stream.map(mapper),reversable);
+	}
+
+	@Override
+	public <U> SequenceM<U> mapToObj(IntFunction<? extends U> mapper) {
+		return SequenceM.fromStream(stream.mapToObj(mapper));
+	}
+
+	@Override
+	public LongSequenceM mapToLong(IntToLongFunction mapper) {
+		return LongSequenceM.fromLongStream(stream.mapToLong(mapper));
+	}
+
+	@Override
+	public DoubleSequenceM mapToDouble(IntToDoubleFunction mapper) {
+		return DoubleSequenceM.fromDoubleStream(stream.mapToDouble(mapper));
+	}
+
+	@Override
+	public IntSequenceM flatMap(IntFunction<? extends IntStream> mapper) {
+		return new IntSequenceMImpl(stream.flatMap(mapper));
+	}
+
+	@Override
+	public IntSequenceM distinct() {
+		return new IntSequenceMImpl(stream.distinct());
+	}
+
+	@Override
+	public IntSequenceM sorted() {
+		return new IntSequenceMImpl(stream.sorted());
+	}
+
+	@Override
+	public IntSequenceM peek(IntConsumer action) {
+		return new IntSequenceMImpl(stream.peek(action),reversable);
+	}
+
+	@Override
+	public IntSequenceM limit(long maxSize) {
+		return new IntSequenceMImpl(stream.limit(maxSize));
+	}
+
+	@Override
+	public IntSequenceM skip(long n) {
+		return new IntSequenceMImpl(stream.skip(n));
+	}
+
+	@Override
+	public void forEach(IntConsumer action) {
+		stream.forEach(action);
+	}
+
+	@Override
+	public void forEachOrdered(IntConsumer action) {
+		stream.forEachOrdered(action);
+	}
+
+	@Override
+	public int[] toArray() {
+		return stream.toArray();
+	}
+
+	@Override
+	public int reduce(int identity, IntBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+
+	@Override
+	public OptionalInt reduce(IntBinaryOperator op) {
+		return stream.reduce(op);
+	}
+
+	@Override
+	public <R> R collect(Supplier<R> supplier, ObjIntConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+
+	@Override
+	public int sum() {
+		return stream.sum();
+	}
+
+	@Override
+	public OptionalInt min() {
+		return stream.min();
+	}
+
+	@Override
+	public OptionalInt max() {
+		return stream.max();
+	}
+
+	@Override
+	public long count() {
+		return stream.count();
+	}
+
+	@Override
+	public OptionalDouble average() {
+		return stream.average();
+	}
+
+	@Override
+	public IntSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+
+	@Override
+	public boolean anyMatch(IntPredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+
+	@Override
+	public boolean allMatch(IntPredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+
+	@Override
+	public boolean noneMatch(IntPredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+
+	@Override
+	public OptionalInt findFirst() {
+		return stream.findFirst();
+	}
+
+	@Override
+	public OptionalInt findAny() {
+		return stream.findAny();
+	}
+
+	@Override
+	public LongSequenceM asLongStream() {
+		return LongSequenceM.fromLongStream(stream.asLongStream());
+	}
+
+	@Override
+	public DoubleSequenceM asDoubleStream() {
+		return DoubleSequenceM.fromDoubleStream(stream.asDoubleStream());
+	}
+
+	@Override
+	public SequenceM<Integer> boxed() {
+		return SequenceM.fromStream(stream.boxed());
+	}
+
+	@Override
+	public IntSequenceM sequential() {
+		return this;
+	}
+
+	/**
+	 * @return does nothing - returns this
+	 */
+	@Override
+	public IntSequenceM parallel() {
+		return this;
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return stream.iterator();
+	}
+
+	@Override
+	public Spliterator.OfInt spliterator() {
+		return stream.spliterator();
+	}
+
+	@Override
+	public boolean isParallel() {
+		return false;
+	}
+
+	@Override
+	public IntSequenceM unordered() {
+		return this;
+	}
+
+	@Override
+	public IntSequenceM onClose(Runnable closeHandler) {
+		return new IntSequenceMImpl(stream.onClose(closeHandler),reversable);
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+}
@@ -0,0 +1,197 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.streams.spliterators.ReversingRangeLongSpliterator;
+
+/**
+ * A LongStream with the SequenceM extended operators, values are not boxed at any stage.
+ *
+ * <pre>
+ * {@code
+ *   LongSequenceM.range(0,1000)
+ *   			 .sliding(3)
+ *   			 .map(window->window[0]+window[1]+window[2])
+ *   			 .toList();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface LongSequenceM extends LongStream {
+
+	/**
+	 * Create an efficiently reversable LongSequenceM that produces the longs between start (inclusive) and end (exclusive)
+	 *
+	 * @param start Number of range to start from
+	 * @param end Number for range to end at
+	 * @return Range LongSequenceM
+	 */
+	public static LongSequenceM range(long start, long end){
+		ReversingRangeLongSpliterator range = new ReversingRangeLongSpliterator(start, end, false);
+		return new LongSequenceMImpl(StreamSupport.longStream(range, false),range);
+	}
+	/**
+	 * @param values To construct LongSequenceM from
+	 * @return LongSequenceM of the supplied values
+	 */
+	public static LongSequenceM of(long... values){
+		return fromLongStream(LongStream.of(values));
+	}
+	/**
+	 * @param stream LongStream to construct LongSequenceM from
+	 * @return LongSequenceM backed by the supplied LongStream
+	 */
+	public static LongSequenceM fromLongStream(LongStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof LongSequenceM)
+			return (LongSequenceM)stream;
+		return new LongSequenceMImpl(stream);
+	}
+
+	/**
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(10,20).zipWithIndex()
+	 *  //[IndexedLong(value=10, index=0), IndexedLong(value=20, index=1)]
+	 * }
+	 * </pre>
+	 * @return Sequence of each value paired with its index
+	 */
+	SequenceM<IndexedLong> zipWithIndex();
+	/**
+	 * Create a sliding view, windows are copied into new arrays
+	 *
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(1,2,3,4).sliding(2)
+	 *  //[1,2], [2,3], [3,4]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @return Sequence of windows
+	 */
+	SequenceM<long[]> sliding(int windowSize);
+	/**
+	 * Create a sliding view, windows are copied into new arrays
+	 *
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(1,2,3,4,5).sliding(3,2)
+	 *  //[1,2,3], [3,4,5]
+	 * }
+	 * </pre>
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of values to move the window by each time
+	 * @return Sequence of windows
+	 */
+	SequenceM<long[]> sliding(int windowSize, int increment);
+	/**
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(1,2,3,4,5).batchBySize(2)
+	 *  //[1,2], [3,4], [5]
+	 * }
+	 * </pre>
+	 *
+	 * @param size Max size of each batch
+	 * @return Sequence of batches
+	 */
+	SequenceM<long[]> batchBySize(int size);
+	/**
+	 * Scan left, starting with the identity value
+	 *
+	 * <pre>
+	 * {@code
+	 *  LongSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b)
+	 *  //0, 1, 3, 6
+	 * }
+	 * </pre>
+	 */
+	LongSequenceM scanLeft(long identity, LongBinaryOperator accumulator);
+	/**
+	 * @param p Take values while predicate holds
+	 */
+	LongSequenceM limitWhile(LongPredicate p);
+	/**
+	 * @param p Take values until predicate holds
+	 */
+	LongSequenceM limitUntil(LongPredicate p);
+	/**
+	 * @param p Drop values while predicate holds
+	 */
+	LongSequenceM skipWhile(LongPredicate p);
+	/**
+	 * @param p Drop values until predicate holds
+	 */
+	LongSequenceM skipUntil(LongPredicate p);
+	/**
+	 * @return Infinitely repeat the values in this LongSequenceM
+	 */
+	LongSequenceM cycle();
+	/**
+	 * @param times Number of times to repeat the values in this LongSequenceM
+	 */
+	LongSequenceM cycle(int times);
+	/**
+	 * Reverse this LongSequenceM, ranges are reversed without buffering
+	 */
+	LongSequenceM reverse();
+	/**
+	 * <pre>
+	 * {@code
+	 *  assertTrue(LongSequenceM.of(1,2,3,5,6,7).xMatch(3, i-> i>4 ));
+	 * }
+	 * </pre>
+	 *
+	 * @return true if exactly num values match the predicate
+	 */
+	boolean xMatch(int num, LongPredicate p);
+
+	@Override
+	LongSequenceM filter(LongPredicate predicate);
+	@Override
+	LongSequenceM map(LongUnaryOperator mapper);
+	@Override
+	<U> SequenceM<U> mapToObj(LongFunction<? extends U> mapper);
+	@Override
+	IntSequenceM mapToInt(LongToIntFunction mapper);
+	@Override
+	DoubleSequenceM mapToDouble(LongToDoubleFunction mapper);
+	@Override
+	LongSequenceM flatMap(LongFunction<? extends LongStream> mapper);
+	@Override
+	LongSequenceM distinct();
+	@Override
+	LongSequenceM sorted();
+	@Override
+	LongSequenceM peek(LongConsumer action);
+	@Override
+	LongSequenceM limit(long maxSize);
+	@Override
+	LongSequenceM skip(long n);
+	@Override
+	DoubleSequenceM asDoubleStream();
+	@Override
+	SequenceM<Long> boxed();
+	@Override
+	LongSequenceM sequential();
+	@Override
+	LongSequenceM parallel();
+	@Override
+	LongSequenceM unordered();
+	@Override
+	LongSequenceM onClose(Runnable closeHandler);
+}
@@ -0,0 +1,482 @@
+package com.aol.cyclops.sequence;
+
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.streams.StreamUtils;
+import com.aol.cyclops.streams.spliterators.ReversingRangeLongSpliterator;
+
+public class LongSequenceMImpl implements LongSequenceM {
+	private final LongStream stream;
+	/** range this LongSequenceM is built from, only retained by operators that commute with reversal */
+	private final Optional<ReversingRangeLongSpliterator> reversable;
+
+	public LongSequenceMImpl(LongStream stream){
+		this.stream = stream;
+		this.reversable = Optional.empty();
+	}
+	public LongSequenceMImpl(LongStream stream, ReversingRangeLongSpliterator rev){
+		this.stream = stream;
+		this.reversable = Optional.of(rev);
+	}
+	private LongSequenceMImpl(LongStream stream, Optional<ReversingRangeLongSpliterator> rev){
+		this.stream = stream;
+		this.reversable = rev;
+	}
+
+	private static LongSequenceM sequence(PrimitiveIterator.OfLong it){
+		return new LongSequenceMImpl(StreamSupport.longStream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED),false));
+	}
+
+	@Override
+	public SequenceM<IndexedLong> zipWithIndex() {
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<IndexedLong>(){
+			long index = 0;
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public IndexedLong next() {
+				return new IndexedLong(it.nextLong(),index++);
+			}
+		}));
+	}
+
+	@Override
+	public SequenceM<long[]> sliding(int windowSize) {
+		return sliding(windowSize,1);
+	}
+
+	@Override
+	public SequenceM<long[]> sliding(int windowSize, int increment) {
+		if(windowSize<1 || increment<1)
+			throw new IllegalArgumentException("Window size and increment must be 1 or more");
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<long[]>(){
+			final long[] ring = new long[windowSize];
+			int start = 0;
+			int size = 0;
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public long[] next() {
+				int drop = Math.min(increment,size);
+				start = (start+drop)%windowSize;
+				size = size-drop;
+				while(size<windowSize && it.hasNext()){
+					ring[(start+size)%windowSize] = it.nextLong();
+					size++;
+				}
+				long[] window = new long[size];
+				int firstPart = Math.min(size,windowSize-start);
+				System.arraycopy(ring, start, window, 0, firstPart);
+				System.arraycopy(ring, 0, window, firstPart, size-firstPart);
+				return window;
+			}
+		}));
+	}
+
+	@Override
+	public SequenceM<long[]> batchBySize(int size) {
+		if(size<1)
+			throw new IllegalArgumentException("Batch size must be 1 or more");
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return SequenceM.fromStream(StreamUtils.stream(new Iterator<long[]>(){
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public long[] next() {
+				long[] batch = new long[size];
+				int count = 0;
+				while(count<size && it.hasNext())
+					batch[count++] = it.nextLong();
+				return count==size ? batch : Arrays.copyOf(batch, count);
+			}
+		}));
+	}
+
+	@Override
+	public LongSequenceM scanLeft(long identity, LongBinaryOperator accumulator) {
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfLong(){
+			boolean first = true;
+			long acc = identity;
+			@Override
+			public boolean hasNext() {
+				return first || it.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				if(first){
+					first = false;
+					return acc;
+				}
+				return acc = accumulator.applyAsLong(acc, it.nextLong());
+			}
+		});
+	}
+
+	@Override
+	public LongSequenceM limitWhile(LongPredicate p) {
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfLong(){
+			boolean stillGoing = true;
+			boolean nextSet = false;
+			long next;
+			@Override
+			public boolean hasNext() {
+				if(nextSet)
+					return true;
+				if(!stillGoing || !it.hasNext())
+					return false;
+				next = it.nextLong();
+				if(p.test(next))
+					return nextSet = true;
+				return stillGoing = false;
+			}
+
+			@Override
+			public long nextLong() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				nextSet = false;
+				return next;
+			}
+		});
+	}
+
+	@Override
+	public LongSequenceM limitUntil(LongPredicate p) {
+		return limitWhile(p.negate());
+	}
+
+	@Override
+	public LongSequenceM skipWhile(LongPredicate p) {
+		PrimitiveIterator.OfLong it = stream.iterator();
+		return sequence(new PrimitiveIterator.OfLong(){
+			boolean skipped = false;
+			boolean nextSet = false;
+			long next;
+			@Override
+			public boolean hasNext() {
+				if(!skipped){
+					skipped = true;
+					while(it.hasNext()){
+						next = it.nextLong();
+						if(!p.test(next)){
+							nextSet = true;
+							break;
+						}
+					}
+				}
+				return nextSet || it.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				if(nextSet){
+					nextSet = false;
+					return next;
+				}
+				return it.nextLong();
+			}
+		});
+	}
+
+	@Override
+	public LongSequenceM skipUntil(LongPredicate p) {
+		return skipWhile(p.negate());
+	}
+
+	@Override
+	public LongSequenceM cycle() {
+		return cycle(Long.MAX_VALUE);
+	}
+
+	@Override
+	public LongSequenceM cycle(int times) {
+		return cycle((long)times);
+	}
+
+	private LongSequenceM cycle(long times) {
+		return sequence(new PrimitiveIterator.OfLong(){
+			long[] values;
+			int index = 0;
+			long round = 0;
+			@Override
+			public boolean hasNext() {
+				if(values==null)
+					values = stream.toArray();
+				if(index==values.length){
+					index = 0;
+					round++;
+				}
+				return values.length>0 && round<times;
+			}
+
+			@Override
+			public long nextLong() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				return values[index++];
+			}
+		});
+	}
+
+	@Override
+	public LongSequenceM reverse() {
+		if(reversable.isPresent()){
+			reversable.get().invert();
+			return this;
+		}
+		return sequence(new PrimitiveIterator.OfLong(){
+			long[] values;
+			int index;
+			@Override
+			public boolean hasNext() {
+				if(values==null){
+					values = stream.toArray();
+					index = values.length;
+				}
+				return index>0;
+			}
+
+			@Override
+			public long nextLong() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				return values[--index];
+			}
+		});
+	}
+
+	@Override
+	public boolean xMatch(int num, LongPredicate p) {
+		return stream.filter(p).count()==num;
+	}
+
+	@Override
+	public LongSequenceM filter(LongPredicate predicate) {
+		return new LongSequenceMImpl(stream.filter(predicate),reversable);
+	}
+
+	@Override
+	public LongSequenceM map(LongUnaryOperator mapper) {
+		return new LongSequenceMImpl(stream.map(mapper),reversable);
+	}
+
+	@Override
+	public <U> SequenceM<U> mapToObj(LongFunction<? extends U> mapper) {
+		return SequenceM.fromStream(stream.mapToObj(mapper));
+	}
+
+	@Override
+	public IntSequenceM mapToInt(LongToIntFunction mapper) {
+		return IntSequenceM.fromIntStream(stream.mapToInt(mapper));
+	}
+
+	@Override
+	public DoubleSequenceM mapToDouble(LongToDoubleFunction mapper) {
+		return DoubleSequenceM.fromDoubleStream(stream.mapToDouble(mapper));
+	}
+
+	@Override
+	public LongSequenceM flatMap(LongFunction<? extends LongStream> mapper) {
+		return new LongSequenceMImpl(stream.flatMap(mapper));
+	}
+
+	@Override
+	public LongSequenceM distinct() {
+		return new LongSequenceMImpl(stream.distinct());
+	}
+
+	@Override
+	public LongSequenceM sorted() {
+		return new LongSequenceMImpl(stream.sorted());
+	}
+
+	@Override
+	public LongSequenceM peek(LongConsumer action) {
+		return new LongSequenceMImpl(stream.peek(action),reversable);
+	}
+
+	@Override
+	public LongSequenceM limit(long maxSize) {
+		return new LongSequenceMImpl(stream.limit(maxSize));
+	}
+
+	@Override
+	public LongSequenceM skip(long n) {
+		return new LongSequenceMImpl(stream.skip(n));
+	}
+
+	@Override
+	public void forEach(LongConsumer action) {
+		stream.forEach(action);
+	}
+
+	@Override
+	public void forEachOrdered(LongConsumer action) {
+		stream.forEachOrdered(action);
+	}
+
+	@Override
+	public long[] toArray() {
+		return stream.toArray();
+	}
+
+	@Override
+	public long reduce(long identity, LongBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+
+	@Override
+	public OptionalLong reduce(LongBinaryOperator op) {
+		return stream.reduce(op);
+	}
+
+	@Override
+	public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+
+	@Override
+	public long sum() {
+		return stream.sum();
+	}
+
+	@Override
+	public OptionalLong min() {
+		return stream.min();
+	}
+
+	@Override
+	public OptionalLong max() {
+		return stream.max();
+	}
+
+	@Override
+	public long count() {
+		return stream.count();
+	}
+
+	@Override
+	public OptionalDouble average() {
+		return stream.average();
+	}
+
+	@Override
+	public LongSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+
+	@Override
+	public boolean anyMatch(LongPredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+
+	@Override
+	public boolean allMatch(LongPredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+
+	@Override
+	public boolean noneMatch(LongPredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+
+	@Override
+	public OptionalLong findFirst() {
+		return stream.findFirst();
+	}
+
+	@Override
+	public OptionalLong findAny() {
+		return stream.findAny();
+	}
+
+	@Override
+	public DoubleSequenceM asDoubleStream() {
+		return DoubleSequenceM.fromDoubleStream(stream.asDoubleStream());
+	}
+
+	@Override
+	public SequenceM<Long> boxed() {
+		return SequenceM.fromStream(stream.boxed());
+	}
+
+	@Override
+	public LongSequenceM sequential() {
+		return this;
+	}
+
+	/**
+	 * @return does nothing - returns this
+	 */
+	@Override
+	public LongSequenceM parallel() {
+		return this;
+	}
+
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return stream.iterator();
+	}
+
+	@Override
+	public Spliterator.OfLong spliterator() {
+		return stream.spliterator();
+	}
+
+	@Override
+	public boolean isParallel() {
+		return false;
+	}
+
+	@Override
+	public LongSequenceM unordered() {
+		return this;
+	}
+
+	@Override
+	public LongSequenceM onClose(Runnable closeHandler) {
+		return new LongSequenceMImpl(stream.onClose(closeHandler),reversable);
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+}
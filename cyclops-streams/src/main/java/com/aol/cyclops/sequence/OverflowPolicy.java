@@ -0,0 +1,28 @@
+package com.aol.cyclops.sequence;
+
+/**
+ * Determines what a HotStream does with a connection that has fallen a full buffer behind the producer
+ *
+ * @see HotStream#connect(OverflowPolicy)
+ *
+ * @author johnmcclean
+ *
+ */
+public enum OverflowPolicy {
+	/**
+	 * The producer waits for the connection to catch up (a stalled connection will pause the HotStream)
+	 */
+	BLOCK,
+	/**
+	 * The connection skips the oldest unread values to make room for new ones
+	 */
+	DROP_OLDEST,
+	/**
+	 * The connection keeps the values already buffered and new values are discarded until it catches up
+	 */
+	DROP_NEWEST,
+	/**
+	 * Values that do not fit in the shared buffer are copied to an unbounded buffer private to the connection
+	 */
+	SPILL
+}
@@ -0,0 +1,105 @@
+package com.aol.cyclops.sequence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a ResultSet to a value, for use with {@link SequenceM#fromResultSet(ResultSet, RowMapper)}.
+ *
+ * The mapper is prepared once against the ResultSet before the first row is read, so column names can be resolved
+ * to indexes up front and each row read by index only.
+ *
+ * <pre>
+ * {@code
+ *   RowMapper<Person> people = RowMapper.named((rs,cols)->new Person(rs.getString(cols[0]),rs.getInt(cols[1])),
+ *                                              "name","age");
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type each row is mapped to
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+	/**
+	 * @param rs ResultSet positioned on the row to map (must not be advanced or retained)
+	 * @return Value for the current row
+	 * @throws SQLException
+	 */
+	T map(ResultSet rs) throws SQLException;
+
+	/**
+	 * Called once before the first row is read
+	 *
+	 * @param rs ResultSet that will be mapped
+	 * @return RowMapper to apply to each row
+	 * @throws SQLException
+	 */
+	default RowMapper<T> prepare(ResultSet rs) throws SQLException{
+		return this;
+	}
+
+	/**
+	 * Maps the current row, given the indexes of the requested columns
+	 */
+	@FunctionalInterface
+	public static interface ColumnIndexMapper<T>{
+		T map(ResultSet rs, int[] columns) throws SQLException;
+	}
+
+	/**
+	 * @param mapper Maps a row using the resolved column indexes (in the same order as names)
+	 * @param names Column names to resolve once, when the mapper is prepared
+	 * @return RowMapper that reads each row by column index
+	 */
+	public static <T> RowMapper<T> named(ColumnIndexMapper<T> mapper, String... names){
+		return new RowMapper<T>(){
+			@Override
+			public T map(ResultSet rs) throws SQLException {
+				return prepare(rs).map(rs);
+			}
+			@Override
+			public RowMapper<T> prepare(ResultSet rs) throws SQLException {
+				int[] columns = new int[names.length];
+				for(int i=0;i<names.length;i++)
+					columns[i] = rs.findColumn(names[i]);
+				return r->mapper.map(r,columns);
+			}
+		};
+	}
+	/**
+	 * @param names Column names
+	 * @return RowMapper that reads the named columns of each row into an array (in the same order as names)
+	 */
+	public static RowMapper<Object[]> columns(String... names){
+		return named((rs,columns)->{
+			Object[] row = new Object[columns.length];
+			for(int i=0;i<columns.length;i++)
+				row[i] = rs.getObject(columns[i]);
+			return row;
+		},names);
+	}
+	/**
+	 * @return RowMapper that reads every column of each row into an array
+	 */
+	public static RowMapper<Object[]> columns(){
+		return new RowMapper<Object[]>(){
+			@Override
+			public Object[] map(ResultSet rs) throws SQLException {
+				return prepare(rs).map(rs);
+			}
+			@Override
+			public RowMapper<Object[]> prepare(ResultSet rs) throws SQLException {
+				int count = rs.getMetaData().getColumnCount();
+				return r->{
+					Object[] row = new Object[count];
+					for(int i=0;i<count;i++)
+						row[i] = r.getObject(i+1);
+					return row;
+				};
+			}
+		};
+	}
+}
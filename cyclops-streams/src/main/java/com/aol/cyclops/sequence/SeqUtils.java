@@ -6,12 +6,12 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.sequence.streamable.Streamable;
+import com.aol.cyclops.streams.ConcurrentLazyCollection;
 
 public class SeqUtils {
 	/**
@@ -78,11 +78,11 @@ public class SeqUtils {
 		  	return toLazyCollection(stream.iterator());
 	  }	
 	  public static final <A> Collection<A> toLazyCollection(Iterator<A> iterator){
-		  return toLazyCollection(iterator,false);
+		  return lazyCollection(iterator);
 	  }
 	  /**
 	   * Lazily constructs a Collection from specified Stream. Collections iterator may be safely used
-	   * concurrently by multiple threads.
+	   * concurrently by multiple threads, values that have already been materialised are read without locking.
 	 * @param stream
 	 * @return
 	 */
@@ -90,9 +90,9 @@ public class SeqUtils {
 		  	return toConcurrentLazyCollection(stream.iterator());
 	  }	
 	  public static final <A> Collection<A> toConcurrentLazyCollection(Iterator<A> iterator){
-		  return toLazyCollection(iterator,true);
+		  return new ConcurrentLazyCollection<>(iterator);
 	  }
-	 private static final <A> Collection<A> toLazyCollection(Iterator<A> iterator,boolean concurrent) {
+	 private static final <A> Collection<A> lazyCollection(Iterator<A> iterator) {
 	    return new AbstractCollection<A>() {
 	    	
 	    @Override  
@@ -127,8 +127,6 @@ public class SeqUtils {
 	     
 	      volatile boolean complete=false;
 	      
-	      Object lock = new Object();
-	      ReentrantLock rlock = new ReentrantLock();
 	      public Iterator<A> iterator() {
 	    	  if(complete)
 	    		  return data.iterator();
@@ -136,53 +134,24 @@ public class SeqUtils {
 	    		int current = -1;
 				@Override
 				public boolean hasNext() {
-					
-					if(concurrent){
-						
-						rlock.lock();
-					}
-					try{
-						
-						if(current==data.size()-1 && !complete){
-							boolean result = iterator.hasNext();
-							complete = !result;
-							
-							return result;
-						}
-						if(current+1<data.size()){
-							
-							return true;
-						}
-						return false;
-					}finally{
-						if(concurrent)
-							rlock.unlock();
+					if(current==data.size()-1 && !complete){
+						boolean result = iterator.hasNext();
+						complete = !result;
+						return result;
 					}
+					return current+1<data.size();
 				}
 
-					@Override
-					public A next() {
-						
-						if (concurrent) {
-
-							rlock.lock();
-						}
-						try {
-							if (current < data.size() && !complete) {
-								if(iterator.hasNext())
-									data.add(iterator.next());
-
-								return data.get(++current);
-							}
-							current++;	
-							return data.get(current);
-						} finally {
-							
-							if (concurrent)
-								rlock.unlock();
-						}
-
+				@Override
+				public A next() {
+					if (current < data.size() && !complete) {
+						if(iterator.hasNext())
+							data.add(iterator.next());
+						return data.get(++current);
 					}
+					current++;
+					return data.get(current);
+				}
 
 				};
 	        
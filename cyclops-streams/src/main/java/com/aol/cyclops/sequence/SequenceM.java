@@ -3,6 +3,9 @@ package com.aol.cyclops.sequence;
 import java.io.BufferedReader;
 import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -14,6 +17,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -46,10 +50,14 @@ import com.aol.cyclops.lambda.monads.Foldable;
 import com.aol.cyclops.lambda.monads.Functor;
 import com.aol.cyclops.monad.AnyM;
 import com.aol.cyclops.sequence.future.FutureOperations;
+import com.aol.cyclops.sequence.parallel.ShardedOperations;
 import com.aol.cyclops.sequence.reactivestreams.CyclopsSubscriber;
-import com.aol.cyclops.sequence.reactivestreams.ReactiveStreamsLoader;
+import com.aol.cyclops.sequence.reactivestreams.SequenceMPublisher;
+import com.aol.cyclops.sequence.reactivestreams.SequenceMSubscriber;
 import com.aol.cyclops.sequence.reactivestreams.ReactiveStreamsTerminalOperations;
 import com.aol.cyclops.sequence.streamable.Streamable;
+import com.aol.cyclops.streams.spliterators.MappedLineSpliterator;
+import com.aol.cyclops.streams.spliterators.ResultSetSpliterator;
 import com.aol.cyclops.streams.spliterators.ReversingArraySpliterator;
 import com.aol.cyclops.streams.spliterators.ReversingListSpliterator;
 import com.aol.cyclops.streams.spliterators.ReversingRangeIntSpliterator;
@@ -203,6 +211,46 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	@SuppressWarnings("unchecked")
 	Tuple4<SequenceM<T>, SequenceM<T>, SequenceM<T>, SequenceM<T>> quadruplicate();
 
+	/**
+	 * Duplicate a Stream, buffering at most capacity values for the lagging
+	 * copy. Values are held in a buffer shared by both copies and released
+	 * once both have passed them.
+	 * 
+	 * <pre>
+	 * {@code
+	 * 	Tuple2<SequenceM<String>, SequenceM<String>> copies = SequenceM.fromStream(lines)
+	 * 							.duplicateSequence(10_000,BufferPolicy.BLOCK);
+	 * 	executor.submit(()->copies.v1.forEach(this::index));
+	 * 	copies.v2.forEach(this::archive);
+	 * }
+	 * </pre>
+	 * 
+	 * @param capacity Maximum number of values the leading copy may be ahead of the lagging copy
+	 * @param policy BLOCK the leading copy until the lagging copy catches up, or FAIL
+	 * @return duplicated stream
+	 */
+	Tuple2<SequenceM<T>, SequenceM<T>> duplicateSequence(long capacity, BufferPolicy policy);
+
+	/**
+	 * Triplicates a Stream, buffering at most capacity values for the slowest copy.
+	 * 
+	 * @see #duplicateSequence(long, BufferPolicy)
+	 * @param capacity Maximum number of values the leading copy may be ahead of the slowest copy
+	 * @param policy BLOCK the leading copy until the slowest copy catches up, or FAIL
+	 * @return Three copies of this Stream
+	 */
+	Tuple3<SequenceM<T>, SequenceM<T>, SequenceM<T>> triplicate(long capacity, BufferPolicy policy);
+
+	/**
+	 * Makes four copies of a Stream, buffering at most capacity values for the slowest copy.
+	 * 
+	 * @see #duplicateSequence(long, BufferPolicy)
+	 * @param capacity Maximum number of values the leading copy may be ahead of the slowest copy
+	 * @param policy BLOCK the leading copy until the slowest copy catches up, or FAIL
+	 * @return Four copies of this Stream
+	 */
+	Tuple4<SequenceM<T>, SequenceM<T>, SequenceM<T>, SequenceM<T>> quadruplicate(long capacity, BufferPolicy policy);
+
 	/**
 	 * Split a Stream at it's head (similar to headAndTail)
 	 * 
@@ -522,6 +570,69 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 */
 	SequenceM<List<T>> sliding(int windowSize, int increment);
 
+	/**
+	 * Create a sliding view over this Sequence that reuses a single List view (over a ring buffer) for every window.
+	 * Each window is only valid until the next window is requested, copy it to retain it.
+	 * 
+	 * <pre>
+	 * {@code
+	 * 	List<Integer> sums = SequenceM.of(1, 2, 3, 4).slidingView(2, 1).map(w -> w.get(0) + w.get(1)).toList();
+	 * 
+	 *  //[3,5,7]
+	 * }
+	 * </pre>
+	 * 
+	 * @param windowSize
+	 *            number of elements in each window
+	 * @param increment
+	 *            for each window
+	 * @return SequenceM with a reused sliding view
+	 */
+	SequenceM<List<T>> slidingView(int windowSize, int increment);
+
+	/**
+	 * Reduce each sliding window (with an increment of 1) using the supplied Monoid. Rather than re-reducing every window,
+	 * partial reductions are kept on two stacks so each step costs amortised O(1). Suitable for non-invertible
+	 * reductions such as min / max, the Monoid must be associative.
+	 * 
+	 * <pre>
+	 * {@code
+	 * 	List<Integer> max = SequenceM.of(1, 5, 2, 3, 1).slidingReduce(2, Monoid.of(Integer.MIN_VALUE, Math::max)).toList();
+	 * 
+	 *  //[5,5,3,3]
+	 * }
+	 * </pre>
+	 * 
+	 * @param windowSize
+	 *            number of elements in each window
+	 * @param monoid
+	 *            Monoid to reduce each window with
+	 * @return SequenceM of reduced windows
+	 */
+	SequenceM<T> slidingReduce(int windowSize, Monoid<T> monoid);
+
+	/**
+	 * Reduce each sliding window (with an increment of 1) using the supplied Monoid, removing elements that leave the
+	 * window with the inverse function so each step costs O(1). 
+	 * 
+	 * <pre>
+	 * {@code
+	 * 	List<Integer> sums = SequenceM.of(1, 2, 3, 4).slidingReduce(2, Reducers.toTotalInt(), (total, removed) -> total - removed).toList();
+	 * 
+	 *  //[3,5,7]
+	 * }
+	 * </pre>
+	 * 
+	 * @param windowSize
+	 *            number of elements in each window
+	 * @param monoid
+	 *            Monoid to reduce each window with
+	 * @param inverse
+	 *            Removes an element from a reduction
+	 * @return SequenceM of reduced windows
+	 */
+	SequenceM<T> slidingReduce(int windowSize, Monoid<T> monoid, BinaryOperator<T> inverse);
+
 	/**
 	 * Group elements in a Stream
 	 * 
@@ -758,6 +869,26 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 */
 	SequenceM<T> parallel();
 
+	/**
+	 * Run this SequenceM in parallel by partitioning it into contiguous range based shards, and running
+	 * operators independently per shard on the supplied ForkJoinPool. Aggregations are pre-aggregated
+	 * per shard, and results merged in shard (source) order.
+	 * 
+	 * <pre>
+	 * {@code
+	 *  int total = SequenceM.range(0,1_000_000)
+	 *  					 .parallel(ForkJoinPool.commonPool(),4)
+	 *  					 .map(i->i*2)
+	 *  					 .mapReduce(Reducers.toTotalInt());
+	 * }
+	 * </pre>
+	 * 
+	 * @param pool ForkJoinPool to run shards on
+	 * @param shards Number of shards
+	 * @return Sharded parallel operations
+	 */
+	ShardedOperations<T> parallel(ForkJoinPool pool, int shards);
+
 	/**
 	 * True if predicate matches all elements when Monad converted to a Stream
 	 * 
@@ -2166,7 +2297,44 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 * @return A reactive-streams Subscriber
 	 */
 	public static <T> CyclopsSubscriber<T> subscriber() {
-		return ReactiveStreamsLoader.subscriber.get().subscribe();
+		return new SequenceMSubscriber<>();
+	}
+	/**
+	 * Create a subscriber that buffers at most prefetch elements, requesting more as its SequenceM is consumed
+	 * 
+	 * @see SequenceM#subscriber()
+	 * @param prefetch Maximum number of elements to buffer
+	 * @return A reactive-streams Subscriber
+	 */
+	public static <T> CyclopsSubscriber<T> subscriber(int prefetch) {
+		return new SequenceMSubscriber<>(prefetch);
+	}
+	/**
+	 * Create a Publisher that emits the elements of this Sequence on the supplied Executor, strictly according to the demand
+	 * signalled by its Subscriber. (subscribe(Subscriber) emits synchronously, on the thread that requests elements).
+	 * 
+	 * <pre>
+	 * {@code
+	 *   CyclopsSubscriber<Integer> sub = SequenceM.subscriber();
+	 *   SequenceM.of(1,2,3).publisher(exec).subscribe(sub);
+	 *   sub.sequenceM().forEach(System.out::println);
+	 * }
+	 * </pre>
+	 * 
+	 * @param exec Executor to emit elements on
+	 * @return A reactive-streams Publisher, that can be subscribed to once
+	 */
+	default Publisher<T> publisher(Executor exec) {
+		return SequenceMPublisher.ofAsync(this,exec);
+	}
+	/**
+	 * @see SequenceM#publisher(Executor)
+	 * @param exec Executor to emit elements on
+	 * @param batchSize Maximum number of elements to emit per task submitted to the Executor
+	 * @return A reactive-streams Publisher, that can be subscribed to once
+	 */
+	default Publisher<T> publisher(Executor exec, int batchSize) {
+		return SequenceMPublisher.ofAsync(this,exec,batchSize);
 	}
 
 	public static <T> SequenceM<T> empty(){
@@ -2224,6 +2392,7 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 *            Number of range to start from
 	 * @param end
 	 *            Number for range to end at
+	 * @see IntSequenceM#range(int, int) for an unboxed alternative
 	 * @return Range SequenceM
 	 */
 	public static SequenceM<Integer> range(int start, int end) {
@@ -2240,6 +2409,7 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 *            Number of range to start from
 	 * @param end
 	 *            Number for range to end at
+	 * @see LongSequenceM#range(long, long) for an unboxed alternative
 	 * @return Range SequenceM
 	 */
 	public static SequenceM<Long> rangeLong(long start, long end) {
@@ -2267,6 +2437,7 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 * 
 	 * @param stream
 	 *            Stream to construct Sequence from
+	 * @see IntSequenceM#fromIntStream(IntStream) for an unboxed alternative
 	 * @return
 	 */
 	public static SequenceM<Integer> fromIntStream(IntStream stream) {
@@ -2279,6 +2450,7 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 * 
 	 * @param stream
 	 *            Stream to construct Sequence from
+	 * @see LongSequenceM#fromLongStream(LongStream) for an unboxed alternative
 	 * @return
 	 */
 	public static SequenceM<Long> fromLongStream(LongStream stream) {
@@ -2291,6 +2463,7 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 * 
 	 * @param stream
 	 *            Stream to construct Sequence from
+	 * @see DoubleSequenceM#fromDoubleStream(DoubleStream) for an unboxed alternative
 	 * @return
 	 */
 	public static SequenceM<Double> fromDoubleStream(DoubleStream stream) {
@@ -2336,6 +2509,95 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 		return fromIterable(() -> iterator);
 	}
 
+	/**
+	 * Construct a Sequence of the (UTF-8) lines in a File. The File is memory mapped and scanned for line delimiters directly.
+	 * SequenceM is sequential, but the unwrapped Stream can be made parallel - the file is then split into chunks by byte range and 
+	 * each chunk decoded concurrently.
+	 * 
+	 * <pre>
+	 * {@code 
+	 *   long errors = SequenceM.lines(new File("server.log"))
+	 *                          .<Stream<String>>unwrap()
+	 *                          .parallel()
+	 *                          .filter(line->line.contains("ERROR"))
+	 *                          .count();
+	 * }
+	 * </pre>
+	 * 
+	 * @param file File to read lines from (the Sequence should be closed after use)
+	 * @return SequenceM of lines
+	 */
+	public static SequenceM<String> lines(File file) {
+		Objects.requireNonNull(file);
+		return SequenceMFactory.instance.sequenceM(MappedLineSpliterator.lines(file.toPath(),StandardCharsets.UTF_8), null);
+	}
+	/**
+	 * Construct a Sequence of the lines in a File, where each line is a CharSequence view over the memory mapped file
+	 * (no String is allocated per line). Each byte is treated as an ISO-8859-1 character, so this is intended for ASCII / Latin-1 data.
+	 * 
+	 * @see SequenceM#lines(File)
+	 * @param file File to read lines from (the Sequence should be closed after use)
+	 * @return SequenceM of line views
+	 */
+	public static SequenceM<CharSequence> lineViews(File file) {
+		Objects.requireNonNull(file);
+		return SequenceMFactory.instance.sequenceM(MappedLineSpliterator.lineViews(file.toPath()), null);
+	}
+	/**
+	 * Construct a Sequence that reads a ResultSet row by row, mapping each row as it is read.
+	 * The ResultSet is closed when the last row has been read, or when the Sequence is closed.
+	 *
+	 * <pre>
+	 * {@code
+	 *   try(SequenceM<Object[]> rows = SequenceM.fromResultSet(statement.executeQuery(),RowMapper.columns("id","name"))){
+	 *       rows.forEach(this::export);
+	 *   }
+	 * }
+	 * </pre>
+	 *
+	 * @param resultSet ResultSet to read
+	 * @param mapper Maps each row (prepared once, before the first row is read)
+	 * @return SequenceM of mapped rows
+	 */
+	public static <T> SequenceM<T> fromResultSet(ResultSet resultSet, RowMapper<T> mapper) {
+		Objects.requireNonNull(resultSet);
+		Objects.requireNonNull(mapper);
+		return SequenceMFactory.instance.sequenceM(ResultSetSpliterator.stream(resultSet,null,mapper), null);
+	}
+	/**
+	 * Construct a Sequence that executes a query with the supplied fetch size, and reads the results row by row.
+	 * The Sequence takes ownership of the statement, the ResultSet and statement are closed when the last row has been read, or
+	 * when the Sequence is closed.
+	 *
+	 * @param statement Query to execute
+	 * @param fetchSize Number of rows the driver should fetch from the database at a time
+	 * @param mapper Maps each row (prepared once, before the first row is read)
+	 * @return SequenceM of mapped rows
+	 */
+	public static <T> SequenceM<T> fromResultSet(PreparedStatement statement, int fetchSize, RowMapper<T> mapper) {
+		Objects.requireNonNull(mapper);
+		return SequenceMFactory.instance.sequenceM(ResultSetSpliterator.stream(ResultSetSpliterator.executeQuery(statement,fetchSize),
+																				statement,mapper), null);
+	}
+	/**
+	 * Construct a Sequence that executes a query with the supplied fetch size, and emits the mapped rows in Lists of (at most) batchSize
+	 * for bulk processing. Equivalent to fromResultSet(statement,fetchSize,mapper).batchBySize(batchSize).
+	 *
+	 * @see SequenceM#fromResultSet(PreparedStatement, int, RowMapper)
+	 * @param statement Query to execute
+	 * @param fetchSize Number of rows the driver should fetch from the database at a time
+	 * @param mapper Maps each row (prepared once, before the first row is read)
+	 * @param batchSize Number of rows per List
+	 * @return SequenceM of batches of mapped rows
+	 */
+	public static <T> SequenceM<List<T>> fromResultSet(PreparedStatement statement, int fetchSize, RowMapper<T> mapper, int batchSize) {
+		Objects.requireNonNull(mapper);
+		if(batchSize<1)
+			throw new IllegalArgumentException("batchSize must be at least 1, was " + batchSize);
+		return SequenceMFactory.instance.sequenceM(ResultSetSpliterator.batches(ResultSetSpliterator.executeQuery(statement,fetchSize),
+																				statement,mapper,batchSize), null);
+	}
+
 	/**
 	 * @see Stream#iterate(Object, UnaryOperator)
 	 */
@@ -2946,6 +3208,45 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 */
 	SequenceM<Streamable<T>> windowByTime(long time, TimeUnit t);
 
+	/**
+	 * For each element, emit the reduction (using the supplied Monoid) of all elements received within the specified time,
+	 * including the current element. Partial reductions are kept on two stacks so each step costs amortised O(1).
+	 * 
+	 * @param time
+	 *            window duration
+	 * @param t
+	 *            time unit of the window
+	 * @param monoid
+	 *            Monoid to reduce each window with
+	 * @return SequenceM of reduced windows
+	 */
+	SequenceM<T> slidingReduceByTime(long time, TimeUnit t, Monoid<T> monoid);
+
+	/**
+	 * For each element, emit the reduction (using the supplied Monoid) of all elements received within the specified time,
+	 * including the current element. Expired elements are removed using the inverse function.
+	 * 
+	 * <pre>
+	 * {@code
+	 *  SequenceM.of(1,2,3,4)
+	 *  		 .slidingReduceByTime(1,TimeUnit.SECONDS,Reducers.toTotalInt(),(total,removed)->total-removed)
+	 *  		 .toList();
+	 *  //[1,3,6,10]
+	 * }
+	 * </pre>
+	 * 
+	 * @param time
+	 *            window duration
+	 * @param t
+	 *            time unit of the window
+	 * @param monoid
+	 *            Monoid to reduce each window with
+	 * @param inverse
+	 *            Removes an element from a reduction
+	 * @return SequenceM of reduced windows
+	 */
+	SequenceM<T> slidingReduceByTime(long time, TimeUnit t, Monoid<T> monoid, BinaryOperator<T> inverse);
+
 	/**
 	 * Create a SequenceM batched by List, where each batch is populated until
 	 * the predicate holds
@@ -3235,6 +3536,9 @@ public interface SequenceM<T> extends Unwrapable, Stream<T>, Functor<T>, Foldabl
 	 * 
 	 * 
 	 * 
+	 * To drive large numbers of scheduled Streams from a small, fixed number of threads use a shared
+	 * {@link com.aol.cyclops.scheduling.HashedWheelTimer} as the ScheduledExecutorService.
+	 * 
 	 * @param cron
 	 *            Expression that determines when each job will run
 	 * @param ex
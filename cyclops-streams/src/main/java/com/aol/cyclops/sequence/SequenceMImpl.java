@@ -14,6 +14,7 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -35,6 +36,7 @@ import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jooq.lambda.Collectable;
 import org.jooq.lambda.Seq;
@@ -49,10 +51,12 @@ import com.aol.cyclops.comprehensions.donotation.typed.Do;
 import com.aol.cyclops.lambda.monads.ComprehenderSelector;
 import com.aol.cyclops.monad.AnyM;
 import com.aol.cyclops.sequence.future.FutureOperations;
-import com.aol.cyclops.sequence.reactivestreams.ReactiveStreamsLoader;
+import com.aol.cyclops.sequence.parallel.ShardedOperations;
+import com.aol.cyclops.sequence.reactivestreams.SequenceMPublisher;
 import com.aol.cyclops.sequence.streamable.AsStreamable;
 import com.aol.cyclops.sequence.streamable.Streamable;
 import com.aol.cyclops.streams.StreamUtils;
+import com.aol.cyclops.streams.spliterators.IndexedSpliterator;
 import com.aol.cyclops.streams.spliterators.ReversableSpliterator;
 
 public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
@@ -177,7 +181,7 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	 * @return Stream with values repeated
 	 */
 	public final SequenceM<T> cycle(int times) {
-		return StreamUtils.sequenceM(StreamUtils.cycle(times,AsStreamable.fromStream(stream)),reversable);
+		return StreamUtils.sequenceM(StreamUtils.cycle(stream,times),reversable);
 	}
 	/**
 	 * Convert to a Stream with the values infinitely cycled
@@ -256,6 +260,24 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 					.map3(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
 					.map4(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())));
 	}
+	public final Tuple2<SequenceM<T>,SequenceM<T>> duplicateSequence(long capacity, BufferPolicy policy){
+		Tuple2<Stream<T>,Stream<T>> tuple = StreamUtils.duplicate(stream,capacity,policy);
+		return tuple.map1(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
+			  	.map2(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())));
+	}
+	public final Tuple3<SequenceM<T>,SequenceM<T>,SequenceM<T>> triplicate(long capacity, BufferPolicy policy){
+		Tuple3<Stream<T>,Stream<T>,Stream<T>> tuple = StreamUtils.triplicate(stream,capacity,policy);
+		return tuple.map1(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
+					.map2(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
+					.map3(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())));
+	}
+	public final Tuple4<SequenceM<T>,SequenceM<T>,SequenceM<T>,SequenceM<T>> quadruplicate(long capacity, BufferPolicy policy){
+		Tuple4<Stream<T>,Stream<T>,Stream<T>,Stream<T>> tuple = StreamUtils.quadruplicate(stream,capacity,policy);
+		return tuple.map1(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
+				  	.map2(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
+					.map3(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())))
+					.map4(s->StreamUtils.sequenceM(s,reversable.map(r->r.copy())));
+	}
 	/**
 	 * Split a Stream at it's head (similar to headAndTail)
 	 * <pre>
@@ -477,7 +499,7 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	 * </pre>
 	 */
 	public final  SequenceM<Tuple2<T,Long>> zipWithIndex(){
-		return zipStream(LongStream.iterate(0, i->i+1),(a,b)->new Tuple2<>(a,b));
+		return StreamUtils.sequenceM(StreamSupport.stream(new IndexedSpliterator<>(stream.spliterator()),stream.isParallel()).onClose(stream::close),Optional.empty());
 	}
 	/**
 	 * Generic zip function. E.g. Zipping a Stream and an Optional
@@ -597,6 +619,15 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	public final SequenceM<List<T>> sliding(int windowSize,int increment) {
 		return StreamUtils.sequenceM(StreamUtils.sliding(stream,windowSize,increment),reversable);
 	}
+	public final SequenceM<List<T>> slidingView(int windowSize,int increment) {
+		return StreamUtils.sequenceM(StreamUtils.slidingView(stream,windowSize,increment),Optional.empty());
+	}
+	public final SequenceM<T> slidingReduce(int windowSize,Monoid<T> monoid) {
+		return StreamUtils.sequenceM(StreamUtils.slidingReduce(stream,windowSize,monoid),Optional.empty());
+	}
+	public final SequenceM<T> slidingReduce(int windowSize,Monoid<T> monoid,BinaryOperator<T> inverse) {
+		return StreamUtils.sequenceM(StreamUtils.slidingReduce(stream,windowSize,monoid,inverse),Optional.empty());
+	}
 
 	/**
 	 * Group elements in a Stream
@@ -838,6 +869,9 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	public final SequenceM<T> parallel(){
 		return this;
 	}
+	public final ShardedOperations<T> parallel(ForkJoinPool pool, int shards){
+		return StreamUtils.shardedOperations(stream,pool,shards);
+	}
 	
 	/**
 	 * True if predicate matches all elements when Monad converted to a Stream
@@ -1580,8 +1614,7 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	 * 
 	 */
 	public  SequenceM<T> intersperse(T value) {
-	
-		return StreamUtils.sequenceM(stream.flatMap(t -> Stream.of(value,t)).skip(1l),reversable);
+		return StreamUtils.sequenceM(StreamUtils.intersperse(stream,value),reversable);
 	}
 	/**
 	 * Keep only those elements in a stream that are of a given type.
@@ -1669,12 +1702,11 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	@Override
 	public SequenceM<T> onClose(Runnable closeHandler) {
 		
-		return this;
+		return StreamUtils.sequenceM(stream.onClose(closeHandler),reversable);
 	}
 	@Override
 	public void close() {
-		
-		
+		stream.close();
 	}
 
 	public SequenceM<T> shuffle() {
@@ -1828,7 +1860,7 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 
 	@Override
 	public void subscribe(Subscriber<? super T> s) {
-		 ReactiveStreamsLoader.publisher.get().subscribe(stream,s);	
+		SequenceMPublisher.ofSync(stream).subscribe(s);
 	}
 
 
@@ -2042,6 +2074,12 @@ public class SequenceMImpl<T> implements Unwrapable, SequenceM<T>, Iterable<T>{
 	public SequenceM<Streamable<T>> windowByTime(long time, TimeUnit t) {
 		return StreamUtils.sequenceM(StreamUtils.windowByTime(stream, time,t), this.reversable);
 	}
+	public SequenceM<T> slidingReduceByTime(long time, TimeUnit t, Monoid<T> monoid) {
+		return StreamUtils.sequenceM(StreamUtils.slidingReduceByTime(stream,time,t,monoid),Optional.empty());
+	}
+	public SequenceM<T> slidingReduceByTime(long time, TimeUnit t, Monoid<T> monoid, BinaryOperator<T> inverse) {
+		return StreamUtils.sequenceM(StreamUtils.slidingReduceByTime(stream,time,t,monoid,inverse),Optional.empty());
+	}
 
 	@Override
 	public SequenceM<List<T>> batchUntil(Predicate<? super T> predicate) {
@@ -105,6 +105,14 @@ public interface FutureOperations<T> extends
 	 * 
 	 */
 	public <R, A> CompletableFuture<R> collect(Collector<? super T, A, R> collector);
+	/**
+	 * Traverse the Stream in chunks, yielding the Executor thread (by resubmitting the remaining work) after each chunk
+	 * of elements so concurrent operations share the Executor fairly.
+	 * 
+	 * @param chunkSize Number of elements to process per task (0 to traverse the Stream in a single task)
+	 * @return FutureOperations that traverse in chunks
+	 */
+	public FutureOperations<T> withChunkSize(int chunkSize);
 	
 	
 	/**
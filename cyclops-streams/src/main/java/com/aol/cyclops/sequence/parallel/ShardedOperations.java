@@ -0,0 +1,164 @@
+package com.aol.cyclops.sequence.parallel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.sequence.Monoid;
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * Sharded parallel execution for a SequenceM. The source is partitioned into shards, and the operator chain is run
+ * independently for each shard on a ForkJoinPool.
+ *
+ * By default shards are contiguous ranges of the source, and merging them in shard order gives the same result
+ * as running the operator chain sequentially. Aggregations (groupBy, distinct, joins, mapReduce) are pre-aggregated within
+ * each shard, and only the per shard results are merged.
+ *
+ * <pre>
+ * {@code
+ *  Map<Integer,List<Integer>> groups = SequenceM.range(0,1_000_000)
+ *  											 .parallel(ForkJoinPool.commonPool(),4)
+ *  											 .map(i->i*2)
+ *  											 .groupBy(i->i%10);
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public interface ShardedOperations<T> {
+
+	/**
+	 * @return Number of shards
+	 */
+	int shards();
+
+	/**
+	 * Transform each element, within its shard
+	 *
+	 * @param fn Mapping function
+	 * @return Sharded operations over the transformed elements
+	 */
+	<R> ShardedOperations<R> map(Function<? super T, ? extends R> fn);
+
+	/**
+	 * Transform each element into a Stream and flatten, within its shard
+	 *
+	 * @param fn FlatMapping function
+	 * @return Sharded operations over the flattened elements
+	 */
+	<R> ShardedOperations<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn);
+
+	/**
+	 * Keep only elements that match the predicate, within each shard
+	 *
+	 * @param p Predicate to filter by
+	 * @return Sharded operations over the matching elements
+	 */
+	ShardedOperations<T> filter(Predicate<? super T> p);
+
+	/**
+	 * Apply an operator chain to each shard independently. Stateful operators
+	 * (e.g. windowWhile, scanLeft, sliding) see only the elements of their own shard.
+	 *
+	 * <pre>
+	 * {@code
+	 *  SequenceM.of(1,2,3,4,5,6)
+	 *  		 .parallel(pool,2)
+	 *  		 .shardLocal(s->s.scanLeft(0,(a,b)->a+b))
+	 *  		 .toList();
+	 *
+	 *  //[0,1,3,6,0,4,9,15]
+	 * }
+	 * </pre>
+	 *
+	 * @param fn Operator chain to apply to each shard
+	 * @return Sharded operations over the results of the operator chain
+	 */
+	<R> ShardedOperations<R> shardLocal(Function<? super SequenceM<T>, ? extends Stream<R>> fn);
+
+	/**
+	 * Re-partition the elements into shards based on the hashCode of the supplied key. Elements with equal keys
+	 * end up in the same shard (in their original relative order), but results are no longer merged in source order.
+	 *
+	 * @param key Function that determines the key for each element
+	 * @return Sharded operations partitioned by key
+	 */
+	ShardedOperations<T> shardBy(Function<? super T, ?> key);
+
+	/**
+	 * @return All elements, with shards merged in shard order (for range based shards this is source order)
+	 */
+	SequenceM<T> sequenceM();
+
+	/**
+	 * @return All elements, with shards merged in the order in which they complete
+	 */
+	SequenceM<T> unordered();
+
+	/**
+	 * @return All elements as a List, merged in shard order
+	 */
+	List<T> toList();
+
+	/**
+	 * @return Number of elements (counted within each shard)
+	 */
+	long count();
+
+	/**
+	 * Remove duplicate elements. Duplicates are first removed within each shard, and the remaining elements
+	 * merged in shard order (keeping the first occurrence of each).
+	 *
+	 * @return Distinct elements
+	 */
+	SequenceM<T> distinct();
+
+	/**
+	 * Group elements by key. Each shard is grouped independently and the groups merged in shard order.
+	 *
+	 * @param classifier Function that determines the key for each element
+	 * @return Map of keys to the elements with that key
+	 */
+	<K> Map<K, List<T>> groupBy(Function<? super T, ? extends K> classifier);
+
+	/**
+	 * Reduce each shard with the supplied Monoid (see {@link SequenceM#mapReduce(Monoid)}), and combine the shard results
+	 * in shard order.
+	 *
+	 * @param reducer Monoid to reduce with
+	 * @return Reduced result
+	 */
+	<R> R mapReduce(Monoid<R> reducer);
+
+	/**
+	 * Map and reduce each shard with the supplied Monoid (see {@link SequenceM#mapReduce(Function,Monoid)}), and combine the
+	 * shard results in shard order.
+	 *
+	 * @param mapper Function to map each element to the reduction type
+	 * @param reducer Monoid to reduce with
+	 * @return Reduced result
+	 */
+	<R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer);
+
+	/**
+	 * Inner join each shard with the supplied Stream (which is collected once and shared by all shards)
+	 *
+	 * @see SequenceM#innerJoin(Stream, BiPredicate)
+	 */
+	<U> SequenceM<Tuple2<T, U>> innerJoin(Stream<U> other, BiPredicate<? super T, ? super U> predicate);
+
+	/**
+	 * Left outer join each shard with the supplied Stream (which is collected once and shared by all shards)
+	 *
+	 * @see SequenceM#leftOuterJoin(Stream, BiPredicate)
+	 */
+	<U> SequenceM<Tuple2<T, U>> leftOuterJoin(Stream<U> other, BiPredicate<? super T, ? super U> predicate);
+}
@@ -4,6 +4,12 @@ import java.util.Iterator;
 import java.util.Optional;
 import java.util.ServiceLoader;
 
+/**
+ * Discovers ReactiveStreamsPublisher / ReactiveStreamsSubscriber implementations via ServiceLoader
+ * 
+ * @deprecated SequenceM publishes and subscribes natively, see SequenceMPublisher and SequenceMSubscriber
+ */
+@Deprecated
 public class ReactiveStreamsLoader {
 	
 	public final static Optional<ReactiveStreamsSubscriber> subscriber = loadSubscriber();
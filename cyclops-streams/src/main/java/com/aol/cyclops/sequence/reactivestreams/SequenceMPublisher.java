@@ -0,0 +1,239 @@
+package com.aol.cyclops.sequence.reactivestreams;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A Reactive Streams Publisher that pulls elements from a Stream's Spliterator strictly according to the demand signalled
+ * via Subscription#request. The Stream can be subscribed to once, and is closed when the Subscription completes, fails or is cancelled.
+ *
+ * Synchronous publishers emit on the thread that calls request. Asynchronous publishers emit on the supplied Executor, yielding
+ * the thread after each batch of elements so long running Streams share the Executor fairly.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements published
+ */
+public class SequenceMPublisher<T> implements Publisher<T> {
+
+	static final int DEFAULT_BATCH_SIZE = 256;
+
+	private final Stream<T> stream;
+	private final Executor exec;
+	private final int batchSize;
+	private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+	private SequenceMPublisher(Stream<T> stream, Executor exec, int batchSize){
+		this.stream = stream;
+		this.exec = exec;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * This creates a synchronous publisher that publishes on the thread requesting elements.
+	 *
+	 * @param stream JDK Stream to turn into a Reactive Streams Publisher
+	 * @return Reactive Streams Publisher
+	 */
+	public static <T> SequenceMPublisher<T> ofSync(Stream<T> stream){
+		Objects.requireNonNull(stream);
+		return new SequenceMPublisher<>(stream,null,DEFAULT_BATCH_SIZE);
+	}
+	/**
+	 * This creates an asynchronous publisher that publishes on the supplied Executor
+	 *
+	 * @param stream JDK Stream to turn into a Reactive Streams Publisher
+	 * @param exec Executor to publish on
+	 * @return Reactive Streams Publisher
+	 */
+	public static <T> SequenceMPublisher<T> ofAsync(Stream<T> stream, Executor exec){
+		return ofAsync(stream,exec,DEFAULT_BATCH_SIZE);
+	}
+	/**
+	 * This creates an asynchronous publisher that publishes on the supplied Executor
+	 *
+	 * @param stream JDK Stream to turn into a Reactive Streams Publisher
+	 * @param exec Executor to publish on
+	 * @param batchSize Maximum number of elements emitted per task submitted to the Executor
+	 * @return Reactive Streams Publisher
+	 */
+	public static <T> SequenceMPublisher<T> ofAsync(Stream<T> stream, Executor exec, int batchSize){
+		Objects.requireNonNull(stream);
+		Objects.requireNonNull(exec);
+		if(batchSize<1)
+			throw new IllegalArgumentException("batchSize must be at least 1, was " + batchSize);
+		return new SequenceMPublisher<>(stream,exec,batchSize);
+	}
+
+	/*
+	 * @param s Reactive Streams subscriber
+	 * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+	 */
+	@Override
+	public void subscribe(Subscriber<? super T> s) {
+		Objects.requireNonNull(s);
+		if(!subscribed.compareAndSet(false,true)){
+			s.onSubscribe(new Subscription(){
+				@Override
+				public void request(long n) {}
+				@Override
+				public void cancel() {}
+			});
+			s.onError(new IllegalStateException("SequenceMPublisher only supports a single Subscriber"));
+			return;
+		}
+		s.onSubscribe(new StreamSubscription<>(stream,s,exec,batchSize));
+	}
+
+	/*
+	 * Outstanding demand doubles as the drain lock, the thread that raises it from zero owns emission until it falls back to zero
+	 */
+	private static final class StreamSubscription<T> implements Subscription, Consumer<T>, Runnable{
+		private final Stream<T> stream;
+		private final Executor exec;
+		private final int batchSize;
+		private final AtomicLong requested = new AtomicLong();
+		private Subscriber<? super T> subscriber;
+		private Spliterator<T> spliterator;
+		private volatile boolean cancelled;
+		private volatile Throwable invalidRequest;
+		private long emitted;
+
+		StreamSubscription(Stream<T> stream, Subscriber<? super T> subscriber, Executor exec, int batchSize){
+			this.stream = stream;
+			this.subscriber = subscriber;
+			this.exec = exec;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public void request(long n) {
+			if(n<=0){
+				invalidRequest = new IllegalArgumentException("3.9 Requested " + n + ", while demand must be positive");
+				n = 1;
+			}
+			for(;;){
+				long current = requested.get();
+				if(current==Long.MAX_VALUE)
+					return;
+				long next = current+n;
+				if(next<0)
+					next = Long.MAX_VALUE;
+				if(requested.compareAndSet(current,next)){
+					if(current==0)
+						dispatch();
+					return;
+				}
+			}
+		}
+
+		@Override
+		public void cancel() {
+			if(!cancelled){
+				cancelled = true;
+				request(1);
+			}
+		}
+
+		@Override
+		public void accept(T t) {
+			if(t==null)
+				throw new NullPointerException("2.13 Streams published to a Subscriber can not contain null");
+			subscriber.onNext(t);
+		}
+
+		@Override
+		public void run() {
+			long demand = requested.get();
+			int batch = 0;
+			for(;;){
+				while(emitted!=demand){
+					if(terminated())
+						return;
+					if(exec!=null && batch==batchSize){
+						yieldDrain();
+						return;
+					}
+					try{
+						if(spliterator==null)
+							spliterator = stream.spliterator();
+						if(!spliterator.tryAdvance(this)){
+							close().onComplete();
+							return;
+						}
+					}catch(Throwable t){
+						close().onError(t);
+						return;
+					}
+					emitted++;
+					batch++;
+				}
+				if(terminated())
+					return;
+				demand = requested.get();
+				if(demand==emitted){
+					demand = requested.addAndGet(-emitted);
+					emitted = 0;
+					if(demand==0)
+						return;
+				}
+			}
+		}
+		private boolean terminated(){
+			if(subscriber==null)
+				return true;
+			if(invalidRequest!=null && !cancelled){
+				close().onError(invalidRequest);
+				return true;
+			}
+			if(cancelled){
+				close();
+				return true;
+			}
+			return false;
+		}
+		/*
+		 * Hand the remaining demand to a new task, so other work on the Executor can run
+		 */
+		private void yieldDrain(){
+			if(requested.get()!=Long.MAX_VALUE){
+				long remaining = requested.addAndGet(-emitted);
+				emitted = 0;
+				if(remaining==0)
+					return;
+			}
+			dispatch();
+		}
+		private void dispatch(){
+			if(exec==null){
+				run();
+				return;
+			}
+			try{
+				exec.execute(this);
+			}catch(RuntimeException e){
+				close().onError(e);
+			}
+		}
+		/*
+		 * Release the Stream and the Subscriber (3.13), returning the Subscriber so it can be sent a terminal signal
+		 */
+		private Subscriber<? super T> close(){
+			Subscriber<? super T> s = subscriber;
+			cancelled = true;
+			subscriber = null;
+			spliterator = null;
+			stream.close();
+			return s;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.aol.cyclops.sequence.reactivestreams;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.sequence.SequenceM;
+
+/**
+ * A Reactive Streams Subscriber that buffers at most prefetch elements, and can be consumed as a SequenceM.
+ *
+ * The Subscriber requests prefetch elements when subscribed, and requests more in batches as the SequenceM consumes them,
+ * so the buffer never grows beyond prefetch. Closing the SequenceM cancels the Subscription.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements received
+ */
+public class SequenceMSubscriber<T> implements CyclopsSubscriber<T> {
+
+	static final int DEFAULT_PREFETCH = 256;
+	private static final Object COMPLETE = new Object();
+
+	private final int limit;
+	private final int prefetch;
+	private final ArrayBlockingQueue<Object> queue;
+	private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+	public SequenceMSubscriber(){
+		this(DEFAULT_PREFETCH);
+	}
+	/**
+	 * @param prefetch Maximum number of elements to buffer
+	 */
+	public SequenceMSubscriber(int prefetch){
+		if(prefetch<1)
+			throw new IllegalArgumentException("prefetch must be at least 1, was " + prefetch);
+		this.prefetch = prefetch;
+		this.limit = Math.max(1,prefetch/2);
+		this.queue = new ArrayBlockingQueue<>(prefetch+1);
+	}
+
+	@Override
+	public void onSubscribe(Subscription s) {
+		Objects.requireNonNull(s);
+		if(!subscription.compareAndSet(null,s)){
+			s.cancel();
+			return;
+		}
+		s.request(prefetch);
+	}
+
+	@Override
+	public void onNext(T t) {
+		Objects.requireNonNull(t);
+		if(!queue.offer(t)){
+			subscription.get().cancel();
+			queue.clear();
+			queue.offer(new Failure(new IllegalStateException("Received more elements than the " + prefetch + " requested")));
+		}
+	}
+
+	@Override
+	public void onError(Throwable t) {
+		Objects.requireNonNull(t);
+		queue.offer(new Failure(t));
+	}
+
+	@Override
+	public void onComplete() {
+		queue.offer(COMPLETE);
+	}
+
+	/*
+	 * @return SequenceM of the elements received, blocking until each is available
+	 * @see com.aol.cyclops.sequence.reactivestreams.CyclopsSubscriber#sequenceM()
+	 */
+	@Override
+	public SequenceM<T> sequenceM() {
+		return SequenceM.fromStream(StreamSupport.stream(new Buffer(),false)
+												.onClose(this::cancel));
+	}
+	private void cancel(){
+		Subscription s = subscription.get();
+		if(s!=null)
+			s.cancel();
+	}
+
+	private final class Buffer extends Spliterators.AbstractSpliterator<T>{
+		private int consumed;
+		private boolean done;
+
+		Buffer(){
+			super(Long.MAX_VALUE,Spliterator.ORDERED | Spliterator.NONNULL);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if(done)
+				return false;
+			Object next;
+			try {
+				next = queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw ExceptionSoftener.throwSoftenedException(e);
+			}
+			if(next==COMPLETE){
+				done = true;
+				return false;
+			}
+			if(next instanceof Failure){
+				done = true;
+				throw ExceptionSoftener.throwSoftenedException(((Failure)next).error);
+			}
+			if(++consumed==limit){
+				consumed = 0;
+				subscription.get().request(limit);
+			}
+			action.accept((T)next);
+			return true;
+		}
+	}
+	private static final class Failure{
+		final Throwable error;
+
+		Failure(Throwable error){
+			this.error = error;
+		}
+	}
+}
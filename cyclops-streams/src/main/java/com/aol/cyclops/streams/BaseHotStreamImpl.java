@@ -1,6 +1,7 @@
 package com.aol.cyclops.streams;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.Executor;
@@ -9,11 +10,12 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import uk.co.real_logic.agrona.concurrent.OneToOneConcurrentArrayQueue;
-
 import com.aol.cyclops.sequence.HotStream;
+import com.aol.cyclops.sequence.HotStreamConnection;
+import com.aol.cyclops.sequence.OverflowPolicy;
 import com.aol.cyclops.sequence.SequenceM;
 import com.aol.cyclops.streams.spliterators.ClosingSpliterator;
+import com.aol.cyclops.streams.spliterators.FanOutSpliterator;
 
 public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T> implements HotStream<T>{
 
@@ -54,7 +56,20 @@ public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T> implemen
 	
 	@Override
 	public SequenceM<T> connect(){
-		return connect(new OneToOneConcurrentArrayQueue<T>(256));
+		return connect(OverflowPolicy.DROP_NEWEST);
+	}
+	
+	@Override
+	public SequenceM<T> connect(OverflowPolicy policy){
+		FanOutBuffer.Reader<T> reader = fanOut.connect(policy);
+		unpause();
+		return StreamUtils.sequenceM(StreamSupport.stream(
+                new FanOutSpliterator<>(fanOut,reader), false).onClose(reader::disconnect),Optional.empty());
+	}
+	
+	@Override
+	public List<HotStreamConnection> connectionStats(){
+		return fanOut.connections();
 	}
 	
 	@Override
@@ -0,0 +1,126 @@
+package com.aol.cyclops.streams;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable Collection that is lazily populated from an Iterator, and can be iterated by many threads concurrently.
+ *
+ * Materialised values are stored in append-only chunks (each twice the size of the last), and only the thread that
+ * advances the source Iterator takes a lock. Reading values that have already been materialised is lock free - readers
+ * check a published size and read directly from the chunks.
+ *
+ * <pre>
+ * {@code
+ *   Collection<Rate> rates = SequenceM.fromStream(loadRates()).toConcurrentLazyCollection();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <A> Data type of the elements
+ */
+public class ConcurrentLazyCollection<A> extends AbstractCollection<A> {
+
+	private static final int FIRST_SHIFT = 4;
+	private static final int FIRST_CHUNK = 1 << FIRST_SHIFT;
+
+	private final Iterator<A> source;
+	/** chunk k holds FIRST_CHUNK << k values, written before size is published */
+	private final Object[][] chunks = new Object[32-FIRST_SHIFT][];
+	private volatile int size = 0;
+	private volatile boolean complete = false;
+
+	public ConcurrentLazyCollection(Iterator<A> source){
+		this.source = source;
+	}
+
+	@Override
+	public Iterator<A> iterator() {
+		return new Iterator<A>(){
+			int current = 0;
+			@Override
+			public boolean hasNext() {
+				return current<size || (!complete && advance(current));
+			}
+
+			@Override
+			public A next() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				return get(current++);
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		if(!complete){
+			Iterator<A> it = iterator();
+			while(it.hasNext())
+				it.next();
+		}
+		return size;
+	}
+
+	@Override
+	public boolean equals(Object o){
+		if(o==this)
+			return true;
+		if(!(o instanceof Collection))
+			return false;
+		Iterator<A> it1 = iterator();
+		Iterator<?> it2 = ((Collection<?>)o).iterator();
+		while(it1.hasNext()){
+			if(!it2.hasNext() || !Objects.equals(it1.next(),it2.next()))
+				return false;
+		}
+		return !it2.hasNext();
+	}
+
+	@Override
+	public int hashCode(){
+		int hashCode = 1;
+		for(A next : this)
+			hashCode = 31*hashCode + Objects.hashCode(next);
+		return hashCode;
+	}
+
+	/**
+	 * Materialise the value at the supplied index, if the source has one
+	 *
+	 * @return true if a value exists at index
+	 */
+	private synchronized boolean advance(int index){
+		if(index<size)
+			return true;
+		if(complete)
+			return false;
+		if(!source.hasNext()){
+			complete = true;
+			return false;
+		}
+		append(source.next());
+		return true;
+	}
+
+	private void append(A value){
+		int index = size;
+		int pos = index + FIRST_CHUNK;
+		int chunk = 31 - Integer.numberOfLeadingZeros(pos) - FIRST_SHIFT;
+		if(chunks[chunk]==null)
+			chunks[chunk] = new Object[FIRST_CHUNK << chunk];
+		chunks[chunk][pos - (FIRST_CHUNK << chunk)] = value;
+		size = index+1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private A get(int index){
+		int pos = index + FIRST_CHUNK;
+		int chunk = 31 - Integer.numberOfLeadingZeros(pos) - FIRST_SHIFT;
+		return (A)chunks[chunk][pos - (FIRST_CHUNK << chunk)];
+	}
+}
@@ -0,0 +1,281 @@
+package com.aol.cyclops.streams;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import com.aol.cyclops.sequence.HotStreamConnection;
+import com.aol.cyclops.sequence.OverflowPolicy;
+
+/**
+ * Single producer / multi consumer ring buffer used to fan the output of a HotStream out to
+ * it's connections. Each value is written once into a shared array and every connected Reader
+ * advances it's own cursor over that array. When a Reader falls a full buffer behind the producer
+ * it's OverflowPolicy decides whether the producer waits, the Reader loses values, or the Reader is
+ * temporarily served from a private buffer.
+ *
+ * Only a single thread may call publish / complete at any one time.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of values published
+ */
+public class FanOutBuffer<T> {
+
+	private static final Object NIL = new Object();
+
+	private static final long PENDING = -1l;
+	private static final long DETACHED = -2l;
+
+	private final Object[] buffer;
+	private final int mask;
+	private final int capacity;
+
+	private volatile long published = 0;
+	private volatile boolean complete = false;
+
+	private final Queue<Reader<T>> joining = new ConcurrentLinkedQueue<>();
+	private final List<Reader<T>> readers = new ArrayList<>();
+	private final List<HotStreamConnection> connections = new CopyOnWriteArrayList<>();
+
+
+	public FanOutBuffer(int capacity){
+		int size = 1;
+		while(size<capacity)
+			size = size << 1;
+		this.capacity = size;
+		this.mask = size-1;
+		this.buffer = new Object[size];
+	}
+
+	/**
+	 * Register a new Reader, the Reader will see all values published after the producer next
+	 * attempts to publish
+	 *
+	 * @param policy OverflowPolicy for the new Reader
+	 * @return Reader
+	 */
+	public Reader<T> connect(OverflowPolicy policy){
+		Reader<T> reader = new Reader<>(this,policy);
+		connections.add(reader);
+		joining.add(reader);
+		return reader;
+	}
+
+	/**
+	 * @return Statistics for each currently connected Reader
+	 */
+	public List<HotStreamConnection> connections(){
+		return Collections.unmodifiableList(connections);
+	}
+
+	/**
+	 * Convert a non-null value returned by {@link Reader#poll()} back into the published value
+	 *
+	 * @param polled Value returned by poll
+	 * @return published value
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T unwrap(Object polled){
+		return polled==NIL ? null : (T)polled;
+	}
+
+	public boolean isComplete(){
+		return complete;
+	}
+
+	/**
+	 * Signal that no more values will be published
+	 */
+	public void complete(){
+		complete = true;
+	}
+
+	/**
+	 * Publish the next value to all connected Readers
+	 *
+	 * @param value to publish
+	 */
+	public void publish(T value){
+		final long seq = published;
+		attachJoining(seq);
+		if(readers.size()==0){
+			return;
+		}
+		final long wrap = seq - capacity;
+		for(Reader<T> reader : readers){
+			long cursor = reader.cursor;
+			if(cursor>=0 && cursor<=wrap)
+				reader.overflow(wrap,seq);
+		}
+		buffer[(int)seq & mask] = value==null ? NIL : value;
+		for(Reader<T> reader : readers){
+			if(reader.cursor==DETACHED)
+				reader.offerDetached(value,seq);
+		}
+		published = seq+1;
+	}
+
+	private void attachJoining(long seq){
+		Reader<T> next;
+		while((next = joining.poll())!=null){
+			if(next.connected){
+				Reader.CURSOR.set(next, seq);
+				readers.add(next);
+			}
+		}
+		Iterator<Reader<T>> it = readers.iterator();
+		while(it.hasNext()){
+			if(!it.next().connected)
+				it.remove();
+		}
+	}
+
+	/**
+	 * A connection to the FanOutBuffer, each Reader should only be consumed by a single thread
+	 *
+	 * @param <T> Data type of values read
+	 */
+	public static class Reader<T> implements HotStreamConnection{
+
+		@SuppressWarnings("rawtypes")
+		static final AtomicLongFieldUpdater<Reader> CURSOR = AtomicLongFieldUpdater.newUpdater(Reader.class, "cursor");
+
+		private final FanOutBuffer<T> fanOut;
+		private final OverflowPolicy policy;
+		private volatile long cursor = PENDING;
+		private volatile long dropped = 0;
+		private volatile boolean connected = true;
+
+		/** values awaiting a detached Reader, guarded by this */
+		private final ArrayDeque<Object> detached = new ArrayDeque<>();
+		/** sequence a detached Reader should rejoin the shared buffer from, guarded by this */
+		private long resumeFrom = 0;
+
+		Reader(FanOutBuffer<T> fanOut, OverflowPolicy policy) {
+			this.fanOut = fanOut;
+			this.policy = policy;
+		}
+
+		/**
+		 * @return Next available value, NIL for a published null, or null if no value is available yet
+		 */
+		public Object poll(){
+			for(;;){
+				long c = cursor;
+				if(c==PENDING)
+					return null;
+				if(c==DETACHED){
+					synchronized(this){
+						if(cursor==DETACHED){
+							Object next = detached.poll();
+							if(next!=null)
+								return next;
+							CURSOR.set(this, Math.max(fanOut.published, resumeFrom));
+						}
+					}
+					continue;
+				}
+				if(c>=fanOut.published)
+					return null;
+				Object next = fanOut.buffer[(int)c & fanOut.mask];
+				if(CURSOR.compareAndSet(this, c, c+1))
+					return next;
+			}
+		}
+
+		/**
+		 * Stop receiving values, a producer blocked on this Reader will be released
+		 */
+		public void disconnect(){
+			connected = false;
+			fanOut.connections.remove(this);
+		}
+
+		@Override
+		public boolean isConnected(){
+			return connected;
+		}
+
+		@Override
+		public OverflowPolicy policy() {
+			return policy;
+		}
+
+		@Override
+		public long lag() {
+			long c = cursor;
+			if(c==PENDING)
+				return 0;
+			if(c==DETACHED){
+				synchronized(this){
+					return detached.size();
+				}
+			}
+			return Math.max(0, fanOut.published - c);
+		}
+
+		@Override
+		public long dropped() {
+			return dropped;
+		}
+
+		private void overflow(long wrap,long seq){
+			switch(policy){
+			case BLOCK:
+				long nanos = 1;
+				while(connected && cursor>=0 && cursor<=wrap){
+					LockSupport.parkNanos(nanos);
+					nanos = Math.min(nanos*2, 1_000_000);
+				}
+				return;
+			case DROP_OLDEST:
+				for(;;){
+					long c = cursor;
+					if(c<0 || c>wrap)
+						return;
+					if(CURSOR.compareAndSet(this, c, wrap+1)){
+						dropped = dropped + (wrap+1-c);
+						return;
+					}
+				}
+			default:
+				detach(wrap,seq);
+			}
+		}
+
+		private synchronized void detach(long wrap,long seq){
+			for(;;){
+				long c = cursor;
+				if(c<0 || c>wrap)
+					return;
+				List<Object> unread = new ArrayList<>((int)(seq-c));
+				for(long i=c;i<seq;i++)
+					unread.add(fanOut.buffer[(int)i & fanOut.mask]);
+				if(CURSOR.compareAndSet(this, c, DETACHED)){
+					detached.addAll(unread);
+					resumeFrom = seq;
+					return;
+				}
+			}
+		}
+
+		private synchronized void offerDetached(T value,long seq){
+			if(cursor!=DETACHED)
+				return;
+			if(policy==OverflowPolicy.SPILL)
+				detached.add(value==null ? NIL : value);
+			else
+				dropped = dropped+1;
+			resumeFrom = seq+1;
+		}
+
+	}
+}
@@ -1,18 +1,17 @@
 package com.aol.cyclops.streams;
 
-import java.util.Date;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
-import com.aol.cyclops.invokedynamic.ExceptionSoftener;
-import com.aol.cyclops.scheduling.util.cron.CronExpression;
+import com.aol.cyclops.scheduling.util.cron.CompiledCron;
 
 
 public class IteratorHotStream<T> {
@@ -21,6 +20,7 @@ public class IteratorHotStream<T> {
 	protected final AtomicBoolean open =new AtomicBoolean(true);
 	protected volatile int connected=0;
 	protected final AtomicReference<CompletableFuture<Void>> pause = new AtomicReference<>(CompletableFuture.<Void>completedFuture(null));
+	protected final FanOutBuffer<T> fanOut = new FanOutBuffer<>(256);
 
 	
 	
@@ -37,11 +37,32 @@ public class IteratorHotStream<T> {
 		pause.set(new CompletableFuture<Void>());
 	}
 	
+	protected void publish(T next){
+		int local = connected;
+		for(int i=0;i<local;i++){
+			connections.get(i).offer(next);
+		}
+		fanOut.publish(next);
+	}
+	protected void complete(){
+		open.set(false);
+		fanOut.complete();
+	}
+	
+	private void cancel(AtomicReference<ScheduledFuture<?>> scheduled){
+		ScheduledFuture<?> future = scheduled.get();
+		if(future!=null)
+			future.cancel(false);
+	}
+	
 	protected void scheduleInternal(Iterator<T> it, String cron,ScheduledExecutorService ex){
-		Date now = new Date();
-		Date d = ExceptionSoftener.softenSupplier(()->new CronExpression(cron)).get().getNextValidTimeAfter(now);
-		
-		long delay = d.getTime() - now.getTime(); 
+		long now = System.currentTimeMillis();
+		long fireTime = CompiledCron.of(cron).nextFireAfter(now);
+		if(fireTime<0){
+			complete();
+			return;
+		}
+		long delay = fireTime - now; 
 		
 		ex.schedule(()->{
 			synchronized(it){
@@ -49,13 +70,7 @@ public class IteratorHotStream<T> {
 					try{
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-							connections.get(i).offer(next);
-						}
-						
+						publish(next);
 					}
 					finally{
 						
@@ -63,7 +78,7 @@ public class IteratorHotStream<T> {
 						
 					}
 				 }else{
-					 open.set(false);
+					 complete();
 				 }
 			}
 		}, delay, TimeUnit.MILLISECONDS);
@@ -73,49 +88,39 @@ public class IteratorHotStream<T> {
 	
 	
 	protected IteratorHotStream<T>  scheduleFixedDelayInternal(Iterator<T> it,long delay,ScheduledExecutorService ex){
-		 ex.scheduleWithFixedDelay(()->{
+		 final AtomicReference<ScheduledFuture<?>> scheduled = new AtomicReference<>();
+		 scheduled.set(ex.scheduleWithFixedDelay(()->{
 			 synchronized(it){
 				if(it.hasNext()){
 					
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-							connections.get(i).offer(next);
-						}
-						
-					
+						publish(next);
 				}else{
-					 open.set(false);
+					 complete();
+					 cancel(scheduled);
 				 }
 			 }
-		}, delay,delay,TimeUnit.MILLISECONDS);
+		}, delay,delay,TimeUnit.MILLISECONDS));
 		 return this;
 		
 	}
 	
 	protected IteratorHotStream<T> scheduleFixedRate(Iterator<T> it,long rate,ScheduledExecutorService ex){	
-		 ex.scheduleAtFixedRate(()->{
+		 final AtomicReference<ScheduledFuture<?>> scheduled = new AtomicReference<>();
+		 scheduled.set(ex.scheduleAtFixedRate(()->{
 			 synchronized(it){
 				if(it.hasNext()){
 					
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-							connections.get(i).offer(next);
-						}
-						
-					
+						publish(next);
 				}else{
-					 open.set(false);
+					 complete();
+					 cancel(scheduled);
 				 }
 			 }
-		}, 0,rate,TimeUnit.MILLISECONDS);
+		}, 0,rate,TimeUnit.MILLISECONDS));
 		 return this;
 		
 	}
@@ -16,17 +16,10 @@ public class NonPausableHotStream<T>  extends BaseHotStreamImpl<T> {
 			pause.get().join();
 			stream.forEach(a->{
 					
-					int local = connected;
-					
-					for(int i=0;i<local;i++){
-					
-						connections.get(i).offer(a);
-					}
-					
-					
+					publish(a);
 				});
 				
-				open.set(false); 
+				complete(); 
 				
 					
 		},exec);
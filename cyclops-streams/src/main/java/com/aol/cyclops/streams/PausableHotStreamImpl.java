@@ -17,17 +17,10 @@ public class PausableHotStreamImpl<T> extends BaseHotStreamImpl<T> implements Pa
 			
 			stream.forEach(a->{
 					pause.get().join();
-					int local = connected;
-					
-					for(int i=0;i<local;i++){
-					
-						connections.get(i).offer(a);
-					}
-					
-					
+					publish(a);
 				});
 				
-				open.set(false); 
+				complete(); 
 				
 					
 		},exec);
@@ -0,0 +1,221 @@
+package com.aol.cyclops.streams;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.sequence.BufferPolicy;
+
+/**
+ * Shares a single Iterator between a fixed number of copies (readers). Values are pulled from the source by whichever
+ * reader is leading, and stored in fixed size array segments. Each reader keeps its own cursor into the buffer, and a
+ * segment is released as soon as every reader has moved past it - so memory use is proportional to the distance
+ * between the fastest and slowest readers, rather than to the length of the Stream.
+ *
+ * An optional capacity limits how far the leading reader may get ahead of the slowest reader.
+ *
+ * <pre>
+ * {@code
+ *   List<Iterator<String>> copies = new SegmentedBuffer<>(lines.iterator(),3,100_000,BufferPolicy.BLOCK).readers();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the source
+ */
+public class SegmentedBuffer<T> {
+
+	private static final int SHIFT = 8;
+	private static final int SEGMENT_SIZE = 1 << SHIFT;
+	private static final int MASK = SEGMENT_SIZE-1;
+
+	private final Iterator<T> source;
+	private final List<Reader> readers;
+	private final long capacity;
+	private final BufferPolicy policy;
+
+	/** ring of live segments, the first holds the value at index base */
+	private Object[][] segments = new Object[4][];
+	private int first = 0;
+	private int segmentCount = 0;
+	private long base = 0;
+	/** number of values pulled from the source */
+	private long head = 0;
+	private int waiting = 0;
+
+	/**
+	 * Construct an unbounded buffer
+	 *
+	 * @param source Iterator to share
+	 * @param copies Number of readers
+	 */
+	public SegmentedBuffer(Iterator<T> source, int copies){
+		this(source,copies,Long.MAX_VALUE,BufferPolicy.FAIL);
+	}
+	/**
+	 * @param source Iterator to share
+	 * @param copies Number of readers
+	 * @param capacity Maximum number of values the leading reader may be ahead of the slowest reader
+	 * @param policy What to do when the leading reader reaches capacity
+	 */
+	public SegmentedBuffer(Iterator<T> source, int copies, long capacity, BufferPolicy policy){
+		if(copies<1 || capacity<1)
+			throw new IllegalArgumentException("copies and capacity must be positive");
+		this.source = source;
+		this.capacity = capacity;
+		this.policy = policy;
+		this.readers = new ArrayList<>(copies);
+		for(int i=0;i<copies;i++)
+			readers.add(new Reader(Long.MAX_VALUE));
+	}
+
+	/**
+	 * @return One Iterator per copy
+	 */
+	public List<Reader> readers(){
+		return readers;
+	}
+
+	/**
+	 * @return Number of values currently held for lagging readers
+	 */
+	public synchronized long buffered(){
+		return head - base;
+	}
+
+	private long slowest(){
+		long min = head;
+		for(Reader r : readers){
+			if(r.cursor<r.limit && r.cursor<min)
+				min = r.cursor;
+		}
+		return min;
+	}
+
+	private void release(){
+		long min = slowest();
+		while(segmentCount>0 && base+SEGMENT_SIZE<=min){
+			segments[first] = null;
+			first = (first+1) % segments.length;
+			segmentCount--;
+			base += SEGMENT_SIZE;
+		}
+		if(waiting>0)
+			notifyAll();
+	}
+
+	private void awaitCapacity(Reader reader){
+		while(reader.cursor==head && head-slowest()>=capacity){
+			if(policy==BufferPolicy.FAIL)
+				throw new IllegalStateException("Buffer capacity of " + capacity + " exceeded, a copy of this Stream is lagging too far behind");
+			waiting++;
+			try{
+				ExceptionSoftener.softenRunnable(()->wait()).run();
+			}finally{
+				waiting--;
+			}
+		}
+	}
+
+	private void append(T value){
+		int offset = (int)(head & MASK);
+		if(offset==0){
+			if(segmentCount==segments.length)
+				grow();
+			segments[(first+segmentCount) % segments.length] = new Object[SEGMENT_SIZE];
+			segmentCount++;
+		}
+		segments[(first+segmentCount-1) % segments.length][offset] = value;
+		head++;
+	}
+
+	private void grow(){
+		Object[][] larger = new Object[segments.length*2][];
+		for(int i=0;i<segmentCount;i++)
+			larger[i] = segments[(first+i) % segments.length];
+		segments = larger;
+		first = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T get(long index){
+		int segment = (int)((index-base) >>> SHIFT);
+		return (T)segments[(first+segment) % segments.length][(int)(index & MASK)];
+	}
+
+	/**
+	 * A single copy of the source Iterator
+	 */
+	public class Reader implements Iterator<T>{
+		private long cursor = 0;
+		/** values at or beyond this index do not need to be retained for this reader */
+		private long limit;
+
+		Reader(long limit){
+			this.limit = limit;
+		}
+
+		/**
+		 * Only values before the supplied position will be buffered for this reader, if it falls behind beyond
+		 * that point it skips ahead to the leading reader
+		 *
+		 * @param limit Position beyond which values are not retained for this reader
+		 */
+		public void retainUntil(long limit){
+			synchronized(SegmentedBuffer.this){
+				this.limit = limit;
+			}
+		}
+
+		/**
+		 * Stop retaining values for this reader
+		 */
+		public void close(){
+			synchronized(SegmentedBuffer.this){
+				limit = 0;
+				release();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			synchronized(SegmentedBuffer.this){
+				skipUnretained();
+				return cursor<head || source.hasNext();
+			}
+		}
+
+		@Override
+		public T next() {
+			synchronized(SegmentedBuffer.this){
+				skipUnretained();
+				if(cursor<head){
+					T value = get(cursor++);
+					advanced();
+					return value;
+				}
+				awaitCapacity(this);
+				if(cursor<head)
+					return next();
+				T value = source.next();
+				append(value);
+				cursor++;
+				advanced();
+				return value;
+			}
+		}
+
+		private void skipUnretained(){
+			if(cursor>=limit && cursor<head){
+				cursor = head;
+				release();
+			}
+		}
+		private void advanced(){
+			if((cursor & MASK)==0 || waiting>0)
+				release();
+		}
+	}
+}
@@ -20,11 +20,13 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -35,7 +37,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import lombok.AllArgsConstructor;
 import lombok.val;
 import lombok.experimental.UtilityClass;
 
@@ -43,14 +44,12 @@ import org.jooq.lambda.Seq;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
-import org.pcollections.ConsPStack;
-import org.pcollections.PStack;
 import org.reactivestreams.Subscription;
 
-import com.aol.cyclops.closures.mutable.Mutable;
 import com.aol.cyclops.internal.AsGenericMonad;
 import com.aol.cyclops.invokedynamic.ExceptionSoftener;
 import com.aol.cyclops.monad.AnyM;
+import com.aol.cyclops.sequence.BufferPolicy;
 import com.aol.cyclops.sequence.HeadAndTail;
 import com.aol.cyclops.sequence.HotStream;
 import com.aol.cyclops.sequence.Monoid;
@@ -60,9 +59,11 @@ import com.aol.cyclops.sequence.SeqUtils;
 import com.aol.cyclops.sequence.SequenceM;
 import com.aol.cyclops.sequence.SequenceMImpl;
 import com.aol.cyclops.sequence.future.FutureOperations;
+import com.aol.cyclops.sequence.parallel.ShardedOperations;
 import com.aol.cyclops.sequence.streamable.AsStreamable;
 import com.aol.cyclops.sequence.streamable.Streamable;
 import com.aol.cyclops.streams.future.FutureOperationsImpl;
+import com.aol.cyclops.streams.parallel.ShardedOperationsImpl;
 import com.aol.cyclops.streams.operators.BatchBySizeOperator;
 import com.aol.cyclops.streams.operators.BatchByTimeAndSizeOperator;
 import com.aol.cyclops.streams.operators.BatchByTimeOperator;
@@ -81,7 +82,14 @@ import com.aol.cyclops.streams.operators.SkipWhileTimeOperator;
 import com.aol.cyclops.streams.operators.WindowByTimeAndSizeOperator;
 import com.aol.cyclops.streams.operators.WindowStatefullyWhileOperator;
 import com.aol.cyclops.streams.operators.WindowWhileOperator;
+import com.aol.cyclops.streams.spliterators.CyclingSpliterator;
+import com.aol.cyclops.streams.spliterators.DeleteBetweenSpliterator;
+import com.aol.cyclops.streams.spliterators.InsertAtSpliterator;
+import com.aol.cyclops.streams.spliterators.IntersperseSpliterator;
 import com.aol.cyclops.streams.spliterators.ReversableSpliterator;
+import com.aol.cyclops.streams.spliterators.SlidingReduceByTimeSpliterator;
+import com.aol.cyclops.streams.spliterators.SlidingReduceSpliterator;
+import com.aol.cyclops.streams.spliterators.SlidingSpliterator;
 
 @UtilityClass 
 public class StreamUtils{
@@ -455,6 +463,24 @@ public class StreamUtils{
 		Tuple2<Iterator<T>,Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator());	
 		return new Tuple2(StreamUtils.stream(Tuple2.v1()),StreamUtils.stream(Tuple2.v2()));
 	}
+	/**
+	 * Duplicate a Stream, with an upper bound on the number of values buffered for the lagging copy.
+	 * <pre>
+	 * {@code 
+	 *  Tuple2<Stream<String>,Stream<String>> copies = StreamUtils.duplicate(lines,10_000,BufferPolicy.BLOCK);
+	 *  executor.submit(()->copies.v1.forEach(this::index));
+	 *  copies.v2.forEach(this::archive);
+	 * }
+	 * </pre>
+	 * 
+	 * @param capacity Maximum number of values the leading copy may be ahead of the lagging copy
+	 * @param policy What to do when the leading copy reaches capacity
+	 * @return duplicated stream
+	 */
+	public final static <T> Tuple2<Stream<T>,Stream<T>> duplicate(Stream<T> stream,long capacity,BufferPolicy policy){
+		List<Stream<T>> copies = copies(stream,2,capacity,policy);
+		return new Tuple2(copies.get(0),copies.get(1));
+	}
 	private final static <T> Tuple2<Stream<T>,Stream<T>> duplicatePos(Stream<T> stream,int pos){
 		
 		Tuple2<Iterator<T>,Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator(),pos);	
@@ -481,6 +507,18 @@ public class StreamUtils{
 		return new Tuple3(it.next(),it.next(),it.next());
 		
 	}
+	/**
+	 * Triplicates a Stream, with an upper bound on the number of values buffered for lagging copies.
+	 * 
+	 * @param capacity Maximum number of values the leading copy may be ahead of the slowest copy
+	 * @param policy What to do when the leading copy reaches capacity
+	 * @return Three copies of the Stream
+	 */
+	@SuppressWarnings("unchecked")
+	public final static <T> Tuple3<Stream<T>,Stream<T>,Stream<T>> triplicate(Stream<T> stream,long capacity,BufferPolicy policy){
+		List<Stream<T>> copies = copies(stream,3,capacity,policy);
+		return new Tuple3(copies.get(0),copies.get(1),copies.get(2));
+	}
 	/**
 	 * Makes four copies of a Stream
 	 * Buffers intermediate values, leaders may change positions so a limit
@@ -503,6 +541,24 @@ public class StreamUtils{
 		Iterator<Stream<T>> it = its.iterator();
 		return new Tuple4(it.next(),it.next(),it.next(),it.next());
 	}
+	/**
+	 * Makes four copies of a Stream, with an upper bound on the number of values buffered for lagging copies.
+	 * 
+	 * @param capacity Maximum number of values the leading copy may be ahead of the slowest copy
+	 * @param policy What to do when the leading copy reaches capacity
+	 * @return Four copies of the Stream
+	 */
+	@SuppressWarnings("unchecked")
+	public final static <T> Tuple4<Stream<T>,Stream<T>,Stream<T>,Stream<T>> quadruplicate(Stream<T> stream,long capacity,BufferPolicy policy){
+		List<Stream<T>> copies = copies(stream,4,capacity,policy);
+		return new Tuple4(copies.get(0),copies.get(1),copies.get(2),copies.get(3));
+	}
+	private final static <T> List<Stream<T>> copies(Stream<T> stream,int copies,long capacity,BufferPolicy policy){
+		return new SegmentedBuffer<>(stream.iterator(),copies,capacity,policy).readers()
+							.stream()
+							.map(it -> StreamUtils.stream(it).onClose(it::close))
+							.collect(Collectors.toList());
+	}
 	/**
 	 * Append Stream to this SequenceM
 	 * 
@@ -590,8 +646,7 @@ public class StreamUtils{
 	 * @return Stream with new data inserted
 	 */
 	public static final<T> Stream<T> insertAt(Stream<T> stream,int pos, T... values) {
-		Tuple2<Stream<T>,Stream<T>> Tuple2 = duplicatePos(stream,pos);
-		return appendStream(append(Tuple2.v1.limit(pos),values),Tuple2.v2.skip(pos));	
+		return StreamSupport.stream(new InsertAtSpliterator<>(stream.spliterator(),pos,values),stream.isParallel()).onClose(stream::close);
 	}
 	/**
 	 * Delete elements between given indexes in a Stream
@@ -609,8 +664,7 @@ public class StreamUtils{
 	 * @return Stream with elements removed
 	 */
 	public static final<T> Stream<T> deleteBetween(Stream<T> stream,int start,int end) {
-		Tuple2<Stream<T>,Stream<T>> Tuple2 = duplicatePos(stream,start);
-		return appendStream(Tuple2.v1.limit(start),Tuple2.v2.skip(end));	
+		return StreamSupport.stream(new DeleteBetweenSpliterator<>(stream.spliterator(),start,end),stream.isParallel()).onClose(stream::close);
 	}
 	
 	/**
@@ -853,6 +907,25 @@ public class StreamUtils{
 	public static <U> Stream<U> cycle(int times,Streamable<U> s){
 		return Stream.iterate(s.stream(),s1-> s.stream()).limit(times).flatMap(Function.identity());
 	}
+	/**
+	 * Create a Stream that finitely cycles the provided Stream, provided number of times.
+	 * The first pass over the Stream is recorded and replayed, and if the Stream is SIZED
+	 * so is the result.
+	 * 
+	 * <pre>
+	 * {@code 
+	 * assertThat(StreamUtils.cycle(Stream.of(1,2,2),3)
+								.collect(Collectors.toList()),
+									equalTo(Arrays.asList(1,2,2,1,2,2,1,2,2)));
+	 * }
+	 * </pre>
+	 * @param s Stream to cycle
+	 * @param times number of times to cycle
+	 * @return New cycling stream
+	 */
+	public static <U> Stream<U> cycle(Stream<U> s,int times){
+		return StreamSupport.stream(new CyclingSpliterator<>(s.spliterator(),times),s.isParallel()).onClose(s::close);
+	}
 	
 	/**
 	 * Create a stream from an iterable
@@ -940,6 +1013,9 @@ public class StreamUtils{
 	public final static <T> FutureOperations<T> futureOperations(Stream<T> stream,Executor exec){
 		return new FutureOperationsImpl<T>(exec,sequenceM(stream,Optional.empty()));
 	}
+	public final static <T> ShardedOperations<T> shardedOperations(Stream<T> stream,ForkJoinPool pool,int shards){
+		return ShardedOperationsImpl.ofRange(stream,pool,shards);
+	}
 	public final static <T> T firstValue(Stream<T> stream){
 		return stream.findAny().get();
 	}
@@ -1216,29 +1292,71 @@ public class StreamUtils{
 	 * @return Stream with sliding view 
 	 */
 	public final static <T> Stream<List<T>> sliding(Stream<T> stream,int windowSize,int increment) {
-		Iterator<T> it = stream.iterator();
-		Mutable<PStack<T>> list = Mutable.of(ConsPStack.empty());
-		return StreamUtils.stream(new Iterator<List<T>>(){
-			
-			@Override
-			public boolean hasNext() {
-				return it.hasNext();
-			}
-
-			@Override
-			public List<T> next() {
-				for(int i=0;i<increment && list.get().size()>0;i++)
-					 list.mutate(var -> var.minus(0));
-				for (int i = 0; list.get().size() < windowSize && it.hasNext(); i++) {
-					if(it.hasNext()){
-						list.mutate(var -> var.plus(Math.max(0,var.size()),it.next()));
-					}
-					
-				}
-				return list.get();
-			}
-			
-		});
+		return StreamSupport.stream(new SlidingSpliterator<>(stream.spliterator(),windowSize,increment),stream.isParallel()).onClose(stream::close);
+	}
+	/**
+	 * Create a sliding view over this Stream, that reuses a single List view over a ring buffer for every window.
+	 * Each window is only valid until the next one is requested - copy it to retain it.
+	 * <pre>
+	 * {@code 
+	 * List<Integer> sums = StreamUtils.slidingView(Stream.of(1,2,3,4,5,6),2,1)
+										.map(w->w.get(0)+w.get(1))
+										.collect(Collectors.toList());
+		
+		assertThat(sums,equalTo(Arrays.asList(3,5,7,9,11)));
+	 * }
+	 * </pre>
+	 * @param windowSize
+	 *            Size of sliding window
+	 * @param increment
+	 *            for each window
+	 * @return Stream with a reused sliding view 
+	 */
+	public final static <T> Stream<List<T>> slidingView(Stream<T> stream,int windowSize,int increment) {
+		return StreamSupport.stream(new SlidingSpliterator<>(stream.spliterator(),windowSize,increment,true),stream.isParallel()).onClose(stream::close);
+	}
+	/**
+	 * Reduce each sliding window (of windowSize elements, with an increment of 1) with the supplied Monoid.
+	 * Equivalent to sliding(stream,windowSize).map(w->monoid.reduce(w.stream())), but uses two stacks
+	 * of partial reductions so each step costs amortised O(1). The Monoid must be associative.
+	 * <pre>
+	 * {@code 
+	 * List<Integer> max = StreamUtils.slidingReduce(Stream.of(1,5,2,3,1),2,Monoid.of(Integer.MIN_VALUE,Math::max))
+										.collect(Collectors.toList());
+		
+		assertThat(max,equalTo(Arrays.asList(5,5,3,3)));
+	 * }
+	 * </pre>
+	 * @param windowSize
+	 *            Size of sliding window
+	 * @param monoid
+	 *            Monoid to reduce each window with
+	 * @return Stream of reduced windows
+	 */
+	public final static <T> Stream<T> slidingReduce(Stream<T> stream,int windowSize,Monoid<T> monoid) {
+		return StreamSupport.stream(new SlidingReduceSpliterator<>(stream.spliterator(),windowSize,monoid),stream.isParallel()).onClose(stream::close);
+	}
+	/**
+	 * Reduce each sliding window (of windowSize elements, with an increment of 1) with the supplied Monoid,
+	 * removing elements that leave the window with the inverse function so each step costs O(1).
+	 * <pre>
+	 * {@code 
+	 * List<Integer> sums = StreamUtils.slidingReduce(Stream.of(1,2,3,4),2,Reducers.toTotalInt(),(total,removed)->total-removed)
+										.collect(Collectors.toList());
+		
+		assertThat(sums,equalTo(Arrays.asList(3,5,7)));
+	 * }
+	 * </pre>
+	 * @param windowSize
+	 *            Size of sliding window
+	 * @param monoid
+	 *            Monoid to reduce each window with
+	 * @param inverse
+	 *            Removes an element from a reduction
+	 * @return Stream of reduced windows
+	 */
+	public final static <T> Stream<T> slidingReduce(Stream<T> stream,int windowSize,Monoid<T> monoid,BinaryOperator<T> inverse) {
+		return StreamSupport.stream(new SlidingReduceSpliterator<>(stream.spliterator(),windowSize,monoid,inverse),stream.isParallel()).onClose(stream::close);
 	}
 	/**
 	 * Create a sliding view over this Stream
@@ -1258,29 +1376,7 @@ public class StreamUtils{
 	 * @return Stream with sliding view over monad
 	 */
 	public final static <T> Stream<Streamable<T>> window(Stream<T> stream,int windowSize,int increment) {
-		Iterator<T> it = stream.iterator();
-		Mutable<PStack<T>> list = Mutable.of(ConsPStack.empty());
-		return StreamUtils.stream(new Iterator<Streamable<T>>(){
-			
-			@Override
-			public boolean hasNext() {
-				return it.hasNext();
-			}
-
-			@Override
-			public Streamable<T> next() {
-				for(int i=0;i<increment && list.get().size()>0;i++)
-					 list.mutate(var -> var.minus(0));
-				for (int i = 0; list.get().size() < windowSize && it.hasNext(); i++) {
-					if(it.hasNext()){
-						list.mutate(var -> var.plus(Math.max(0,var.size()),it.next()));
-					}
-					
-				}
-				return Streamable.fromIterable(list.get());
-			}
-			
-		});
+		return sliding(stream,windowSize,increment).map(Streamable::fromIterable);
 	}
 	/**
 	 * Create a sliding view over this Stream
@@ -1610,7 +1706,7 @@ public class StreamUtils{
 	 * </pre>
 	 */
 	public static <T> Stream<T> intersperse(Stream<T> stream, T value) {
-		return stream.flatMap(t -> Stream.of(value, t)).skip(1);
+		return StreamSupport.stream(new IntersperseSpliterator<>(stream.spliterator(),value),stream.isParallel()).onClose(stream::close);
 	}
 	/**
 	 * Keep only those elements in a stream that are of a given type.
@@ -1828,124 +1924,25 @@ public class StreamUtils{
 		 return toBufferingDuplicator(iterator,Long.MAX_VALUE);
 	 }
 	 public static final <A> Tuple2<Iterator<A>,Iterator<A>> toBufferingDuplicator(Iterator<A> iterator,long pos) {
-		 LinkedList<A> bufferTo = new LinkedList<A>();
-		 LinkedList<A> bufferFrom = new LinkedList<A>();
-		  return new Tuple2(new DuplicatingIterator(bufferTo,bufferFrom,iterator,Long.MAX_VALUE,0),
-				  new DuplicatingIterator(bufferFrom,bufferTo,iterator,pos,0));
+		 List<SegmentedBuffer<A>.Reader> readers = new SegmentedBuffer<>(iterator,2).readers();
+		 readers.get(0).retainUntil(pos);
+		 return new Tuple2(readers.get(0),readers.get(1));
 	 }
 	 public static final <A> List<Iterator<A>> toBufferingCopier(Iterator<A> iterator,int copies) {
-		List<Iterator<A>> result = new ArrayList<>();
-		List<CopyingIterator<A>> leaderboard = new LinkedList<>();
-		LinkedList<A> buffer = new LinkedList<>();
-		 for(int i=0;i<copies;i++)
-			 result.add(new CopyingIterator(iterator,leaderboard,buffer,copies));
-		 return result;
-	 }
-	
-	 @AllArgsConstructor
-	 static class DuplicatingIterator<T> implements Iterator<T>{
-		
-		 LinkedList<T> bufferTo;
-		 LinkedList<T> bufferFrom;
-		 Iterator<T> it;
-		 long otherLimit=Long.MAX_VALUE;
-		 long counter=0;
-		 
-
-		@Override
-		public boolean hasNext() {
-			if(bufferFrom.size()>0 || it.hasNext())
-				return true;
-			return false;
-		}
-
-		@Override
-		public T next() {
-			try{
-				if(bufferFrom.size()>0)
-					return bufferFrom.remove(0);
-				else{
-					T next = it.next();
-					if(counter<otherLimit)
-						bufferTo.add(next);
-					return next;
-				}
-			}finally{
-				counter++;
-			}
-		}
-		 
+		 return new ArrayList<>(new SegmentedBuffer<>(iterator,copies).readers());
 	 }
-	
-	 static class CopyingIterator<T> implements Iterator<T>{
-		
-		 
-		 LinkedList<T> buffer;
-		 Iterator<T> it;
-		 List<CopyingIterator<T>> leaderboard = new LinkedList<>();
-		 boolean added=  false;
-		 int total = 0;
-		 int counter=0;
-
-		@Override
-		public boolean hasNext() {
-			
-			if(isLeader())
-				return it.hasNext();
-			if(isLast())
-				return buffer.size()>0 || it.hasNext();
-			if(it.hasNext())
-				return true;
-			return counter < buffer.size();
-		}
-
-		private boolean isLeader() {
-			return leaderboard.size()==0 || this==leaderboard.get(0);
-		}
-		private boolean isLast() {
-			return leaderboard.size()==total && this==leaderboard.get(leaderboard.size()-1);
-		}
-
-		@Override
-		public T next() {
-			
-			if(!added){
-				
-				this.leaderboard.add(this);
-				added = true;
-			}
-			
-			if(isLeader()){
-				
-				return handleLeader();
-			}
-			if(isLast()){
-				
-				if(buffer.size()>0)
-					return buffer.poll();
-				return it.next();
-			}
-			if(counter< buffer.size())	
-				return buffer.get(counter++);
-			return handleLeader(); //exceed buffer, now leading
-				
-		 
-	 }
-
-		private T handleLeader() {
-			T next = it.next();
-			buffer.offer(next);
-			return next;
-		}
-
-		public CopyingIterator(Iterator<T> it,
-				List<CopyingIterator<T>> leaderboard,LinkedList<T> buffer,int total) {
-			
-			this.it = it;
-			this.leaderboard = leaderboard;
-			this.buffer = buffer;
-			this.total = total;
-		}
+	 /**
+	  * Create copies of the supplied Iterator that share a single buffer, with an upper bound on how far the leading copy
+	  * may get ahead of the slowest copy
+	  * 
+	  * @param iterator Iterator to copy
+	  * @param copies Number of copies
+	  * @param capacity Maximum number of values buffered for lagging copies
+	  * @param policy What to do when the leading copy reaches capacity
+	  * @return copies
+	  */
+	 public static final <A> List<Iterator<A>> toBufferingCopier(Iterator<A> iterator,int copies,long capacity,BufferPolicy policy) {
+		 return new ArrayList<>(new SegmentedBuffer<>(iterator,copies,capacity,policy).readers());
 	 }
 	 
 	 
@@ -1978,30 +1975,21 @@ public class StreamUtils{
 	  }
 	
 	  public final static <T> Stream<Streamable<T>> windowByTime(Stream<T> stream, long time, TimeUnit t){
-			Iterator<T> it = stream.iterator();
-			long toRun = t.toNanos(time);
-			return StreamUtils.stream(new Iterator<Streamable<T>>(){
-				long start = System.nanoTime();
-				@Override
-				public boolean hasNext() {
-					return it.hasNext();
-				}
-				@Override
-				public Streamable<T> next() {
-					
-					List<T> list = new ArrayList<>();
-					
-					while(System.nanoTime()-start< toRun && it.hasNext()){
-							list.add(it.next());
-					}
-					if(list.size()==0 && it.hasNext()) //time unit may be too small
-						list.add(it.next());
-					start = System.nanoTime();
-					
-					return Streamable.fromIterable(list);
-				}
-				
-			});
+			return batchByTime(stream,time,t).map(Streamable::fromIterable);
+	  }
+	  /**
+	   * For each element, emit the reduction (with the supplied Monoid) of all elements received within the
+	   * specified time. Each step costs amortised O(1), the Monoid must be associative.
+	   */
+	  public final static <T> Stream<T> slidingReduceByTime(Stream<T> stream, long time, TimeUnit t, Monoid<T> monoid){
+			return StreamSupport.stream(new SlidingReduceByTimeSpliterator<>(stream.spliterator(),t.toNanos(time),monoid),stream.isParallel()).onClose(stream::close);
+	  }
+	  /**
+	   * For each element, emit the reduction (with the supplied Monoid) of all elements received within the
+	   * specified time. Expired elements are removed with the inverse function, so each step costs O(1).
+	   */
+	  public final static <T> Stream<T> slidingReduceByTime(Stream<T> stream, long time, TimeUnit t, Monoid<T> monoid, BinaryOperator<T> inverse){
+			return StreamSupport.stream(new SlidingReduceByTimeSpliterator<>(stream.spliterator(),t.toNanos(time),monoid,inverse),stream.isParallel()).onClose(stream::close);
 	  }
 	  public final static <T> Stream<List<T>> batchByTime(Stream<T> stream, long time, TimeUnit t){
 			return new BatchByTimeOperator<T,List<T>>(stream).batchByTime(time,t);
@@ -6,7 +6,6 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 public class ToLazyCollection {
@@ -21,11 +20,11 @@ public class ToLazyCollection {
 		  	return toLazyCollection(stream.iterator());
 	  }	
 	  public static final <A> Collection<A> toLazyCollection(Iterator<A> iterator){
-		  return toLazyCollection(iterator,false);
+		  return lazyCollection(iterator);
 	  }
 	  /**
 	   * Lazily constructs a Collection from specified Stream. Collections iterator may be safely used
-	   * concurrently by multiple threads.
+	   * concurrently by multiple threads, values that have already been materialised are read without locking.
 	 * @param stream
 	 * @return
 	 */
@@ -33,9 +32,9 @@ public class ToLazyCollection {
 		  	return toConcurrentLazyCollection(stream.iterator());
 	  }	
 	  public static final <A> Collection<A> toConcurrentLazyCollection(Iterator<A> iterator){
-		  return toLazyCollection(iterator,true);
+		  return new ConcurrentLazyCollection<>(iterator);
 	  }
-	 private static final <A> Collection<A> toLazyCollection(Iterator<A> iterator,boolean concurrent) {
+	 private static final <A> Collection<A> lazyCollection(Iterator<A> iterator) {
 	    return new AbstractCollection<A>() {
 	    	
 	    @Override  
@@ -70,8 +69,6 @@ public class ToLazyCollection {
 	     
 	      volatile boolean complete=false;
 	      
-	      Object lock = new Object();
-	      ReentrantLock rlock = new ReentrantLock();
 	      public Iterator<A> iterator() {
 	    	  if(complete)
 	    		  return data.iterator();
@@ -79,53 +76,24 @@ public class ToLazyCollection {
 	    		int current = -1;
 				@Override
 				public boolean hasNext() {
-					
-					if(concurrent){
-						
-						rlock.lock();
-					}
-					try{
-						
-						if(current==data.size()-1 && !complete){
-							boolean result = iterator.hasNext();
-							complete = !result;
-							
-							return result;
-						}
-						if(current+1<data.size()){
-							
-							return true;
-						}
-						return false;
-					}finally{
-						if(concurrent)
-							rlock.unlock();
+					if(current==data.size()-1 && !complete){
+						boolean result = iterator.hasNext();
+						complete = !result;
+						return result;
 					}
+					return current+1<data.size();
 				}
 
-					@Override
-					public A next() {
-						
-						if (concurrent) {
-
-							rlock.lock();
-						}
-						try {
-							if (current < data.size() && !complete) {
-								if(iterator.hasNext())
-									data.add(iterator.next());
-
-								return data.get(++current);
-							}
-							current++;	
-							return data.get(current);
-						} finally {
-							
-							if (concurrent)
-								rlock.unlock();
-						}
-
+				@Override
+				public A next() {
+					if (current < data.size() && !complete) {
+						if(iterator.hasNext())
+							data.add(iterator.next());
+						return data.get(++current);
 					}
+					current++;
+					return data.get(current);
+				}
 
 				};
 	        
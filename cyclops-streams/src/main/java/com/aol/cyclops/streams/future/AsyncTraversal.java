@@ -0,0 +1,100 @@
+package com.aol.cyclops.streams.future;
+
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Runs a Collector over a Stream as a task on an Executor, pulling one element at a time from the Stream's Spliterator.
+ *
+ * With a chunk size set, the traversal yields the Executor thread after each chunk of elements by resubmitting itself,
+ * so many concurrent traversals share a pool fairly. Completing or cancelling the returned future stops the traversal
+ * before the next element is pulled. The Stream is closed once the traversal completes, fails or is cancelled.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Stream
+ * @param <A> Collector accumulation type
+ * @param <R> Result type
+ */
+final class AsyncTraversal<T,A,R> implements Runnable, Consumer<T> {
+
+	private final Stream<T> stream;
+	private final Executor exec;
+	private final int chunkSize;
+	private final Collector<? super T,A,R> collector;
+	private final BiConsumer<A,? super T> accumulator;
+	private final CompletableFuture<R> result = new CompletableFuture<>();
+	private Spliterator<T> spliterator;
+	private A container;
+
+	private AsyncTraversal(Stream<T> stream, Executor exec, int chunkSize, Collector<? super T,A,R> collector){
+		this.stream = stream;
+		this.exec = exec;
+		this.chunkSize = chunkSize;
+		this.collector = collector;
+		this.accumulator = collector.accumulator();
+	}
+
+	/**
+	 * @param stream Stream to traverse
+	 * @param exec Executor to traverse on
+	 * @param chunkSize Number of elements to process before yielding the Executor thread (0 to traverse without yielding)
+	 * @param collector Collector to apply
+	 * @return Future result, cancelling it stops the traversal
+	 */
+	static <T,A,R> CompletableFuture<R> collect(Stream<T> stream, Executor exec, int chunkSize, Collector<? super T,A,R> collector){
+		AsyncTraversal<T,A,R> traversal = new AsyncTraversal<>(stream,exec,chunkSize,collector);
+		traversal.submit();
+		return traversal.result;
+	}
+
+	@Override
+	public void run() {
+		try{
+			if(spliterator==null){
+				spliterator = stream.spliterator();
+				container = collector.supplier().get();
+			}
+			for(int i=0;chunkSize<=0 || i<chunkSize;i++){
+				if(result.isDone()){
+					stream.close();
+					return;
+				}
+				if(!spliterator.tryAdvance(this)){
+					stream.close();
+					result.complete(collector.finisher().apply(container));
+					return;
+				}
+			}
+		}catch(Throwable t){
+			fail(t);
+			return;
+		}
+		submit();
+	}
+	private void submit(){
+		try{
+			exec.execute(this);
+		}catch(Throwable t){
+			fail(t);
+		}
+	}
+	private void fail(Throwable t){
+		try{
+			stream.close();
+		}catch(Throwable closeFailure){
+			t.addSuppressed(closeFailure);
+		}
+		result.completeExceptionally(t);
+	}
+
+	@Override
+	public void accept(T t) {
+		accumulator.accept(container,t);
+	}
+}
@@ -7,6 +7,7 @@ import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -26,8 +27,10 @@ import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.reactivestreams.Subscription;
+import org.jooq.lambda.Agg;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -39,6 +42,15 @@ import com.aol.cyclops.streams.FutureStreamUtils;
 
 
 
+/**
+ * Terminal operations that run asynchronously on an Executor. Each operation is a single pass over the Stream, driven as a
+ * Collector by a task that pulls one element at a time (optionally yielding the Executor thread between chunks of elements).
+ * Cancelling a returned CompletableFuture stops the traversal.
+ * 
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Stream
+ */
 @AllArgsConstructor
 public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>, 
 						IntOperatorsMixin<T>, LongOperatorsMixin<T>,FutureOperations<T>{
@@ -47,6 +59,32 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	private final Executor exec;
 	@Getter
 	private final SequenceM<T> stream;
+	@Getter
+	private final int chunkSize;
+	
+	public FutureOperationsImpl(Executor exec, SequenceM<T> stream){
+		this(exec,stream,0);
+	}
+	
+	@Override
+	public FutureOperations<T> withChunkSize(int chunkSize){
+		if(chunkSize<0)
+			throw new IllegalArgumentException("chunkSize must not be negative, was " + chunkSize);
+		return new FutureOperationsImpl<>(exec,stream,chunkSize);
+	}
+	
+	private CompletableFuture<Optional<T>> first(Stream<T> s){
+		return AsyncTraversal.collect(s.limit(1),exec,chunkSize,Collectors.reducing((a,b)->a));
+	}
+	private static <T,U> Collector<T,?,U> fold(U seed, BiFunction<U, ? super T, U> function, BinaryOperator<U> combiner){
+		return Collector.<T,Object[],U>of(()->new Object[]{seed},
+										(a,t)->a[0]=function.apply((U)a[0],t),
+										(a,b)->{ a[0]=combiner.apply((U)a[0],(U)b[0]); return a; },
+										a->(U)a[0]);
+	}
+	private static <T> Comparator<T> naturalOrder(){
+		return (Comparator<T>)Comparator.naturalOrder();
+	}
 	
 	/**
 	 * Asynchronously convert  this Stream into a List
@@ -63,13 +101,13 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * @return Future List
 	 */
 	public CompletableFuture<List<T>> toList(){
-		return CompletableFuture.supplyAsync(()->stream.toList(),exec);
+		return collect(Collectors.toList());
 	}
 	/**
 	 * @return Last value in this Stream (must be non-empty)
 	 */
 	public CompletableFuture<T> lastValue(){
-		return CompletableFuture.supplyAsync(()->{ List<T> l= stream.toList(); return l.get(l.size()-1);},exec);
+		return collect(Collectors.reducing((a,b)->b)).thenApply(Optional::get);
 	}
 	
 	/**
@@ -77,8 +115,8 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 *         otherwise throws an UnsupportedOperationException
 	 */
 	public CompletableFuture<T> single(){
-		return CompletableFuture.supplyAsync(()->{ List<T> l= stream.toList(); if(l.size()==1){ return l.get(l.size()-1); }
-			throw new UnsupportedOperationException("single only works for Streams with a single value");},exec);
+		return AsyncTraversal.collect(stream.limit(2),exec,chunkSize,Collectors.toList()).thenApply(l->{ if(l.size()==1){ return l.get(0); }
+			throw new UnsupportedOperationException("single only works for Streams with a single value");});
 	}
 	
 	
@@ -97,7 +135,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * @return Future Set
 	 */
 	public CompletableFuture<Set<T>> toSet(){
-		return CompletableFuture.supplyAsync(()->stream.toSet(),exec);
+		return collect(Collectors.toSet());
 	}
 	
 	/**
@@ -106,7 +144,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * @see org.jooq.lambda.Seq#minBy(Function)
 	 */
 	public  <U extends Comparable<? super U>> CompletableFuture<Optional<T>> minBy(Function<? super T,? extends U> function){
-		return CompletableFuture.supplyAsync(()->stream.minBy(function));
+		return collect(Agg.minBy(function));
 	}
 	/**
 	 * Asynchronously capture the maximum value in this stream using the provided function
@@ -114,7 +152,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 *  @see org.jooq.lambda.Seq#maxBy(Function)
 	 */
 	public  <U extends Comparable<? super U>> CompletableFuture<Optional<T>> maxBy(Function<? super T, ? extends U> function){
-		return CompletableFuture.supplyAsync(()->stream.maxBy(function));
+		return collect(Agg.maxBy(function));
 	}
 	
 	/**
@@ -124,7 +162,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * 
 	 */
 	public <R, A> CompletableFuture<R> collect(Collector<? super T, A, R> collector){
-		return CompletableFuture.supplyAsync(()->stream.collect(collector));
+		return AsyncTraversal.collect(stream,exec,chunkSize,collector);
 	}
 	
 	
@@ -133,7 +171,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * @see org.jooq.lambda.Seq#toCollection(Supplier)
 	 */
 	public <C extends Collection<T>> CompletableFuture<C> toCollection(Supplier<C> collectionFactory){
-		return CompletableFuture.supplyAsync(()->stream.toCollection(collectionFactory),exec);
+		return collect(Collectors.toCollection(collectionFactory));
 	}
 	
 	/**
@@ -142,7 +180,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * @see java.util.stream.Stream#toArray(IntFunction)
 	 */
 	public <A> CompletableFuture<A[]> toArray(IntFunction<A[]> generator){
-		return CompletableFuture.supplyAsync(()->stream.toArray(generator),exec);
+		return toList().thenApply(l->l.toArray(generator.apply(l.size())));
 	}
 	/**
 	 * Asyncrhonously generate an Array
@@ -150,7 +188,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * @see java.util.stream.Stream#toArray(IntFunction)
 	 */
 	public CompletableFuture<Object[]> toArray() {
-		return CompletableFuture.supplyAsync(()->stream.toArray(),exec);
+		return toList().thenApply(List::toArray);
 	}
 	
 	/**
@@ -158,21 +196,21 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * @see org.jooq.lambda.Seq#groupBy(Function)
 	 */
 	public <K> CompletableFuture<Map<K, List<T>>> groupBy(Function<? super T, ? extends K> classifier){
-		return CompletableFuture.supplyAsync(()->stream.groupBy(classifier),exec);
+		return collect(Collectors.groupingBy(classifier));
 	}
 	/**
 	 * Perform an asyncrhonous groupBy operation
 	 * @see org.jooq.lambda.Seq#groupBy(Function, Collector)
 	 */
 	public <K, A, D> CompletableFuture<Map<K, D>> groupBy(Function<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream) {
-		return CompletableFuture.supplyAsync(()->stream.groupBy(classifier, downstream),exec);
+		return collect(Collectors.groupingBy(classifier,downstream));
 	}
 	/**
 	 * Perform an asyncrhonous groupBy operation
 	 * @see org.jooq.lambda.Seq#groupBy(Function, Supplier, Collector)
 	 */
 	public  <K, D, A, M extends Map<K, D>> CompletableFuture<M> groupBy(Function<? super T, ? extends K> classifier, Supplier<M> mapFactory, Collector<? super T, A, D> downstream){
-		return CompletableFuture.supplyAsync(()->stream.groupBy(classifier, mapFactory, downstream),exec);
+		return collect(Collectors.groupingBy(classifier,mapFactory,downstream));
 	}
 	
 	/**
@@ -180,14 +218,14 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * 	 @see org.jooq.lambda.Seq#foldLeft(Object,BiFunction)
 	 * */
 	public  <U> CompletableFuture<U> foldLeft(U seed, BiFunction<U, ? super T, U> function){
-		return CompletableFuture.supplyAsync(()->stream.foldLeft(seed, function),exec);
+		return collect(fold(seed,function,(a,b)->{ throw new UnsupportedOperationException("Sequential fold can not be combined"); }));
 	}
 	/**
 	 * Perform an asynchronous foldRight operation
 	 * 	 @see org.jooq.lambda.Seq#foldRight(Object,BiFunction)
 	 * */
 	public  <U> CompletableFuture<U> foldRight(U seed, BiFunction<? super T, U, U> function){
-		return CompletableFuture.supplyAsync(()->stream.foldRight(seed, function),exec);
+		return toList().thenApply(l->SequenceM.fromList(l).foldRight(seed,function));
 	}
 	
 	/**
@@ -195,7 +233,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 *  @see java.util.stream.Stream#min(Comparator)
 	 */
 	public CompletableFuture<Optional<T>> min(Comparator<? super T> comparator){
-		return CompletableFuture.supplyAsync(()->stream.min(comparator),exec);
+		return collect(Agg.min(comparator));
 	}
 	/**
 	 * Perform an asyncrhonous min operation
@@ -203,7 +241,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 */
 	public CompletableFuture<Optional<T>> max(Comparator<? super T> comparator){
 
-		return CompletableFuture.supplyAsync(()->stream.max(comparator),exec);
+		return collect(Agg.max(comparator));
 	}
 	/**
 	 * Asynchronously perform a Stream collection
@@ -214,7 +252,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	public  <R> CompletableFuture<R> collect(Supplier<R> supplier,
             BiConsumer<R, ? super T> accumulator,
             BiConsumer<R, R> combiner){
-		return CompletableFuture.supplyAsync(()->stream.collect(supplier, accumulator, combiner),exec);
+		return collect(Collector.of(supplier,accumulator,(a,b)->{ combiner.accept(a,b); return a; }));
 	}
 	/**
 	 * Asynchronously perform a Stream reduction
@@ -224,7 +262,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 */
 	public <U> CompletableFuture<U> reduce(U identity, BiFunction<U, ? super T, U> accumulator,
              BinaryOperator<U> combiner){
-		return CompletableFuture.supplyAsync(()->stream.reduce(identity, accumulator,combiner),exec);
+		return collect(fold(identity,accumulator,combiner));
 	}
 	/**
 	 * Asynchronously perform a Stream reduction
@@ -234,7 +272,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 */
 	public CompletableFuture<Optional<T>> reduce(BinaryOperator<T> accumulator){
 		
-		return CompletableFuture.supplyAsync(()->stream.reduce(accumulator));
+		return collect(Collectors.reducing(accumulator));
 		
 	}
 	/**
@@ -244,7 +282,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * 
 	 */
 	public   CompletableFuture<T> reduce(T identity, BinaryOperator<T> accumulator){
-		return CompletableFuture.supplyAsync(()->stream.reduce(identity, accumulator),exec);
+		return collect(Collectors.reducing(identity,accumulator));
 	}
 	/**
 	 * Asynchronously perform a Stream count
@@ -253,17 +291,17 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * 
 	 */
 	public CompletableFuture<Long> count(){
-		return CompletableFuture.supplyAsync(()->stream.count(),exec);
+		return collect(Collectors.counting());
 	}
 	public  CompletableFuture<String> join(CharSequence sep){
-		return CompletableFuture.supplyAsync(()->stream.join(sep),exec);
+		return collect(Collectors.mapping(Objects::toString,Collectors.joining(sep)));
 	}
 	/**
 	 * Perform an asynchronous join operation
 	 * 	 @see org.jooq.lambda.Seq#join()
 	 * */
 	public  CompletableFuture<String> join(){
-		return CompletableFuture.supplyAsync(()->stream.join(),exec);
+		return collect(Collectors.mapping(Objects::toString,Collectors.joining()));
 	}
 	/**
 	 * Perform an asynchronous join operation
@@ -271,21 +309,21 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * */
 	public  CompletableFuture<String> join(CharSequence delimiter, CharSequence prefix,
 												CharSequence suffix){
-		return CompletableFuture.supplyAsync(()->stream.join(delimiter,prefix,suffix),exec);
+		return collect(Collectors.mapping(Objects::toString,Collectors.joining(delimiter,prefix,suffix)));
 	}
 	/**
 	 * Perform an asynchronous findAny operation
 	 * 	 @see java.util.stream.Stream#findAny()
 	 * */
 	public CompletableFuture<Optional<T>> findAny(){
-		return CompletableFuture.supplyAsync(()->stream.findAny(),exec);
+		return first(stream);
 	}
 	/**
 	 * Perform an asynchronous findAny operation
 	 * 	 @see java.util.stream.Stream#findFirst()
 	 * */
 	public CompletableFuture<Optional<T>> findFirst(){
-		return CompletableFuture.supplyAsync(()->stream.findFirst(),exec);
+		return first(stream);
 	}
 	
 	/**
@@ -293,7 +331,7 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * 	 @see java.util.stream.Stream#findFirst()
 	 * */
 	public CompletableFuture<T> firstValue(){
-		return CompletableFuture.supplyAsync(()->stream.firstValue(),exec);
+		return first(stream).thenApply(Optional::get);
 	}
 	
 	/**
@@ -301,26 +339,26 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	 * 	@see java.util.stream.Stream#allMatch(Predicate)
 	 * */
 	public CompletableFuture<Boolean> allMatch(Predicate<? super T> predicate){
-		return CompletableFuture.supplyAsync(()->stream.allMatch(predicate),exec);
+		return first(stream.filter(predicate.negate())).thenApply(o->!o.isPresent());
 	}
 	/**
 	 * Perform an asynchronous Any Match operation
 	 * 	 @see java.util.stream.Stream#anyMatch(Predicate)
 	 * */
 	public CompletableFuture<Boolean>   anyMatch(Predicate<? super T> predicate){
-		return CompletableFuture.supplyAsync(()->stream.anyMatch(predicate),exec);
+		return first(stream.filter(predicate)).thenApply(Optional::isPresent);
 	}
 	/**
 	 * Perform an asynchronous Any Match operation
 	 * 	 @see java.util.stream.Stream#noneMatch(Predicate)
 	 * */
 	public CompletableFuture<Boolean>   noneMatch(Predicate<? super T> predicate){
-		return CompletableFuture.supplyAsync(()->stream.noneMatch(predicate),exec);
+		return first(stream.filter(predicate)).thenApply(o->!o.isPresent());
 	}
 	
 	@Override
 	public void forEach(Consumer<T> c) {
-		 CompletableFuture.runAsync(()->stream.forEach(c),exec);
+		collect(Collector.of(()->c,Consumer::accept,(a,b)->a));
 		
 	}
 	
@@ -359,241 +397,228 @@ public class FutureOperationsImpl<T> implements  DoubleOperatorsMixin<T>,
 	}
 	@Override
 	public CompletableFuture<T> single(Predicate<T> predicate) {
-		return CompletableFuture.supplyAsync(()-> stream.filter(predicate).single(),exec);
+		return AsyncTraversal.collect(stream.filter(predicate).limit(2),exec,chunkSize,Collectors.toList()).thenApply(l->{ if(l.size()==1){ return l.get(0); }
+			throw new UnsupportedOperationException("single only works for Streams with a single value");});
 				
 	}
 	@Override
 	public CompletableFuture<Optional<T>> singleOptional() {
-		return CompletableFuture.supplyAsync(()-> stream.singleOptional(),exec);
+		return AsyncTraversal.collect(stream.limit(2),exec,chunkSize,Collectors.toList()).thenApply(l->l.size()==1 ? Optional.of(l.get(0)) : Optional.<T>empty());
 	}
 	
 	
 	
 	@Override
 	public CompletableFuture<Long> countDistinct() {
-		return CompletableFuture.supplyAsync(()->stream.countDistinct(),exec);
+		return collect(Agg.countDistinct());
 	}
 	@Override
 	public <U> CompletableFuture<Long> countDistinctBy(Function<? super T, ? extends U> function) {
-		return CompletableFuture.supplyAsync(()->stream.countDistinctBy(function),exec);
+		return collect(Agg.countDistinctBy(function));
 	}
 	@Override
 	public CompletableFuture<Optional<T>> mode() {
-		return CompletableFuture.supplyAsync(()->stream.mode(),exec);
+		return collect(Agg.mode());
 	}
 	@Override
 	public CompletableFuture<Optional<T>> sum() {
-		return CompletableFuture.supplyAsync(()->stream.sum(),exec);
+		return collect(Agg.sum());
 	}
 	@Override
 	public <U> CompletableFuture<Optional<U>> sum(Function<? super T, ? extends U> function) {
-		return CompletableFuture.supplyAsync(()->stream.sum(function),exec);
+		return collect(Agg.sum(function));
 	}
 	@Override
 	public CompletableFuture<Optional<T>> avg() {
-		return CompletableFuture.supplyAsync(()->stream.avg(),exec);
+		return collect(Agg.avg());
 	}
 	@Override
 	public <U> CompletableFuture<Optional<U>> avg(Function<? super T, ? extends U> function) {
-		return CompletableFuture.supplyAsync(()->stream.avg(function),exec);
+		return collect(Agg.avg(function));
 	}
 	@Override
 	public CompletableFuture<Optional<T>> min() {
-		return CompletableFuture.supplyAsync(()->stream.min(),exec);
+		return collect(Agg.min(naturalOrder()));
 	}
 	@Override
 	public <U extends Comparable<? super U>> CompletableFuture<Optional<U>> min(Function<? super T, ? extends U> function) {
-		return CompletableFuture.supplyAsync(()->stream.min(function),exec);
+		return collect(Agg.min(function));
 	}
 	@Override
 	public <U> CompletableFuture<Optional<U>> min(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-		return CompletableFuture.supplyAsync(()->stream.min(function,comparator),exec);
+		return collect(Agg.min(function,comparator));
 	}
 	@Override
 	public <U> CompletableFuture<Optional<T>> minBy(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-		return CompletableFuture.supplyAsync(()->stream.minBy(function,comparator),exec);
+		return collect(Agg.minBy(function,comparator));
 	}
 	@Override
 	public CompletableFuture<Optional<T>> max() {
-		return CompletableFuture.supplyAsync(()->stream.max(),exec);
+		return collect(Agg.max(naturalOrder()));
 	}
 	@Override
 	public <U extends Comparable<? super U>> CompletableFuture<Optional<U>> max(Function<? super T, ? extends U> function) {
-		return CompletableFuture.supplyAsync(()->stream.max(function),exec);
+		return collect(Agg.max(function));
 	}
 	@Override
 	public <U> CompletableFuture<Optional<U>> max(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-		return CompletableFuture.supplyAsync(()->stream.max(function,comparator),exec);
+		return collect(Agg.max(function,comparator));
 	}
 	@Override
 	public <U> CompletableFuture<Optional<T>> maxBy(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-		return CompletableFuture.supplyAsync(()->stream.maxBy(function,comparator),exec);
+		return collect(Agg.maxBy(function,comparator));
 	}
 	@Override
 	public CompletableFuture<Optional<T>> median() {
-		return CompletableFuture.supplyAsync(()->stream.median(),exec);
+		return collect(Agg.median(naturalOrder()));
 	}
 	@Override
 	public CompletableFuture<Optional<T>> median(Comparator<? super T> comparator) {
-		return CompletableFuture.supplyAsync(()->stream.median(comparator),exec);
+		return collect(Agg.median(comparator));
 	}
 	@Override
 	public <U extends Comparable<? super U>> CompletableFuture<Optional<T>> medianBy(Function<? super T, ? extends U> function) {
-		return CompletableFuture.supplyAsync(()->stream.medianBy(function),exec);
+		return collect(Agg.medianBy(function));
 	}
 	@Override
 	public <U> CompletableFuture<Optional<T>> medianBy(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-		return CompletableFuture.supplyAsync(()->stream.medianBy(function,comparator),exec);
+		return collect(Agg.medianBy(function,comparator));
 	}
 	@Override
 	public CompletableFuture<Optional<T>> percentile(double percentile) {
-		return CompletableFuture.supplyAsync(()->stream.percentile(percentile),exec);
+		return collect(Agg.percentile(percentile,naturalOrder()));
 	}
 	@Override
 	public CompletableFuture<Optional<T>> percentile(double percentile, Comparator<? super T> comparator) {
-		return CompletableFuture.supplyAsync(()->stream.percentile(percentile,comparator),exec);
+		return collect(Agg.percentile(percentile,comparator));
 	}
 	@Override
 	public <U extends Comparable<? super U>> CompletableFuture<Optional<T>> percentileBy(double percentile,
 			Function<? super T, ? extends U> function) {
-		return CompletableFuture.supplyAsync(()->stream.percentileBy(percentile,function),exec);
+		return collect(Agg.percentileBy(percentile,function));
 	}
 	@Override
 	public <U> CompletableFuture<Optional<T>> percentileBy(double percentile, Function<? super T, ? extends U> function,
 			Comparator<? super U> comparator) {
-		return CompletableFuture.supplyAsync(()->stream.percentileBy(percentile,function,comparator),exec);
+		return collect(Agg.percentileBy(percentile,function,comparator));
 	}
 	@Override
 	public <L extends List<T>> CompletableFuture<L> toList(Supplier<L> factory) {
-		return CompletableFuture.supplyAsync(()->stream.toList(factory),exec);
+		return collect(Collectors.toCollection(factory));
 	}
 	@Override
 	public <S extends Set<T>> CompletableFuture<S> toSet(Supplier<S> factory) {
-		return CompletableFuture.supplyAsync(()->stream.toSet(factory),exec);
+		return collect(Collectors.toCollection(factory));
 	}
 	@Override
 	public <K, V> CompletableFuture<Map<K, V>> toMap(Function<? super T, ? extends K> keyMapper,
 			Function<? super T, ? extends V> valueMapper) {
-		return CompletableFuture.supplyAsync(()->stream.toMap(keyMapper,valueMapper),exec);
+		return collect(Collectors.toMap(keyMapper,valueMapper));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.DoubleOperatorsMixin#sumDouble(java.util.function.ToDoubleFunction)
 	 */
 	@Override
 	public CompletableFuture<Double> sumDouble(ToDoubleFunction<? super T> fn) {
-		return DoubleOperatorsMixin.super.sumDouble(fn);
+		return collect(Collectors.summingDouble(fn));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.LongOperatorsMixin#sumLong(java.util.function.ToLongFunction)
 	 */
 	@Override
 	public CompletableFuture<Long> sumLong(ToLongFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return LongOperatorsMixin.super.sumLong(fn);
+		return collect(Collectors.summingLong(fn));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.LongOperatorsMixin#maxLong(java.util.function.ToLongFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalLong> maxLong(ToLongFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return LongOperatorsMixin.super.maxLong(fn);
+		return summaryStatisticsLong(fn).thenApply(s->s.getCount()==0 ? OptionalLong.empty() : OptionalLong.of(s.getMax()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.LongOperatorsMixin#minLong(java.util.function.ToLongFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalLong> minLong(ToLongFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return LongOperatorsMixin.super.minLong(fn);
+		return summaryStatisticsLong(fn).thenApply(s->s.getCount()==0 ? OptionalLong.empty() : OptionalLong.of(s.getMin()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.LongOperatorsMixin#averageLong(java.util.function.ToLongFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalDouble> averageLong(ToLongFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return LongOperatorsMixin.super.averageLong(fn);
+		return summaryStatisticsLong(fn).thenApply(s->s.getCount()==0 ? OptionalDouble.empty() : OptionalDouble.of(s.getAverage()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.LongOperatorsMixin#summaryStatisticsLong(java.util.function.ToLongFunction)
 	 */
 	@Override
 	public CompletableFuture<LongSummaryStatistics> summaryStatisticsLong(ToLongFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return LongOperatorsMixin.super.summaryStatisticsLong(fn);
+		return collect(Collectors.summarizingLong(fn));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.IntOperatorsMixin#sumInt(java.util.function.ToIntFunction)
 	 */
 	@Override
 	public CompletableFuture<Integer> sumInt(ToIntFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return IntOperatorsMixin.super.sumInt(fn);
+		return collect(Collectors.summingInt(fn));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.IntOperatorsMixin#maxInt(java.util.function.ToIntFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalInt> maxInt(ToIntFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return IntOperatorsMixin.super.maxInt(fn);
+		return summaryStatisticsInt(fn).thenApply(s->s.getCount()==0 ? OptionalInt.empty() : OptionalInt.of(s.getMax()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.IntOperatorsMixin#minInt(java.util.function.ToIntFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalInt> minInt(ToIntFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return IntOperatorsMixin.super.minInt(fn);
+		return summaryStatisticsInt(fn).thenApply(s->s.getCount()==0 ? OptionalInt.empty() : OptionalInt.of(s.getMin()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.IntOperatorsMixin#averageInt(java.util.function.ToIntFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalDouble> averageInt(ToIntFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return IntOperatorsMixin.super.averageInt(fn);
+		return summaryStatisticsInt(fn).thenApply(s->s.getCount()==0 ? OptionalDouble.empty() : OptionalDouble.of(s.getAverage()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.IntOperatorsMixin#summaryStatisticsInt(java.util.function.ToIntFunction)
 	 */
 	@Override
 	public CompletableFuture<IntSummaryStatistics> summaryStatisticsInt(ToIntFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return IntOperatorsMixin.super.summaryStatisticsInt(fn);
+		return collect(Collectors.summarizingInt(fn));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.DoubleOperatorsMixin#maxDouble(java.util.function.ToDoubleFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalDouble> maxDouble(ToDoubleFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return DoubleOperatorsMixin.super.maxDouble(fn);
+		return summaryStatisticsDouble(fn).thenApply(s->s.getCount()==0 ? OptionalDouble.empty() : OptionalDouble.of(s.getMax()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.DoubleOperatorsMixin#minDouble(java.util.function.ToDoubleFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalDouble> minDouble(ToDoubleFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return DoubleOperatorsMixin.super.minDouble(fn);
+		return summaryStatisticsDouble(fn).thenApply(s->s.getCount()==0 ? OptionalDouble.empty() : OptionalDouble.of(s.getMin()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.DoubleOperatorsMixin#averageDouble(java.util.function.ToDoubleFunction)
 	 */
 	@Override
 	public CompletableFuture<OptionalDouble> averageDouble(ToDoubleFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return DoubleOperatorsMixin.super.averageDouble(fn);
+		return summaryStatisticsDouble(fn).thenApply(s->s.getCount()==0 ? OptionalDouble.empty() : OptionalDouble.of(s.getAverage()));
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.streams.future.DoubleOperatorsMixin#summaryStatisticsDouble(java.util.function.ToDoubleFunction)
 	 */
 	@Override
 	public CompletableFuture<DoubleSummaryStatistics> summaryStatisticsDouble(ToDoubleFunction<? super T> fn) {
-		// TODO Auto-generated method stub
-		return DoubleOperatorsMixin.super.summaryStatisticsDouble(fn);
+		return collect(Collectors.summarizingDouble(fn));
 	}
 	
 	
@@ -2,14 +2,13 @@ package com.aol.cyclops.streams.operators;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import lombok.Value;
 
-import com.aol.cyclops.streams.StreamUtils;
+import com.aol.cyclops.streams.spliterators.BatchBySizeSpliterator;
 @Value
 public class BatchBySizeOperator<T, C extends Collection<T>> {
 
@@ -26,26 +25,7 @@ public class BatchBySizeOperator<T, C extends Collection<T>> {
 	public Stream<C> batchBySize(int groupSize){
 		if(groupSize<1)
 			throw new IllegalArgumentException("Batch size must be 1 or more");
-		Iterator<T> it = stream.iterator();
-		return StreamUtils.stream(new Iterator<C>(){
-			
-			@Override
-			public boolean hasNext() {
-				return it.hasNext();
-			}
-
-			@Override
-			public C next() {
-				C list = factory.get();
-				for (int i = 0; i < groupSize; i++) {
-					if(it.hasNext())
-						list.add(it.next());
-					
-				}
-				return list;
-			}
-			
-		});
+		return StreamSupport.stream(new BatchBySizeSpliterator<>(stream.spliterator(),groupSize,factory),stream.isParallel()).onClose(stream::close);
 	}
 	
 }
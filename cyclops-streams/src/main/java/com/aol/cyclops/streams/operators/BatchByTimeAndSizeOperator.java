@@ -3,7 +3,7 @@ package com.aol.cyclops.streams.operators;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -25,8 +25,58 @@ public class BatchByTimeAndSizeOperator<T, C extends Collection<? super T>> {
 		this.factory=factory2;
 	}
 	public  Stream<C> batchBySizeAndTime(int size, long time, TimeUnit t){
-		Iterator<T> it = stream.iterator();
 		long toRun = t.toNanos(time);
+		if(toRun<OperatorTimer.TIMER_RESOLUTION_NANOS)
+			return pollClock(size,toRun);
+		Iterator<T> it = stream.iterator();
+		return StreamUtils.stream(new Iterator<C>(){
+			boolean carried = false;
+			T carry;
+			@Override
+			public boolean hasNext() {
+				return carried || it.hasNext();
+			}
+			/**
+			 * A value that arrives after the deadline has passed starts the next batch
+			 */
+			@Override
+			public C next() {
+				if(!hasNext())
+					throw new NoSuchElementException();
+				C list = factory.get();
+				OperatorTimer.Deadline deadline = OperatorTimer.deadline(toRun);
+				try{
+					if(carried){
+						list.add(carry);
+						carried = false;
+						carry = null;
+					}
+					while(list.size()<size && it.hasNext()){
+						T next = it.next();
+						if(deadline.passed()){
+							if(list.size()>0){
+								carry = next;
+								carried = true;
+								break;
+							}
+							deadline.cancel(); //nothing arrived, start a fresh batch
+							deadline = OperatorTimer.deadline(toRun);
+						}
+						list.add(next);
+					}
+				}finally{
+					deadline.cancel();
+				}
+				return list;
+			}
+			
+		});
+	}
+	/**
+	 * Windows below the timer resolution are closed by checking the clock as each element arrives
+	 */
+	private Stream<C> pollClock(int size, long toRun){
+		Iterator<T> it = stream.iterator();
 		return StreamUtils.stream(new Iterator<C>(){
 			long start = System.nanoTime();
 			@Override
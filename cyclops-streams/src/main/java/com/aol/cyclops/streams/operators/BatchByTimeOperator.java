@@ -24,8 +24,10 @@ public class BatchByTimeOperator<T, C extends Collection<T>> {
 		this.factory=factory2;
 	}
 	public Stream<C> batchByTime(long time, TimeUnit t){
-		Iterator<T> it = stream.iterator();
 		long toRun = t.toNanos(time);
+		if(toRun>=OperatorTimer.TIMER_RESOLUTION_NANOS)
+			return new BatchByTimeAndSizeOperator<T,C>(stream,factory).batchBySizeAndTime(Integer.MAX_VALUE, time, t);
+		Iterator<T> it = stream.iterator();
 		return StreamUtils.stream(new Iterator<C>(){
 			long start = System.nanoTime();
 			@Override
@@ -2,6 +2,7 @@ package com.aol.cyclops.streams.operators;
 
 import java.util.Iterator;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import lombok.Value;
@@ -13,6 +14,8 @@ public class DebounceOperator<T> {
 	public Stream<T> debounce(long time, TimeUnit t){
 		Iterator<T> it = stream.iterator();
 		long timeNanos = t.toNanos(time);
+		if(timeNanos>=OperatorTimer.TIMER_RESOLUTION_NANOS)
+			return gate(it,timeNanos);
 		return StreamUtils.stream(new Iterator<T>(){
 			volatile long last = 0;
 			@Override
@@ -46,6 +49,18 @@ public class DebounceOperator<T> {
 			
 		}).filter(i->i!=DEBOUNCED);
 	}
+	/**
+	 * A value is let through while the gate is open, which closes it until the shared timer reopens it
+	 */
+	private Stream<T> gate(Iterator<T> it, long timeNanos){
+		AtomicBoolean open = new AtomicBoolean(true);
+		return StreamUtils.stream(it).filter(next->{
+			if(!open.compareAndSet(true,false))
+				return false;
+			OperatorTimer.schedule(()->open.set(true),timeNanos);
+			return true;
+		});
+	}
 	
 	private final static Object DEBOUNCED = new Object();
 }
@@ -15,8 +15,10 @@ public class LimitWhileTimeOperator<U> {
 	Stream<U> stream;
 	public  Stream<U>  limitWhile(long time, TimeUnit unit){
 		Iterator<U> it = stream.iterator();
-		long start = System.nanoTime();
 		long allowed = unit.toNanos(time);
+		if(allowed>=OperatorTimer.TIMER_RESOLUTION_NANOS)
+			return deadline(it,allowed);
+		long start = System.nanoTime();
 		return StreamUtils.stream(new Iterator<U>(){
 			U next;
 			boolean stillGoing =true;
@@ -42,4 +44,20 @@ public class LimitWhileTimeOperator<U> {
 			
 		});
 	}
+	/**
+	 * The shared timer marks the stream as expired once the time allowed has passed
+	 */
+	private Stream<U> deadline(Iterator<U> it, long allowed){
+		OperatorTimer.Deadline deadline = OperatorTimer.deadline(allowed);
+		return StreamUtils.stream(new Iterator<U>(){
+			@Override
+			public boolean hasNext() {
+				return !deadline.passed() && it.hasNext();
+			}
+			@Override
+			public U next() {
+				return it.next();
+			}
+		}).onClose(deadline::cancel);
+	}
 }
@@ -1,6 +1,7 @@
 package com.aol.cyclops.streams.operators;
 
 import java.util.Iterator;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
@@ -14,6 +15,8 @@ public class OnePerOperator<T> {
 	public Stream<T> onePer( long time, TimeUnit t) {
 		Iterator<T> it = stream.iterator();
 		long next = t.toNanos(time);
+		if(next>=OperatorTimer.TIMER_RESOLUTION_NANOS)
+			return permit(it,next);
 		return StreamUtils.stream(new Iterator<T>(){
 			volatile long last = -1;
 			@Override
@@ -35,4 +38,15 @@ public class OnePerOperator<T> {
 			
 		});
 	}
+	/**
+	 * Each value takes the permit, which the shared timer hands back once the period has passed
+	 */
+	private Stream<T> permit(Iterator<T> it, long next){
+		Semaphore permit = new Semaphore(1);
+		return StreamUtils.stream(it).map(nextValue->{
+			permit.acquireUninterruptibly();
+			OperatorTimer.schedule(permit::release,next);
+			return nextValue;
+		});
+	}
 }
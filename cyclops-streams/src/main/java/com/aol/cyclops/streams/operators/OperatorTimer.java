@@ -0,0 +1,66 @@
+package com.aol.cyclops.streams.operators;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared timer for the time based operators (batchByTime, batchBySizeAndTime, windowByTime, windowBySizeAndTime,
+ * debounce, onePer and limit(time)).
+ *
+ * Operators always pull from their source on the consuming thread. The timer only marks deadlines as passed (closing the
+ * open batch or window), so operators check a flag as each value arrives rather than reading the clock.
+ *
+ * @author johnmcclean
+ *
+ */
+public class OperatorTimer {
+
+	/**
+	 * Periods shorter than this can not be reliably tracked by the shared timer
+	 */
+	public static final long TIMER_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r-> {
+		Thread t = new Thread(r,"cyclops-operator-timer");
+		t.setDaemon(true);
+		return t;
+	});
+	static{
+		timer.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * Run a task on the shared operator timer
+	 *
+	 * @param task Task to run
+	 * @param nanos Delay before running it
+	 * @return Future that can be used to cancel the task
+	 */
+	static ScheduledFuture<?> schedule(Runnable task, long nanos){
+		return timer.schedule(task, nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param nanos Time until the deadline passes
+	 * @return Deadline that the shared timer marks as passed
+	 */
+	static Deadline deadline(long nanos){
+		return new Deadline(nanos);
+	}
+
+	static class Deadline{
+		private volatile boolean passed = false;
+		private final ScheduledFuture<?> future;
+
+		private Deadline(long nanos){
+			future = schedule(()->passed=true, nanos);
+		}
+		boolean passed(){
+			return passed;
+		}
+		void cancel(){
+			future.cancel(false);
+		}
+	}
+}
@@ -16,7 +16,8 @@ public class SkipWhileTimeOperator<U> {
 	public  Stream<U>  skipWhile(long time, TimeUnit unit){
 		long start = System.nanoTime();
 		long allowed = unit.toNanos(time);
-		return stream.filter(a-> System.nanoTime()-start > allowed);
+		boolean[] passed = {false};
+		return stream.filter(a-> passed[0] || (passed[0] = System.nanoTime()-start > allowed));
 		
 	}
 }
@@ -15,8 +15,11 @@ import com.aol.cyclops.streams.StreamUtils;
 public class WindowByTimeAndSizeOperator<T> {
 	Stream<T> stream;
 	public Stream<Streamable<T>> windowBySizeAndTime(int size, long time, TimeUnit t){
-		Iterator<T> it = stream.iterator();
 		long toRun = t.toNanos(time);
+		if(toRun>=OperatorTimer.TIMER_RESOLUTION_NANOS)
+			return new BatchByTimeAndSizeOperator<T,List<T>>(stream).batchBySizeAndTime(size, time, t)
+																	.map(Streamable::fromIterable);
+		Iterator<T> it = stream.iterator();
 		return StreamUtils.stream(new Iterator<Streamable<T>>(){
 			long start = System.nanoTime();
 			@Override
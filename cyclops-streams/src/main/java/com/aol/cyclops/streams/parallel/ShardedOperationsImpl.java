@@ -0,0 +1,273 @@
+package com.aol.cyclops.streams.parallel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.AllArgsConstructor;
+
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.sequence.Monoid;
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.parallel.ShardedOperations;
+
+/**
+ * Runs an operator chain over each shard of a source on a ForkJoinPool. Shards are only created when a terminal operation
+ * is run, by splitting the source Spliterator on the pool.
+ *
+ * @author johnmcclean
+ *
+ * @param <S> Data type of the source elements
+ * @param <T> Data type of the elements after the operator chain
+ */
+@AllArgsConstructor
+public class ShardedOperationsImpl<S,T> implements ShardedOperations<T> {
+
+	private final ForkJoinPool pool;
+	private final int shards;
+	private final Supplier<List<Spliterator<S>>> source;
+	private final Function<SequenceM<S>,SequenceM<T>> pipeline;
+
+	private static final int GRAIN = 8;
+
+	/**
+	 * Partition a Stream into contiguous, range based shards. The Stream is not consumed until a terminal operation is run,
+	 * at which point its Spliterator is split (on the pool) into roughly equally sized shards.
+	 *
+	 * @param stream Stream to partition
+	 * @param pool ForkJoinPool to run each shard on
+	 * @param shards Number of shards
+	 * @return Sharded operations over the Stream
+	 */
+	public static <T> ShardedOperations<T> ofRange(Stream<T> stream, ForkJoinPool pool, int shards){
+		if(shards<1)
+			throw new IllegalArgumentException("Shard count must be 1 or more");
+		return new ShardedOperationsImpl<T,T>(pool,shards,()->pool.submit(()->split(stream.spliterator(),shards)).join(),
+													Function.identity());
+	}
+
+	/**
+	 * Split a Spliterator into contiguous shards, in encounter order, balanced by size. Sources that do not report an exact
+	 * size for themselves and their splits (SUBSIZED) are buffered first. The source is split into pieces of at most
+	 * 1/(shards*GRAIN) of its size (pieces that can not split themselves are buffered and sliced), and runs of adjacent pieces
+	 * are grouped so no shard holds much more than 1/shards of the elements.
+	 *
+	 * @return Exactly shards pieces (padded with empty Spliterators if the source is too small)
+	 */
+	static <T> List<Spliterator<T>> split(Spliterator<T> source, int shards){
+		Spliterator<T> sized = source.hasCharacteristics(Spliterator.SUBSIZED) ? source : buffer(source).spliterator();
+		long size = sized.getExactSizeIfKnown();
+		long grain = Math.max(1,size/((long)shards*GRAIN));
+		List<Spliterator<T>> pieces = new ArrayList<>();
+		splitInto(sized,grain,pieces);
+		List<List<Spliterator<T>>> groups = new ArrayList<>(shards);
+		for(int i=0;i<shards;i++)
+			groups.add(new ArrayList<>());
+		long taken = 0;
+		for(Spliterator<T> piece : pieces){
+			long next = piece.estimateSize();
+			int index = size==0 ? 0 : (int)Math.min(shards-1,(taken+next/2)*shards/size);
+			groups.get(index).add(piece);
+			taken = taken + next;
+		}
+		List<Spliterator<T>> result = new ArrayList<>(shards);
+		for(List<Spliterator<T>> group : groups)
+			result.add(concat(group));
+		return result;
+	}
+	private static <T> void splitInto(Spliterator<T> piece, long grain, List<Spliterator<T>> pieces){
+		if(piece.estimateSize()<=grain){
+			pieces.add(piece);
+			return;
+		}
+		Spliterator<T> prefix = piece.trySplit();
+		if(prefix!=null){
+			splitInto(prefix,grain,pieces);
+			splitInto(piece,grain,pieces);
+			return;
+		}
+		List<T> buffered = buffer(piece);
+		for(int i=0;i<buffered.size();i+=grain)
+			pieces.add(buffered.subList(i,(int)Math.min(buffered.size(),i+grain)).spliterator());
+	}
+	private static <T> List<T> buffer(Spliterator<T> piece){
+		List<T> buffered = new ArrayList<>();
+		piece.forEachRemaining(buffered::add);
+		return buffered;
+	}
+	private static <T> Spliterator<T> concat(List<Spliterator<T>> group){
+		if(group.isEmpty())
+			return Spliterators.emptySpliterator();
+		if(group.size()==1)
+			return group.get(0);
+		return group.stream().map(next->StreamSupport.stream(next,false)).reduce(Stream::concat).get().spliterator();
+	}
+
+	@Override
+	public int shards() {
+		return shards;
+	}
+
+	@Override
+	public <R> ShardedOperations<R> map(Function<? super T, ? extends R> fn) {
+		return shardLocal(s->s.map(fn));
+	}
+
+	@Override
+	public <R> ShardedOperations<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn) {
+		return shardLocal(s->s.flatMap(fn));
+	}
+
+	@Override
+	public ShardedOperations<T> filter(Predicate<? super T> p) {
+		return shardLocal(s->s.filter(p));
+	}
+
+	@Override
+	public <R> ShardedOperations<R> shardLocal(Function<? super SequenceM<T>, ? extends Stream<R>> fn) {
+		return new ShardedOperationsImpl<S,R>(pool,shards,source,pipeline.andThen(s->SequenceM.fromStream(fn.apply(s))));
+	}
+
+	@Override
+	public ShardedOperations<T> shardBy(Function<? super T, ?> key) {
+		Supplier<List<Spliterator<T>>> partitioned = ()->{
+			List<List<List<T>>> buckets = perShard(s->partition(s,key));
+			List<Spliterator<T>> partitions = new ArrayList<>(shards);
+			for(int i=0;i<shards;i++){
+				int index = i;
+				partitions.add(buckets.stream().flatMap(b->b.get(index).stream()).spliterator());
+			}
+			return partitions;
+		};
+		return new ShardedOperationsImpl<T,T>(pool,shards,partitioned,Function.identity());
+	}
+	private List<List<T>> partition(SequenceM<T> shard, Function<? super T, ?> key){
+		List<List<T>> buckets = new ArrayList<>(shards);
+		for(int i=0;i<shards;i++)
+			buckets.add(new ArrayList<>());
+		shard.forEach(next->buckets.get(Math.floorMod(Objects.hashCode(key.apply(next)),shards)).add(next));
+		return buckets;
+	}
+
+	@Override
+	public SequenceM<T> sequenceM() {
+		return SequenceM.fromList(toList());
+	}
+
+	@Override
+	public SequenceM<T> unordered() {
+		ExecutorCompletionService<List<T>> completion = new ExecutorCompletionService<>(pool);
+		for(Spliterator<S> shard : source.get())
+			completion.submit(()->run(shard).toList());
+		List<T> result = new ArrayList<>();
+		for(int i=0;i<shards;i++)
+			result.addAll(get(completion));
+		return SequenceM.fromList(result);
+	}
+
+	@Override
+	public List<T> toList() {
+		List<T> result = new ArrayList<>();
+		for(List<T> shard : perShard(SequenceM::toList))
+			result.addAll(shard);
+		return result;
+	}
+
+	@Override
+	public long count() {
+		long count = 0;
+		for(Long next : perShard(SequenceM::count))
+			count = count + next;
+		return count;
+	}
+
+	@Override
+	public SequenceM<T> distinct() {
+		LinkedHashSet<T> result = new LinkedHashSet<>();
+		for(LinkedHashSet<T> shard : perShard(s->s.collect(Collectors.toCollection(LinkedHashSet::new))))
+			result.addAll(shard);
+		return SequenceM.fromIterable(result);
+	}
+
+	@Override
+	public <K> Map<K, List<T>> groupBy(Function<? super T, ? extends K> classifier) {
+		Map<K,List<T>> result = new HashMap<>();
+		for(Map<K,List<T>> shard : perShard(s->s.groupBy(classifier))){
+			for(Map.Entry<K,List<T>> group : shard.entrySet()){
+				List<T> existing = result.putIfAbsent(group.getKey(),group.getValue());
+				if(existing!=null)
+					existing.addAll(group.getValue());
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public <R> R mapReduce(Monoid<R> reducer) {
+		return reducer.reduce(perShard(s->s.<R>mapReduce(reducer)).stream());
+	}
+
+	@Override
+	public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
+		return reducer.reduce(perShard(s->s.<R>mapReduce(mapper,reducer)).stream());
+	}
+
+	@Override
+	public <U> SequenceM<Tuple2<T, U>> innerJoin(Stream<U> other, BiPredicate<? super T, ? super U> predicate) {
+		List<U> right = other.collect(Collectors.toList());
+		return new ShardedOperationsImpl<S,Tuple2<T,U>>(pool,shards,source,pipeline.andThen(s->s.innerJoin(right,predicate)))
+						.sequenceM();
+	}
+
+	@Override
+	public <U> SequenceM<Tuple2<T, U>> leftOuterJoin(Stream<U> other, BiPredicate<? super T, ? super U> predicate) {
+		List<U> right = other.collect(Collectors.toList());
+		return new ShardedOperationsImpl<S,Tuple2<T,U>>(pool,shards,source,pipeline.andThen(s->s.leftOuterJoin(right,predicate)))
+						.sequenceM();
+	}
+
+	/**
+	 * Run the operator chain followed by the supplied terminal operation for each shard on the pool
+	 *
+	 * @return Per shard results, in shard order
+	 */
+	private <R> List<R> perShard(Function<SequenceM<T>,R> terminal){
+		List<ForkJoinTask<R>> tasks = new ArrayList<>(shards);
+		for(Spliterator<S> shard : source.get())
+			tasks.add(pool.submit(()->terminal.apply(run(shard))));
+		List<R> results = new ArrayList<>(tasks.size());
+		for(ForkJoinTask<R> task : tasks)
+			results.add(task.join());
+		return results;
+	}
+
+	private SequenceM<T> run(Spliterator<S> shard){
+		return pipeline.apply(SequenceM.fromStream(StreamSupport.stream(shard,false)));
+	}
+
+	private static <R> R get(ExecutorCompletionService<R> completion){
+		try {
+			return completion.take().get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw ExceptionSoftener.throwSoftenedException(e instanceof ExecutionException ? e.getCause() : e);
+		}
+	}
+}
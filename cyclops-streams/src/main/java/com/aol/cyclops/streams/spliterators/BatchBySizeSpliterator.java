@@ -0,0 +1,44 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Groups elements from a source Spliterator into Collections of (at most) groupSize elements
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ * @param <C> Collection type
+ */
+public class BatchBySizeSpliterator<T,C extends Collection<? super T>> extends SizedSpliterator<T,C> {
+
+	private final int groupSize;
+	private final Supplier<C> factory;
+	private C batch;
+
+	public BatchBySizeSpliterator(Spliterator<T> source, int groupSize, Supplier<C> factory){
+		super(source,n->(n+groupSize-1)/groupSize,NONNULL);
+		this.groupSize = groupSize;
+		this.factory = factory;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super C> action) {
+		C next = factory.get();
+		batch = next;
+		for(int i=0;i<groupSize && source.tryAdvance(this::add);i++){
+		}
+		batch = null;
+		if(next.isEmpty())
+			return false;
+		action.accept(next);
+		return true;
+	}
+
+	private void add(T t){
+		batch.add(t);
+	}
+}
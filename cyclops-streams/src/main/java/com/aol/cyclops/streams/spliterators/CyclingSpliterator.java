@@ -0,0 +1,52 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Repeats the elements of a source Spliterator the specified number of times. Elements are recorded as the source is
+ * traversed for the first time and replayed from the recording afterwards.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class CyclingSpliterator<T> extends SizedSpliterator<T,T> {
+
+	private final long times;
+	private final List<T> recorded;
+	private long round = 0;
+	private int index = 0;
+
+	public CyclingSpliterator(Spliterator<T> source, long times){
+		super(source,n-> times==0 || n==0 ? 0 : (n > Long.MAX_VALUE/times ? -1 : n*times),source.characteristics() & NONNULL);
+		this.times = times;
+		long size = source.getExactSizeIfKnown();
+		this.recorded = size>0 && size<Integer.MAX_VALUE ? new ArrayList<>((int)size) : new ArrayList<>();
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if(round>=times)
+			return false;
+		if(round==0){
+			if(source.tryAdvance(recorded::add)){
+				action.accept(recorded.get(recorded.size()-1));
+				return true;
+			}
+			round++;
+		}
+		if(recorded.isEmpty())
+			return false;
+		if(index==recorded.size()){
+			index = 0;
+			round++;
+		}
+		if(round>=times)
+			return false;
+		action.accept(recorded.get(index++));
+		return true;
+	}
+}
@@ -0,0 +1,37 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Removes the elements from index start (inclusive) to end (exclusive) of a source Spliterator
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class DeleteBetweenSpliterator<T> extends SizedSpliterator<T,T> {
+
+	private final long start;
+	private final long end;
+	private long index = 0;
+
+	public DeleteBetweenSpliterator(Spliterator<T> source, long start, long end){
+		super(source,n->n-Math.max(0,Math.min(n,end)-Math.min(n,start)),source.characteristics() & NONNULL);
+		this.start = start;
+		this.end = end;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		while(index>=start && index<end){
+			if(!source.tryAdvance(t->{}))
+				return false;
+			index++;
+		}
+		if(!source.tryAdvance(action))
+			return false;
+		index++;
+		return true;
+	}
+}
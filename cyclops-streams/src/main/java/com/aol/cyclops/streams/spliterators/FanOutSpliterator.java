@@ -0,0 +1,57 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.aol.cyclops.streams.FanOutBuffer;
+
+public class FanOutSpliterator<T> implements Spliterator<T> {
+
+	private static final long MAX_PARK_NANOS = 250_000;
+
+	private final FanOutBuffer<T> fanOut;
+	private final FanOutBuffer.Reader<T> reader;
+
+	public FanOutSpliterator(FanOutBuffer<T> fanOut, FanOutBuffer.Reader<T> reader) {
+		this.fanOut = fanOut;
+		this.reader = reader;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return IMMUTABLE;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		Objects.requireNonNull(action);
+		long nanos = 1;
+		for(;;){
+			Object next = reader.poll();
+			if(next==null && fanOut.isComplete()){
+				next = reader.poll();
+				if(next==null)
+					return false;
+			}
+			if(next!=null){
+				action.accept(FanOutBuffer.unwrap(next));
+				return true;
+			}
+			LockSupport.parkNanos(nanos);
+			nanos = Math.min(nanos*2, MAX_PARK_NANOS);
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		return null;
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.jooq.lambda.tuple.Tuple2;
+
+/**
+ * Pairs each element with its index. SUBSIZED sources are split directly (the prefix keeps the current index and
+ * this Spliterator skips ahead by the size of the prefix), otherwise batches of indexed elements are handed off.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class IndexedSpliterator<T> implements Spliterator<Tuple2<T,Long>> {
+
+	private static final int BATCH = 1024;
+
+	private final Spliterator<T> source;
+	private long index;
+	private T held;
+
+	public IndexedSpliterator(Spliterator<T> source){
+		this(source,0);
+	}
+	private IndexedSpliterator(Spliterator<T> source, long index){
+		this.source = source;
+		this.index = index;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Tuple2<T, Long>> action) {
+		return source.tryAdvance(t->action.accept(new Tuple2<>(t,index++)));
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Tuple2<T, Long>> action) {
+		source.forEachRemaining(t->action.accept(new Tuple2<>(t,index++)));
+	}
+
+	@Override
+	public Spliterator<Tuple2<T, Long>> trySplit() {
+		if(source.hasCharacteristics(SUBSIZED)){
+			Spliterator<T> prefix = source.trySplit();
+			if(prefix==null)
+				return null;
+			IndexedSpliterator<T> result = new IndexedSpliterator<>(prefix,index);
+			index = index + prefix.getExactSizeIfKnown();
+			return result;
+		}
+		Object[] batch = new Object[BATCH];
+		int count = 0;
+		while(count<BATCH && source.tryAdvance(this::hold))
+			batch[count++] = new Tuple2<>(held,index++);
+		held = null;
+		if(count==0)
+			return null;
+		return Spliterators.spliterator(batch, 0, count, ORDERED | NONNULL);
+	}
+
+	private void hold(T t){
+		held = t;
+	}
+
+	@Override
+	public long estimateSize() {
+		return source.estimateSize();
+	}
+
+	@Override
+	public int characteristics() {
+		return (source.characteristics() & (ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT)) | NONNULL;
+	}
+}
@@ -0,0 +1,38 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Inserts values at the specified position in a source Spliterator, or after the last element if the source is shorter
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class InsertAtSpliterator<T> extends SizedSpliterator<T,T> {
+
+	private final long pos;
+	private final T[] values;
+	private long index = 0;
+	private int inserted = 0;
+
+	public InsertAtSpliterator(Spliterator<T> source, long pos, T[] values){
+		super(source,n->n+values.length,0);
+		this.pos = pos;
+		this.values = values;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if(index<pos && source.tryAdvance(action)){
+			index++;
+			return true;
+		}
+		if(inserted<values.length){
+			action.accept(values[inserted++]);
+			return true;
+		}
+		return source.tryAdvance(action);
+	}
+}
@@ -0,0 +1,48 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Places a value between each pair of elements from a source Spliterator
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class IntersperseSpliterator<T> extends SizedSpliterator<T,T> {
+
+	private final T value;
+	private boolean started = false;
+	private boolean holding = false;
+	private T held;
+
+	public IntersperseSpliterator(Spliterator<T> source, T value){
+		super(source,n->n==0 ? 0 : 2*n-1,0);
+		this.value = value;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if(holding){
+			holding = false;
+			T next = held;
+			held = null;
+			action.accept(next);
+			return true;
+		}
+		if(!started){
+			started = true;
+			return source.tryAdvance(action);
+		}
+		if(!source.tryAdvance(this::hold))
+			return false;
+		holding = true;
+		action.accept(value);
+		return true;
+	}
+
+	private void hold(T t){
+		held = t;
+	}
+}
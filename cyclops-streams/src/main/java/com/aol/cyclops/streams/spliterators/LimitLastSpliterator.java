@@ -0,0 +1,43 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Emits only the last limit elements of a source Spliterator, buffering at most limit elements
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class LimitLastSpliterator<T> extends SizedSpliterator<T,T> {
+
+	private final int limit;
+	private final ArrayDeque<T> buffer;
+	private boolean filled = false;
+
+	public LimitLastSpliterator(Spliterator<T> source, int limit){
+		super(source,n->Math.min(n,limit),source.characteristics() & NONNULL);
+		this.limit = limit;
+		this.buffer = new ArrayDeque<>(limit);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if(!filled){
+			filled = true;
+			source.forEachRemaining(this::add);
+		}
+		if(buffer.isEmpty())
+			return false;
+		action.accept(buffer.poll());
+		return true;
+	}
+
+	private void add(T t){
+		buffer.add(t);
+		if(buffer.size()>limit)
+			buffer.poll();
+	}
+}
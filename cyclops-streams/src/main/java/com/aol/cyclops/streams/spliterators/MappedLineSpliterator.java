@@ -0,0 +1,306 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the lines of a file by memory mapping it (in windows) and scanning the mapped bytes for line delimiters directly.
+ *
+ * Lines are delimited by \n, \r or \r\n (as with Files.lines / BufferedReader). Splitting divides the remaining byte range in two
+ * at the next line boundary, so parallel Streams decode separate chunks of the file concurrently. Malformed input fails with an
+ * UncheckedIOException wrapping a MalformedInputException, as Files.lines does.
+ *
+ * Only charsets where \n and \r are single bytes that never occur inside other characters (UTF-8, ASCII, ISO-8859-*, windows-125*) are
+ * scanned this way, others fall back to Files.lines.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Line type (String, or a CharSequence view over the mapped bytes)
+ */
+public class MappedLineSpliterator<T> implements Spliterator<T> {
+
+	static final int DEFAULT_WINDOW = 64*1024*1024;
+	static final long DEFAULT_MINIMUM_SPLIT = 1024*1024;
+
+	/**
+	 * Creates a line from the bytes between from (inclusive) and to (exclusive) of a mapped buffer.
+	 * Implementations must use absolute reads only, the buffer is shared.
+	 */
+	@FunctionalInterface
+	public static interface LineDecoder<T>{
+		T decode(ByteBuffer buffer, int from, int to);
+	}
+
+	private final FileChannel channel;
+	private final LineDecoder<T> decoder;
+	private final long size;
+	private final int window;
+	private final long minimumSplit;
+	private long position;
+	private final long end;
+	private MappedByteBuffer buffer;
+	private long bufferStart;
+
+	MappedLineSpliterator(FileChannel channel, LineDecoder<T> decoder, long size, int window, long minimumSplit, long position, long end){
+		this.channel = channel;
+		this.decoder = decoder;
+		this.size = size;
+		this.window = window;
+		this.minimumSplit = minimumSplit;
+		this.position = position;
+		this.end = end;
+	}
+
+	/**
+	 * @param path File to read
+	 * @param charset Charset used to decode each line
+	 * @return Stream of the lines in the file (should be closed after use)
+	 */
+	public static Stream<String> lines(Path path, Charset charset){
+		return lines(path,charset,DEFAULT_WINDOW,DEFAULT_MINIMUM_SPLIT);
+	}
+	static Stream<String> lines(Path path, Charset charset, int window, long minimumSplit){
+		if(!scannable(charset))
+			return linesFallback(path,charset);
+		return stream(path,(b,from,to)->decodeStrict(b,from,to,charset),window,minimumSplit);
+	}
+	/**
+	 * Lines as CharSequence views over the mapped file, no String (or char[]) is allocated per line.
+	 * Each byte is exposed as a single ISO-8859-1 character, so this is intended for ASCII / Latin-1 data.
+	 *
+	 * @param path File to read
+	 * @return Stream of line views (should be closed after use)
+	 */
+	public static Stream<CharSequence> lineViews(Path path){
+		return stream(path,ByteCharSequence::new,DEFAULT_WINDOW,DEFAULT_MINIMUM_SPLIT);
+	}
+
+	static <T> Stream<T> stream(Path path, LineDecoder<T> decoder, int window, long minimumSplit){
+		try{
+			return stream(FileChannel.open(path,StandardOpenOption.READ),decoder,window,minimumSplit);
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+	/*
+	 * Takes ownership of the channel, it is closed when the Stream is closed (or if the Stream can not be created)
+	 */
+	static <T> Stream<T> stream(FileChannel channel, LineDecoder<T> decoder, int window, long minimumSplit) throws IOException{
+		try{
+			long size = channel.size();
+			return StreamSupport.stream(new MappedLineSpliterator<>(channel,decoder,size,window,minimumSplit,0,size),false)
+								.onClose(()->close(channel));
+		}catch(IOException | RuntimeException e){
+			channel.close();
+			throw e;
+		}
+	}
+	private static Stream<String> linesFallback(Path path, Charset charset){
+		try {
+			return Files.lines(path,charset);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	private static boolean scannable(Charset charset){
+		if(charset.equals(StandardCharsets.UTF_8))
+			return true;
+		if(!charset.canEncode() || charset.newEncoder().maxBytesPerChar()!=1)
+			return false;
+		byte[] delimiters = "\r\n".getBytes(charset);
+		return delimiters.length==2 && delimiters[0]=='\r' && delimiters[1]=='\n';
+	}
+	private static void close(FileChannel channel){
+		try {
+			channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	private static String decode(ByteBuffer buffer, int from, int to, Charset charset){
+		return new String(bytes(buffer,from,to),charset);
+	}
+	/*
+	 * new String(..) replaces malformed input with U+FFFD, so only lines containing it are re-checked with a reporting decoder
+	 */
+	private static String decodeStrict(ByteBuffer buffer, int from, int to, Charset charset){
+		byte[] bytes = bytes(buffer,from,to);
+		String line = new String(bytes,charset);
+		if(line.indexOf('\uFFFD')<0)
+			return line;
+		try {
+			return charset.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+		} catch (CharacterCodingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	private static byte[] bytes(ByteBuffer buffer, int from, int to){
+		byte[] bytes = new byte[to-from];
+		ByteBuffer read = buffer.duplicate();
+		read.position(from);
+		read.get(bytes);
+		return bytes;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if(position>=end)
+			return false;
+		long scan = position;
+		long lineEnd;
+		long next;
+		for(;;){
+			map(position,scan);
+			int limit = buffer.limit();
+			int i = (int)(scan-bufferStart);
+			byte b = 0;
+			while(i<limit && (b=buffer.get(i))!='\n' && b!='\r')
+				i++;
+			if(i<limit){
+				lineEnd = bufferStart+i;
+				next = lineEnd+1;
+				if(b=='\r' && next<end){
+					map(position,next);
+					if(buffer.get((int)(next-bufferStart))=='\n')
+						next++;
+				}
+				break;
+			}
+			scan = bufferStart+limit;
+			if(scan>=size){
+				lineEnd = size;
+				next = size;
+				break;
+			}
+		}
+		int from = (int)(position-bufferStart);
+		int to = (int)(lineEnd-bufferStart);
+		position = next;
+		action.accept(decoder.decode(buffer,from,to));
+		return true;
+	}
+	/*
+	 * Ensure the mapped window starts at or before from, and covers scan (unless scan is the end of the file)
+	 */
+	private void map(long from, long scan){
+		if(buffer!=null && from>=bufferStart && scan<bufferStart+buffer.limit())
+			return;
+		long length = Math.min(size-from,Math.max(window,scan-from+window));
+		if(length>Integer.MAX_VALUE){
+			if(scan-from>=Integer.MAX_VALUE)
+				throw new IllegalStateException("Line starting at byte " + from + " is longer than " + Integer.MAX_VALUE + " bytes");
+			length = Integer.MAX_VALUE;
+		}
+		try {
+			buffer = channel.map(MapMode.READ_ONLY,from,length);
+			bufferStart = from;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		long remaining = end-position;
+		if(remaining<minimumSplit*2)
+			return null;
+		long split = nextLineStart(position+remaining/2);
+		if(split<=position || split>=end)
+			return null;
+		MappedLineSpliterator<T> prefix = new MappedLineSpliterator<>(channel,decoder,size,window,minimumSplit,position,split);
+		position = split;
+		return prefix;
+	}
+	private long nextLineStart(long from){
+		long scan = from;
+		ByteBuffer search = null;
+		long searchStart = 0;
+		while(scan<end){
+			if(search==null || scan>=searchStart+search.limit()){
+				try {
+					searchStart = scan;
+					search = channel.map(MapMode.READ_ONLY,scan,Math.min(end-scan,64*1024));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			byte b = search.get((int)(scan-searchStart));
+			if(b=='\n')
+				return scan+1;
+			if(b=='\r'){
+				if(scan+1<end && byteAt(scan+1)=='\n')
+					return scan+2;
+				return scan+1;
+			}
+			scan++;
+		}
+		return end;
+	}
+
+	private byte byteAt(long position){
+		try {
+			return channel.map(MapMode.READ_ONLY,position,1).get(0);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public long estimateSize() {
+		return end-position;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL | IMMUTABLE;
+	}
+
+	/**
+	 * A view of a range of bytes as ISO-8859-1 characters
+	 */
+	static final class ByteCharSequence implements CharSequence{
+		private final ByteBuffer buffer;
+		private final int from;
+		private final int to;
+
+		ByteCharSequence(ByteBuffer buffer, int from, int to){
+			this.buffer = buffer;
+			this.from = from;
+			this.to = to;
+		}
+		@Override
+		public int length() {
+			return to-from;
+		}
+		@Override
+		public char charAt(int index) {
+			if(index<0 || index>=to-from)
+				throw new IndexOutOfBoundsException("Index " + index + " length " + (to-from));
+			return (char)(buffer.get(from+index) & 0xFF);
+		}
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if(start<0 || end>to-from || start>end)
+				throw new IndexOutOfBoundsException("Range " + start + " to " + end + " length " + (to-from));
+			return new ByteCharSequence(buffer,from+start,from+end);
+		}
+		@Override
+		public String toString(){
+			return decode(buffer,from,to,StandardCharsets.ISO_8859_1);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.invokedynamic.ExceptionSoftener;
+import com.aol.cyclops.sequence.RowMapper;
+
+/**
+ * Reads a ResultSet one row at a time, mapping each row as it is read so only the current row is held in memory.
+ *
+ * The ResultSet (and the Statement, if one is owned) is closed when the last row has been read, or via {@link #close()}
+ * (e.g. from Stream#onClose) if the Stream is abandoned early.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type each row is mapped to
+ */
+public class ResultSetSpliterator<T> implements Spliterator<T> {
+
+	private final ResultSet resultSet;
+	private final Statement statement;
+	private RowMapper<T> mapper;
+	private boolean prepared;
+	private boolean closed;
+
+	/**
+	 * @param resultSet ResultSet to read
+	 * @param statement Statement to close with the ResultSet (may be null)
+	 * @param mapper Maps each row
+	 */
+	public ResultSetSpliterator(ResultSet resultSet, Statement statement, RowMapper<T> mapper){
+		this.resultSet = resultSet;
+		this.statement = statement;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * @param resultSet ResultSet to read
+	 * @param statement Statement to close with the ResultSet (may be null)
+	 * @param mapper Maps each row
+	 * @return Stream of mapped rows, closing the Stream closes the ResultSet (and statement)
+	 */
+	public static <T> Stream<T> stream(ResultSet resultSet, Statement statement, RowMapper<T> mapper){
+		ResultSetSpliterator<T> rows = new ResultSetSpliterator<>(resultSet,statement,mapper);
+		return StreamSupport.stream(rows,false).onClose(rows::close);
+	}
+	/**
+	 * @param resultSet ResultSet to read
+	 * @param statement Statement to close with the ResultSet (may be null)
+	 * @param mapper Maps each row
+	 * @param batchSize Maximum number of rows per List
+	 * @return Stream of Lists of mapped rows, closing the Stream closes the ResultSet (and statement)
+	 */
+	public static <T> Stream<List<T>> batches(ResultSet resultSet, Statement statement, RowMapper<T> mapper, int batchSize){
+		ResultSetSpliterator<T> rows = new ResultSetSpliterator<>(resultSet,statement,mapper);
+		return StreamSupport.stream(new BatchBySizeSpliterator<T,List<T>>(rows,batchSize,()->new ArrayList<>(batchSize)),false)
+							.onClose(rows::close);
+	}
+	/**
+	 * Set the fetch size and execute the query, closing the statement if that fails
+	 *
+	 * @param statement Query to execute
+	 * @param fetchSize Number of rows the driver should fetch at a time
+	 * @return ResultSet of the query
+	 */
+	public static ResultSet executeQuery(PreparedStatement statement, int fetchSize){
+		Objects.requireNonNull(statement);
+		try{
+			try{
+				statement.setFetchSize(fetchSize);
+				return statement.executeQuery();
+			}catch(SQLException | RuntimeException e){
+				statement.close();
+				throw e;
+			}
+		}catch(SQLException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if(closed)
+			return false;
+		try{
+			if(!prepared){
+				mapper = mapper.prepare(resultSet);
+				prepared = true;
+			}
+			if(!resultSet.next()){
+				close();
+				return false;
+			}
+			action.accept(mapper.map(resultSet));
+			return true;
+		}catch(SQLException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+	/**
+	 * Close the ResultSet, and the Statement if one is owned. Closing more than once has no effect.
+	 */
+	public void close(){
+		if(closed)
+			return;
+		closed = true;
+		try{
+			try{
+				resultSet.close();
+			}finally{
+				if(statement!=null)
+					statement.close();
+			}
+		}catch(SQLException e){
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED;
+	}
+
+}
@@ -4,10 +4,8 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
-@AllArgsConstructor
 public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator {
 	
 	
@@ -16,14 +14,25 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 	private boolean reverse;
 	    
 	int index=0;
+	private int fence;
+	
+	public ReversingArraySpliterator(Object[] array, boolean reverse, int index){
+		this(array,reverse,index,array.length);
+	}
+	private ReversingArraySpliterator(Object[] array, boolean reverse, int index, int fence){
+		this.array = array;
+		this.reverse = reverse;
+		this.index = index;
+		this.fence = fence;
+	}
     @Override
     public long estimateSize() {
-        return array.length;
+        return Math.max(0, reverse ? index+1 : fence-index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
     }
     
     public ReversingArraySpliterator<T> invert(){
@@ -37,7 +46,7 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 		 Objects.requireNonNull(action);
 		 
 		 if(!reverse){
-			 if(index<array.length && index>-1){
+			 if(index<fence && index>-1){
 				 action.accept((T)array[index++]);
 				 return true;
 			 }
@@ -54,13 +63,19 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
 	@Override
 	public Spliterator<T> trySplit() {
-		
-		return this;
+		if(reverse)
+			return null;
+		int mid = (index+fence)>>>1;
+		if(mid<=index)
+			return null;
+		Spliterator<T> prefix = new ReversingArraySpliterator<T>(array, false, index, mid);
+		index = mid;
+		return prefix;
 	}
 
 	@Override
 	public ReversableSpliterator copy() {
-		return new ReversingArraySpliterator<T>(array, reverse, index);
+		return new ReversingArraySpliterator<T>(array, reverse, index, fence);
 	}
 
    
@@ -3,6 +3,7 @@ package com.aol.cyclops.streams.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
@@ -37,12 +38,12 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 		}
 	    @Override
 	    public long estimateSize() {
-	        return list.size();
+	        return reverse ? it.nextIndex() : list.size()-it.nextIndex();
 	    }
 
 	    @Override
 	    public int characteristics() {
-	        return IMMUTABLE;
+	        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
 	    }
 	    
 
@@ -73,8 +74,15 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 	
 	@Override
 	public Spliterator<T> trySplit() {
-		
-		return this;
+		if(reverse || !(list instanceof RandomAccess))
+			return null;
+		int from = it.nextIndex();
+		int mid = (from+list.size())>>>1;
+		if(mid<=from)
+			return null;
+		Spliterator<T> prefix = new ReversingListSpliterator<T>(list.subList(from,mid),false);
+		it = list.listIterator(mid);
+		return prefix;
 	}
 
 	
@@ -6,21 +6,30 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
 public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator {
   
     private int index;
+    private final int min;
     private final int max;
     @Getter @Setter
     private boolean reverse;
+
+    public ReversingRangeIntSpliterator(int start, int max, boolean reverse){
+    	this(reverse ? max-1 : start,start,max,reverse);
+    }
+    private ReversingRangeIntSpliterator(int index, int min, int max, boolean reverse){
+    	this.index = index;
+    	this.min = min;
+    	this.max = max;
+    	this.reverse = reverse;
+    }
    
     public ReversableSpliterator invert(){
 		setReverse(!isReverse());
-		index = max-1;
+		index = reverse ? max-1 : min;
 		return this;
 	}
 
@@ -28,13 +37,13 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
     public boolean tryAdvance(IntConsumer consumer) {
         Objects.requireNonNull(consumer);
         if(!reverse){
-        	if(index<max && index>-1){
+        	if(index<max && index>=min){
         		consumer.accept(index++);
         		return true;
         	}
         }
         if(reverse){
-        	if(index>-1 && index<max){
+        	if(index>=min && index<max){
         		consumer.accept(index--);
         		return true;
         	}
@@ -46,17 +55,24 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     @Override
     public long estimateSize() {
-      return max;
+      return Math.max(0, reverse ? (long)index-min+1 : (long)max-index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
     }
    
     @Override
     public Spliterator.OfInt trySplit() {
-        return this;
+    	if(reverse)
+    		return null;
+    	int mid = (int)(index + ((long)max-index)/2);
+    	if(mid<=index)
+    		return null;
+    	ReversingRangeIntSpliterator prefix = new ReversingRangeIntSpliterator(index,index,mid,false);
+    	index = mid;
+        return prefix;
     }
 
 
@@ -69,7 +85,7 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
 	@Override
 	public ReversableSpliterator copy() {
-		return new ReversingRangeIntSpliterator(index, max, reverse);
+		return new ReversingRangeIntSpliterator(index, min, max, reverse);
 	}
 
     
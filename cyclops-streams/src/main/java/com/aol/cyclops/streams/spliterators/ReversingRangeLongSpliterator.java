@@ -4,21 +4,30 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.LongConsumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
 public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator {
   
     private long index;
+    private final long min;
     private final long max;
     @Getter @Setter
     private boolean reverse;
+
+    public ReversingRangeLongSpliterator(long start, long max, boolean reverse){
+    	this(reverse ? max-1 : start,start,max,reverse);
+    }
+    private ReversingRangeLongSpliterator(long index, long min, long max, boolean reverse){
+    	this.index = index;
+    	this.min = min;
+    	this.max = max;
+    	this.reverse = reverse;
+    }
    
     public ReversableSpliterator invert(){
 		setReverse(!isReverse());
-		index = max-1;
+		index = reverse ? max-1 : min;
 		return this;
 	}
 
@@ -26,13 +35,13 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
     public boolean tryAdvance(LongConsumer consumer) {
         Objects.requireNonNull(consumer);
         if(!reverse){
-        	if(index<max && index>-1){
+        	if(index<max && index>=min){
         		consumer.accept(index++);
         		return true;
         	}
         }
         if(reverse){
-        	if(index>-1 && index<max){
+        	if(index>=min && index<max){
         		consumer.accept(index--);
         		return true;
         	}
@@ -44,17 +53,24 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
 
     @Override
     public long estimateSize() {
-      return max;
+      return Math.max(0, reverse ? index-min+1 : max-index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
     }
    
     @Override
     public Spliterator.OfLong trySplit() {
-        return this;
+    	if(reverse)
+    		return null;
+    	long mid = index + (max-index)/2;
+    	if(mid<=index)
+    		return null;
+    	ReversingRangeLongSpliterator prefix = new ReversingRangeLongSpliterator(index,index,mid,false);
+    	index = mid;
+        return prefix;
     }
 
 
@@ -67,7 +83,7 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
 
 	@Override
 	public ReversableSpliterator copy() {
-		return new ReversingRangeLongSpliterator(index, max, reverse);
+		return new ReversingRangeLongSpliterator(index, min, max, reverse);
 	}
 
     
@@ -0,0 +1,44 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Base class for operator Spliterators whose size can be calculated from the size of their source. When the source is
+ * SIZED the operator reports an exact size (so collecting to a List or array is pre-sized), and trySplit hands off batches
+ * of results to other threads (see {@link Spliterators.AbstractSpliterator}).
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Source data type
+ * @param <R> Result data type
+ */
+public abstract class SizedSpliterator<T,R> extends Spliterators.AbstractSpliterator<R> {
+
+	protected final Spliterator<T> source;
+
+	/**
+	 * @param source Spliterator this operator reads from
+	 * @param size Calculates the number of results from the number of source elements
+	 * @param characteristics Additional characteristics of this operator (ORDERED is inherited from the source)
+	 */
+	protected SizedSpliterator(Spliterator<T> source, LongUnaryOperator size, int characteristics){
+		super(size(source,size),characteristics(source,size,characteristics));
+		this.source = source;
+	}
+
+	static long size(Spliterator<?> source, LongUnaryOperator size){
+		long sourceSize = source.getExactSizeIfKnown();
+		if(sourceSize<0)
+			return Long.MAX_VALUE;
+		long result = size.applyAsLong(sourceSize);
+		return result<0 ? Long.MAX_VALUE : result;
+	}
+	static int characteristics(Spliterator<?> source, LongUnaryOperator size, int characteristics){
+		int result = (source.characteristics() & Spliterator.ORDERED) | characteristics;
+		if(size(source,size)!=Long.MAX_VALUE)
+			result = result | Spliterator.SIZED | Spliterator.SUBSIZED;
+		return result;
+	}
+}
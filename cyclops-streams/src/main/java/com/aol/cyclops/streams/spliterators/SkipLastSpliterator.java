@@ -0,0 +1,34 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Drops the last skip elements of a source Spliterator, buffering at most skip+1 elements
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class SkipLastSpliterator<T> extends SizedSpliterator<T,T> {
+
+	private final int skip;
+	private final ArrayDeque<T> buffer;
+
+	public SkipLastSpliterator(Spliterator<T> source, int skip){
+		super(source,n->Math.max(0,n-skip),source.characteristics() & NONNULL);
+		this.skip = skip;
+		this.buffer = new ArrayDeque<>(skip+1);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		while(buffer.size()<=skip){
+			if(!source.tryAdvance(buffer::add))
+				return false;
+		}
+		action.accept(buffer.poll());
+		return true;
+	}
+}
@@ -0,0 +1,63 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+import com.aol.cyclops.sequence.Monoid;
+
+/**
+ * For each element of a source Spliterator, emits the reduction of all elements received within the specified
+ * time (including the current one), updating a running {@link WindowAggregate} as elements enter and expire.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class SlidingReduceByTimeSpliterator<T> extends SizedSpliterator<T,T> {
+
+	private final long nanos;
+	private final WindowAggregate<T> aggregate;
+	private long[] times = new long[16];
+	private int head = 0;
+	private final Consumer<T> push;
+
+	public SlidingReduceByTimeSpliterator(Spliterator<T> source, long nanos, Monoid<T> monoid){
+		this(source,nanos,WindowAggregate.of(monoid));
+	}
+	public SlidingReduceByTimeSpliterator(Spliterator<T> source, long nanos, Monoid<T> monoid, BinaryOperator<T> inverse){
+		this(source,nanos,WindowAggregate.of(monoid,inverse));
+	}
+	private SlidingReduceByTimeSpliterator(Spliterator<T> source, long nanos, WindowAggregate<T> aggregate){
+		super(source,n->n,0);
+		this.nanos = nanos;
+		this.aggregate = aggregate;
+		this.push = this::push;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if(!source.tryAdvance(push))
+			return false;
+		action.accept(aggregate.result());
+		return true;
+	}
+
+	private void push(T t){
+		long now = System.nanoTime();
+		while(aggregate.size()>0 && now-times[head]>nanos){
+			aggregate.pop();
+			head = (head+1)%times.length;
+		}
+		int size = aggregate.size();
+		if(size==times.length){
+			long[] next = new long[times.length*2];
+			for(int i=0;i<size;i++)
+				next[i] = times[(head+i)%times.length];
+			times = next;
+			head = 0;
+		}
+		times[(head+size)%times.length] = now;
+		aggregate.push(t);
+	}
+}
@@ -0,0 +1,52 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+import com.aol.cyclops.sequence.Monoid;
+
+/**
+ * Emits the reduction of each sliding window (with an increment of one) over a source Spliterator, updating a
+ * running {@link WindowAggregate} as elements enter and leave the window rather than re-reducing each window.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class SlidingReduceSpliterator<T> extends SizedSpliterator<T,T> {
+
+	private final int windowSize;
+	private final WindowAggregate<T> aggregate;
+	private boolean started = false;
+	private final Consumer<T> push;
+
+	public SlidingReduceSpliterator(Spliterator<T> source, int windowSize, Monoid<T> monoid){
+		this(source,windowSize,WindowAggregate.of(monoid));
+	}
+	public SlidingReduceSpliterator(Spliterator<T> source, int windowSize, Monoid<T> monoid, BinaryOperator<T> inverse){
+		this(source,windowSize,WindowAggregate.of(monoid,inverse));
+	}
+	private SlidingReduceSpliterator(Spliterator<T> source, int windowSize, WindowAggregate<T> aggregate){
+		super(source,n->SlidingSpliterator.windows(n,windowSize,1),0);
+		this.windowSize = windowSize;
+		this.aggregate = aggregate;
+		this.push = aggregate::push;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if(started){
+			if(!source.tryAdvance(push))
+				return false;
+			aggregate.pop();
+		}
+		started = true;
+		while(aggregate.size()<windowSize && source.tryAdvance(push)){
+		}
+		if(aggregate.size()==0)
+			return false;
+		action.accept(aggregate.result());
+		return true;
+	}
+}
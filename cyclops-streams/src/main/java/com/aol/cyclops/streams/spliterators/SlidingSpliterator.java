@@ -0,0 +1,195 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Sliding windows over a source Spliterator. The first window holds up to windowSize elements, each subsequent window
+ * drops up to increment elements from the front and refills from the source, while the source has elements remaining.
+ *
+ * By default each window is an immutable List view over an append only buffer (which is copied into a new array
+ * only when full, so each step costs amortised O(1)). In reuse mode a single List view over a ring buffer is emitted for
+ * every window, it is only valid until the next window is requested.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+public class SlidingSpliterator<T> extends SizedSpliterator<T,List<T>> {
+
+	private final int windowSize;
+	private final int increment;
+	private final boolean reuse;
+	private final Buffer<T> window;
+	private boolean started = false;
+	private T held;
+	private final Consumer<T> hold = t-> held = t;
+
+	public SlidingSpliterator(Spliterator<T> source, int windowSize, int increment){
+		this(source,windowSize,increment,false);
+	}
+	public SlidingSpliterator(Spliterator<T> source, int windowSize, int increment, boolean reuse){
+		super(source,n->windows(n,windowSize,increment),NONNULL);
+		this.windowSize = windowSize;
+		this.increment = increment;
+		this.reuse = reuse;
+		this.window = reuse ? new RingBuffer<>(windowSize) : new SnapshotBuffer<>(windowSize);
+	}
+
+	static long windows(long size, int windowSize, int increment){
+		if(size==0)
+			return 0;
+		if(size<=windowSize)
+			return 1;
+		long step = Math.min(windowSize,increment);
+		return 1 + (size-windowSize+step-1)/step;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super List<T>> action) {
+		if(started){
+			if(!source.tryAdvance(hold))
+				return false;
+			window.drop(increment);
+			window.append(held);
+		}
+		started = true;
+		while(window.size()<windowSize && source.tryAdvance(hold))
+			window.append(held);
+		held = null;
+		if(window.size()==0)
+			return false;
+		action.accept(window.current());
+		return true;
+	}
+
+	@Override
+	public Spliterator<List<T>> trySplit() {
+		return reuse ? null : super.trySplit();
+	}
+
+	private static int initialCapacity(int windowSize){
+		return Math.max(2,Math.min(windowSize,64));
+	}
+
+	private static interface Buffer<T>{
+		void append(T t);
+		void drop(int n);
+		int size();
+		List<T> current();
+	}
+
+	/**
+	 * Windows occupy [start,end) of the current array, and positions before end are never overwritten, so views
+	 * over them are immutable. When the array is full the current window is copied to the start of a new array
+	 * (twice the size if the window occupies more than half of the current one).
+	 */
+	private static class SnapshotBuffer<T> implements Buffer<T>{
+		private Object[] elements;
+		private int start = 0;
+		private int end = 0;
+
+		SnapshotBuffer(int windowSize){
+			elements = new Object[initialCapacity(windowSize)];
+		}
+		@Override
+		public void append(T t) {
+			if(end==elements.length)
+				grow();
+			elements[end++]=t;
+		}
+		private void grow(){
+			int size = end-start;
+			int capacity = size > elements.length/2 ? (int)Math.min(Integer.MAX_VALUE-8,2L*elements.length) : elements.length;
+			Object[] next = new Object[capacity];
+			System.arraycopy(elements, start, next, 0, size);
+			elements = next;
+			start = 0;
+			end = size;
+		}
+		@Override
+		public void drop(int n) {
+			start = start + Math.min(n,end-start);
+		}
+		@Override
+		public int size() {
+			return end-start;
+		}
+		@Override
+		public List<T> current() {
+			return new ArrayWindow<>(elements,start,end-start);
+		}
+	}
+
+	private static class ArrayWindow<T> extends AbstractList<T> implements RandomAccess{
+		private final Object[] elements;
+		private final int offset;
+		private final int size;
+
+		ArrayWindow(Object[] elements, int offset, int size){
+			this.elements = elements;
+			this.offset = offset;
+			this.size = size;
+		}
+		@Override
+		public T get(int index) {
+			if(index<0 || index>=size)
+				throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+			return (T)elements[offset+index];
+		}
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private static class RingBuffer<T> extends AbstractList<T> implements Buffer<T>, RandomAccess{
+		private Object[] elements;
+		private int head = 0;
+		private int size = 0;
+
+		RingBuffer(int windowSize){
+			elements = new Object[initialCapacity(windowSize)];
+		}
+		@Override
+		public void append(T t) {
+			if(size==elements.length)
+				grow();
+			elements[(head+size)%elements.length]=t;
+			size++;
+		}
+		private void grow(){
+			Object[] next = new Object[(int)Math.min(Integer.MAX_VALUE-8,2L*elements.length)];
+			for(int i=0;i<size;i++)
+				next[i]=elements[(head+i)%elements.length];
+			elements = next;
+			head = 0;
+		}
+		@Override
+		public void drop(int n) {
+			int count = Math.min(n,size);
+			for(int i=0;i<count;i++){
+				elements[head]=null;
+				head = (head+1)%elements.length;
+			}
+			size = size-count;
+		}
+		@Override
+		public List<T> current() {
+			return this;
+		}
+		@Override
+		public T get(int index) {
+			if(index<0 || index>=size)
+				throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+			return (T)elements[(head+index)%elements.length];
+		}
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.aol.cyclops.streams.spliterators;
+
+import java.util.ArrayDeque;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+import com.aol.cyclops.sequence.Monoid;
+
+/**
+ * Running reduction of a FIFO window of elements, supporting O(1) (amortised) additions at the back and
+ * removals from the front.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements
+ */
+abstract class WindowAggregate<T> {
+
+	/**
+	 * Reduce a window with a Monoid, using two stacks (the front stack holds suffix reductions of the
+	 * oldest elements, the back holds a running reduction of the newest). Works with any associative Monoid,
+	 * e.g. min / max.
+	 */
+	static <T> WindowAggregate<T> of(Monoid<T> monoid){
+		return new TwoStack<>(monoid);
+	}
+
+	/**
+	 * Reduce a window with a Monoid and its inverse, removing elements by applying the inverse
+	 * to the running reduction, e.g. (total,removed) -> total-removed for sums.
+	 */
+	static <T> WindowAggregate<T> of(Monoid<T> monoid, BinaryOperator<T> inverse){
+		return new Invertible<>(monoid,inverse);
+	}
+
+	abstract void push(T t);
+	abstract void pop();
+	abstract int size();
+	abstract T result();
+
+	private static class Invertible<T> extends WindowAggregate<T>{
+		private final BiFunction<T,T,T> combiner;
+		private final BinaryOperator<T> inverse;
+		private final ArrayDeque<T> elements = new ArrayDeque<>();
+		private T total;
+
+		Invertible(Monoid<T> monoid, BinaryOperator<T> inverse){
+			this.combiner = monoid.combiner();
+			this.inverse = inverse;
+			this.total = monoid.zero();
+		}
+		@Override
+		void push(T t) {
+			elements.add(t);
+			total = combiner.apply(total,t);
+		}
+		@Override
+		void pop() {
+			total = inverse.apply(total,elements.poll());
+		}
+		@Override
+		int size() {
+			return elements.size();
+		}
+		@Override
+		T result() {
+			return total;
+		}
+	}
+
+	private static class TwoStack<T> extends WindowAggregate<T>{
+		private final T zero;
+		private final BiFunction<T,T,T> combiner;
+		private final ArrayDeque<T> front = new ArrayDeque<>();
+		private final ArrayDeque<T> back = new ArrayDeque<>();
+		private T backTotal;
+
+		TwoStack(Monoid<T> monoid){
+			this.zero = monoid.zero();
+			this.combiner = monoid.combiner();
+			this.backTotal = zero;
+		}
+		@Override
+		void push(T t) {
+			back.add(t);
+			backTotal = combiner.apply(backTotal,t);
+		}
+		@Override
+		void pop() {
+			if(front.isEmpty()){
+				T suffix = zero;
+				while(!back.isEmpty()){
+					suffix = combiner.apply(back.pollLast(),suffix);
+					front.push(suffix);
+				}
+				backTotal = zero;
+			}
+			front.pop();
+		}
+		@Override
+		int size() {
+			return front.size()+back.size();
+		}
+		@Override
+		T result() {
+			return front.isEmpty() ? backTotal : combiner.apply(front.peek(),backTotal);
+		}
+	}
+}
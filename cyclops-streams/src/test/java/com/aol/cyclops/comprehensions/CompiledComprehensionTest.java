@@ -0,0 +1,72 @@
+package com.aol.cyclops.comprehensions;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class CompiledComprehensionTest {
+
+	Function<Integer,Function<Integer,Integer>> add = a->b->a+b;
+
+	@Test
+	public void optional(){
+		Optional<Integer> result = CompiledComprehension.builder()
+												.value(Optional.of(10))
+												.bind((Integer a)->Optional.of(a+1))
+												.yield(add);
+		assertThat(result,equalTo(Optional.of(21)));
+	}
+	@Test
+	public void optionalGuard(){
+		Function<Integer,Function<Integer,Boolean>> large = a->b->b>100;
+		Optional<Integer> result = CompiledComprehension.builder()
+												.value(Optional.of(10))
+												.bind((Integer a)->Optional.of(a+1))
+												.guard(large)
+												.yield(add);
+		assertThat(result,equalTo(Optional.empty()));
+	}
+	@Test
+	public void completableFuture(){
+		CompletableFuture<Integer> result = CompiledComprehension.builder()
+												.value(CompletableFuture.completedFuture(10))
+												.bind((Integer a)->CompletableFuture.supplyAsync(()->a*2))
+												.yield(add);
+		assertThat(result.join(),equalTo(30));
+	}
+	@Test
+	public void streamsAreReSupplied(){
+		Supplier<Stream<String>> letters = ()->Stream.of("a","b");
+		Function<Integer,Function<String,String>> concat = a->b->b+a;
+		Stream<String> result = CompiledComprehension.builder()
+												.value(Arrays.asList(1,2))
+												.value(letters)
+												.yield(concat);
+		assertThat(result.collect(Collectors.toList()),equalTo(Arrays.asList("a1","b1","a2","b2")));
+	}
+	@Test
+	@SuppressWarnings("unchecked")
+	public void compiledComprehensionIsReusable(){
+		CompiledComprehension comp = CompiledComprehension.builder()
+												.value(Arrays.asList(1,2,3))
+												.guard((Integer a)->a>1)
+												.compile((Integer a)->a*10);
+		List<Integer> first = ((Stream<Integer>)comp.execute()).collect(Collectors.toList());
+		assertThat(first,equalTo(Arrays.asList(20,30)));
+		assertThat(((Stream<Integer>)comp.execute()).collect(Collectors.toList()),equalTo(first));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void mustStartWithValue(){
+		CompiledComprehension.builder().bind(a->a).compile(a->a);
+	}
+}
@@ -81,6 +81,25 @@ public class FreeFormTest {
 										
 	}
 	
+	@Test
+	public void freeFormRebind(){
+		Stream<Integer> stream = foreachX(c -> c.$("a",asList(1,2))
+										.$("b",()->asList(c.<Integer>$("a")*10))
+										.$("a",asList(100))
+										.yield(()-> c.<Integer>$("a")+c.<Integer>$("b")));
+		
+		assertThat(stream.collect(Collectors.toList()),equalTo(Arrays.asList(110,120)));
+	}
+	@Test
+	public void freeFormNested(){
+		Stream<Integer> stream = foreachX(c -> c.$("a",asList(1,2))
+										.yield(()-> ((Stream<Integer>)foreachX(d -> d.$("b",asList(10))
+																.yield(()-> d.<Integer>$("b")+c.<Integer>$("a"))))
+															.findFirst().get()));
+		
+		assertThat(stream.collect(Collectors.toList()),equalTo(Arrays.asList(11,12)));
+	}
+	
 	@Test
 	public void freeFormCustom2(){
 			comp.foreach(c -> c.i(Arrays.asList(20,30))
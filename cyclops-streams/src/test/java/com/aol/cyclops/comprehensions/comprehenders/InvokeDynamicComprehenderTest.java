@@ -0,0 +1,79 @@
+package com.aol.cyclops.comprehensions.comprehenders;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import lombok.Value;
+
+import org.junit.Test;
+
+import com.aol.cyclops.lambda.api.Comprehender;
+import com.aol.cyclops.lambda.monads.ComprehenderSelector;
+
+public class InvokeDynamicComprehenderTest {
+
+	InvokeDynamicComprehender comprehender = new InvokeDynamicComprehender(Optional.empty());
+
+	@Test
+	public void selectedOncePerType(){
+		Comprehender first = new ComprehenderSelector().selectComprehender(Box.class);
+		assertThat(first,instanceOf(InvokeDynamicComprehender.class));
+		assertThat(new ComprehenderSelector().selectComprehender(new Box<>(1)),sameInstance(first));
+	}
+	@Test
+	public void mapFunctionParameter(){
+		assertThat(comprehender.map(new Box<>(10),i->(Integer)i+1),equalTo(new Box<>(11)));
+	}
+	@Test
+	public void flatMapFunctionParameter(){
+		assertThat(comprehender.flatMap(new Box<>(10),i->new Box<>((Integer)i*2)),equalTo(new Box<>(20)));
+	}
+	@Test
+	public void mapCustomFunctionalInterface(){
+		assertThat(comprehender.map(new Custom<>("hello"),s->s+" world"),equalTo(new Custom<>("hello world")));
+	}
+	@Test
+	public void filterCustomFunctionalInterface(){
+		assertThat(comprehender.filter(new Custom<>("hello"),s->false),equalTo(new Custom<>(null)));
+		assertThat(comprehender.filter(new Custom<>("hello"),s->true),equalTo(new Custom<>("hello")));
+	}
+	@Test
+	public void bindCustomFunctionalInterface(){
+		assertThat(comprehender.flatMap(new Custom<>("hello"),s->new Custom<>(s+"!")),equalTo(new Custom<>("hello!")));
+	}
+
+	@Value
+	public static class Box<T>{
+		T value;
+		public <R> Box<R> map(Function<? super T,? extends R> fn){
+			return new Box<>(fn.apply(value));
+		}
+		public <R> Box<R> flatMap(Function<? super T,Box<R>> fn){
+			return fn.apply(value);
+		}
+	}
+	public static interface Fn<A,B>{
+		B call(A a);
+	}
+	public static interface Test1<A>{
+		boolean check(A a);
+	}
+	@Value
+	public static class Custom<T>{
+		T value;
+		public <R> Custom<R> map(Fn<T,R> fn){
+			return new Custom<>(fn.call(value));
+		}
+		public <R> Custom<R> bind(Fn<T,Custom<R>> fn){
+			return fn.call(value);
+		}
+		public Custom<T> filter(Test1<T> fn){
+			return fn.check(value) ? this : new Custom<>(null);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.aol.cyclops.scheduling;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.aol.cyclops.scheduling.util.cron.CompiledCron;
+import com.aol.cyclops.scheduling.util.cron.CronExpression;
+import com.aol.cyclops.sequence.SequenceM;
+
+public class HashedWheelTimerTest {
+
+	HashedWheelTimer timer = new HashedWheelTimer(1,TimeUnit.MILLISECONDS,64,2);
+	AtomicInteger count = new AtomicInteger(0);
+
+	@After
+	public void shutdown(){
+		timer.shutdownNow();
+	}
+
+	@Test
+	public void scheduleOnce() throws Exception{
+		ScheduledFuture<String> result = timer.schedule(()->"hello", 20, TimeUnit.MILLISECONDS);
+		assertThat(result.get(1,TimeUnit.SECONDS),equalTo("hello"));
+	}
+	@Test
+	public void scheduleBeyondOneRotation() throws Exception{
+		long start = System.nanoTime();
+		timer.schedule(()->count.incrementAndGet(), 150, TimeUnit.MILLISECONDS).get(1,TimeUnit.SECONDS);
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-start),greaterThan(149l));
+	}
+	@Test
+	public void fixedRate() throws Exception{
+		CountDownLatch latch = new CountDownLatch(5);
+		ScheduledFuture<?> future = timer.scheduleAtFixedRate(latch::countDown, 0, 5, TimeUnit.MILLISECONDS);
+		assertThat(latch.await(1,TimeUnit.SECONDS),equalTo(true));
+		future.cancel(false);
+	}
+	@Test
+	public void cancelled() throws Exception{
+		ScheduledFuture<?> future = timer.schedule(()->count.incrementAndGet(), 20, TimeUnit.MILLISECONDS);
+		future.cancel(false);
+		Thread.sleep(60);
+		assertThat(count.get(),equalTo(0));
+		assertThat(timer.metrics().getPendingTasks(),equalTo(0l));
+	}
+	@Test
+	public void manySchedules() throws Exception{
+		CountDownLatch latch = new CountDownLatch(10_000);
+		for(int i=0;i<10_000;i++)
+			timer.schedule(latch::countDown, i%100, TimeUnit.MILLISECONDS);
+		assertThat(latch.await(5,TimeUnit.SECONDS),equalTo(true));
+		TimerMetrics metrics = timer.metrics();
+		assertThat(metrics.getFiredTasks(),equalTo(10_000l));
+		assertThat(metrics.getTicks(),greaterThan(0l));
+	}
+	@Test
+	public void scheduledSequenceM(){
+		List<Integer> result = SequenceM.of(1,2,3,4)
+										.scheduleFixedRate(20, timer)
+										.connect()
+										.toList();
+		assertThat(result,equalTo(Arrays.asList(1,2,3,4).subList(4-result.size(), 4)));
+		assertThat(result.size(),greaterThan(2));
+	}
+	@Test
+	public void compiledCronIsShared() throws Exception{
+		CompiledCron cron = CompiledCron.of("0/5 * * * * ?");
+		assertThat(CompiledCron.of("0/5 * * * * ?"),sameInstance(cron));
+		CronExpression expression = new CronExpression("0/5 * * * * ?");
+		long now = System.currentTimeMillis();
+		for(long time = now; time<now+20_000;time+=333)
+			assertThat(cron.nextFireAfter(time),equalTo(expression.getNextValidTimeAfter(new Date(time)).getTime()));
+	}
+}
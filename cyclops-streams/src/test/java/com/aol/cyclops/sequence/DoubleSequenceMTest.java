@@ -0,0 +1,53 @@
+package com.aol.cyclops.sequence;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DoubleSequenceMTest {
+
+	@Test
+	public void reverse(){
+		assertThat(DoubleSequenceM.of(1.5,2.5,3.5).reverse().toArray(),equalTo(new double[]{3.5,2.5,1.5}));
+	}
+	@Test
+	public void zipWithIndex(){
+		assertThat(DoubleSequenceM.of(1.5).zipWithIndex().toList(),
+							equalTo(Arrays.asList(new IndexedDouble(1.5,0))));
+	}
+	@Test
+	public void movingAverage(){
+		List<Double> averages = DoubleSequenceM.of(1,2,3,4)
+											.sliding(2)
+											.map(w->(w[0]+w[1])/2)
+											.toList();
+		assertThat(averages,equalTo(Arrays.asList(1.5,2.5,3.5)));
+	}
+	@Test
+	public void batchBySize(){
+		List<double[]> batches = DoubleSequenceM.of(1,2,3).batchBySize(2).toList();
+		assertThat(batches.get(0),equalTo(new double[]{1,2}));
+		assertThat(batches.get(1),equalTo(new double[]{3}));
+	}
+	@Test
+	public void scanLeft(){
+		assertThat(DoubleSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray(),equalTo(new double[]{0,1,3,6}));
+	}
+	@Test
+	public void limitUntilSkipUntil(){
+		assertThat(DoubleSequenceM.of(1,2,3,4,5).skipUntil(d->d>1).limitUntil(d->d>3).toArray(),equalTo(new double[]{2,3}));
+	}
+	@Test
+	public void cycle(){
+		assertThat(DoubleSequenceM.of(0.5).cycle().limit(3).toArray(),equalTo(new double[]{0.5,0.5,0.5}));
+	}
+	@Test
+	public void xMatch(){
+		assertTrue(DoubleSequenceM.of(1,2,3,5,6,7).xMatch(3, i-> i>4 ));
+	}
+}
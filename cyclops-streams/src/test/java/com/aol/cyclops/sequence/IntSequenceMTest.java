@@ -0,0 +1,141 @@
+package com.aol.cyclops.sequence;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class IntSequenceMTest {
+
+	@Test
+	public void range(){
+		assertThat(IntSequenceM.range(5,10).toArray(),equalTo(new int[]{5,6,7,8,9}));
+	}
+	@Test
+	public void reverseRange(){
+		assertThat(IntSequenceM.range(5,10).reverse().toArray(),equalTo(new int[]{9,8,7,6,5}));
+	}
+	@Test
+	public void reverseNegativeRange(){
+		assertThat(IntSequenceM.range(-3,2).reverse().toArray(),equalTo(new int[]{1,0,-1,-2,-3}));
+	}
+	@Test
+	public void reverseTwice(){
+		assertThat(IntSequenceM.range(0,3).reverse().reverse().toArray(),equalTo(new int[]{0,1,2}));
+	}
+	@Test
+	public void reverseMappedRange(){
+		assertThat(IntSequenceM.range(0,3).map(i->i*10).reverse().toArray(),equalTo(new int[]{20,10,0}));
+	}
+	@Test
+	public void reverseLimitedRange(){
+		assertThat(IntSequenceM.range(0,10).limit(3).reverse().toArray(),equalTo(new int[]{2,1,0}));
+	}
+	@Test
+	public void reverse(){
+		assertThat(IntSequenceM.of(1,2,3).reverse().toArray(),equalTo(new int[]{3,2,1}));
+	}
+	@Test
+	public void zipWithIndex(){
+		assertThat(IntSequenceM.of(10,20).zipWithIndex().toList(),
+							equalTo(Arrays.asList(new IndexedInt(10,0),new IndexedInt(20,1))));
+	}
+	@Test
+	public void sliding(){
+		List<int[]> windows = IntSequenceM.of(1,2,3,4).sliding(2).toList();
+		assertThat(windows.size(),equalTo(3));
+		assertThat(windows.get(0),equalTo(new int[]{1,2}));
+		assertThat(windows.get(1),equalTo(new int[]{2,3}));
+		assertThat(windows.get(2),equalTo(new int[]{3,4}));
+	}
+	@Test
+	public void slidingIncrement(){
+		List<int[]> windows = IntSequenceM.of(1,2,3,4,5).sliding(3,2).toList();
+		assertThat(windows.size(),equalTo(2));
+		assertThat(windows.get(0),equalTo(new int[]{1,2,3}));
+		assertThat(windows.get(1),equalTo(new int[]{3,4,5}));
+	}
+	@Test
+	public void slidingMatchesSequenceM(){
+		List<List<Integer>> expected = SequenceM.range(0,20).sliding(4,3).toList();
+		List<List<Integer>> windows = IntSequenceM.range(0,20).sliding(4,3)
+								.map(a->Arrays.stream(a).boxed().collect(Collectors.toList()))
+								.toList();
+		assertThat(windows,equalTo(expected));
+	}
+	@Test
+	public void slidingShort(){
+		List<int[]> windows = IntSequenceM.of(1).sliding(3).toList();
+		assertThat(windows.size(),equalTo(1));
+		assertThat(windows.get(0),equalTo(new int[]{1}));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void slidingZero(){
+		IntSequenceM.of(1).sliding(0);
+	}
+	@Test
+	public void batchBySize(){
+		List<int[]> batches = IntSequenceM.of(1,2,3,4,5).batchBySize(2).toList();
+		assertThat(batches.size(),equalTo(3));
+		assertThat(batches.get(0),equalTo(new int[]{1,2}));
+		assertThat(batches.get(1),equalTo(new int[]{3,4}));
+		assertThat(batches.get(2),equalTo(new int[]{5}));
+	}
+	@Test
+	public void scanLeft(){
+		assertThat(IntSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray(),equalTo(new int[]{0,1,3,6}));
+	}
+	@Test
+	public void scanLeftEmpty(){
+		assertThat(IntSequenceM.of().scanLeft(0,(a,b)->a+b).toArray(),equalTo(new int[]{0}));
+	}
+	@Test
+	public void limitWhile(){
+		assertThat(IntSequenceM.of(4,3,6,7).sorted().limitWhile(i->i<6).toArray(),equalTo(new int[]{3,4}));
+	}
+	@Test
+	public void limitUntil(){
+		assertThat(IntSequenceM.of(4,3,6,7).limitUntil(i->i==6).toArray(),equalTo(new int[]{4,3}));
+	}
+	@Test
+	public void skipWhile(){
+		assertThat(IntSequenceM.of(4,3,6,7).sorted().skipWhile(i->i<6).toArray(),equalTo(new int[]{6,7}));
+	}
+	@Test
+	public void skipUntil(){
+		assertThat(IntSequenceM.of(4,3,6,7).skipUntil(i->i==6).toArray(),equalTo(new int[]{6,7}));
+	}
+	@Test
+	public void skipWhileAll(){
+		assertThat(IntSequenceM.of(1,2).skipWhile(i->true).count(),equalTo(0L));
+	}
+	@Test
+	public void cycle(){
+		assertThat(IntSequenceM.of(1,2).cycle(3).toArray(),equalTo(new int[]{1,2,1,2,1,2}));
+	}
+	@Test
+	public void cycleInfinite(){
+		assertThat(IntSequenceM.range(0,2).cycle().limit(5).toArray(),equalTo(new int[]{0,1,0,1,0}));
+	}
+	@Test
+	public void cycleEmpty(){
+		assertThat(IntSequenceM.of().cycle().count(),equalTo(0L));
+	}
+	@Test
+	public void xMatch(){
+		assertTrue(IntSequenceM.of(1,2,3,5,6,7).xMatch(3, i-> i>4 ));
+		assertFalse(IntSequenceM.of(1,2,3,5,6,7).xMatch(2, i-> i>4 ));
+	}
+	@Test
+	public void conversions(){
+		assertThat(IntSequenceM.range(0,3).asLongStream().scanLeft(0,(a,b)->a+b).toArray(),equalTo(new long[]{0,0,1,3}));
+		assertThat(IntSequenceM.range(0,3).boxed().toList(),equalTo(Arrays.asList(0,1,2)));
+		assertThat(IntSequenceM.range(0,3).mapToObj(i->"x"+i).toList(),equalTo(Arrays.asList("x0","x1","x2")));
+	}
+}
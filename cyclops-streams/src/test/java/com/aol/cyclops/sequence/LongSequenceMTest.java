@@ -0,0 +1,57 @@
+package com.aol.cyclops.sequence;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class LongSequenceMTest {
+
+	@Test
+	public void reverseRange(){
+		assertThat(LongSequenceM.range(5,10).reverse().toArray(),equalTo(new long[]{9,8,7,6,5}));
+	}
+	@Test
+	public void largeRange(){
+		assertThat(LongSequenceM.range(Integer.MAX_VALUE,Integer.MAX_VALUE+3L).toArray(),
+						equalTo(new long[]{Integer.MAX_VALUE,Integer.MAX_VALUE+1L,Integer.MAX_VALUE+2L}));
+	}
+	@Test
+	public void zipWithIndex(){
+		assertThat(LongSequenceM.of(10,20).zipWithIndex().toList(),
+							equalTo(Arrays.asList(new IndexedLong(10,0),new IndexedLong(20,1))));
+	}
+	@Test
+	public void sliding(){
+		List<long[]> windows = LongSequenceM.range(0,4).sliding(3).toList();
+		assertThat(windows.size(),equalTo(2));
+		assertThat(windows.get(0),equalTo(new long[]{0,1,2}));
+		assertThat(windows.get(1),equalTo(new long[]{1,2,3}));
+	}
+	@Test
+	public void batchBySize(){
+		List<long[]> batches = LongSequenceM.range(0,3).batchBySize(2).toList();
+		assertThat(batches.get(0),equalTo(new long[]{0,1}));
+		assertThat(batches.get(1),equalTo(new long[]{2}));
+	}
+	@Test
+	public void scanLeft(){
+		assertThat(LongSequenceM.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray(),equalTo(new long[]{0,1,3,6}));
+	}
+	@Test
+	public void limitWhileSkipWhile(){
+		assertThat(LongSequenceM.range(0,10).skipWhile(i->i<3).limitWhile(i->i<6).toArray(),equalTo(new long[]{3,4,5}));
+	}
+	@Test
+	public void cycle(){
+		assertThat(LongSequenceM.of(1,2).cycle(2).toArray(),equalTo(new long[]{1,2,1,2}));
+	}
+	@Test
+	public void xMatch(){
+		assertTrue(LongSequenceM.of(1,2,3,5,6,7).xMatch(3, i-> i>4 ));
+	}
+}
@@ -0,0 +1,117 @@
+package com.aol.cyclops.sequence;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResultSetSequenceTest {
+
+	Connection connection;
+	@Before
+	public void setup() throws SQLException{
+		connection = DriverManager.getConnection("jdbc:h2:mem:");
+		try(Statement statement = connection.createStatement()){
+			statement.execute("create table people(id int primary key, name varchar(20), age int)");
+			statement.execute("insert into people select x, 'person' || x, 20 + mod(x,50) from system_range(1,1000)");
+		}
+	}
+	@After
+	public void close() throws SQLException{
+		connection.close();
+	}
+
+	@Test
+	public void mapsEachRow() throws SQLException{
+		List<String> names = SequenceM.fromResultSet(connection.prepareStatement("select name from people where id<=3 order by id"),
+													100,rs->rs.getString(1))
+										.toList();
+		assertThat(names,equalTo(asList("person1","person2","person3")));
+	}
+	@Test
+	public void namedColumnsResolvedOnce() throws SQLException{
+		List<String> people = SequenceM.fromResultSet(connection.prepareStatement("select id, age, name from people where id<=2 order by id"),
+										100,RowMapper.named((rs,cols)->rs.getString(cols[0])+":"+rs.getInt(cols[1]),"name","age"))
+										.toList();
+		assertThat(people,equalTo(asList("person1:21","person2:22")));
+	}
+	@Test
+	public void columns() throws SQLException{
+		List<Object[]> rows = SequenceM.fromResultSet(connection.prepareStatement("select id, name from people where id=7"),
+											10,RowMapper.columns()).toList();
+		assertThat(asList(rows.get(0)),equalTo(asList(7,"person7")));
+		rows = SequenceM.fromResultSet(connection.prepareStatement("select id, name from people where id=7"),
+											10,RowMapper.columns("name")).toList();
+		assertThat(asList(rows.get(0)),equalTo(asList("person7")));
+	}
+	@Test
+	public void fetchSizeSet() throws SQLException{
+		List<Integer> fetchSizes = SequenceM.fromResultSet(connection.prepareStatement("select id from people where id<=2"),
+													250,rs->rs.getStatement().getFetchSize())
+										.toList();
+		assertThat(fetchSizes,equalTo(asList(250,250)));
+	}
+	@Test
+	public void batches() throws SQLException{
+		List<Integer> sizes = SequenceM.fromResultSet(connection.prepareStatement("select id from people"),
+													100,rs->rs.getInt(1),300)
+										.map(List::size)
+										.toList();
+		assertThat(sizes,equalTo(asList(300,300,300,100)));
+	}
+	@Test
+	public void closedWhenExhausted() throws SQLException{
+		PreparedStatement statement = connection.prepareStatement("select id from people");
+		SequenceM.fromResultSet(statement,100,rs->rs.getInt(1)).forEach(i->{});
+		assertTrue(statement.isClosed());
+	}
+	@Test
+	public void closedOnClose() throws SQLException{
+		PreparedStatement statement = connection.prepareStatement("select id from people");
+		ResultSet[] resultSet = new ResultSet[1];
+		try(SequenceM<Integer> ids = SequenceM.fromResultSet(statement,100,rs->{ resultSet[0]=rs; return rs.getInt(1);})){
+			assertThat(ids.limit(5).toList().size(),equalTo(5));
+			assertFalse(statement.isClosed());
+		}
+		assertTrue(statement.isClosed());
+		assertTrue(resultSet[0].isClosed());
+	}
+	@Test
+	public void closedThroughOperators() throws SQLException{
+		List<Function<SequenceM<Integer>,SequenceM<?>>> operators = asList(s->s.zipWithIndex(),s->s.sliding(2),s->s.batchBySize(10));
+		for(Function<SequenceM<Integer>,SequenceM<?>> operator : operators){
+			try(Statement statement = connection.createStatement()){
+				ResultSet resultSet = statement.executeQuery("select id from people");
+				SequenceM<?> rows = operator.apply(SequenceM.fromResultSet(resultSet,rs->rs.getInt(1)));
+				assertThat(rows.limit(1).toList().size(),equalTo(1));
+				assertFalse(resultSet.isClosed());
+				rows.close();
+				assertTrue(resultSet.isClosed());
+			}
+		}
+	}
+	@Test
+	public void resultSetOnlyClosesResultSet() throws SQLException{
+		try(Statement statement = connection.createStatement()){
+			ResultSet resultSet = statement.executeQuery("select id from people where id<=10");
+			assertThat(SequenceM.fromResultSet(resultSet,rs->rs.getInt(1)).collect(Collectors.summingInt(i->i)),equalTo(55));
+			assertTrue(resultSet.isClosed());
+			assertFalse(statement.isClosed());
+		}
+	}
+}
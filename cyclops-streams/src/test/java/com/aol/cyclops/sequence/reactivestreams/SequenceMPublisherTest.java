@@ -0,0 +1,107 @@
+package com.aol.cyclops.sequence.reactivestreams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+public class SequenceMPublisherTest {
+
+	ExecutorService exec;
+	List<Integer> received;
+	Subscription subscription;
+	@Before
+	public void setup(){
+		exec = Executors.newFixedThreadPool(2);
+		received = new ArrayList<>();
+	}
+	@After
+	public void shutdown(){
+		exec.shutdown();
+	}
+
+	@Test
+	public void emitsOnlyWhatIsRequested(){
+		SequenceM.iterate(0,i->i+1).subscribe(recording());
+		subscription.request(2);
+		assertThat(received,equalTo(java.util.Arrays.asList(0,1)));
+		subscription.request(3);
+		assertThat(received.size(),equalTo(5));
+	}
+	@Test
+	public void requestFromOnNextDoesNotRecurse(){
+		SequenceM.range(0,100_000).subscribe(new Subscriber<Integer>(){
+			Subscription s;
+			@Override
+			public void onSubscribe(Subscription s) {
+				this.s = s;
+				s.request(1);
+			}
+			@Override
+			public void onNext(Integer t) {
+				received.add(t);
+				s.request(1);
+			}
+			@Override
+			public void onError(Throwable t) {}
+			@Override
+			public void onComplete() {}
+		});
+		assertThat(received.size(),equalTo(100_000));
+	}
+	@Test
+	public void cancelClosesStream(){
+		AtomicBoolean closed = new AtomicBoolean(false);
+		SequenceM.iterate(0,i->i+1).onClose(()->closed.set(true)).subscribe(recording());
+		subscription.request(1);
+		subscription.cancel();
+		subscription.request(1);
+		assertThat(received.size(),equalTo(1));
+		assertTrue(closed.get());
+	}
+	@Test
+	public void asyncRoundTrip(){
+		CyclopsSubscriber<Integer> sub = SequenceM.subscriber(16);
+		SequenceM.range(0,10_000).publisher(exec,7).subscribe(sub);
+		List<Integer> result = sub.sequenceM().toList();
+		assertThat(result,equalTo(SequenceM.range(0,10_000).collect(Collectors.toList())));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void errorsPropagate(){
+		CyclopsSubscriber<Integer> sub = SequenceM.subscriber();
+		SequenceM.of(1,2,3).map(i->{ if(i==3) throw new IllegalStateException("boom"); return i;})
+						.publisher(exec).subscribe(sub);
+		sub.sequenceM().toList();
+	}
+
+	private Subscriber<Integer> recording(){
+		return new Subscriber<Integer>(){
+			@Override
+			public void onSubscribe(Subscription s) {
+				subscription = s;
+			}
+			@Override
+			public void onNext(Integer t) {
+				received.add(t);
+			}
+			@Override
+			public void onError(Throwable t) {}
+			@Override
+			public void onComplete() {}
+		};
+	}
+}
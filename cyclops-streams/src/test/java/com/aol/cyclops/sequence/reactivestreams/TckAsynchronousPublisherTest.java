@@ -0,0 +1,37 @@
+package com.aol.cyclops.sequence.reactivestreams;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+@Test
+public class TckAsynchronousPublisherTest extends PublisherVerification<Long>{
+
+	ExecutorService exec = Executors.newFixedThreadPool(2);
+
+	public TckAsynchronousPublisherTest(){
+		  super(new TestEnvironment(300L));
+	}
+	@AfterClass
+	public void shutdown(){
+		exec.shutdown();
+	}
+
+	@Override
+	public Publisher<Long> createPublisher(long elements) {
+		return SequenceMPublisher.ofAsync(SequenceM.iterate(0l, i->i+1l).limit(elements),exec,16);
+	}
+
+	@Override
+	public Publisher<Long> createFailedPublisher() {
+		return null; //not possible to subscribe to failed Stream
+	}
+
+}
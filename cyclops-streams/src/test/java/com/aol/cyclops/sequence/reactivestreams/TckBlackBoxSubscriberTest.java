@@ -0,0 +1,24 @@
+package com.aol.cyclops.sequence.reactivestreams;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.tck.SubscriberBlackboxVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.Test;
+
+@Test
+public class TckBlackBoxSubscriberTest extends SubscriberBlackboxVerification<Long>{
+	public TckBlackBoxSubscriberTest() {
+        super(new TestEnvironment(300L));
+    }
+
+	@Override
+	public Subscriber<Long> createSubscriber() {
+		return new SequenceMSubscriber<>(16); //the TCK probe buffers every element requested
+	}
+
+	@Override
+	public Long createElement(int element) {
+		return new Long(element);
+	}
+
+}
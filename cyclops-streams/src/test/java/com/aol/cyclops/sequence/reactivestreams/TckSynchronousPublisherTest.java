@@ -0,0 +1,27 @@
+package com.aol.cyclops.sequence.reactivestreams;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+@Test
+public class TckSynchronousPublisherTest extends PublisherVerification<Long>{
+
+	public TckSynchronousPublisherTest(){
+		  super(new TestEnvironment(300L));
+	}
+
+	@Override
+	public Publisher<Long> createPublisher(long elements) {
+		return SequenceMPublisher.ofSync(SequenceM.iterate(0l, i->i+1l).limit(elements));
+	}
+
+	@Override
+	public Publisher<Long> createFailedPublisher() {
+		return null; //not possible to subscribe to failed Stream
+	}
+
+}
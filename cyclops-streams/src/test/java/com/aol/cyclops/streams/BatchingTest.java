@@ -7,6 +7,7 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.*;
 
@@ -16,9 +17,12 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -440,4 +444,78 @@ public class BatchingTest {
 		assertThat(of(1,2,3,4,5,6).windowByTime(1,TimeUnit.NANOSECONDS).collect(Collectors.toList()).size(),greaterThan(5));
 	}
 
+	@Test
+	public void batchByTimeClosesOnDeadline(){
+		List<Integer> first = of(1,2,3,4)
+									.peek(i->{ if(i==4) sleep(2000);})
+									.batchByTime(100,TimeUnit.MILLISECONDS)
+									.iterator()
+									.next();
+		assertThat(first,equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void batchBySizeAndTimeClosesOnDeadline(){
+		List<Integer> first = of(1,2,3,4)
+									.peek(i->{ if(i==4) sleep(2000);})
+									.batchBySizeAndTime(10,100,TimeUnit.MILLISECONDS)
+									.iterator()
+									.next();
+		assertThat(first,equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void windowByTimeClosesOnDeadline(){
+		Streamable<Integer> first = of(1,2,3,4)
+									.peek(i->{ if(i==4) sleep(2000);})
+									.windowByTime(100,TimeUnit.MILLISECONDS)
+									.iterator()
+									.next();
+		assertThat(first.toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void batchBySizeAndTimeTimer(){
+		assertThat(SequenceM.range(0,1000)
+						.batchBySizeAndTime(10,1,TimeUnit.SECONDS)
+						.flatMap(List::stream)
+						.toList(),equalTo(SequenceM.range(0,1000).toList()));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void batchByTimeRethrowsErrors(){
+		of(1,2,3)
+			.map(i->{ if(i==2) throw new IllegalStateException(); return i;})
+			.batchByTime(1,TimeUnit.SECONDS)
+			.toList();
+	}
+	@Test
+	public void batchBySizeAndTimePullsOnDemand(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		assertThat(SequenceM.range(0,1000)
+						.peek(i->pulled.incrementAndGet())
+						.batchBySizeAndTime(10,1,TimeUnit.SECONDS)
+						.limit(1)
+						.toList(),equalTo(Arrays.asList(SequenceM.range(0,10).toList())));
+		assertThat(pulled.get(),lessThanOrEqualTo(11));
+	}
+	@Test
+	public void batchBySizeAndTimeCarriesLateValue(){
+		assertThat(of(1,2,3,4,5)
+						.peek(i->{ if(i==4) sleep(300);})
+						.batchBySizeAndTime(10,100,TimeUnit.MILLISECONDS)
+						.toList(),equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(4,5))));
+	}
+	@Test
+	public void batchBySizeAndTimePullsOnConsumerThread(){
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		SequenceM.range(0,1000)
+					.peek(i->threads.add(Thread.currentThread()))
+					.batchBySizeAndTime(10,1,TimeUnit.SECONDS)
+					.toList();
+		assertThat(threads,equalTo(Collections.singleton(Thread.currentThread())));
+	}
+	@Test
+	public void debounceReopensOnTimer(){
+		assertThat(of(1,2,3).peek(i->{ if(i==3) sleep(200);})
+							.debounce(100,TimeUnit.MILLISECONDS)
+							.toList(),equalTo(Arrays.asList(1,3)));
+	}
+
 }
@@ -0,0 +1,61 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+public class ConcurrentLazyCollectionTest {
+
+	@Test
+	public void lazy(){
+		AtomicInteger count = new AtomicInteger(0);
+		Collection<Integer> col = SequenceM.of(1,2,3,4,5).peek(i->count.incrementAndGet()).toConcurrentLazyCollection();
+		assertThat(count.get(),equalTo(0));
+		assertThat(col.iterator().next(),equalTo(1));
+		assertThat(count.get(),equalTo(1));
+	}
+	@Test
+	public void sourceReadOnce(){
+		AtomicInteger count = new AtomicInteger(0);
+		Collection<Integer> col = SequenceM.range(0, 1000).peek(i->count.incrementAndGet()).toConcurrentLazyCollection();
+		assertThat(col.size(),equalTo(1000));
+		assertThat(new ArrayList<>(col),equalTo(new ArrayList<>(col)));
+		assertThat(count.get(),equalTo(1000));
+	}
+	@Test
+	public void nulls(){
+		Collection<Integer> col = SequenceM.of(1,null,3).toConcurrentLazyCollection();
+		assertThat(new ArrayList<>(col),equalTo(Arrays.asList(1,null,3)));
+		assertThat(col,equalTo(Arrays.asList(1,null,3)));
+		assertThat(col.hashCode(),equalTo(Arrays.asList(1,null,3).hashCode()));
+	}
+	@Test
+	public void empty(){
+		Collection<Integer> col = SequenceM.<Integer>of().toConcurrentLazyCollection();
+		assertThat(col.isEmpty(),equalTo(true));
+		assertThat(col.size(),equalTo(0));
+	}
+	@Test
+	public void concurrentReaders() throws Exception{
+		List<Integer> expected = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+		Collection<Integer> col = SequenceM.fromList(expected).toConcurrentLazyCollection();
+		List<CompletableFuture<List<Integer>>> readers = new ArrayList<>();
+		for(int i=0;i<8;i++)
+			readers.add(CompletableFuture.supplyAsync(()->new ArrayList<>(col)));
+		for(CompletableFuture<List<Integer>> reader : readers)
+			assertThat(reader.get(10,TimeUnit.SECONDS),equalTo(expected));
+	}
+}
@@ -0,0 +1,82 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.Tuple3;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.BufferPolicy;
+import com.aol.cyclops.sequence.SequenceM;
+
+public class SegmentedBufferTest {
+
+	@Test
+	public void segmentsReleasedOnceAllReadersPass(){
+		SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>(IntStream.range(0, 10_000).iterator(),3);
+		List<SegmentedBuffer<Integer>.Reader> readers = buffer.readers();
+		for(int i=0;i<10_000;i++){
+			for(Iterator<Integer> reader : readers)
+				assertThat(reader.next(),equalTo(i));
+			assertThat(buffer.buffered(),lessThan(1024l));
+		}
+	}
+	@Test
+	public void leaderBuffersForLaggards(){
+		SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>(IntStream.range(0, 5_000).iterator(),2);
+		Iterator<Integer> leader = buffer.readers().get(0);
+		Iterator<Integer> laggard = buffer.readers().get(1);
+		while(leader.hasNext())
+			leader.next();
+		assertThat(buffer.buffered(),equalTo(5_000l));
+		int count =0;
+		while(laggard.hasNext())
+			assertThat(laggard.next(),equalTo(count++));
+		assertThat(count,equalTo(5_000));
+		assertThat(buffer.buffered(),lessThan(256l));
+	}
+	@Test
+	public void closedReaderNotRetained(){
+		SegmentedBuffer<Integer> buffer = new SegmentedBuffer<>(IntStream.range(0, 5_000).iterator(),2);
+		buffer.readers().get(1).close();
+		Iterator<Integer> leader = buffer.readers().get(0);
+		while(leader.hasNext())
+			leader.next();
+		assertThat(buffer.buffered(),lessThan(256l));
+	}
+	@Test
+	public void nullsCopied(){
+		Tuple3<SequenceM<Integer>,SequenceM<Integer>,SequenceM<Integer>> copies = SequenceM.of(1,null,3).triplicate();
+		assertThat(copies.v1.toList(),equalTo(Arrays.asList(1,null,3)));
+		assertThat(copies.v2.toList(),equalTo(Arrays.asList(1,null,3)));
+		assertThat(copies.v3.toList(),equalTo(Arrays.asList(1,null,3)));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void failWhenCapacityExceeded(){
+		Tuple2<SequenceM<Integer>,SequenceM<Integer>> copies = SequenceM.range(0, 1000).duplicateSequence(100,BufferPolicy.FAIL);
+		copies.v1.toList();
+	}
+	@Test
+	public void withinCapacity(){
+		Tuple2<SequenceM<Integer>,SequenceM<Integer>> copies = SequenceM.range(0, 1000).duplicateSequence(100,BufferPolicy.FAIL);
+		assertThat(copies.v1.zip(copies.v2).allMatch(t->t.v1.equals(t.v2)),equalTo(true));
+	}
+	@Test
+	public void blockWaitsForLaggard() throws Exception{
+		Tuple2<SequenceM<Integer>,SequenceM<Integer>> copies = SequenceM.range(0, 100_000).duplicateSequence(64,BufferPolicy.BLOCK);
+		CompletableFuture<List<Integer>> other = CompletableFuture.supplyAsync(()->copies.v2.toList());
+		List<Integer> first = copies.v1.toList();
+		assertThat(other.get(10,TimeUnit.SECONDS),equalTo(first));
+		assertThat(first,equalTo(IntStream.range(0, 100_000).boxed().collect(Collectors.toList())));
+	}
+}
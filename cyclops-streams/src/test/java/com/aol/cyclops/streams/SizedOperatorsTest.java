@@ -0,0 +1,162 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.streams.operators.BatchBySizeOperator;
+
+public class SizedOperatorsTest {
+
+	List<Integer> list = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+	private SequenceM<Integer> of(){
+		return SequenceM.fromList(list);
+	}
+
+	@Test
+	public void zipWithIndexSize(){
+		assertThat(of().zipWithIndex().spliterator().getExactSizeIfKnown(),equalTo(10L));
+	}
+	@Test
+	public void zipWithIndexSplit(){
+		Spliterator<Tuple2<Integer,Long>> split = of().zipWithIndex().spliterator();
+		Spliterator<Tuple2<Integer,Long>> prefix = split.trySplit();
+		List<Tuple2<Integer,Long>> result = new ArrayList<>();
+		prefix.forEachRemaining(result::add);
+		split.forEachRemaining(result::add);
+		assertThat(result.size(),equalTo(10));
+		for(Tuple2<Integer,Long> t : result)
+			assertThat(t.v1.longValue(),equalTo(t.v2));
+	}
+	@Test
+	public void zipWithIndexParallel(){
+		Stream<Tuple2<Integer,Long>> indexed = StreamSupport.stream(SequenceM.range(0,10_000).zipWithIndex().spliterator(),true);
+		List<Tuple2<Integer,Long>> result = indexed.collect(Collectors.toList());
+		assertThat(result.size(),equalTo(10_000));
+		for(Tuple2<Integer,Long> t : result)
+			assertThat(t.v1.longValue(),equalTo(t.v2));
+		assertSplits(SequenceM.range(0,10_000).zipWithIndex().spliterator());
+	}
+	@Test
+	public void slidingSize(){
+		assertThat(of().sliding(3).spliterator().getExactSizeIfKnown(),equalTo(8L));
+		assertThat(of().sliding(3,2).spliterator().getExactSizeIfKnown(),equalTo(5L));
+		assertThat(of().sliding(3,2).count(),equalTo(5L));
+		assertThat(SequenceM.of(1,2).sliding(3).spliterator().getExactSizeIfKnown(),equalTo(1L));
+		assertThat(SequenceM.<Integer>of().sliding(3).spliterator().getExactSizeIfKnown(),equalTo(0L));
+	}
+	@Test
+	public void batchBySizeSize(){
+		assertThat(of().batchBySize(3).spliterator().getExactSizeIfKnown(),equalTo(4L));
+		assertThat(of().batchBySize(3).toList().get(3),equalTo(Arrays.asList(9)));
+	}
+	@Test
+	public void skipLastLimitLastSize(){
+		assertThat(of().skipLast(3).spliterator().getExactSizeIfKnown(),equalTo(7L));
+		assertThat(of().limitLast(3).spliterator().getExactSizeIfKnown(),equalTo(3L));
+		assertThat(of().limitLast(3).toList(),equalTo(Arrays.asList(7,8,9)));
+		assertThat(of().skipLast(12).spliterator().getExactSizeIfKnown(),equalTo(0L));
+	}
+	@Test
+	public void insertAtDeleteBetweenSize(){
+		assertThat(of().insertAt(2,100,200).spliterator().getExactSizeIfKnown(),equalTo(12L));
+		assertThat(of().deleteBetween(2,4).spliterator().getExactSizeIfKnown(),equalTo(8L));
+		assertThat(of().deleteBetween(8,20).toList(),equalTo(list.subList(0, 8)));
+		assertThat(SequenceM.of(1,2).insertAt(5,100).toList(),equalTo(Arrays.asList(1,2,100)));
+	}
+	@Test
+	public void intersperseSize(){
+		assertThat(of().intersperse(-1).spliterator().getExactSizeIfKnown(),equalTo(19L));
+		assertThat(SequenceM.of(1,2,3).intersperse(0).toList(),equalTo(Arrays.asList(1,0,2,0,3)));
+	}
+	@Test
+	public void cycleSize(){
+		assertThat(of().cycle(3).spliterator().getExactSizeIfKnown(),equalTo(30L));
+		assertThat(SequenceM.of(1,2).cycle(2).toList(),equalTo(Arrays.asList(1,2,1,2)));
+	}
+	@Test
+	public void unsizedSourceUnknown(){
+		Stream<Integer> unsized = of().filter(i->i>2);
+		assertThat(StreamUtils.sliding(unsized,2,1).spliterator().getExactSizeIfKnown(),equalTo(-1L));
+	}
+	@Test
+	public void parallelCollect(){
+		Stream<List<Integer>> batched = new BatchBySizeOperator<Integer,List<Integer>>(parallel()).batchBySize(3);
+		assertTrue(batched.isParallel());
+		assertThat(batched.collect(Collectors.toList()),equalTo(SequenceM.range(0,10_000).batchBySize(3).toList()));
+		Stream<List<Integer>> sliding = StreamUtils.sliding(parallel(),2,1);
+		assertTrue(sliding.isParallel());
+		assertThat(sliding.collect(Collectors.toList()),equalTo(SequenceM.range(0,10_000).sliding(2).toList()));
+		Stream<Integer> interspersed = StreamUtils.intersperse(parallel(),-1);
+		assertTrue(interspersed.isParallel());
+		assertThat(interspersed.collect(Collectors.toList()),equalTo(SequenceM.range(0,10_000).intersperse(-1).toList()));
+		assertTrue(StreamUtils.limitLast(parallel(),3).isParallel());
+		assertThat(StreamUtils.skipLast(parallel(),3).collect(Collectors.toList()),equalTo(SequenceM.range(0,9_997).toList()));
+	}
+	@Test
+	public void parallelSplits(){
+		assertSplits(new BatchBySizeOperator<Integer,List<Integer>>(parallel()).batchBySize(3).spliterator());
+		assertSplits(StreamUtils.sliding(parallel(),2,1).spliterator());
+		assertSplits(StreamUtils.intersperse(parallel(),-1).spliterator());
+	}
+	@Test
+	public void closePropagates(){
+		List<Function<SequenceM<Integer>,SequenceM<?>>> operators = Arrays.asList(s->s.zipWithIndex(),s->s.sliding(2),
+																		s->s.batchBySize(2),s->s.intersperse(0),
+																		s->s.limitLast(1),s->s.skipLast(1),
+																		s->s.insertAt(1,5),s->s.deleteBetween(0,1),
+																		s->s.cycle(2));
+		for(Function<SequenceM<Integer>,SequenceM<?>> operator : operators){
+			AtomicBoolean closed = new AtomicBoolean(false);
+			SequenceM<?> result = operator.apply(SequenceM.of(1,2,3).onClose(()->closed.set(true)));
+			result.toList();
+			result.close();
+			assertTrue(closed.get());
+		}
+	}
+	private Stream<Integer> parallel(){
+		return IntStream.range(0,10_000).boxed().parallel();
+	}
+	private static void assertSplits(Spliterator<?> split){
+		long size = split.getExactSizeIfKnown();
+		Spliterator<?> prefix = split.trySplit();
+		assertThat(prefix,notNullValue());
+		assertThat(prefix.estimateSize()+split.estimateSize(),equalTo(size));
+	}
+	@Test
+	public void sourcesSplitExactly(){
+		assertTrue(SequenceM.range(0,100).spliterator().hasCharacteristics(Spliterator.SUBSIZED));
+		Spliterator<Integer> range = SequenceM.range(0,100).spliterator();
+		Spliterator<Integer> prefix = range.trySplit();
+		assertThat(prefix.getExactSizeIfKnown()+range.getExactSizeIfKnown(),equalTo(100L));
+		assertThat(SequenceM.of(1,2,3,4).spliterator().trySplit().getExactSizeIfKnown(),equalTo(2L));
+		assertThat(of().spliterator().trySplit().getExactSizeIfKnown(),equalTo(5L));
+		assertThat(SequenceM.rangeLong(0,10).spliterator().trySplit().getExactSizeIfKnown(),equalTo(5L));
+	}
+	@Test
+	public void parallelSources(){
+		List<Integer> expected = IntStream.range(0,10_000).boxed().collect(Collectors.toList());
+		assertThat(SequenceM.range(0,10_000).<Integer>toStream().parallel().collect(Collectors.toList()),equalTo(expected));
+		assertThat(SequenceM.fromList(expected).<Integer>toStream().parallel().collect(Collectors.toList()),equalTo(expected));
+		assertThat(SequenceM.of(expected.toArray()).<Object>toStream().parallel().count(),equalTo(10_000L));
+		assertThat(SequenceM.range(0,10).reverse().<Integer>toStream().parallel().collect(Collectors.toList()),
+					equalTo(Arrays.asList(9,8,7,6,5,4,3,2,1,0)));
+	}
+}
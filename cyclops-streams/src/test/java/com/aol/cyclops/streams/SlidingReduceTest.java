@@ -0,0 +1,82 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.Monoid;
+import com.aol.cyclops.sequence.Reducers;
+import com.aol.cyclops.sequence.SequenceM;
+
+public class SlidingReduceTest {
+
+	Monoid<Integer> max = Monoid.of(Integer.MIN_VALUE,Math::max);
+	Monoid<String> concat = Monoid.of("",(a,b)->a+b);
+
+	@Test
+	public void rollingSum(){
+		assertThat(SequenceM.of(1,2,3,4).slidingReduce(2,Reducers.toTotalInt(),(total,removed)->total-removed).toList(),
+					equalTo(Arrays.asList(3,5,7)));
+	}
+	@Test
+	public void rollingMax(){
+		assertThat(SequenceM.of(1,5,2,3,1).slidingReduce(2,max).toList(),equalTo(Arrays.asList(5,5,3,3)));
+	}
+	@Test
+	public void nonCommutative(){
+		assertThat(SequenceM.of("a","b","c","d","e").slidingReduce(3,concat).toList(),
+					equalTo(Arrays.asList("abc","bcd","cde")));
+	}
+	@Test
+	public void shortAndEmpty(){
+		assertThat(SequenceM.of(1,2).slidingReduce(5,max).toList(),equalTo(Arrays.asList(2)));
+		assertThat(SequenceM.<Integer>of().slidingReduce(5,max).toList().size(),equalTo(0));
+	}
+	@Test
+	public void size(){
+		assertThat(SequenceM.range(0,100).slidingReduce(10,max).spliterator().getExactSizeIfKnown(),equalTo(91L));
+	}
+	@Test
+	public void matchesReducingEachWindow(){
+		List<Integer> values = new Random(7).ints(2000,-1000,1000).boxed().collect(Collectors.toList());
+		for(int window : Arrays.asList(1,3,64,1999,2000,5000)){
+			List<Integer> expected = SequenceM.fromList(values).sliding(window).map(w->max.reduce(w.stream())).toList();
+			assertThat(SequenceM.fromList(values).slidingReduce(window,max).toList(),equalTo(expected));
+			List<Integer> sums = SequenceM.fromList(values).sliding(window).map(w->Reducers.toTotalInt().reduce(w.stream())).toList();
+			assertThat(SequenceM.fromList(values).slidingReduce(window,Reducers.toTotalInt(),(a,b)->a-b).toList(),equalTo(sums));
+		}
+	}
+	@Test
+	public void byTimeIncludesRecent(){
+		assertThat(SequenceM.of(1,2,3,4)
+							.slidingReduceByTime(1,TimeUnit.MINUTES,Reducers.toTotalInt(),(total,removed)->total-removed)
+							.toList(),
+					equalTo(Arrays.asList(1,3,6,10)));
+	}
+	@Test
+	public void byTimeExpires(){
+		List<Integer> result = SequenceM.of(4,3,2,1)
+										.peek(i->{ if(i==2) sleep(500); })
+										.slidingReduceByTime(200,TimeUnit.MILLISECONDS,max)
+										.toList();
+		assertThat(result,equalTo(Arrays.asList(4,4,2,2)));
+		assertThat(StreamUtils.slidingReduceByTime(Stream.of(5,1,2),1,TimeUnit.MINUTES,max).collect(Collectors.toList()),
+					equalTo(Arrays.asList(5,5,5)));
+	}
+
+	private void sleep(long millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -192,6 +192,34 @@ public class WindowingTest {
 		assertThat(grouped.get(0).get(),equalTo(Arrays.asList(1,2,3)));
 	
 	}
+	@Test
+	public void slidingLargeWindowSnapshots(){
+		List<List<Integer>> windows = SequenceM.range(0,10_000).sliding(1000).toList();
+		assertThat(windows.size(),equalTo(9001));
+		assertThat(windows.get(0).get(0),equalTo(0));
+		assertThat(windows.get(0).get(999),equalTo(999));
+		assertThat(windows.get(9000).get(0),equalTo(9000));
+		assertThat(windows.get(9000).size(),equalTo(1000));
+		assertThat(windows.get(4500),equalTo(SequenceM.range(4500,5500).toList()));
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void slidingWindowsImmutable(){
+		SequenceM.of(1,2,3).sliding(2).toList().get(0).add(10);
+	}
+	@Test
+	public void slidingView(){
+		assertThat(SequenceM.of(1,2,3,4,5,6).slidingView(2,1).map(w->w.get(0)+w.get(1)).toList(),
+					equalTo(Arrays.asList(3,5,7,9,11)));
+		assertThat(SequenceM.of(1,2,3,4,5,6).slidingView(3,2).map(w->w.toString()).toList(),
+					equalTo(Arrays.asList("[1, 2, 3]","[3, 4, 5]","[5, 6]")));
+		assertThat(SequenceM.range(0,10_000).slidingView(1000,1).map(w->w.get(999)-w.get(0)).distinct().toList(),
+					equalTo(Arrays.asList(999)));
+	}
+	@Test
+	public void slidingStreamable(){
+		assertThat(Streamable.of(1,2,3,4).sliding(3,2).toList(),
+					equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(3,4))));
+	}
 
 }
 
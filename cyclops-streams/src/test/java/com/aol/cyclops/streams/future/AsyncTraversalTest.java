@@ -0,0 +1,119 @@
+package com.aol.cyclops.streams.future;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.jooq.lambda.tuple.Tuple.tuple;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.jooq.lambda.Agg;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+public class AsyncTraversalTest {
+
+	ExecutorService exec;
+	@Before
+	public void setup(){
+		exec = Executors.newFixedThreadPool(1,r->new Thread(r,"traversal"));
+	}
+	@After
+	public void shutdown(){
+		exec.shutdownNow();
+	}
+
+	@Test
+	public void fusedCollectors(){
+		assertThat(SequenceM.range(0,1000).futureOperations(exec)
+							.collect(Agg.count(),Agg.sum(),Agg.max()).join(),
+					equalTo(tuple(1000L,Optional.of(499500),Optional.of(999))));
+	}
+	@Test
+	public void chunkedMatchesUnchunked(){
+		assertThat(SequenceM.range(0,10_000).futureOperations(exec).withChunkSize(10).toList().join(),
+					equalTo(SequenceM.range(0,10_000).collect(Collectors.toList())));
+	}
+	@Test
+	public void chunkedYieldsExecutor() throws InterruptedException{
+		CountDownLatch ran = new CountDownLatch(1);
+		CompletableFuture<Long> count = SequenceM.iterate(0,i->i+1)
+												.futureOperations(exec)
+												.withChunkSize(100)
+												.count();
+		exec.execute(ran::countDown);
+		assertTrue(ran.await(10,TimeUnit.SECONDS));
+		count.cancel(true);
+	}
+	@Test
+	public void cancelStopsTraversal() throws InterruptedException{
+		AtomicInteger pulled = new AtomicInteger(0);
+		CountDownLatch closed = new CountDownLatch(1);
+		CompletableFuture<Long> count = SequenceM.iterate(0,i->i+1)
+												.peek(i->pulled.incrementAndGet())
+												.onClose(closed::countDown)
+												.futureOperations(exec)
+												.count();
+		while(pulled.get()==0)
+			Thread.sleep(1);
+		count.cancel(true);
+		assertTrue(closed.await(10,TimeUnit.SECONDS));
+		int stoppedAt = pulled.get();
+		Thread.sleep(50);
+		assertThat(pulled.get(),equalTo(stoppedAt));
+	}
+	@Test
+	public void minByRunsOnExecutor(){
+		String[] thread = new String[1];
+		Optional<Integer> min = SequenceM.of(3,1,2).futureOperations(exec)
+											.minBy(i->{ thread[0]=Thread.currentThread().getName(); return i;}).join();
+		assertThat(min,equalTo(Optional.of(1)));
+		assertThat(thread[0],startsWith("traversal"));
+	}
+	@Test
+	public void anyMatchShortCircuits(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		assertTrue(SequenceM.iterate(0,i->i+1).peek(i->pulled.incrementAndGet())
+							.futureOperations(exec).anyMatch(i->i==10).join());
+		assertThat(pulled.get(),equalTo(11));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void negativeChunkSize(){
+		SequenceM.of(1).futureOperations(exec).withChunkSize(-1);
+	}
+	@Test
+	public void errorsCompleteExceptionally(){
+		CompletableFuture<Long> count = SequenceM.of(1,2,3).map(i->{ if(i==2) throw new IllegalStateException("boom"); return i;})
+												.futureOperations(exec).count();
+		assertTrue(count.handle((r,t)->t!=null).join());
+		assertThat(count.isCompletedExceptionally(),equalTo(true));
+		assertThat(SequenceM.range(0,10).futureOperations(exec).count().join(),greaterThan(0L));
+	}
+	@Test
+	public void completionClosesStream(){
+		AtomicInteger closed = new AtomicInteger(0);
+		assertThat(SequenceM.of(1,2,3).onClose(closed::incrementAndGet).futureOperations(exec).count().join(),equalTo(3L));
+		assertThat(closed.get(),equalTo(1));
+	}
+	@Test
+	public void errorClosesStream(){
+		AtomicInteger closed = new AtomicInteger(0);
+		CompletableFuture<Long> count = SequenceM.of(1,2,3).map(i->{ if(i==2) throw new IllegalStateException("boom"); return i;})
+												.onClose(closed::incrementAndGet)
+												.futureOperations(exec).count();
+		assertTrue(count.handle((r,t)->t!=null).join());
+		assertThat(closed.get(),equalTo(1));
+	}
+}
@@ -0,0 +1,148 @@
+package com.aol.cyclops.streams.hotstream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.HotStream;
+import com.aol.cyclops.sequence.OverflowPolicy;
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.streams.FanOutBuffer;
+
+public class FanOutBufferTest {
+	static final Executor exec = Executors.newFixedThreadPool(4);
+
+	private List<Integer> drain(FanOutBuffer.Reader<Integer> reader){
+		List<Integer> result = new ArrayList<>();
+		Object next;
+		while((next=reader.poll())!=null)
+			result.add(FanOutBuffer.unwrap(next));
+		return result;
+	}
+	private List<Integer> range(int start,int end){
+		return SequenceM.range(start, end).toList();
+	}
+
+	@Test
+	public void readersSeeValuesInOrder(){
+		FanOutBuffer<Integer> buffer = new FanOutBuffer<>(16);
+		FanOutBuffer.Reader<Integer> r1 = buffer.connect(OverflowPolicy.BLOCK);
+		FanOutBuffer.Reader<Integer> r2 = buffer.connect(OverflowPolicy.BLOCK);
+		for(int i=0;i<10;i++)
+			buffer.publish(i);
+		assertThat(r1.lag(),equalTo(10l));
+		assertThat(drain(r1),equalTo(range(0,10)));
+		assertThat(drain(r2),equalTo(range(0,10)));
+		assertThat(r1.lag(),equalTo(0l));
+	}
+	@Test
+	public void nullValues(){
+		FanOutBuffer<Integer> buffer = new FanOutBuffer<>(4);
+		FanOutBuffer.Reader<Integer> r1 = buffer.connect(OverflowPolicy.SPILL);
+		buffer.publish(null);
+		buffer.publish(1);
+		Object first = r1.poll();
+		assertThat(first!=null,equalTo(true));
+		assertThat(FanOutBuffer.unwrap(first)==null,equalTo(true));
+		assertThat(FanOutBuffer.unwrap(r1.poll()),equalTo(1));
+	}
+	@Test
+	public void dropOldest(){
+		FanOutBuffer<Integer> buffer = new FanOutBuffer<>(4);
+		FanOutBuffer.Reader<Integer> reader = buffer.connect(OverflowPolicy.DROP_OLDEST);
+		for(int i=0;i<10;i++)
+			buffer.publish(i);
+		assertThat(reader.dropped(),equalTo(6l));
+		assertThat(drain(reader),equalTo(range(6,10)));
+	}
+	@Test
+	public void dropNewest(){
+		FanOutBuffer<Integer> buffer = new FanOutBuffer<>(4);
+		FanOutBuffer.Reader<Integer> reader = buffer.connect(OverflowPolicy.DROP_NEWEST);
+		for(int i=0;i<10;i++)
+			buffer.publish(i);
+		assertThat(reader.dropped(),equalTo(6l));
+		assertThat(drain(reader),equalTo(range(0,4)));
+		buffer.publish(10);
+		assertThat(drain(reader),equalTo(range(10,11)));
+	}
+	@Test
+	public void spill(){
+		FanOutBuffer<Integer> buffer = new FanOutBuffer<>(4);
+		FanOutBuffer.Reader<Integer> slow = buffer.connect(OverflowPolicy.SPILL);
+		FanOutBuffer.Reader<Integer> fast = buffer.connect(OverflowPolicy.BLOCK);
+		for(int i=0;i<20;i++){
+			buffer.publish(i);
+			fast.poll();
+		}
+		assertThat(slow.lag(),equalTo(20l));
+		assertThat(slow.dropped(),equalTo(0l));
+		assertThat(drain(slow),equalTo(range(0,20)));
+		buffer.publish(20);
+		assertThat(drain(slow),equalTo(range(20,21)));
+	}
+	@Test
+	public void disconnectedReaderDoesNotBlock(){
+		FanOutBuffer<Integer> buffer = new FanOutBuffer<>(4);
+		FanOutBuffer.Reader<Integer> reader = buffer.connect(OverflowPolicy.BLOCK);
+		buffer.publish(0);
+		reader.disconnect();
+		for(int i=1;i<20;i++)
+			buffer.publish(i);
+		assertThat(buffer.connections().size(),equalTo(0));
+	}
+	@Test
+	public void blockingReadersReceiveEverything(){
+		for(int run=0;run<10;run++){
+			FanOutBuffer<Integer> buffer = new FanOutBuffer<>(64);
+			List<CompletableFuture<List<Integer>>> results = new ArrayList<>();
+			for(int i=0;i<4;i++){
+				FanOutBuffer.Reader<Integer> reader = buffer.connect(OverflowPolicy.BLOCK);
+				results.add(CompletableFuture.supplyAsync(()->{
+					List<Integer> read = new ArrayList<>();
+					while(read.size()<10_000){
+						Object next = reader.poll();
+						if(next!=null)
+							read.add(FanOutBuffer.unwrap(next));
+					}
+					return read;
+				},exec));
+			}
+			for(int i=0;i<10_000;i++)
+				buffer.publish(i);
+			buffer.complete();
+			List<Integer> expected = range(0,10_000);
+			for(CompletableFuture<List<Integer>> result : results)
+				assertThat(result.join(),equalTo(expected));
+		}
+	}
+	@Test
+	public void blockingHotStreamDeliversEverything(){
+		HotStream<Integer> hot = SequenceM.range(0,10_000)
+											.primedHotStream(exec);
+		assertThat(hot.connect(OverflowPolicy.BLOCK).toList(),equalTo(range(0,10_000)));
+	}
+	@Test
+	public void spillingHotStreamDeliversEverything(){
+		HotStream<Integer> hot = SequenceM.range(0,5_000)
+											.primedHotStream(exec);
+		SequenceM<Integer> connection = hot.connect(OverflowPolicy.SPILL);
+		assertThat(hot.connectionStats().get(0).policy(),equalTo(OverflowPolicy.SPILL));
+		assertThat(connection.peek(i->{ if(i%1000==0) sleep(10);}).toList(),equalTo(range(0,5_000)));
+		assertThat(hot.connectionStats().get(0).dropped(),equalTo(0l));
+	}
+	private void sleep(long millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
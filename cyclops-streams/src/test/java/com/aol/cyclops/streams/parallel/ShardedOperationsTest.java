@@ -0,0 +1,203 @@
+package com.aol.cyclops.streams.parallel;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.Monoid;
+import com.aol.cyclops.sequence.Reducers;
+import com.aol.cyclops.sequence.SequenceM;
+import com.aol.cyclops.sequence.parallel.ShardedOperations;
+
+public class ShardedOperationsTest {
+
+	ForkJoinPool pool;
+	@Before
+	public void setup(){
+		pool = new ForkJoinPool(4);
+	}
+	@After
+	public void shutdown(){
+		pool.shutdown();
+	}
+
+	private SequenceM<Integer> range(){
+		return SequenceM.range(0, 1000);
+	}
+
+	@Test
+	public void orderedMerge(){
+		assertThat(range().parallel(pool,4).map(i->i*2).filter(i->i%3==0).toList(),
+					equalTo(range().map(i->i*2).filter(i->i%3==0).toList()));
+	}
+	@Test
+	public void flatMap(){
+		assertThat(SequenceM.of(1,2,3).parallel(pool,2).flatMap(i->Stream.of(i,i)).toList(),
+					equalTo(Arrays.asList(1,1,2,2,3,3)));
+	}
+	@Test
+	public void moreShardsThanElements(){
+		assertThat(SequenceM.of(1,2).parallel(pool,5).toList(),equalTo(Arrays.asList(1,2)));
+		assertThat(SequenceM.<Integer>of().parallel(pool,3).count(),equalTo(0L));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void zeroShards(){
+		SequenceM.of(1,2).parallel(pool,0);
+	}
+	@Test
+	public void shardLocal(){
+		assertThat(SequenceM.of(1,2,3,4,5,6).parallel(pool,2)
+							.shardLocal(s->s.scanLeft(0,(a,b)->a+b))
+							.toList(),
+					equalTo(Arrays.asList(0,1,3,6,0,4,9,15)));
+	}
+	@Test
+	public void unordered(){
+		assertThat(range().parallel(pool,4).unordered().toList().stream().sorted().collect(Collectors.toList()),
+					equalTo(range().toList()));
+	}
+	@Test
+	public void count(){
+		assertThat(range().parallel(pool,3).filter(i->i%2==0).count(),equalTo(500L));
+	}
+	@Test
+	public void distinct(){
+		assertThat(range().parallel(pool,4).map(i->i%7).distinct().toList(),
+					equalTo(Arrays.asList(0,1,2,3,4,5,6)));
+	}
+	@Test
+	public void groupBy(){
+		Map<Integer,List<Integer>> expected = range().groupBy(i->i%10);
+		assertThat(range().parallel(pool,4).groupBy(i->i%10),equalTo(expected));
+	}
+	@Test
+	public void groupByShardedByKey(){
+		Map<Integer,List<Integer>> expected = range().groupBy(i->i%10);
+		assertThat(range().parallel(pool,4).shardBy(i->i%10).groupBy(i->i%10),equalTo(expected));
+	}
+	@Test
+	public void mapReduce(){
+		assertThat(range().parallel(pool,4).mapReduce(Reducers.toTotalInt()),
+					equalTo(range().mapReduce(Reducers.toTotalInt())));
+	}
+	@Test
+	public void mapReduceNonCommutative(){
+		Monoid<String> concat = Monoid.of("",(a,b)->a+b);
+		assertThat(SequenceM.of(1,2,3,4,5).parallel(pool,3).mapReduce(i->""+i,concat),equalTo("12345"));
+	}
+	@Test
+	public void innerJoin(){
+		List<Tuple2<Integer,String>> expected = SequenceM.of(1,2,3,4)
+											.innerJoin(Stream.of("1","3","3"),(i,s)->(""+i).equals(s))
+											.toList();
+		assertThat(SequenceM.of(1,2,3,4).parallel(pool,2)
+							.innerJoin(Stream.of("1","3","3"),(i,s)->(""+i).equals(s))
+							.toList(),
+					equalTo(expected));
+	}
+	@Test
+	public void leftOuterJoin(){
+		assertThat(SequenceM.of(1,2).parallel(pool,2)
+							.leftOuterJoin(Stream.of("1"),(i,s)->(""+i).equals(s))
+							.toList(),
+					equalTo(Arrays.asList(new Tuple2<>(1,"1"),new Tuple2<>(2,null))));
+	}
+	@Test
+	public void sourceNotConsumedUntilTerminalOperation(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		ShardedOperations<Integer> sharded = range().peek(i->pulled.incrementAndGet())
+															.parallel(pool,4)
+															.map(i->i*2);
+		assertThat(pulled.get(),equalTo(0));
+		assertThat(sharded.count(),equalTo(1000L));
+		assertThat(pulled.get(),equalTo(1000));
+	}
+	@Test
+	public void sourceConsumedOnPool(){
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		range().peek(i->threads.add(Thread.currentThread())).parallel(pool,4).toList();
+		assertThat(threads.contains(Thread.currentThread()),equalTo(false));
+	}
+	@Test
+	public void shardByPartitionsOnPool(){
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		Map<Integer,List<Integer>> expected = range().groupBy(i->i%10);
+		assertThat(range().parallel(pool,4).shardBy(i->{ threads.add(Thread.currentThread()); return i%10;}).groupBy(i->i%10),
+					equalTo(expected));
+		assertThat(threads.contains(Thread.currentThread()),equalTo(false));
+		assertThat(threads.size(),greaterThan(0));
+	}
+	@Test
+	public void unsplittableSourceHandedOffInBatches(){
+		Iterator<Integer> it = range().iterator();
+		Spliterator<Integer> unsplittable = new Spliterator<Integer>(){
+			public boolean tryAdvance(Consumer<? super Integer> action) {
+				if(!it.hasNext())
+					return false;
+				action.accept(it.next());
+				return true;
+			}
+			public Spliterator<Integer> trySplit() {
+				return null;
+			}
+			public long estimateSize() {
+				return Long.MAX_VALUE;
+			}
+			public int characteristics() {
+				return Spliterator.ORDERED;
+			}
+		};
+		List<Long> perShard = SequenceM.fromStream(StreamSupport.stream(unsplittable,false))
+										.parallel(pool,4)
+										.shardLocal(s->Stream.of(s.count()))
+										.toList();
+		assertThat(perShard,equalTo(Arrays.asList(250L,250L,250L,250L)));
+	}
+	@Test
+	public void unsizedSourceBalanced(){
+		List<Long> perShard = SequenceM.iterate(0,i->i+1).limit(100_000)
+										.parallel(pool,32)
+										.shardLocal(s->Stream.of(s.count()))
+										.toList();
+		assertThat(perShard.size(),equalTo(32));
+		assertThat(perShard.stream().mapToLong(l->l).sum(),equalTo(100_000L));
+		assertThat(perShard.stream().mapToLong(l->l).max().getAsLong(),lessThanOrEqualTo(3125L));
+	}
+	@Test
+	public void sizedSourceBalanced(){
+		List<Long> perShard = SequenceM.range(0,100_000)
+										.parallel(pool,3)
+										.shardLocal(s->Stream.of(s.count()))
+										.toList();
+		assertThat(perShard.stream().mapToLong(l->l).sum(),equalTo(100_000L));
+		assertThat(perShard.stream().mapToLong(l->l).max().getAsLong(),lessThanOrEqualTo(100_000L/3+100_000L/24));
+		assertThat(perShard.stream().mapToLong(l->l).min().getAsLong(),greaterThanOrEqualTo(100_000L/3-100_000L/24));
+	}
+	@Test
+	public void unsplittableSourceKeepsOrder(){
+		Iterator<Integer> it = range().iterator();
+		assertThat(SequenceM.fromIterator(it).parallel(pool,4).map(i->i+1).toList(),
+					equalTo(range().map(i->i+1).toList()));
+	}
+}
@@ -0,0 +1,134 @@
+package com.aol.cyclops.streams.spliterators;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.sequence.SequenceM;
+
+public class MappedLineSpliteratorTest {
+
+	Path path;
+	@Before
+	public void setup() throws IOException{
+		path = Files.createTempFile("lines",".txt");
+	}
+	@After
+	public void cleanup() throws IOException{
+		Files.deleteIfExists(path);
+	}
+	
+	private List<String> read(String contents, int window, long minimumSplit, boolean parallel) throws IOException{
+		Files.write(path,contents.getBytes(StandardCharsets.UTF_8));
+		try(Stream<String> lines = MappedLineSpliterator.stream(path,
+						(b,from,to)->new MappedLineSpliterator.ByteCharSequence(b,from,to).toString(),window,minimumSplit)){
+			return (parallel ? lines.parallel() : lines).collect(Collectors.toList());
+		}
+	}
+	private List<String> readUtf8(byte[] contents, int window, long minimumSplit, boolean parallel) throws IOException{
+		Files.write(path,contents);
+		try(Stream<String> lines = MappedLineSpliterator.lines(path,StandardCharsets.UTF_8,window,minimumSplit)){
+			return (parallel ? lines.parallel() : lines).collect(Collectors.toList());
+		}
+	}
+	private List<String> expected(String contents) throws IOException{
+		Files.write(path,contents.getBytes(StandardCharsets.UTF_8));
+		try(Stream<String> lines = Files.lines(path)){
+			return lines.collect(Collectors.toList());
+		}
+	}
+	
+	@Test
+	public void matchesFilesLines() throws IOException{
+		for(String contents : Arrays.asList("","a","a\n","a\n\nb","a\r\nb\r\n","\n\n","hello\nworld","a\rb","a\r","\r\r\n\n\r","a\r\rb\n\rc")){
+			assertThat(contents,read(contents,4,1,false),equalTo(expected(contents)));
+		}
+	}
+	@Test
+	public void linesLongerThanWindow() throws IOException{
+		String contents = "short\n" + String.join("",IntStream.range(0,100).mapToObj(i->"long").collect(Collectors.toList())) + "\nend";
+		assertThat(read(contents,8,1,false),equalTo(expected(contents)));
+	}
+	@Test
+	public void parallelSplitsOnLineBoundaries() throws IOException{
+		String contents = IntStream.range(0,10_000).mapToObj(i->"line " + i).collect(Collectors.joining("\n"));
+		assertThat(read(contents,1024,64,true),equalTo(expected(contents)));
+	}
+	@Test
+	public void sequenceMLines() throws IOException{
+		Files.write(path,"héllo\nworld\n".getBytes(StandardCharsets.UTF_8));
+		try(SequenceM<String> lines = SequenceM.lines(path.toFile())){
+			assertThat(lines.toList(),equalTo(Arrays.asList("héllo","world")));
+		}
+	}
+	@Test
+	public void channelClosedThroughOperators() throws IOException{
+		Files.write(path,"a\nb\nc\nd\n".getBytes(StandardCharsets.UTF_8));
+		List<Function<SequenceM<String>,SequenceM<?>>> operators = Arrays.asList(s->s.sliding(2),s->s.zipWithIndex(),s->s.batchBySize(2));
+		for(Function<SequenceM<String>,SequenceM<?>> operator : operators){
+			FileChannel channel = FileChannel.open(path,StandardOpenOption.READ);
+			SequenceM<?> lines = operator.apply(SequenceM.fromStream(MappedLineSpliterator.stream(channel,
+						(b,from,to)->new MappedLineSpliterator.ByteCharSequence(b,from,to).toString(),1024,64)));
+			assertThat(lines.limit(1).toList().size(),equalTo(1));
+			assertTrue(channel.isOpen());
+			lines.close();
+			assertFalse(channel.isOpen());
+		}
+	}
+	@Test
+	public void lineViews() throws IOException{
+		Files.write(path,"hello\nworld".getBytes(StandardCharsets.UTF_8));
+		try(SequenceM<CharSequence> lines = SequenceM.lineViews(path.toFile())){
+			List<CharSequence> views = lines.toList();
+			assertThat(views.get(1).length(),equalTo(5));
+			assertThat(views.get(1).charAt(0),equalTo('w'));
+			assertThat(views.get(0).subSequence(1,3).toString(),equalTo("el"));
+		}
+	}
+	@Test
+	public void fromFile() throws IOException{
+		Files.write(path,"hello\nworld".getBytes(StandardCharsets.UTF_8));
+		File file = path.toFile();
+		assertThat(SequenceM.of(file).flatMapFile(f->f).toList(),equalTo(Arrays.asList("hello","world")));
+	}
+	@Test
+	public void bareCarriageReturnSplits() throws IOException{
+		String contents = IntStream.range(0,10_000).mapToObj(i->"line " + i).collect(Collectors.joining("\r"));
+		assertThat(read(contents,1024,64,true),equalTo(expected(contents)));
+		String mixed = IntStream.range(0,10_000).mapToObj(i->"line " + i + (i%3==0 ? "\r" : i%3==1 ? "\n" : "\r\n"))
+											.collect(Collectors.joining());
+		assertThat(read(mixed,512,16,true),equalTo(expected(mixed)));
+	}
+	@Test
+	public void multiByteCharactersAcrossWindowsAndSplits() throws IOException{
+		String contents = IntStream.range(0,5_000).mapToObj(i->"\u00e9\u20ac\ud83d\ude00 " + i + " \u4e2d")
+											.collect(Collectors.joining("\n"));
+		byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+		assertThat(readUtf8(bytes,7,16,true),equalTo(expected(contents)));
+		assertThat(readUtf8(bytes,5,1,false),equalTo(expected(contents)));
+	}
+	@Test(expected=UncheckedIOException.class)
+	public void malformedInputFails() throws IOException{
+		readUtf8(new byte[]{'a','\n',(byte)0xC3,'(','\n','b'},4,1,false);
+	}
+}